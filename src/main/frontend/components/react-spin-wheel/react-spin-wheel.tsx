@@ -1,18 +1,72 @@
 import { ReactAdapterElement, RenderHooks } from 'Frontend/generated/flow/ReactAdapter';
-import { ReactElement } from 'react';
-import { SpinWheel } from 'react-spin-wheel';
-import "react-spin-wheel/dist/index.css";
+import { ReactElement, useEffect, useRef, useState } from 'react';
 
+type SpinTarget = { index: number, spin: number };
+
+const COLORS = ['#f94144', '#f3722c', '#f8961e', '#f9c74f', '#90be6d', '#43aa8b', '#577590', '#277da1'];
+const SPIN_TIME_MS = 6000;
+const FULL_TURNS = 6;
+
+/**
+ * Wheel that only animates: the winner is drawn on the server and passed as target index.
+ * A click asks the server for a draw (onSpinRequest), onFinishSpin reports the item under the pointer.
+ */
 class ReactSpinWheelElement extends ReactAdapterElement {
   protected override render(hooks: RenderHooks): ReactElement | null {
 
-    const [items, setItems] = hooks.useState<string[]>('items');
+    const [items] = hooks.useState<string[]>('items');
+    const [target] = hooks.useState<SpinTarget | null>('target');
+    const onSpinRequestEvent = hooks.useCustomEvent<void>("onSpinRequest");
     const onFinishSpinEvent = hooks.useCustomEvent<string>("onFinishSpin");
 
-    return <SpinWheel items={items}
-                      onFinishSpin={result => onFinishSpinEvent(result as string)}
-                      spinContainerStyle={{width: "1000px", height: "1000px"}}/>; // (3)
+    const [rotation, setRotation] = useState(0);
+    const [spinning, setSpinning] = useState(false);
+    const handledSpin = useRef(0);
+
+    const count = items?.length ?? 0;
+    const segment = count > 0 ? 360 / count : 360;
+
+    useEffect(() => {
+      if (!target || target.spin === handledSpin.current || count === 0) {
+        return;
+      }
+      handledSpin.current = target.spin;
+      // the pointer is at the top, land somewhere inside the target segment (visual only)
+      const offset = (0.5 + (Math.random() - 0.5) * 0.7) * segment;
+      const stopAt = 360 - (target.index * segment + offset);
+      setRotation(current => current - (current % 360) + FULL_TURNS * 360 + stopAt);
+      setSpinning(true);
+    }, [target, count, segment]);
+
+    const background = count > 0
+      ? `conic-gradient(${items.map((_, i) =>
+          `${COLORS[i % COLORS.length]} ${i * segment}deg ${(i + 1) * segment}deg`).join(', ')})`
+      : '#ddd';
+
+    return <div style={{position: 'relative', width: '1000px', height: '1000px', maxWidth: '100%', margin: 'auto'}}>
+      <div style={{position: 'absolute', top: 0, left: '50%', transform: 'translateX(-50%)', zIndex: 1,
+                   borderLeft: '20px solid transparent', borderRight: '20px solid transparent',
+                   borderTop: '40px solid #333'}}/>
+      <div onClick={() => !spinning && count > 0 && onSpinRequestEvent()}
+           onTransitionEnd={() => {
+             setSpinning(false);
+             if (target && items) {
+               onFinishSpinEvent(items[target.index]);
+             }
+           }}
+           style={{position: 'absolute', inset: '20px', borderRadius: '50%', background, overflow: 'hidden',
+                   cursor: spinning ? 'default' : 'pointer', transform: `rotate(${rotation}deg)`,
+                   transition: spinning ? `transform ${SPIN_TIME_MS}ms cubic-bezier(0.1, 0.7, 0.1, 1)` : 'none'}}>
+        {items?.map((item, i) =>
+          <div key={i} style={{position: 'absolute', left: '50%', top: '50%', width: '45%', textAlign: 'right',
+                               transformOrigin: '0 50%', fontSize: count > 60 ? '10px' : '16px', whiteSpace: 'nowrap',
+                               overflow: 'hidden', textOverflow: 'ellipsis', paddingRight: '16px', boxSizing: 'border-box',
+                               transform: `rotate(${(i + 0.5) * segment - 90}deg) translateY(-50%)`}}>
+            {item}
+          </div>)}
+      </div>
+    </div>;
   }
 }
 
-customElements.define('react-spin-wheel', ReactSpinWheelElement); // (4)
\ No newline at end of file
+customElements.define('react-spin-wheel', ReactSpinWheelElement);
@@ -0,0 +1,54 @@
+package com.vaadin.demo.application.adapter;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * In-process caches of the adapters for data that is read on almost every navigation but rarely changes.
+ * <ul>
+ *   <li>prizeTemplates: all prize templates and templates by ID</li>
+ *   <li>events: events by Meetup ID</li>
+ *   <li>raffles: raffles by ID, with their prizes</li>
+ * </ul>
+ * The write methods of the adapters evict the affected caches. Evictions inside a transaction are
+ * applied after the commit, so a concurrent read can not put the old state back.
+ * Hit/miss statistics are published by the actuator as cache.gets{result=hit|miss}.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String PRIZE_TEMPLATES = "prizeTemplates";
+    public static final String EVENTS = "events";
+    public static final String RAFFLES = "raffles";
+    public static final String CHECK_IN_INDEXES = "checkInIndexes";
+
+    @Bean
+    public CacheManager cacheManager(
+            @Value("${app.cache.spec:maximumSize=1000,expireAfterWrite=10m,recordStats}") String cacheSpec) {
+        CaffeineCacheManager caffeineCacheManager = new CaffeineCacheManager();
+        caffeineCacheManager.setCacheSpecification(cacheSpec);
+        // A fixed set of caches, created at startup so that the actuator binds their metrics
+        caffeineCacheManager.setCacheNames(List.of(PRIZE_TEMPLATES, EVENTS, RAFFLES));
+        return new TransactionAwareCacheManagerProxy(caffeineCacheManager);
+    }
+
+    /**
+     * The check-in search indexes of the events, see CheckInApplicationServiceImpl. Not part of the cache manager:
+     * the indexes are changed in place and evicted by the application services that change the attendance.
+     */
+    @Bean
+    public Cache checkInIndexCache(
+            @Value("${app.check-in.index-cache.spec:maximumSize=20,expireAfterWrite=30m}") String cacheSpec) {
+        return new CaffeineCache(CHECK_IN_INDEXES, Caffeine.from(cacheSpec).build());
+    }
+}
@@ -1,30 +1,38 @@
 package com.vaadin.demo.application.adapter;
 
 import com.vaadin.demo.application.adapter.out.meetupclient.MeetupAPIClient.MeetupEventWithRSVPs;
-import com.vaadin.demo.application.adapter.out.meetupclient.impl.MeetupEventWithRsvpWrapper;
-import com.vaadin.demo.application.adapter.out.meetupclient.impl.MeetupEventWithRsvpWrapper.RSVPMember;
 import com.vaadin.demo.application.adapter.out.persistence.data.MeetupEvent;
 import com.vaadin.demo.application.adapter.out.persistence.data.MeetupMember;
 import com.vaadin.demo.application.adapter.out.persistence.data.Member;
 import com.vaadin.demo.application.adapter.out.persistence.data.Participant;
 import com.vaadin.demo.application.adapter.out.persistence.data.Prize;
+import com.vaadin.demo.application.adapter.out.persistence.data.PrizeNotification;
 import com.vaadin.demo.application.adapter.out.persistence.data.PrizeTemplate;
 import com.vaadin.demo.application.adapter.out.persistence.data.Raffle;
+import com.vaadin.demo.application.adapter.out.persistence.data.RaffleDraw;
+import com.vaadin.demo.application.adapter.out.persistence.repository.ParticipantRepository;
+import com.vaadin.demo.application.adapter.out.persistence.repository.RaffleRepository;
 // Import Java class for API models
+import com.vaadin.demo.application.domain.model.CheckInEntryRecord;
+import com.vaadin.demo.application.domain.model.DrawRecord;
+import com.vaadin.demo.application.domain.model.EligibleEntrantRecord;
 import com.vaadin.demo.application.domain.model.EventRecord;
 import com.vaadin.demo.application.domain.model.EventRecordWithRSVPs;
 import com.vaadin.demo.application.domain.model.MemberRecord;
+import com.vaadin.demo.application.domain.model.NotificationDeliveryRecord;
+import com.vaadin.demo.application.domain.model.NotificationDeliveryRecord.DeliveryStatus;
 import com.vaadin.demo.application.domain.model.ParticipantRecord;
 import com.vaadin.demo.application.domain.model.ParticipantRecord.AttendanceStatus;
 import com.vaadin.demo.application.domain.model.ParticipantRecord.RsvpStatus;
+import com.vaadin.demo.application.domain.model.ParticipantRowRecord;
 import com.vaadin.demo.application.domain.model.PrizeRecord;
 import com.vaadin.demo.application.domain.model.PrizeTemplateRecord;
 import com.vaadin.demo.application.domain.model.RaffleRecord;
+import com.vaadin.demo.application.domain.model.WeightRulesRecord;
 import com.vaadin.demo.application.adapter.out.meetupclient.MeetupAPIClient;
 
 import java.time.OffsetDateTime;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Mapper utility class to convert between JPA entities and domain records
@@ -106,6 +114,98 @@ public class Mapper {
     );
   }
 
+  /**
+   * Convert a participants grid projection row to domain ParticipantRowRecord
+   */
+  public static ParticipantRowRecord toParticipantRowRecord(ParticipantRepository.ParticipantRow row) {
+    return new ParticipantRowRecord(
+        row.getId(),
+        row.getName() != null ? row.getName() : "",
+        row.getEmail() != null ? row.getEmail() : "",
+        Boolean.TRUE.equals(row.getIsOrganizer()),
+        Boolean.TRUE.equals(row.getHasEnteredRaffle()),
+        fromJpaRsvpStatus(row.getRsvpStatus()),
+        fromJpaAttendanceStatus(row.getAttendanceStatus())
+    );
+  }
+
+  /**
+   * Convert an eligible entrant projection row to domain EligibleEntrantRecord,
+   * members without a name are shown with their Meetup ID
+   */
+  public static EligibleEntrantRecord toEligibleEntrantRecord(RaffleRepository.EligibleEntrant row) {
+    return new EligibleEntrantRecord(
+        row.getParticipantId(),
+        row.getMemberMeetupId(),
+        row.getName() != null && !row.getName().isBlank() ? row.getName() : row.getMemberMeetupId(),
+        Boolean.TRUE.equals(row.getFirstEvent()),
+        row.getAttendedEvents() != null ? row.getAttendedEvents().intValue() : 0,
+        1.0
+    );
+  }
+
+  /**
+   * Convert the weight rules of a JPA Raffle to domain WeightRulesRecord
+   */
+  public static WeightRulesRecord toWeightRulesRecord(Raffle raffle) {
+    return new WeightRulesRecord(raffle.getFirstEventWeight(), raffle.getWeightPerAttendedEvent(), raffle.getMaxWeight());
+  }
+
+  /**
+   * Convert a persisted JPA RaffleDraw to domain DrawRecord, the candidate snapshot is not persisted
+   */
+  public static DrawRecord toDrawRecord(RaffleDraw entity) {
+    return new DrawRecord(
+        entity.getId(),
+        entity.getPrize().getId(),
+        List.of(),
+        entity.getCandidateCount(),
+        entity.getWinnerIndex(),
+        entity.getWinner().getId(),
+        entity.getSeed(),
+        entity.getCandidatesHash(),
+        entity.getDrawnAt()
+    );
+  }
+
+  /**
+   * Convert JPA PrizeNotification to domain NotificationDeliveryRecord
+   */
+  public static NotificationDeliveryRecord toNotificationDeliveryRecord(PrizeNotification entity) {
+    return new NotificationDeliveryRecord(
+        entity.getPrize().getId(),
+        entity.getRecipientEmail(),
+        fromJpaDeliveryStatus(entity.getStatus()),
+        entity.getAttempts(),
+        entity.getLastError(),
+        entity.getUpdatedAt()
+    );
+  }
+
+  /**
+   * Convert JPA DeliveryStatus to domain DeliveryStatus
+   */
+  public static DeliveryStatus fromJpaDeliveryStatus(PrizeNotification.DeliveryStatus status) {
+    return switch (status) {
+      case PENDING -> DeliveryStatus.PENDING;
+      case SENT -> DeliveryStatus.SENT;
+      case FAILED -> DeliveryStatus.FAILED;
+      case SKIPPED -> DeliveryStatus.SKIPPED;
+    };
+  }
+
+  /**
+   * Convert domain DeliveryStatus to JPA DeliveryStatus
+   */
+  public static PrizeNotification.DeliveryStatus toJpaDeliveryStatus(DeliveryStatus status) {
+    return switch (status) {
+      case PENDING -> PrizeNotification.DeliveryStatus.PENDING;
+      case SENT -> PrizeNotification.DeliveryStatus.SENT;
+      case FAILED -> PrizeNotification.DeliveryStatus.FAILED;
+      case SKIPPED -> PrizeNotification.DeliveryStatus.SKIPPED;
+    };
+  }
+
   /**
    * Convert JPA Prize to domain PrizeRecord
    */
@@ -154,10 +254,11 @@ public class Mapper {
           return null;
       }
 
+    // Unmodifiable, raffle records are shared through the raffles cache
     List<PrizeRecord> prizes = includePrizes && entity.getPrizes() != null ?
         entity.getPrizes().stream()
             .map(Mapper::toPrizeRecord)
-            .collect(Collectors.toList()) :
+            .toList() :
         List.of();
 
     return new RaffleRecord(
@@ -175,6 +276,20 @@ public class Mapper {
     return toRaffleRecord(entity, true);
   }
 
+  /**
+   * Convert a check-in projection row to domain CheckInEntryRecord
+   */
+  public static CheckInEntryRecord toCheckInEntryRecord(ParticipantRepository.CheckInRow row) {
+    return new CheckInEntryRecord(
+        row.getParticipantId(),
+        row.getName(),
+        row.getEmail(),
+        row.getMemberMeetupId(),
+        fromJpaRsvpStatus(row.getRsvpStatus()),
+        fromJpaAttendanceStatus(row.getAttendanceStatus())
+    );
+  }
+
   /**
    * Convert JPA AttendanceStatus to domain model AttendanceStatus
    */
@@ -284,6 +399,20 @@ public class Mapper {
     meetupEvent.setLastUpdated(OffsetDateTime.now());
   }
 
+  /**
+   * Updates the event data from an API event that was fetched together with its RSVPs
+   */
+  public static void updateFromApiResponse(MeetupEvent meetupEvent,
+      EventRecordWithRSVPs apiEvent) {
+    meetupEvent.setMeetupId(apiEvent.meetupId());
+    meetupEvent.setToken(apiEvent.meetupId());
+    meetupEvent.setTitle(apiEvent.title());
+    meetupEvent.setDescription(apiEvent.description());
+    meetupEvent.setDateTime(apiEvent.eventDate());
+    meetupEvent.setEventUrl(apiEvent.link());
+    meetupEvent.setLastUpdated(OffsetDateTime.now());
+  }
+
   public static EventRecordWithRSVPs toEventRecordWithRSVPs(MeetupEventWithRSVPs v) {
 
     return new EventRecordWithRSVPs(
@@ -293,14 +422,18 @@ public class Mapper {
         v.description(),
         v.dateTime(),
         "",
-        "",
-        v.rsvps().stream().map(r -> new EventRecordWithRSVPs.RSVPMember(
-            r.id(), r.name(), r.email(), r.id(), false, false
-
-        )).toList()
+        v.eventUrl(),
+        v.rsvps().stream().map(Mapper::toRSVPMember).toList()
     );
   }
 
+  /**
+   * Convert an API RSVP to the domain RSVP member
+   */
+  public static EventRecordWithRSVPs.RSVPMember toRSVPMember(MeetupAPIClient.RSVP r) {
+    return new EventRecordWithRSVPs.RSVPMember(r.id(), r.name(), r.email(), r.id(), false, false, r.isFirstEvent());
+  }
+
   // Methods to convert from domain records to JPA entities would be added here
   // For completeness, but they're not shown to keep this focused
 }
\ No newline at end of file
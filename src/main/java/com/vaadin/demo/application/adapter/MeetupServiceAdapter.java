@@ -9,18 +9,28 @@ import com.vaadin.demo.application.application.port.out.MeetupPort;
 import com.vaadin.demo.application.adapter.out.persistence.repository.MeetupEventRepository;
 import com.vaadin.demo.application.adapter.out.persistence.repository.MemberRepository;
 import com.vaadin.demo.application.adapter.out.persistence.repository.ParticipantRepository;
-import com.vaadin.demo.application.adapter.out.meetupclient.MeetupAPIClient;
-import com.vaadin.demo.application.adapter.out.meetupclient.MeetupAPIClient.MeetupEventWithRSVPs;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
 
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.IntConsumer;
 import java.util.stream.Collectors;
 
 /**
@@ -40,8 +50,12 @@ public class MeetupServiceAdapter implements MeetupPort {
     private final MemberRepository memberRepository;
     private final ParticipantRepository participantRepository;
 
+    // The member sync commits every page of RSVPs on its own
+    private final TransactionOperations transactionOperations;
+
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(CacheConfig.EVENTS)
     public Optional<EventRecord> getEventByMeetupId(String meetupId) {
         return meetupEventRepository.findByMeetupId(meetupId)
             .map(Mapper::toEventRecord);
@@ -55,17 +69,32 @@ public class MeetupServiceAdapter implements MeetupPort {
             .collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<EventRecord> getEvents(Pageable pageable, String filter) {
+        return meetupEventRepository.findByFilter(filter == null ? "" : filter.trim(), pageable)
+            .map(Mapper::toEventRecord);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<ParticipantRecord> getParticipantsForEvent(EventRecord event) {
         MeetupEvent entityEvent = meetupEventRepository.findById(event.id())
             .orElseThrow(() -> new IllegalArgumentException("Event not found: " + event.id()));
 
-        return participantRepository.findByMeetupEvent(entityEvent).stream()
+        return participantRepository.findForParticipantsGridByMeetupEvent(entityEvent).stream()
             .map(Mapper::toParticipantRecord)
             .collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<ParticipantRowRecord> getParticipantRows(String meetupEventId) {
+        return participantRepository.findRowsByMeetupId(meetupEventId).stream()
+            .map(Mapper::toParticipantRowRecord)
+            .collect(Collectors.toList());
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<ParticipantRecord> getRaffleEligibleParticipants(EventRecord event) {
@@ -81,23 +110,26 @@ public class MeetupServiceAdapter implements MeetupPort {
     }
 
     @Override
-    @Transactional
-    public EventRecord importEvent(String meetupEventId) {
-        // Fetch event data from external API
-        Optional<EventRecord> apiEventOpt =
-                meetupApiClientAdapter.getEvent(meetupEventId);
-
-        if (apiEventOpt.isEmpty()) {
-            throw new IllegalArgumentException("Meetup event not found: " + meetupEventId);
-        }
+    public Optional<EventRecordWithRSVPs> fetchEventWithRSVPs(String meetupEventId) {
+        // No transaction here, the remote call must not hold a database connection
+        return meetupApiClientAdapter.getEventWithRSVPs(meetupEventId);
+    }
 
-        EventRecord apiEvent = apiEventOpt.get();
+    @Override
+    public Map<String, EventRecordWithRSVPs> fetchEventsWithRSVPs(Collection<String> meetupEventIds) {
+        // No transaction here either, one request fetches a whole batch of events
+        return meetupApiClientAdapter.getEventsWithRSVPs(meetupEventIds);
+    }
 
+    @Override
+    @Transactional
+    @CacheEvict(cacheNames = {CacheConfig.EVENTS, CacheConfig.RAFFLES}, allEntries = true)
+    public EventRecord saveImportedEvent(EventRecordWithRSVPs apiEvent) {
         // Find or create the event in our database
-        MeetupEvent event = meetupEventRepository.findByMeetupId(meetupEventId)
+        MeetupEvent event = meetupEventRepository.findByMeetupId(apiEvent.meetupId())
                 .orElseGet(() -> {
                     MeetupEvent newEvent = new MeetupEvent();
-                    newEvent.setMeetupId(meetupEventId);
+                    newEvent.setMeetupId(apiEvent.meetupId());
                     return newEvent;
                 });
 
@@ -105,83 +137,120 @@ public class MeetupServiceAdapter implements MeetupPort {
         Mapper.updateFromApiResponse(event, apiEvent);
         MeetupEvent savedEvent = meetupEventRepository.save(event);
 
-        // Sync members for the event
-        syncEventMembersByMeetupId(meetupEventId);
+        // Sync members for the event from the RSVPs we already have
+        updateParticipantsFromRSVPs(savedEvent, apiEvent);
 
         return Mapper.toEventRecord(savedEvent);
     }
 
     @Override
-    @Transactional
-    public int syncEventMembers(Long eventId) {
+    @CacheEvict(cacheNames = CacheConfig.RAFFLES, allEntries = true)
+    public SyncReport syncEventMembers(Long eventId) {
         MeetupEvent event = meetupEventRepository.findById(eventId)
                 .orElseThrow(() -> new IllegalArgumentException("Event not found: " + eventId));
 
-        return syncMembersForEvent(event);
+        return syncMembersForEvent(event, processed -> { });
     }
 
     @Override
-    @Transactional
-    public int syncEventMembersByMeetupId(String meetupEventId) {
+    @CacheEvict(cacheNames = CacheConfig.RAFFLES, allEntries = true)
+    public SyncReport syncEventMembersByMeetupId(String meetupEventId) {
+        return syncEventMembersByMeetupId(meetupEventId, processed -> { });
+    }
+
+    @Override
+    @CacheEvict(cacheNames = CacheConfig.RAFFLES, allEntries = true)
+    public SyncReport syncEventMembersByMeetupId(String meetupEventId, IntConsumer progressListener) {
         MeetupEvent event = meetupEventRepository.findByMeetupId(meetupEventId)
                 .orElseThrow(() -> new IllegalArgumentException("Event not found: " + meetupEventId));
 
-        return syncMembersForEvent(event);
+        return syncMembersForEvent(event, progressListener);
     }
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.RAFFLES, allEntries = true)
     public ParticipantRecord markParticipantEnteredRaffle(Long participantId) {
-        Participant participant = participantRepository.findById(participantId)
-                .orElseThrow(() -> new IllegalArgumentException("Participant not found: " + participantId));
-
-        participant.setHasEnteredRaffle(true);
-        participant.setLastUpdated(OffsetDateTime.now());
-        Participant saved = participantRepository.save(participant);
-
-        return Mapper.toParticipantRecord(saved);
+        return reloadUpdatedParticipant(participantId,
+                updateParticipantsRaffleEntry(List.of(participantId), true));
     }
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.RAFFLES, allEntries = true)
     public ParticipantRecord markParticipantAttendedAndEnteredRaffle(Long participantId) {
-        Participant participant = participantRepository.findById(participantId)
-                .orElseThrow(() -> new IllegalArgumentException("Participant not found: " + participantId));
+        return reloadUpdatedParticipant(participantId, updateParticipantsAttendanceStatusAndEnterRaffle(
+                List.of(participantId), ParticipantRecord.AttendanceStatus.ATTENDED));
+    }
 
-        participant.setAttendanceStatus(Participant.AttendanceStatus.ATTENDED);
-        participant.setHasEnteredRaffle(true);
-        participant.setLastUpdated(OffsetDateTime.now());
-        Participant saved = participantRepository.save(participant);
+    @Override
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.RAFFLES, allEntries = true)
+    public ParticipantRecord markParticipantNoShowAndEnteredRaffle(Long participantId) {
+        return reloadUpdatedParticipant(participantId, updateParticipantsAttendanceStatusAndEnterRaffle(
+                List.of(participantId), ParticipantRecord.AttendanceStatus.NO_SHOW));
+    }
 
-        return Mapper.toParticipantRecord(saved);
+    @Override
+    @Transactional(readOnly = true)
+    public List<CheckInEntryRecord> getCheckInEntries(String meetupEventId) {
+        return participantRepository.findCheckInRowsByMeetupId(meetupEventId).stream()
+                .map(Mapper::toCheckInEntryRecord)
+                .toList();
     }
 
     @Override
     @Transactional
-    public ParticipantRecord markParticipantNoShowAndEnteredRaffle(Long participantId) {
-        Participant participant = participantRepository.findById(participantId)
-                .orElseThrow(() -> new IllegalArgumentException("Participant not found: " + participantId));
+    @CacheEvict(cacheNames = CacheConfig.RAFFLES, allEntries = true)
+    public void resetRaffleEntryForEvent(EventRecord event) {
+        int reset = participantRepository.resetHasEnteredRaffleByMeetupEventId(event.id(), OffsetDateTime.now());
+        log.debug("Reset the raffle entry of {} participants of event {}", reset, event.id());
+    }
 
-        participant.setAttendanceStatus(Participant.AttendanceStatus.NO_SHOW);
-        participant.setHasEnteredRaffle(true);
-        participant.setLastUpdated(OffsetDateTime.now());
-        Participant saved = participantRepository.save(participant);
+    @Override
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.RAFFLES, allEntries = true)
+    public int updateParticipantsAttendanceStatus(Collection<Long> participantIds,
+                                                  ParticipantRecord.AttendanceStatus status) {
+        if (participantIds.isEmpty()) {
+            return 0;
+        }
+        return participantRepository.updateAttendanceStatus(participantIds, Mapper.toJpaAttendanceStatus(status),
+                OffsetDateTime.now());
+    }
 
-        return Mapper.toParticipantRecord(saved);
+    @Override
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.RAFFLES, allEntries = true)
+    public int updateParticipantsRaffleEntry(Collection<Long> participantIds, boolean hasEnteredRaffle) {
+        if (participantIds.isEmpty()) {
+            return 0;
+        }
+        return participantRepository.updateHasEnteredRaffle(participantIds, hasEnteredRaffle, OffsetDateTime.now());
     }
 
     @Override
     @Transactional
-    public void resetRaffleEntryForEvent(EventRecord event) {
-        MeetupEvent entityEvent = meetupEventRepository.findById(event.id())
-            .orElseThrow(() -> new IllegalArgumentException("Event not found: " + event.id()));
+    @CacheEvict(cacheNames = CacheConfig.RAFFLES, allEntries = true)
+    public int updateParticipantsAttendanceStatusAndEnterRaffle(Collection<Long> participantIds,
+                                                                ParticipantRecord.AttendanceStatus status) {
+        if (participantIds.isEmpty()) {
+            return 0;
+        }
+        return participantRepository.updateAttendanceStatusAndEnterRaffle(participantIds,
+                Mapper.toJpaAttendanceStatus(status), OffsetDateTime.now());
+    }
 
-        List<Participant> participants = participantRepository.findByMeetupEvent(entityEvent);
-        for (Participant participant : participants) {
-            participant.setHasEnteredRaffle(false);
-            participant.setLastUpdated(OffsetDateTime.now());
+    /**
+     * Read a participant back after a bulk update of that single participant
+     */
+    private ParticipantRecord reloadUpdatedParticipant(Long participantId, int updated) {
+        if (updated == 0) {
+            throw new IllegalArgumentException("Participant not found: " + participantId);
         }
-        participantRepository.saveAll(participants);
+        return participantRepository.findById(participantId)
+                .map(Mapper::toParticipantRecord)
+                .orElseThrow(() -> new IllegalArgumentException("Participant not found: " + participantId));
     }
 
     @Override
@@ -193,6 +262,7 @@ public class MeetupServiceAdapter implements MeetupPort {
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = {CacheConfig.EVENTS, CacheConfig.RAFFLES}, allEntries = true)
     public EventRecord saveEvent(EventRecord event) {
         // Convert from domain record to JPA entity
         MeetupEvent entityToSave = event.id() != null ?
@@ -221,224 +291,229 @@ public class MeetupServiceAdapter implements MeetupPort {
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.RAFFLES, allEntries = true)
     public ParticipantRecord markParticipantNotEnteredRaffle(Long participantId) {
-        Participant participant = participantRepository.findById(participantId)
-            .orElseThrow(() -> new IllegalArgumentException("Participant not found: " + participantId));
-
-        participant.setHasEnteredRaffle(false);
-        participant.setLastUpdated(OffsetDateTime.now());
-
-        Participant savedParticipant = participantRepository.save(participant);
-        return Mapper.toParticipantRecord(savedParticipant);
+        return reloadUpdatedParticipant(participantId,
+            updateParticipantsRaffleEntry(List.of(participantId), false));
     }
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.RAFFLES, allEntries = true)
     public ParticipantRecord markParticipantAttended(Long participantId) {
-        Participant participant = participantRepository.findById(participantId)
-            .orElseThrow(() -> new IllegalArgumentException("Participant not found: " + participantId));
-
-        participant.setAttendanceStatus(Participant.AttendanceStatus.ATTENDED);
-        participant.setLastUpdated(OffsetDateTime.now());
-
-        Participant savedParticipant = participantRepository.save(participant);
-        return Mapper.toParticipantRecord(savedParticipant);
+        return reloadUpdatedParticipant(participantId,
+            updateParticipantsAttendanceStatus(List.of(participantId), ParticipantRecord.AttendanceStatus.ATTENDED));
     }
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.RAFFLES, allEntries = true)
     public ParticipantRecord markParticipantNoShow(Long participantId) {
-        Participant participant = participantRepository.findById(participantId)
-            .orElseThrow(() -> new IllegalArgumentException("Participant not found: " + participantId));
-
-        participant.setAttendanceStatus(Participant.AttendanceStatus.NO_SHOW);
-        participant.setLastUpdated(OffsetDateTime.now());
-
-        Participant savedParticipant = participantRepository.save(participant);
-        return Mapper.toParticipantRecord(savedParticipant);
+        return reloadUpdatedParticipant(participantId,
+            updateParticipantsAttendanceStatus(List.of(participantId), ParticipantRecord.AttendanceStatus.NO_SHOW));
     }
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.RAFFLES, allEntries = true)
     public ParticipantRecord resetParticipantAttendanceStatus(Long participantId) {
-        Participant participant = participantRepository.findById(participantId)
-            .orElseThrow(() -> new IllegalArgumentException("Participant not found: " + participantId));
-
-        participant.setAttendanceStatus(Participant.AttendanceStatus.UNKNOWN);
-        participant.setLastUpdated(OffsetDateTime.now());
-
-        Participant savedParticipant = participantRepository.save(participant);
-        return Mapper.toParticipantRecord(savedParticipant);
+        return reloadUpdatedParticipant(participantId,
+            updateParticipantsAttendanceStatus(List.of(participantId), ParticipantRecord.AttendanceStatus.UNKNOWN));
     }
 
     /**
-     * Sync members for an event from the Meetup API
+     * Sync members for an event from the Meetup API.
+     * The RSVPs are streamed page by page, every page is diffed and committed in its own transaction
+     * while the next one is fetched, so no database connection is held during the remote calls.
      * @param event The event to sync members for
-     * @return The number of members synced
+     * @param progressListener Called with the number of RSVPs processed after each page
+     * @return Report of inserted, updated, unchanged and cancelled participants
      */
-    private int syncMembersForEvent(MeetupEvent event) {
-        // Get the event details with RSVPs from the Meetup.com API
-        Optional<EventRecordWithRSVPs> apiEventOpt = meetupApiClientAdapter.getEventWithRSVPs(event.getMeetupId());
-
-        if (apiEventOpt.isEmpty()) {
-            throw new IllegalArgumentException("Meetup event not found in API: " + event.getMeetupId());
-        }
+    private SyncReport syncMembersForEvent(MeetupEvent event, IntConsumer progressListener) {
+        RsvpSync sync = new RsvpSync(event);
 
-        EventRecordWithRSVPs apiEvent = apiEventOpt.get();
+        meetupApiClientAdapter.streamEventRSVPs(event.getMeetupId(), page -> {
+            sync.apply(page);
+            progressListener.accept(sync.processed());
+        });
 
-        return updateParticipantsFromRSVPs(event, apiEvent);
+        return sync.finish();
     }
 
     /**
-     * Helper method to update participants from API event with RSVPs data
-     * @return Number of participants updated or created
+     * Helper method to update participants from API event with RSVPs data.
+     * @return Report of inserted, updated, unchanged and cancelled participants
      */
-    @Deprecated
-    private int updateParticipantsFromRSVPs(MeetupEvent event, MeetupEventWithRSVPs apiEvent) {
-        if (apiEvent.rsvps() == null) {
-            return 0;
+    private SyncReport updateParticipantsFromRSVPs(MeetupEvent event, EventRecordWithRSVPs apiEvent) {
+        if (apiEvent.members() == null) {
+            return SyncReport.empty();
         }
 
-        int count = 0;
-
-        // Get all existing participants for this event
-        List<Participant> existingParticipants = participantRepository.findByMeetupEvent(event);
-        Set<String> rsvpMemberIds = new HashSet<>();
+        RsvpSync sync = new RsvpSync(event);
+        sync.apply(apiEvent.members());
+        return sync.finish();
+    }
 
-        // Process RSVPs from API
-        for (MeetupAPIClient.RSVP rsvp : apiEvent.rsvps()) {
-            // Skip invalid data
-            if (rsvp.id() == null) {
-                continue;
-            }
+    /**
+     * Diff of the RSVPs of one event against the stored participants.
+     * RSVPs are applied in pages, each page in its own transaction (or the caller's, if there is one):
+     * the participants and members of a page are loaded with one query each and only rows that really
+     * changed are touched (and get a new version). New rows are written with saveAll so Hibernate can
+     * batch the statements. Only the member IDs seen so far are kept between pages.
+     * Participants that did not show up in any page are cancelled in {@link #finish()}.
+     */
+    private class RsvpSync {
 
-            // Track which members were found in the API response
-            rsvpMemberIds.add(rsvp.id());
-
-            // Find or create Member
-            Member member = memberRepository.findByMeetupId(rsvp.id())
-                    .orElseGet(() -> {
-                        Member newMember = new Member();
-                        newMember.setMeetupId(rsvp.id());
-                        newMember.setName(rsvp.name());
-                        newMember.setEmail(rsvp.email());
-                        newMember.setLastUpdated(OffsetDateTime.now());
-                        return memberRepository.save(newMember);
-                    });
-
-            // Update member data
-            member.setName(rsvp.name());
-            member.setEmail(rsvp.email());
-            member.setLastUpdated(OffsetDateTime.now());
-            memberRepository.save(member);
-
-            // Find or create Participant
-            Participant participant = participantRepository.findByMeetupEventAndMember(event, member)
-                    .orElseGet(() -> {
-                        Participant newParticipant = new Participant();
-                        newParticipant.setMeetupEvent(event);
-                        newParticipant.setMember(member);
-                        return newParticipant;
-                    });
-
-            // Update participant data
-            participant.setRsvpId(rsvp.id());
-
-            // For now, we're assuming everyone in the RSVP list is a YES
-            participant.setRsvpStatus(Participant.RSVPStatus.YES);
-
-            participant.setLastUpdated(OffsetDateTime.now());
-
-            participantRepository.save(participant);
-            count++;
-        }
+        private final MeetupEvent event;
+        private final OffsetDateTime now = OffsetDateTime.now();
+        private final Set<String> seenMemberIds = new HashSet<>();
 
-        // Mark participants as NO if they're in the database but not in the API response
-        List<Participant> missingParticipants = existingParticipants.stream()
-                .filter(p -> p.getMember() != null && !rsvpMemberIds.contains(p.getMember().getMeetupId()))
-                .toList();
+        private int inserted;
+        private int updated;
+        private int unchanged;
 
-        for (Participant missingParticipant : missingParticipants) {
-            missingParticipant.setRsvpStatus(Participant.RSVPStatus.NO);
-            missingParticipant.setLastUpdated(OffsetDateTime.now());
-            participantRepository.save(missingParticipant);
-            count++;
+        RsvpSync(MeetupEvent event) {
+            this.event = event;
         }
 
-        return count;
-    }
+        /**
+         * Apply one page of RSVPs
+         */
+        void apply(List<EventRecordWithRSVPs.RSVPMember> rsvps) {
+            // Collect the RSVPs of this page, skipping invalid data and duplicates
+            Map<String, EventRecordWithRSVPs.RSVPMember> rsvpsByMemberId = new LinkedHashMap<>();
+            for (EventRecordWithRSVPs.RSVPMember rsvp : rsvps) {
+                if (rsvp.id() != null && seenMemberIds.add(rsvp.id())) {
+                    rsvpsByMemberId.put(rsvp.id(), rsvp);
+                }
+            }
+            if (rsvpsByMemberId.isEmpty()) {
+                return;
+            }
 
-    private int updateParticipantsFromRSVPs(MeetupEvent event, EventRecordWithRSVPs apiEvent) {
-        if (apiEvent.members() == null) {
-            return 0;
+            transactionOperations.executeWithoutResult(status -> applyPage(rsvpsByMemberId));
         }
 
-        int count = 0;
+        private void applyPage(Map<String, EventRecordWithRSVPs.RSVPMember> rsvpsByMemberId) {
+            // Existing participants (with their members) of this page keyed by member Meetup ID
+            Map<String, Participant> participantsByMemberId = new HashMap<>();
+            Map<String, Member> membersByMeetupId = new HashMap<>();
+            for (Participant participant : participantRepository.findByMeetupEventWithMemberMeetupIdIn(
+                    event, rsvpsByMemberId.keySet())) {
+                participantsByMemberId.put(participant.getMember().getMeetupId(), participant);
+                membersByMeetupId.put(participant.getMember().getMeetupId(), participant.getMember());
+            }
+
+            // Load the members that already exist but are not yet participants of this event in one query
+            Set<String> unknownMemberIds = new HashSet<>(rsvpsByMemberId.keySet());
+            unknownMemberIds.removeAll(membersByMeetupId.keySet());
+            if (!unknownMemberIds.isEmpty()) {
+                memberRepository.findByMeetupIdIn(unknownMemberIds)
+                        .forEach(member -> membersByMeetupId.put(member.getMeetupId(), member));
+            }
 
-        // Get all existing participants for this event
-        List<Participant> existingParticipants = participantRepository.findByMeetupEvent(event);
-        Set<String> rsvpMemberIds = new HashSet<>();
+            List<Member> newMembers = new ArrayList<>();
+            List<Participant> newParticipants = new ArrayList<>();
 
-        // Process RSVPs from API
-        for (EventRecordWithRSVPs.RSVPMember rsvp : apiEvent.members()) {
-            // Skip invalid data
-            if (rsvp.id() == null) {
-                continue;
+            for (EventRecordWithRSVPs.RSVPMember rsvp : rsvpsByMemberId.values()) {
+                // Find or create Member
+                Member member = membersByMeetupId.computeIfAbsent(rsvp.id(), meetupId -> {
+                    Member newMember = new Member();
+                    newMember.setMeetupId(meetupId);
+                    newMembers.add(newMember);
+                    return newMember;
+                });
+                boolean memberChanged = applyMemberChanges(member, rsvp, now);
+
+                // Find or create Participant
+                Participant participant = participantsByMemberId.get(rsvp.id());
+                if (participant == null) {
+                    participant = new Participant();
+                    participant.setMeetupEvent(event);
+                    participant.setMember(member);
+                    // For now, we're assuming everyone in the RSVP list is a YES
+                    participant.setRsvpId(rsvp.id());
+                    participant.setRsvpStatus(Participant.RSVPStatus.YES);
+                    participant.setIsFirstEvent(rsvp.isFirstEvent());
+                    participant.setLastUpdated(now);
+                    newParticipants.add(participant);
+                    inserted++;
+                } else if (applyParticipantChanges(participant, rsvp, now) || memberChanged) {
+                    updated++;
+                } else {
+                    unchanged++;
+                }
             }
 
-            // Track which members were found in the API response
-            rsvpMemberIds.add(rsvp.id());
-
-            // Find or create Member
-            Member member = memberRepository.findByMeetupId(rsvp.id())
-                    .orElseGet(() -> {
-                        Member newMember = new Member();
-                        newMember.setMeetupId(rsvp.id());
-                        newMember.setName(rsvp.name());
-                        newMember.setEmail(rsvp.email());
-                        newMember.setLastUpdated(OffsetDateTime.now());
-                        return memberRepository.save(newMember);
-                    });
-
-            // Update member data
-            member.setName(rsvp.name());
-            member.setEmail(rsvp.email());
-            member.setLastUpdated(OffsetDateTime.now());
-            memberRepository.save(member);
-
-            // Find or create Participant
-            Participant participant = participantRepository.findByMeetupEventAndMember(event, member)
-                    .orElseGet(() -> {
-                        Participant newParticipant = new Participant();
-                        newParticipant.setMeetupEvent(event);
-                        newParticipant.setMember(member);
-                        return newParticipant;
-                    });
-
-            // Update participant data
-            participant.setRsvpId(rsvp.id());
-
-            // For now, we're assuming everyone in the RSVP list is a YES
-            participant.setRsvpStatus(Participant.RSVPStatus.YES);
-
-            participant.setLastUpdated(OffsetDateTime.now());
-
-            participantRepository.save(participant);
-            count++;
+            // New rows are inserted in batches; changes to the loaded (managed) entities
+            // are flushed as batched updates on commit. Untouched entities stay clean, so Hibernate's
+            // dirty checking issues no statement for them.
+            memberRepository.saveAll(newMembers);
+            participantRepository.saveAll(newParticipants);
         }
 
-        // Mark participants as NO if they're in the database but not in the API response
-        List<Participant> missingParticipants = existingParticipants.stream()
-                .filter(p -> p.getMember() != null && !rsvpMemberIds.contains(p.getMember().getMeetupId()))
-                .toList();
+        /**
+         * Number of distinct RSVPs applied so far
+         */
+        int processed() {
+            return seenMemberIds.size();
+        }
+
+        /**
+         * Mark participants as NO if they're in the database but not in the API response
+         */
+        SyncReport finish() {
+            int cancelled = transactionOperations.execute(status -> {
+                int changed = 0;
+                for (Participant participant : participantRepository.findByMeetupEventWithMember(event)) {
+                    if (seenMemberIds.contains(participant.getMember().getMeetupId())) {
+                        continue;
+                    }
+                    if (participant.getRsvpStatus() != Participant.RSVPStatus.NO) {
+                        participant.setRsvpStatus(Participant.RSVPStatus.NO);
+                        participant.setLastUpdated(now);
+                        changed++;
+                    } else {
+                        unchanged++;
+                    }
+                }
+                return changed;
+            });
+
+            SyncReport report = new SyncReport(inserted, updated, unchanged, cancelled);
+            log.debug("Synced RSVPs for event {}: {}", event.getMeetupId(), report.summary());
+            return report;
+        }
+    }
 
-        for (Participant missingParticipant : missingParticipants) {
-            missingParticipant.setRsvpStatus(Participant.RSVPStatus.NO);
-            missingParticipant.setLastUpdated(OffsetDateTime.now());
-            participantRepository.save(missingParticipant);
-            count++;
+    /**
+     * Copy the member data from the RSVP only if it differs from the stored state
+     * @return true if the member was modified
+     */
+    private boolean applyMemberChanges(Member member, EventRecordWithRSVPs.RSVPMember rsvp, OffsetDateTime now) {
+        if (Objects.equals(member.getName(), rsvp.name()) && Objects.equals(member.getEmail(), rsvp.email())) {
+            return false;
         }
+        member.setName(rsvp.name());
+        member.setEmail(rsvp.email());
+        member.setLastUpdated(now);
+        return true;
+    }
 
-        return count;
+    /**
+     * Copy the participant data from the RSVP only if it differs from the stored state
+     * @return true if the participant was modified
+     */
+    private boolean applyParticipantChanges(Participant participant, EventRecordWithRSVPs.RSVPMember rsvp, OffsetDateTime now) {
+        if (Objects.equals(participant.getRsvpId(), rsvp.id())
+                && participant.getRsvpStatus() == Participant.RSVPStatus.YES
+                && Objects.equals(participant.getIsFirstEvent(), rsvp.isFirstEvent())) {
+            return false;
+        }
+        participant.setRsvpId(rsvp.id());
+        participant.setRsvpStatus(Participant.RSVPStatus.YES);
+        participant.setIsFirstEvent(rsvp.isFirstEvent());
+        participant.setLastUpdated(now);
+        return true;
     }
 }
\ No newline at end of file
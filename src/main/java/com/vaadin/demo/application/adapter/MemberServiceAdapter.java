@@ -1,6 +1,7 @@
 package com.vaadin.demo.application.adapter;
 
 import com.vaadin.demo.application.adapter.out.persistence.data.Member;
+import com.vaadin.demo.application.domain.model.MemberKeyRecord;
 import com.vaadin.demo.application.domain.model.MemberRecord;
 import com.vaadin.demo.application.application.port.out.MemberPort;
 import com.vaadin.demo.application.adapter.out.persistence.repository.MemberRepository;
@@ -13,6 +14,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.OffsetDateTime;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -24,6 +26,8 @@ import java.util.Optional;
 @Slf4j
 public class MemberServiceAdapter implements MemberPort {
 
+    static final int FILTERED_COUNT_CAP = 1000;
+
     private final MemberRepository memberRepository;
 
     @Override
@@ -56,6 +60,29 @@ public class MemberServiceAdapter implements MemberPort {
                 .map(Mapper::toMemberRecord);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<MemberRecord> searchMembers(String filter, MemberKeyRecord after, int offset, int limit) {
+        String trimmed = SearchPatterns.normalize(filter);
+        return memberRepository.findPageAfter(trimmed, SearchPatterns.toContainsPattern(trimmed),
+                after.name(), after.id(), offset, limit).stream()
+                .map(Mapper::toMemberRecord)
+                .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public int estimateMemberCount(String filter) {
+        String trimmed = SearchPatterns.normalize(filter);
+        if (!trimmed.isEmpty()) {
+            // Counting stops at the cap, beyond it the grid grows while scrolling
+            return (int) memberRepository.countMatchingUpTo(SearchPatterns.toContainsPattern(trimmed),
+                    FILTERED_COUNT_CAP);
+        }
+        long estimate = memberRepository.estimateRowCount();
+        return estimate > 0 ? (int) estimate : countMembers();
+    }
+
     @Override
     @Transactional
     public MemberRecord saveMember(MemberRecord memberRecord) {
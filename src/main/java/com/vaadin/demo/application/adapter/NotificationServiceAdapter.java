@@ -0,0 +1,71 @@
+package com.vaadin.demo.application.adapter;
+
+import com.vaadin.demo.application.adapter.out.persistence.data.PrizeNotification;
+import com.vaadin.demo.application.adapter.out.persistence.repository.PrizeNotificationRepository;
+import com.vaadin.demo.application.adapter.out.persistence.repository.PrizeRepository;
+import com.vaadin.demo.application.application.port.out.NotificationPort;
+import com.vaadin.demo.application.domain.model.NotificationDeliveryRecord;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Adapter implementation of the NotificationPort interface, one prize_notification row per prize
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationServiceAdapter implements NotificationPort {
+
+    private final PrizeNotificationRepository prizeNotificationRepository;
+    private final PrizeRepository prizeRepository;
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<NotificationDeliveryRecord> getDeliveriesForRaffle(Long raffleId) {
+        return prizeNotificationRepository.findByPrize_Raffle_IdOrderByIdAsc(raffleId).stream()
+            .map(Mapper::toNotificationDeliveryRecord)
+            .toList();
+    }
+
+    @Override
+    @Transactional
+    public void saveDeliveries(Collection<NotificationDeliveryRecord> deliveries) {
+        if (deliveries.isEmpty()) {
+            return;
+        }
+
+        // Load the existing rows of the whole batch at once, new rows only reference the prize
+        List<Long> prizeIds = deliveries.stream().map(NotificationDeliveryRecord::prizeId).toList();
+        Map<Long, PrizeNotification> notificationsByPrizeId = prizeNotificationRepository.findByPrize_IdIn(prizeIds).stream()
+            .collect(Collectors.toMap(notification -> notification.getPrize().getId(), Function.identity()));
+
+        List<PrizeNotification> notifications = deliveries.stream().map(delivery -> {
+            PrizeNotification notification = notificationsByPrizeId.computeIfAbsent(delivery.prizeId(), prizeId -> {
+                PrizeNotification created = new PrizeNotification();
+                created.setPrize(prizeRepository.getReferenceById(prizeId));
+                return created;
+            });
+            notification.setRecipientEmail(delivery.recipientEmail());
+            notification.setStatus(Mapper.toJpaDeliveryStatus(delivery.status()));
+            notification.setAttempts(delivery.attempts());
+            notification.setLastError(truncate(delivery.lastError()));
+            notification.setUpdatedAt(delivery.updatedAt());
+            return notification;
+        }).toList();
+
+        prizeNotificationRepository.saveAll(notifications);
+    }
+
+    private static String truncate(String error) {
+        return error != null && error.length() > PrizeNotification.MAX_ERROR_LENGTH
+            ? error.substring(0, PrizeNotification.MAX_ERROR_LENGTH) : error;
+    }
+}
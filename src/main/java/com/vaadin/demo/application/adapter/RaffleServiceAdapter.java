@@ -5,21 +5,34 @@ import com.vaadin.demo.application.adapter.out.persistence.data.Participant;
 import com.vaadin.demo.application.adapter.out.persistence.data.Prize;
 import com.vaadin.demo.application.adapter.out.persistence.data.PrizeTemplate;
 import com.vaadin.demo.application.adapter.out.persistence.data.Raffle;
+import com.vaadin.demo.application.adapter.out.persistence.data.RaffleDraw;
 import com.vaadin.demo.application.domain.model.*;
 import com.vaadin.demo.application.application.port.out.MeetupPort;
 import com.vaadin.demo.application.application.port.out.RafflePort;
 import com.vaadin.demo.application.adapter.out.persistence.repository.MeetupEventRepository;
+import com.vaadin.demo.application.adapter.out.persistence.repository.ParticipantRepository;
 import com.vaadin.demo.application.adapter.out.persistence.repository.PrizeRepository;
 import com.vaadin.demo.application.adapter.out.persistence.repository.PrizeTemplateRepository;
+import com.vaadin.demo.application.adapter.out.persistence.repository.RaffleDrawRepository;
 import com.vaadin.demo.application.adapter.out.persistence.repository.RaffleRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.format.DateTimeFormatter;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -35,14 +48,15 @@ public class RaffleServiceAdapter implements RafflePort {
     private final PrizeRepository prizeRepository;
     private final PrizeTemplateRepository prizeTemplateRepository;
     private final MeetupEventRepository meetupEventRepository;
+    private final ParticipantRepository participantRepository;
+    private final RaffleDrawRepository raffleDrawRepository;
     private final MeetupPort meetupPort;
 
-    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
-
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(CacheConfig.RAFFLES)
     public Optional<RaffleRecord> getRaffleById(Long id) {
-        return raffleRepository.findById(id).map(Mapper::toRaffleRecord);
+        return raffleRepository.findDetailsById(id).map(Mapper::toRaffleRecord);
     }
 
     @Override
@@ -62,6 +76,20 @@ public class RaffleServiceAdapter implements RafflePort {
         return result.map(Mapper::toRaffleRecord);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Map<String, Long> getRaffleIdsByMeetupEventIds(Collection<String> meetupEventIds) {
+        if (meetupEventIds.isEmpty()) {
+            return Map.of();
+        }
+        Map<String, Long> raffleIds = new HashMap<>();
+        for (RaffleRepository.RaffleIdByEvent row : raffleRepository.findByMeetupEventIdIn(meetupEventIds)) {
+            // Same preference as getRaffleByMeetupEventId: keep the first raffle found per event
+            raffleIds.putIfAbsent(row.getMeetupEventId(), row.getRaffleId());
+        }
+        return raffleIds;
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<RaffleRecord> getAllRaffles() {
@@ -70,13 +98,22 @@ public class RaffleServiceAdapter implements RafflePort {
             .collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<RaffleRecord> getRaffles(Pageable pageable, String filter) {
+        return raffleRepository.findByFilter(filter == null ? "" : filter.trim(), pageable)
+            .map(Mapper::toRaffleRecord);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<PrizeRecord> getPrizesForRaffle(RaffleRecord raffle) {
-        Raffle raffleEntity = raffleRepository.findById(raffle.id())
-            .orElseThrow(() -> new IllegalArgumentException("Raffle not found: " + raffle.id()));
+        // Only check the raffle, the prize query loads it together with its event
+        if (!raffleRepository.existsById(raffle.id())) {
+            throw new IllegalArgumentException("Raffle not found: " + raffle.id());
+        }
 
-        return prizeRepository.findByRaffle(raffleEntity).stream()
+        return prizeRepository.findByRaffle_Id(raffle.id()).stream()
             .map(Mapper::toPrizeRecord)
             .collect(Collectors.toList());
     }
@@ -85,10 +122,12 @@ public class RaffleServiceAdapter implements RafflePort {
 
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(CacheConfig.PRIZE_TEMPLATES)
     public List<PrizeTemplateRecord> getAllPrizeTemplateRecords() {
+        // Unmodifiable, the list is shared through the cache
         return prizeTemplateRepository.findAll().stream()
             .map(Mapper::toPrizeTemplateRecord)
-            .collect(Collectors.toList());
+            .toList();
     }
 
 
@@ -96,15 +135,27 @@ public class RaffleServiceAdapter implements RafflePort {
     @Override
     @Transactional(readOnly = true)
     public List<PrizeTemplateRecord> getPrizeTemplateRecordsByName(String namePattern) {
-        return prizeTemplateRepository.findByNameContainingIgnoreCase(namePattern).stream()
-            .map(Mapper::toPrizeTemplateRecord)
-            .collect(Collectors.toList());
+        return searchPrizeTemplates(namePattern, Pageable.unpaged()).getContent();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<PrizeTemplateRecord> searchPrizeTemplates(String query, Pageable pageable) {
+        String trimmed = SearchPatterns.normalize(query);
+        // The query orders by rank, a sort of the caller would be appended to it
+        Pageable unsorted = pageable.isPaged()
+            ? PageRequest.of(pageable.getPageNumber(), pageable.getPageSize())
+            : Pageable.unpaged();
+        return prizeTemplateRepository.search(trimmed, SearchPatterns.toPrefixTsQuery(trimmed),
+                SearchPatterns.toContainsPattern(trimmed), unsorted)
+            .map(Mapper::toPrizeTemplateRecord);
     }
 
 
 
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(CacheConfig.PRIZE_TEMPLATES)
     public Optional<PrizeTemplateRecord> getPrizeTemplateRecordById(Long id) {
         return prizeTemplateRepository.findById(id)
             .map(Mapper::toPrizeTemplateRecord);
@@ -114,6 +165,7 @@ public class RaffleServiceAdapter implements RafflePort {
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.RAFFLES, allEntries = true)
     public PrizeRecord createPrizeFromTemplateRecord(Long templateId, RaffleRecord raffle, String voucherCode) {
         // Get the template
         PrizeTemplate template = prizeTemplateRepository.findById(templateId)
@@ -130,10 +182,7 @@ public class RaffleServiceAdapter implements RafflePort {
             .orElseThrow(() -> new IllegalArgumentException("Raffle not found: " + raffle.id()));
         prize.setRaffle(raffleEntity);
 
-        // Process template text with voucher code
-        String raffleDate = raffleEntity.getEvent().getDateTime() != null ?
-            raffleEntity.getEvent().getDateTime().format(DATE_FORMATTER) : "";
-        prize.setTemplateText(prize.processTemplateText(raffleDate, null, voucherCode));
+        // The template text is kept, PrizeRecord.renderedText() fills in the placeholders
 
         // Save and return
         Prize savedPrize = prizeRepository.save(prize);
@@ -150,8 +199,66 @@ public class RaffleServiceAdapter implements RafflePort {
         return meetupPort.getRaffleEligibleParticipants(raffle.event());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<EligibleEntrantRecord> getEligibleEntrants(Long raffleId) {
+        return raffleRepository.findEligibleEntrantsByRaffleId(raffleId).stream()
+            .map(Mapper::toEligibleEntrantRecord)
+            .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public WeightRulesRecord getWeightRules(Long raffleId) {
+        return raffleRepository.findById(raffleId)
+            .map(Mapper::toWeightRulesRecord)
+            .orElseThrow(() -> new IllegalArgumentException("Raffle not found: " + raffleId));
+    }
+
+    @Override
+    @Transactional
+    public WeightRulesRecord saveWeightRules(Long raffleId, WeightRulesRecord weightRules) {
+        Raffle raffle = raffleRepository.findById(raffleId)
+            .orElseThrow(() -> new IllegalArgumentException("Raffle not found: " + raffleId));
+        raffle.setFirstEventWeight(weightRules.firstEventWeight());
+        raffle.setWeightPerAttendedEvent(weightRules.weightPerAttendedEvent());
+        raffle.setMaxWeight(weightRules.maxWeight());
+        return Mapper.toWeightRulesRecord(raffleRepository.save(raffle));
+    }
+
     @Override
     @Transactional
+    public DrawRecord saveDraw(DrawRecord drawRecord) {
+        RaffleDraw draw = toRaffleDraw(drawRecord,
+            prizeRepository.getReferenceById(drawRecord.prizeId()),
+            participantRepository.getReferenceById(drawRecord.winnerParticipantId()));
+
+        return drawRecord.withId(raffleDrawRepository.save(draw).getId());
+    }
+
+    private static RaffleDraw toRaffleDraw(DrawRecord drawRecord, Prize prize, Participant winner) {
+        RaffleDraw draw = new RaffleDraw();
+        draw.setPrize(prize);
+        draw.setWinner(winner);
+        draw.setSeed(drawRecord.seed());
+        draw.setCandidatesHash(drawRecord.candidatesHash());
+        draw.setCandidateCount(drawRecord.candidateCount());
+        draw.setWinnerIndex(drawRecord.winnerIndex());
+        draw.setDrawnAt(drawRecord.drawnAt());
+        return draw;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<DrawRecord> getDrawsForPrize(Long prizeId) {
+        return raffleDrawRepository.findByPrize_IdOrderByDrawnAtDesc(prizeId).stream()
+            .map(Mapper::toDrawRecord)
+            .toList();
+    }
+
+    @Override
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.RAFFLES, allEntries = true)
     public RaffleRecord createRaffle(EventRecord eventRecord) {
         // Check if a raffle already exists for this event
         if (getRaffleByMeetupEventId(eventRecord.meetupId()).isPresent()) {
@@ -172,6 +279,7 @@ public class RaffleServiceAdapter implements RafflePort {
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.RAFFLES, allEntries = true)
     public RaffleRecord saveRaffle(RaffleRecord raffleRecord) {
         // Get the existing entity from the database
         Raffle existingRaffle = raffleRepository.findById(raffleRecord.id())
@@ -186,6 +294,7 @@ public class RaffleServiceAdapter implements RafflePort {
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.RAFFLES, allEntries = true)
     public PrizeRecord savePrize(PrizeRecord prizeRecord) {
         // Find existing prize or create a new one
         Prize prize = prizeRecord.id() != null
@@ -215,6 +324,7 @@ public class RaffleServiceAdapter implements RafflePort {
 
      @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.PRIZE_TEMPLATES, allEntries = true)
     public PrizeTemplateRecord savePrizeTemplateRecord(PrizeTemplateRecord prizeTemplateRecord) {
         // Find existing template or create a new one
         PrizeTemplate template = prizeTemplateRecord.id() != null
@@ -235,49 +345,82 @@ public class RaffleServiceAdapter implements RafflePort {
 
     @Override
     @Transactional
-    public PrizeRecord awardPrize(PrizeRecord prizeRecord, ParticipantRecord participantRecord) {
-        // Find the actual entities
+    @CacheEvict(cacheNames = CacheConfig.RAFFLES, allEntries = true)
+    public PrizeRecord awardPrize(PrizeRecord prizeRecord, Long participantId) {
+        // The MeetupPort updates the participant with a bulk update that clears the persistence context,
+        // so the prize is loaded afterwards
+        ParticipantRecord updatedParticipant = meetupPort.markParticipantAttendedAndEnteredRaffle(participantId);
+
         Prize prize = prizeRepository.findById(prizeRecord.id())
             .orElseThrow(() -> new IllegalArgumentException("Prize not found: " + prizeRecord.id()));
-
-        // Get participant by ID
-        ParticipantRecord updatedParticipant = meetupPort.markParticipantAttendedAndEnteredRaffle(participantRecord.id());
-
-        // The MeetupPort has already updated the participant in the database
-        // Now we just need to get a reference to it
-        Participant participant = new Participant();
-        participant.setId(updatedParticipant.id());
+        Participant participant = participantRepository.getReferenceById(updatedParticipant.id());
 
         // Set the winner
         prize.setWinner(participant);
         prize.setWinnerName(updatedParticipant.member() != null ? updatedParticipant.member().name() : null);
 
-        // Update the template text with winner name if applicable
-        if (prize.getTemplateText() != null) {
-            Raffle raffle = prize.getRaffle();
-            String raffleDate = raffle != null && raffle.getEvent() != null && raffle.getEvent().getDateTime() != null ?
-                raffle.getEvent().getDateTime().format(DATE_FORMATTER) : "";
-
-            String processedText = prize.processTemplateText(
-                raffleDate,
-                updatedParticipant.member() != null ? updatedParticipant.member().name() : null,
-                prize.getVoucherCode()
-            );
-            prize.setTemplateText(processedText);
-        }
-
         Prize savedPrize = prizeRepository.save(prize);
         return Mapper.toPrizeRecord(savedPrize);
     }
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.RAFFLES, allEntries = true)
+    public List<PrizeRecord> awardPrizes(Long raffleId, List<DrawRecord> draws) {
+        // One query each for the prizes, the drawn participants and the eligibility re-check
+        Map<Long, Prize> prizes = prizeRepository.findByRaffle_Id(raffleId).stream()
+            .collect(Collectors.toMap(Prize::getId, prize -> prize));
+        Map<Long, Participant> participants = participantRepository.findWithMemberByIdIn(
+                draws.stream().map(DrawRecord::winnerParticipantId).toList()).stream()
+            .collect(Collectors.toMap(Participant::getId, participant -> participant));
+        Set<Long> eligibleIds = raffleRepository.findEligibleEntrantsByRaffleId(raffleId).stream()
+            .map(RaffleRepository.EligibleEntrant::getParticipantId)
+            .collect(Collectors.toSet());
+
+        OffsetDateTime now = OffsetDateTime.now();
+        List<RaffleDraw> drawEntities = new ArrayList<>();
+        List<Prize> awarded = new ArrayList<>();
+        for (DrawRecord drawRecord : draws) {
+            Prize prize = prizes.get(drawRecord.prizeId());
+            if (prize == null) {
+                throw new IllegalArgumentException("Prize not found in raffle " + raffleId + ": " + drawRecord.prizeId());
+            }
+            if (prize.getWinner() != null) {
+                throw new IllegalStateException("Prize already has a winner: " + prize.getId());
+            }
+            Participant participant = participants.get(drawRecord.winnerParticipantId());
+            if (participant == null || !eligibleIds.contains(participant.getId())) {
+                throw new IllegalStateException("Participant is no longer eligible: " + drawRecord.winnerParticipantId());
+            }
+
+            participant.setAttendanceStatus(Participant.AttendanceStatus.ATTENDED);
+            participant.setHasEnteredRaffle(true);
+            participant.setLastUpdated(now);
+
+            prize.setWinner(participant);
+            awarded.add(prize);
+
+            drawEntities.add(toRaffleDraw(drawRecord, prize, participant));
+        }
+
+        // The managed prizes and participants are flushed with the draws as JDBC batches (hibernate.jdbc.batch_size)
+        raffleDrawRepository.saveAll(drawEntities);
+
+        return awarded.stream()
+            .map(Mapper::toPrizeRecord)
+            .toList();
+    }
+
+    @Override
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.RAFFLES, allEntries = true)
     public void deletePrize(Long prizeId) {
         prizeRepository.deleteById(prizeId);
     }
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = {CacheConfig.PRIZE_TEMPLATES, CacheConfig.RAFFLES}, allEntries = true)
     public void deletePrizeTemplate(Long templateId) {
         // Check if it's a Prize in template mode or a PrizeTemplate
         if (prizeRepository.existsById(templateId)) {
@@ -0,0 +1,39 @@
+package com.vaadin.demo.application.adapter;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+/**
+ * Turns the text of a search field into the parameters of the native search queries
+ */
+final class SearchPatterns {
+
+    private SearchPatterns() {
+    }
+
+    /**
+     * Trimmed search text, empty for no filter
+     */
+    static String normalize(String query) {
+        return query == null ? "" : query.trim();
+    }
+
+    /**
+     * Every word of the query as prefix term, e.g. "intelli ide" becomes "intelli:* & ide:*".
+     * Only letters and digits are kept, so the input cannot break the tsquery syntax.
+     */
+    static String toPrefixTsQuery(String query) {
+        return Arrays.stream(query.split("[^\\p{L}\\p{N}]+"))
+            .filter(term -> !term.isEmpty())
+            .map(term -> term.toLowerCase(Locale.ROOT) + ":*")
+            .collect(Collectors.joining(" & "));
+    }
+
+    /**
+     * ILIKE pattern for a substring match, the wildcards of the query are escaped
+     */
+    static String toContainsPattern(String query) {
+        return "%" + query.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%";
+    }
+}
@@ -0,0 +1,177 @@
+package com.vaadin.demo.application.adapter.in.views.admin;
+
+import com.vaadin.demo.application.adapter.in.views.MainLayout;
+import com.vaadin.demo.application.application.port.in.CheckInApplicationService;
+import com.vaadin.demo.application.application.port.in.MeetupApplicationService;
+import com.vaadin.demo.application.domain.model.CheckInEntryRecord;
+import com.vaadin.demo.application.domain.model.EventRecord;
+import com.vaadin.flow.component.Key;
+import com.vaadin.flow.component.button.Button;
+import com.vaadin.flow.component.button.ButtonVariant;
+import com.vaadin.flow.component.grid.Grid;
+import com.vaadin.flow.component.html.H1;
+import com.vaadin.flow.component.html.Span;
+import com.vaadin.flow.component.icon.Icon;
+import com.vaadin.flow.component.icon.VaadinIcon;
+import com.vaadin.flow.component.notification.Notification;
+import com.vaadin.flow.component.notification.NotificationVariant;
+import com.vaadin.flow.component.orderedlayout.FlexComponent;
+import com.vaadin.flow.component.orderedlayout.HorizontalLayout;
+import com.vaadin.flow.component.orderedlayout.VerticalLayout;
+import com.vaadin.flow.component.textfield.TextField;
+import com.vaadin.flow.data.value.ValueChangeMode;
+import com.vaadin.flow.router.BeforeEnterEvent;
+import com.vaadin.flow.router.BeforeEnterObserver;
+import com.vaadin.flow.router.PageTitle;
+import com.vaadin.flow.router.Route;
+import com.vaadin.flow.server.auth.AnonymousAllowed;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Door check-in of an event. Type a few letters of the name, email or Meetup ID and press Enter
+ * to check in the best match. The search runs in memory, the attendance is written in batches.
+ */
+@AnonymousAllowed
+@PageTitle("Door Check-in")
+@Route(value = "raffle-admin/check-in/:meetupEventId", layout = MainLayout.class)
+@Slf4j
+@SuppressWarnings("serial")
+public class CheckInView extends VerticalLayout implements BeforeEnterObserver {
+
+    private static final int RESULT_LIMIT = 20;
+
+    private final CheckInApplicationService checkInService;
+    private final MeetupApplicationService meetupApplicationService;
+
+    private final H1 title = new H1("Door Check-in");
+    private final Span counter = new Span();
+    private final TextField searchField = new TextField();
+    private final Grid<CheckInEntryRecord> resultGrid = new Grid<>();
+
+    private String meetupEventId;
+
+    public CheckInView(CheckInApplicationService checkInService, MeetupApplicationService meetupApplicationService) {
+        this.checkInService = checkInService;
+        this.meetupApplicationService = meetupApplicationService;
+
+        setSizeFull();
+        setPadding(true);
+
+        // Search as you type, Enter checks in the first result
+        searchField.setPlaceholder("Name, email or Meetup ID - Enter checks in the first match");
+        searchField.setPrefixComponent(new Icon(VaadinIcon.SEARCH));
+        searchField.setClearButtonVisible(true);
+        searchField.setValueChangeMode(ValueChangeMode.LAZY);
+        searchField.setValueChangeTimeout(150);
+        searchField.addValueChangeListener(e -> refreshResults());
+        searchField.addKeyPressListener(Key.ENTER, e -> checkInFirstResult());
+
+        Button reloadButton = new Button("Reload", new Icon(VaadinIcon.REFRESH), e -> reloadIndex());
+
+        HorizontalLayout toolbar = new HorizontalLayout(searchField, counter, reloadButton);
+        toolbar.setWidthFull();
+        toolbar.setAlignItems(FlexComponent.Alignment.CENTER);
+        toolbar.expand(searchField);
+
+        configureGrid();
+
+        add(title, toolbar, resultGrid);
+    }
+
+    private void configureGrid() {
+        resultGrid.addColumn(CheckInEntryRecord::displayName).setHeader("Name").setAutoWidth(true).setFlexGrow(1);
+        resultGrid.addColumn(CheckInEntryRecord::email).setHeader("Email").setAutoWidth(true);
+        resultGrid.addColumn(CheckInEntryRecord::memberMeetupId).setHeader("Meetup ID").setWidth("140px").setFlexGrow(0);
+        resultGrid.addColumn(CheckInEntryRecord::rsvpStatus).setHeader("RSVP").setWidth("120px").setFlexGrow(0);
+
+        resultGrid.addComponentColumn(entry -> {
+            if (entry.isCheckedIn()) {
+                Button undoButton = new Button("Undo", e -> undoCheckIn(entry));
+                undoButton.addThemeVariants(ButtonVariant.LUMO_TERTIARY);
+                return undoButton;
+            }
+            Button checkInButton = new Button("Check in", e -> checkIn(entry));
+            checkInButton.addThemeVariants(ButtonVariant.LUMO_PRIMARY, ButtonVariant.LUMO_SUCCESS);
+            return checkInButton;
+        }).setHeader("Actions").setWidth("140px").setFlexGrow(0);
+
+        resultGrid.setHeightFull();
+    }
+
+    private void checkInFirstResult() {
+        List<CheckInEntryRecord> results = checkInService.search(meetupEventId, searchField.getValue(), 1);
+        if (!results.isEmpty()) {
+            checkIn(results.get(0));
+        }
+    }
+
+    private void checkIn(CheckInEntryRecord entry) {
+        if (entry.isCheckedIn()) {
+            Notification.show(entry.displayName() + " is already checked in", 2000, Notification.Position.TOP_CENTER)
+                    .addThemeVariants(NotificationVariant.LUMO_CONTRAST);
+            resetSearch();
+            return;
+        }
+        try {
+            CheckInEntryRecord checkedIn = checkInService.checkIn(meetupEventId, entry.participantId());
+            Notification.show("Checked in " + checkedIn.displayName(), 2000, Notification.Position.TOP_CENTER)
+                    .addThemeVariants(NotificationVariant.LUMO_SUCCESS);
+            resetSearch();
+        } catch (IllegalArgumentException ex) {
+            log.warn("Checking in participant {} failed", entry.participantId(), ex);
+            Notification.show(ex.getMessage(), 5000, Notification.Position.MIDDLE)
+                    .addThemeVariants(NotificationVariant.LUMO_ERROR);
+        }
+    }
+
+    private void undoCheckIn(CheckInEntryRecord entry) {
+        try {
+            checkInService.undoCheckIn(meetupEventId, entry.participantId());
+            refreshResults();
+        } catch (IllegalArgumentException ex) {
+            log.warn("Undoing the check-in of participant {} failed", entry.participantId(), ex);
+            Notification.show(ex.getMessage(), 5000, Notification.Position.MIDDLE)
+                    .addThemeVariants(NotificationVariant.LUMO_ERROR);
+        }
+    }
+
+    /**
+     * Ready for the next guest: empty search, focus back in the field
+     */
+    private void resetSearch() {
+        searchField.clear();
+        searchField.focus();
+        refreshResults();
+    }
+
+    private void reloadIndex() {
+        checkInService.reloadIndex(meetupEventId);
+        refreshResults();
+    }
+
+    private void refreshResults() {
+        resultGrid.setItems(checkInService.search(meetupEventId, searchField.getValue(), RESULT_LIMIT));
+        counter.setText(checkInService.getCheckedInCount(meetupEventId) + " / "
+                + checkInService.getParticipantCount(meetupEventId) + " checked in");
+    }
+
+    @Override
+    public void beforeEnter(BeforeEnterEvent event) {
+        Optional<String> meetupEventIdParam = event.getRouteParameters().get("meetupEventId");
+        Optional<EventRecord> meetupEvent = meetupEventIdParam.flatMap(meetupApplicationService::getEventByMeetupId);
+        if (meetupEvent.isEmpty()) {
+            Notification.show("Event not found: " + meetupEventIdParam.orElse(""), 3000, Notification.Position.MIDDLE);
+            event.forwardTo("events");
+            return;
+        }
+
+        this.meetupEventId = meetupEvent.get().meetupId();
+        title.setText("Door Check-in: " + meetupEvent.get().title());
+        searchField.clear();
+        refreshResults();
+        searchField.focus();
+    }
+}
@@ -1,9 +1,11 @@
 package com.vaadin.demo.application.adapter.in.views.admin;
 
 import com.vaadin.demo.application.domain.model.EventRecord;
+import com.vaadin.demo.application.domain.model.EventWithRaffleRecord;
 import com.vaadin.demo.application.domain.model.RaffleRecord;
 import com.vaadin.demo.application.application.port.in.MeetupApplicationService;
 import com.vaadin.demo.application.application.port.in.MeetupAPIService;
+import com.vaadin.demo.application.application.port.in.MeetupSyncJobService;
 import com.vaadin.demo.application.application.port.in.RaffleApplicationService;
 import com.vaadin.demo.application.adapter.in.views.MainLayout;
 import com.vaadin.demo.application.adapter.in.views.admin.components.MeetupImportDialog;
@@ -12,6 +14,7 @@ import com.vaadin.flow.component.ClickEvent;
 import com.vaadin.flow.component.button.Button;
 import com.vaadin.flow.component.button.ButtonVariant;
 import com.vaadin.flow.component.grid.Grid;
+import com.vaadin.flow.component.grid.GridSortOrder;
 import com.vaadin.flow.component.html.H1;
 import com.vaadin.flow.component.icon.Icon;
 import com.vaadin.flow.component.icon.VaadinIcon;
@@ -20,15 +23,16 @@ import com.vaadin.flow.component.notification.NotificationVariant;
 import com.vaadin.flow.component.orderedlayout.FlexComponent;
 import com.vaadin.flow.component.orderedlayout.HorizontalLayout;
 import com.vaadin.flow.component.orderedlayout.VerticalLayout;
+import com.vaadin.flow.component.textfield.TextField;
+import com.vaadin.flow.data.value.ValueChangeMode;
 import com.vaadin.flow.router.Menu;
 import com.vaadin.flow.router.PageTitle;
 import com.vaadin.flow.router.Route;
 import com.vaadin.flow.server.auth.AnonymousAllowed;
+import com.vaadin.flow.spring.data.VaadinSpringDataHelpers;
 import org.vaadin.lineawesome.LineAwesomeIconUrl;
 
 import java.time.format.DateTimeFormatter;
-import java.util.List;
-import java.util.Optional;
 
 /**
  * Admin view that shows all Meetup events and their raffle status
@@ -43,17 +47,21 @@ public class EventListView extends VerticalLayout {
     private final MeetupApplicationService meetupApplicationService;
     private final RaffleApplicationService raffleService;
     private final MeetupAPIService meetupAPIService;
+    private final MeetupSyncJobService syncJobService;
 
-    private final Grid<EventRecord> eventGrid = new Grid<>();
+    private final Grid<EventWithRaffleRecord> eventGrid = new Grid<>();
+    private final TextField filterField = new TextField();
 
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
 
     public EventListView(MeetupApplicationService meetupApplicationService,
                         RaffleApplicationService raffleService,
-                        MeetupAPIService meetupAPIService) {
+                        MeetupAPIService meetupAPIService,
+                        MeetupSyncJobService syncJobService) {
         this.meetupApplicationService = meetupApplicationService;
         this.raffleService = raffleService;
         this.meetupAPIService = meetupAPIService;
+        this.syncJobService = syncJobService;
 
         setSizeFull();
         setPadding(true);
@@ -67,6 +75,14 @@ public class EventListView extends VerticalLayout {
         buttonLayout.setWidthFull();
         buttonLayout.setJustifyContentMode(FlexComponent.JustifyContentMode.END);
 
+        // Filter by title or Meetup ID, applied in the database
+        filterField.setPlaceholder("Filter by title or Meetup ID");
+        filterField.setPrefixComponent(new Icon(VaadinIcon.SEARCH));
+        filterField.setClearButtonVisible(true);
+        filterField.setValueChangeMode(ValueChangeMode.LAZY);
+        filterField.addValueChangeListener(e -> refreshEvents());
+        buttonLayout.addAndExpand(filterField);
+
         // Import Meetup events button
         Button importMeetupButton = new Button("Import Meetup Events", new Icon(VaadinIcon.DOWNLOAD));
         importMeetupButton.addThemeVariants(ButtonVariant.LUMO_PRIMARY);
@@ -79,50 +95,60 @@ public class EventListView extends VerticalLayout {
         buttonLayout.add(importMeetupButton, refreshButton);
         add(buttonLayout);
 
-        // Load initial data
-        refreshEvents();
+        // Rows are fetched page by page while scrolling, sorted and filtered in the database
+        eventGrid.setItems(query -> raffleService.getEventsWithRaffles(
+                VaadinSpringDataHelpers.toSpringPageRequest(query), filterField.getValue()).stream());
     }
 
     private void configureGrid() {
-        eventGrid.addColumn(EventRecord::meetupId).setHeader("Meetup ID").setWidth("120px").setFlexGrow(0);
-        eventGrid.addColumn(EventRecord::title).setHeader("Title").setAutoWidth(true).setFlexGrow(1);
+        // Sort properties are the MeetupEvent entity properties
+        eventGrid.addColumn(row -> row.event().meetupId()).setHeader("Meetup ID").setWidth("120px").setFlexGrow(0)
+                .setSortProperty("meetupId");
+        eventGrid.addColumn(row -> row.event().title()).setHeader("Title").setAutoWidth(true).setFlexGrow(1)
+                .setSortProperty("title");
 
         // Date/time column
-        eventGrid.addColumn(event -> {
-            if (event.eventDate() != null) {
-                return event.eventDate().format(DATE_FORMATTER);
+        Grid.Column<EventWithRaffleRecord> dateColumn = eventGrid.addColumn(row -> {
+            if (row.event().eventDate() != null) {
+                return row.event().eventDate().format(DATE_FORMATTER);
             } else {
                 return "N/A";
             }
-        }).setHeader("Date/Time").setWidth("150px").setFlexGrow(0);
+        }).setHeader("Date/Time").setWidth("150px").setFlexGrow(0).setSortProperty("dateTime");
 
         // No status column in the domain model, this is based on JPA entity fields
 
         // Action column with buttons
-        eventGrid.addComponentColumn(event -> {
+        eventGrid.addComponentColumn(row -> {
             HorizontalLayout buttonLayout = new HorizontalLayout();
 
             // Sync Members button
-            SyncMembersButton syncButton = new SyncMembersButton(meetupApplicationService, event.meetupId());
+            SyncMembersButton syncButton = new SyncMembersButton(syncJobService, row.event().meetupId());
+            syncButton.setAfterSyncAction(this::refreshEvents);
             buttonLayout.add(syncButton);
 
-            // Raffle button
-            Optional<RaffleRecord> raffle = raffleService.getRaffleByMeetupEventId(event.meetupId());
-            if (raffle.isPresent()) {
+            // Door check-in of the event's participants
+            Button checkInButton = new Button("Check-in", e ->
+                    getUI().ifPresent(ui -> ui.navigate("raffle-admin/check-in/" + row.event().meetupId())));
+            buttonLayout.add(checkInButton);
+
+            // Raffle button, the raffle ID was loaded together with the events
+            if (row.hasRaffle()) {
                 Button viewButton = new Button("View Raffle", e -> {
-                    getUI().ifPresent(ui -> ui.navigate("raffle-admin/" + raffle.get().id() + "/details"));
+                    getUI().ifPresent(ui -> ui.navigate("raffle-admin/" + row.raffleId() + "/details"));
                 });
                 viewButton.addThemeVariants(ButtonVariant.LUMO_SUCCESS);
                 buttonLayout.add(viewButton);
             } else {
-                Button createButton = new Button("Create Raffle", e -> createRaffle(event));
+                Button createButton = new Button("Create Raffle", e -> createRaffle(row.event()));
                 createButton.addThemeVariants(ButtonVariant.LUMO_PRIMARY);
                 buttonLayout.add(createButton);
             }
 
             return buttonLayout;
-        }).setHeader("Actions").setWidth("380px").setFlexGrow(0);
+        }).setHeader("Actions").setWidth("480px").setFlexGrow(0);
 
+        eventGrid.sort(GridSortOrder.desc(dateColumn).build());
         eventGrid.setSelectionMode(Grid.SelectionMode.SINGLE);
         eventGrid.setHeightFull();
 
@@ -130,14 +156,14 @@ public class EventListView extends VerticalLayout {
     }
 
     private void refreshEvents() {
-        List<EventRecord> events = meetupApplicationService.getAllEvents();
-        eventGrid.setItems(events);
+        eventGrid.getDataProvider().refreshAll();
     }
 
     private void importMeetupButtonClicked(ClickEvent<Button> event) {
         MeetupImportDialog importDialog = new MeetupImportDialog(
             meetupAPIService,
                 meetupApplicationService,
+                syncJobService,
                 this::refreshEvents
         );
         importDialog.open();
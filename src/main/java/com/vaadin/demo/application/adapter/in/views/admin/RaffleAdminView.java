@@ -2,6 +2,7 @@ package com.vaadin.demo.application.adapter.in.views.admin;
 
 import com.vaadin.demo.application.application.port.in.MeetupApplicationService;
 import com.vaadin.demo.application.application.port.in.MeetupAPIService;
+import com.vaadin.demo.application.application.port.in.MeetupSyncJobService;
 import com.vaadin.demo.application.application.port.in.RaffleApplicationService;
 import com.vaadin.demo.application.domain.model.EventRecord;
 import com.vaadin.demo.application.domain.model.RaffleRecord;
@@ -21,15 +22,19 @@ import com.vaadin.flow.component.orderedlayout.FlexComponent;
 import com.vaadin.flow.component.orderedlayout.HorizontalLayout;
 import com.vaadin.flow.component.orderedlayout.VerticalLayout;
 import com.vaadin.flow.component.select.Select;
+import com.vaadin.flow.component.textfield.TextField;
 import com.vaadin.flow.data.renderer.LitRenderer;
+import com.vaadin.flow.data.value.ValueChangeMode;
 import com.vaadin.flow.function.ValueProvider;
 import com.vaadin.flow.router.Menu;
 import com.vaadin.flow.router.PageTitle;
 import com.vaadin.flow.router.Route;
 import com.vaadin.flow.server.auth.AnonymousAllowed;
+import com.vaadin.flow.spring.data.VaadinSpringDataHelpers;
 import org.vaadin.lineawesome.LineAwesomeIconUrl;
 
 import java.util.List;
+import java.util.Set;
 
 /**
  * Raffle Admin View using domain records instead of JPA entities
@@ -45,15 +50,19 @@ public class RaffleAdminView extends VerticalLayout {
     private final RaffleApplicationService raffleService;
     private final MeetupAPIService meetupAPIService;
     private final Grid<RaffleRecord> raffleGrid;
+    private final TextField filterField = new TextField();
     private final MeetupApplicationService meetupApplicationService;
+    private final MeetupSyncJobService syncJobService;
 
     public RaffleAdminView(
             RaffleApplicationService raffleService,
             MeetupAPIService meetupAPIService,
-            MeetupApplicationService meetupApplicationService) {
+            MeetupApplicationService meetupApplicationService,
+            MeetupSyncJobService syncJobService) {
         this.raffleService = raffleService;
         this.meetupAPIService = meetupAPIService;
         this.meetupApplicationService = meetupApplicationService;
+        this.syncJobService = syncJobService;
 
         add(new H1("Raffle Administration"));
 
@@ -62,9 +71,19 @@ public class RaffleAdminView extends VerticalLayout {
         viewAllEventsButton.addClickListener(e -> getUI().ifPresent(ui -> ui.navigate("events")));
         add(viewAllEventsButton);
 
-        // Create grid showing raffle domain records
+        // Filter by Meetup event ID or event title, applied in the database
+        filterField.setPlaceholder("Filter by Meetup event ID or name");
+        filterField.setPrefixComponent(VaadinIcon.SEARCH.create());
+        filterField.setClearButtonVisible(true);
+        filterField.setValueChangeMode(ValueChangeMode.LAZY);
+        filterField.addValueChangeListener(e -> refreshGrid());
+        filterField.setWidth(300, Unit.PIXELS);
+        add(filterField);
+
+        // Create grid showing raffle domain records, sort properties refer to the Raffle entity query
         raffleGrid = new Grid<>(RaffleRecord.class, false);
-        raffleGrid.addColumn(RaffleRecord::meetupId).setHeader("Meetup Event ID");
+        raffleGrid.addColumn(RaffleRecord::meetupId).setHeader("Meetup Event ID")
+                .setSortProperty("meetup_event_id");
         raffleGrid.addColumn(raffle -> {
             if (raffle.event() != null) {
                 return raffle.event().title();
@@ -77,11 +96,12 @@ public class RaffleAdminView extends VerticalLayout {
                     return "Unknown Event";
                 }
             }
-        }).setHeader("Meetup Event Name");
+        }).setHeader("Meetup Event Name").setSortProperty("e.title");
         raffleGrid.addColumn(createPrizeList()).setHeader("Prizes");
 
-        // Get all raffles from the RaffleApplicationService
-        refreshGrid();
+        // Raffles are fetched page by page while scrolling, sorted and filtered in the database
+        raffleGrid.setItems(query -> raffleService.getRaffles(
+                VaadinSpringDataHelpers.toSpringPageRequest(query), filterField.getValue()).stream());
 
         raffleGrid.asSingleSelect().addValueChangeListener(this::raffleItemSelected);
         add(raffleGrid);
@@ -129,14 +149,13 @@ public class RaffleAdminView extends VerticalLayout {
         var dialog = new Dialog();
         dialog.setHeaderTitle("Add Raffle Event");
 
-        // Get existing raffle meetup IDs
-        List<String> existingRaffleMeetupIds = raffleService.getAllRaffles().stream()
-                .map(RaffleRecord::meetupId)
-                .toList();
-
         // Get external events using MeetupService
         List<EventRecord> externalEvents = meetupAPIService.getExternalEvents();
 
+        // Get the meetup IDs of these events that already have a raffle
+        Set<String> existingRaffleMeetupIds = raffleService.getRaffleIdsByMeetupEventIds(
+                externalEvents.stream().map(EventRecord::meetupId).toList()).keySet();
+
         // Create select for meetup event
         var meetupEventIdSelect = new Select<EventRecord>();
         meetupEventIdSelect.setLabel("Meetup Event ID");
@@ -174,14 +193,14 @@ public class RaffleAdminView extends VerticalLayout {
         MeetupImportDialog importDialog = new MeetupImportDialog(
             meetupAPIService,
             meetupApplicationService,
+            syncJobService,
             this::refreshGrid
         );
         importDialog.open();
     }
 
     private void refreshGrid() {
-        List<RaffleRecord> raffles = raffleService.getAllRaffles();
-        raffleGrid.setItems(raffles);
+        raffleGrid.getDataProvider().refreshAll();
     }
 
     private String createTextRenderer(EventRecord event) {
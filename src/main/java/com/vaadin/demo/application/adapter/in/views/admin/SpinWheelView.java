@@ -1,9 +1,9 @@
 package com.vaadin.demo.application.adapter.in.views.admin;
 
 import com.vaadin.demo.application.adapter.in.views.admin.components.ConfettiComponent;
-import com.vaadin.demo.application.domain.model.ParticipantRecord;
-import com.vaadin.demo.application.domain.model.ParticipantRecord.RsvpStatus;
-import com.vaadin.demo.application.domain.model.ParticipantRecord.AttendanceStatus;
+import com.vaadin.demo.application.domain.model.DrawRecord;
+import com.vaadin.demo.application.domain.model.EligibleEntrantRecord;
+import com.vaadin.demo.application.domain.model.FairDraw;
 import com.vaadin.demo.application.domain.model.PrizeRecord;
 import com.vaadin.demo.application.application.port.in.MeetupApplicationService;
 import com.vaadin.demo.application.application.port.in.RaffleApplicationService;
@@ -20,76 +20,79 @@ import com.vaadin.flow.component.html.H1;
 import com.vaadin.flow.component.orderedlayout.HorizontalLayout;
 import com.vaadin.flow.router.*;
 
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
 
 @PageTitle("JUG Vienna Raffle Spin Wheel")
 @Route("raffle-admin/spin-wheel/:prizeId([0-9]+)")
 @com.vaadin.flow.server.auth.AnonymousAllowed
+@Slf4j
 public class SpinWheelView extends Div implements BeforeEnterObserver {
 
     private final RaffleApplicationService raffleService;
     private final MeetupApplicationService meetupService;
     private final ReactSpinWheel reactSpinWheel;
 
-    private Map<String, ParticipantRecord> participants = new HashMap<>();
     private Optional<PrizeRecord> currentPrize;
+    private DrawRecord currentDraw;
 
     public SpinWheelView(RaffleApplicationService raffleService, MeetupApplicationService meetupService) {
         this.raffleService = raffleService;
         this.meetupService = meetupService;
 
         reactSpinWheel = new ReactSpinWheel();
+        reactSpinWheel.addOnSpinRequest(this::drawWinner);
         reactSpinWheel.addOnFinishSpin(this::handleSpinResult);
         reactSpinWheel.setSizeFull();
         add(reactSpinWheel);
     }
 
-    private void handleSpinResult(String participantId) {
-        var winner = participants.get(participantId);
-        if (winner != null) {
-            var winnerDialog = new WinnerDialog(winner);
+    /**
+     * The winner is drawn on the server, the wheel only animates to the drawn index
+     */
+    private void drawWinner() {
+        currentPrize.ifPresent(prize -> {
+            try {
+                currentDraw = raffleService.drawWinner(prize.id());
+                // Show exactly the snapshot the winner was drawn from
+                reactSpinWheel.setItems(wheelItems(currentDraw.candidates()));
+                reactSpinWheel.spinTo(currentDraw.winnerIndex());
+            } catch (IllegalArgumentException | IllegalStateException ex) {
+                Notification.show(ex.getMessage(), 5000, Notification.Position.MIDDLE);
+            }
+        });
+    }
+
+    /**
+     * The reported item only signals the end of the animation, the winner is the one drawn on the server
+     */
+    private void handleSpinResult(String wheelItem) {
+        if (currentDraw != null) {
+            var winnerDialog = new WinnerDialog(currentDraw.winner());
             winnerDialog.open();
         }
     }
 
-    public class WinnerDialog extends Dialog {
-        public WinnerDialog(ParticipantRecord winner) {
-            String memberName = winner.member() != null ? winner.member().name() : "Unknown";
-            String memberId = winner.member() != null ? winner.member().meetupId() : "Unknown";
+    private static List<String> wheelItems(List<EligibleEntrantRecord> entrants) {
+        return entrants.stream().map(EligibleEntrantRecord::displayName).toList();
+    }
 
-            add(new H1("Winner: " + memberName + " (" + memberId + ")"));
+    public class WinnerDialog extends Dialog {
+        public WinnerDialog(EligibleEntrantRecord winner) {
+            add(new H1("Winner: " + winner.displayName() + " (" + winner.memberMeetupId() + ")"));
 
             var acceptButton = new Button("Accept Prize", e -> {
                 try {
-                    System.out.println("DEBUG: Accept Prize - Participant ID: " + winner.id());
-                    System.out.println("DEBUG: Before update - Attendance status: " + winner.attendanceStatus());
-
-                    // Note: Records are immutable so we use withX methods instead
-                    // The updatedWinner won't be used here directly as the service call below will handle
-                    // the actual database update with the participant ID
-                    var updatedWinner = winner.withAttendanceStatus(AttendanceStatus.ATTENDED).withEnteredRaffle();
-
-                    // Award prize - this should also save the participant
-                    currentPrize.ifPresent(prize -> {
-                        System.out.println("DEBUG: Awarding prize ID " + prize.id() + " to participant");
-                        PrizeRecord updatedPrize = raffleService.awardPrize(prize, winner);
-                        System.out.println("DEBUG: Prize updated, winner attendance status: " +
-                                (updatedPrize.winner() != null ? updatedPrize.winner().attendanceStatus() : "null"));
-                    });
-
-                    System.out.println("DEBUG: After update - Attendance status: " + winner.attendanceStatus());
+                    // Awarding the prize also marks the participant as attended and entered in the raffle
+                    currentPrize.ifPresent(prize -> raffleService.awardPrize(prize, winner.participantId()));
 
                     playConfettiAnimation();
                     close();
                     RouteParam routeParam = new RouteParam(DetailsMainLayout.RAFFLE_ID_PARAMETER, currentPrize.get().raffle().id());
                     UI.getCurrent().navigate(PrizesCrudSubView.class, routeParam);
                 } catch (Exception ex) {
-                    System.err.println("ERROR when accepting prize: " + ex.getMessage());
-                    ex.printStackTrace();
+                    log.error("Awarding prize to participant {} failed", winner.participantId(), ex);
                     Notification.show("Error awarding prize: " + ex.getMessage(),
                                     5000, Notification.Position.MIDDLE);
                 }
@@ -101,18 +104,10 @@ public class SpinWheelView extends Div implements BeforeEnterObserver {
 
             var declineButton = new Button("Decline Prize", e -> {
                 try {
-                    System.out.println("DEBUG: Decline Prize - Participant ID: " + winner.id());
-                    System.out.println("DEBUG: Before update - Attendance status: " + winner.attendanceStatus());
-
-                    // Records are immutable - we'll let the service call below
-                    // handle the actual database update
-                    ParticipantRecord updated = meetupService.markParticipantAttendedAndEnteredRaffle(winner.id());
-
-                    System.out.println("DEBUG: After update - Attendance status: " + updated.attendanceStatus());
+                    meetupService.markParticipantAttendedAndEnteredRaffle(winner.participantId());
                     close();
                 } catch (Exception ex) {
-                    System.err.println("ERROR when declining prize: " + ex.getMessage());
-                    ex.printStackTrace();
+                    log.error("Declining prize for participant {} failed", winner.participantId(), ex);
                     Notification.show("Error updating participant: " + ex.getMessage(),
                                     5000, Notification.Position.MIDDLE);
                 }
@@ -124,18 +119,10 @@ public class SpinWheelView extends Div implements BeforeEnterObserver {
 
             var noShowButton = new Button("No show", e -> {
                 try {
-                    System.out.println("DEBUG: No Show - Participant ID: " + winner.id());
-                    System.out.println("DEBUG: Before update - Attendance status: " + winner.attendanceStatus());
-
-                    // Records are immutable - we'll let the service call below
-                    // handle the actual database update
-                    ParticipantRecord updated = meetupService.markParticipantNoShowAndEnteredRaffle(winner.id());
-
-                    System.out.println("DEBUG: After update - Attendance status: " + updated.attendanceStatus());
+                    meetupService.markParticipantNoShowAndEnteredRaffle(winner.participantId());
                     close();
                 } catch (Exception ex) {
-                    System.err.println("ERROR when marking no-show: " + ex.getMessage());
-                    ex.printStackTrace();
+                    log.error("Marking participant {} as no-show failed", winner.participantId(), ex);
                     Notification.show("Error updating participant: " + ex.getMessage(),
                                     5000, Notification.Position.MIDDLE);
                 }
@@ -147,18 +134,10 @@ public class SpinWheelView extends Div implements BeforeEnterObserver {
 
             var doesntMeetRequirementsButton = new Button("Doesn't meet requirements", e -> {
                 try {
-                    System.out.println("DEBUG: Doesn't meet requirements - Participant ID: " + winner.id());
-                    System.out.println("DEBUG: Before update - Attendance status: " + winner.attendanceStatus());
-
-                    // Records are immutable - we'll let the service call below
-                    // handle the actual database update
-                    ParticipantRecord updated = meetupService.markParticipantAttendedAndEnteredRaffle(winner.id());
-
-                    System.out.println("DEBUG: After update - Attendance status: " + updated.attendanceStatus());
+                    meetupService.markParticipantAttendedAndEnteredRaffle(winner.participantId());
                     close();
                 } catch (Exception ex) {
-                    System.err.println("ERROR when marking doesn't meet requirements: " + ex.getMessage());
-                    ex.printStackTrace();
+                    log.error("Marking participant {} as not meeting the requirements failed", winner.participantId(), ex);
                     Notification.show("Error updating participant: " + ex.getMessage(),
                                     5000, Notification.Position.MIDDLE);
                 }
@@ -205,61 +184,14 @@ public class SpinWheelView extends Div implements BeforeEnterObserver {
             }
 
             this.currentPrize = optionalPrize;
-
-            // Load raffle participants from the database
-            optionalPrize.flatMap(prize -> {
-                if (prize.raffle() == null) {
-                    System.out.println("DEBUG: Prize has no raffle associated with it: " + prize.id());
-                    return Optional.empty();
-                }
-                System.out.println("DEBUG: Found raffle: " + prize.raffle().id());
-                return Optional.of(prize.raffle());
-            })
-            .ifPresent(raffle -> {
-                // Get eligible participants for the raffle
-                if (raffle.event() != null) {
-                    System.out.println("DEBUG: Raffle has event: " + raffle.event().id() + " / " + raffle.event().meetupId());
-
-                    // For testing, let's get all participants first regardless of eligibility
-                    List<ParticipantRecord> allParticipants = meetupService.getParticipantsForEvent(raffle.event());
-                    System.out.println("DEBUG: Total participants for event: " + allParticipants.size());
-
-                    // Now get eligible participants
-                    List<ParticipantRecord> eligibleParticipants = meetupService.getRaffleEligibleParticipants(raffle.event());
-                    System.out.println("DEBUG: Eligible participants: " + eligibleParticipants.size());
-
-                    // Clear previous participants
-                    this.participants.clear();
-
-                    // Add all participants to the map for now (temporarily for testing)
-                    for (ParticipantRecord participant : allParticipants) {
-                        if (participant.member() != null && participant.member().meetupId() != null) {
-                            this.participants.put(participant.member().meetupId(), participant);
-                            System.out.println("DEBUG: Added participant: " + participant.member().name() +
-                                ", RSVP: " + participant.rsvpStatus() +
-                                ", Attendance: " + participant.attendanceStatus() +
-                                ", Organizer: " + participant.isOrganizer() +
-                                ", Entered Raffle: " + participant.hasEnteredRaffle());
-                        }
-                    }
-
-                    // Filter participants for the raffle - only those who RSVP'd YES and haven't been in raffle already
-                    List<String> eligibleMemberIds = allParticipants.stream()
-                        .filter(p -> p.member() != null)
-                        .filter(p -> p.rsvpStatus() == RsvpStatus.YES) // Only include YES RSVPs
-                        .filter(p -> !p.isOrganizer()) // Exclude organizers
-                        .filter(p -> !p.hasEnteredRaffle()) // Exclude those who already participated
-                        .map(p -> p.member().meetupId())
-                        .collect(Collectors.toList());
-
-                    System.out.println("DEBUG: Setting spin wheel with " + eligibleMemberIds.size() + " eligible participants");
-
-                    // Set the wheel with our eligible participants
-                    reactSpinWheel.setItems(eligibleMemberIds);
-                } else {
-                    System.out.println("DEBUG: Raffle has no event associated with it: " + raffle.id());
-                }
-            });
+            this.currentDraw = null;
+
+            // Load only the entrants that can still win, one query instead of all participants,
+            // in the order the draw indexes them
+            List<EligibleEntrantRecord> entrants = optionalPrize.get().raffle() != null
+                ? raffleService.getEligibleEntrants(optionalPrize.get().raffle().id())
+                : List.of();
+            reactSpinWheel.setItems(wheelItems(FairDraw.canonicalOrder(entrants)));
 
         } catch (NumberFormatException e) {
             Notification.show("Invalid prize ID: " + prizeIdParam.get(), 3000, Notification.Position.MIDDLE);
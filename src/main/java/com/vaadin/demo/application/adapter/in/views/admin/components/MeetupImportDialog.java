@@ -2,7 +2,11 @@ package com.vaadin.demo.application.adapter.in.views.admin.components;
 
 import com.vaadin.demo.application.application.port.in.MeetupApplicationService;
 import com.vaadin.demo.application.application.port.in.MeetupAPIService;
+import com.vaadin.demo.application.application.port.in.MeetupSyncJobService;
 import com.vaadin.demo.application.domain.model.EventRecord;
+import com.vaadin.demo.application.domain.model.ImportProgress;
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.component.UIDetachedException;
 import com.vaadin.flow.component.button.Button;
 import com.vaadin.flow.component.button.ButtonVariant;
 import com.vaadin.flow.component.dialog.Dialog;
@@ -15,9 +19,11 @@ import com.vaadin.flow.component.orderedlayout.FlexComponent;
 import com.vaadin.flow.component.orderedlayout.HorizontalLayout;
 import com.vaadin.flow.component.orderedlayout.VerticalLayout;
 import com.vaadin.flow.component.progressbar.ProgressBar;
+import com.vaadin.flow.server.Command;
 import lombok.extern.slf4j.Slf4j;
 
 import java.time.format.DateTimeFormatter;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -29,6 +35,7 @@ public class MeetupImportDialog extends Dialog {
 
     private final MeetupAPIService meetupAPIService;
     private final MeetupApplicationService meetupApplicationService;
+    private final MeetupSyncJobService syncJobService;
     private final Runnable onImportComplete;
 
     private final Grid<EventRecord> meetupGrid = new Grid<>();
@@ -41,20 +48,23 @@ public class MeetupImportDialog extends Dialog {
      *
      * @param meetupAPIService The service for fetching external meetup data
      * @param meetupApplicationService The application service for handling domain operations
+     * @param syncJobService The service running the import in the background
      * @param onImportComplete Callback to run when import is complete
      */
     public MeetupImportDialog(MeetupAPIService meetupAPIService,
                              MeetupApplicationService meetupApplicationService,
+                             MeetupSyncJobService syncJobService,
                              Runnable onImportComplete) {
         this.meetupAPIService = meetupAPIService;
         this.meetupApplicationService = meetupApplicationService;
+        this.syncJobService = syncJobService;
         this.onImportComplete = onImportComplete;
 
         setHeaderTitle("Import Meetup Events");
         setWidth("800px");
 
         configureGrid();
-        loadMeetupEvents();
+        loadMeetupEvents(false);
 
         VerticalLayout layout = new VerticalLayout();
         layout.add(
@@ -90,7 +100,7 @@ public class MeetupImportDialog extends Dialog {
             if (exists) {
                 Button updateButton = new Button("Update");
                 updateButton.addThemeVariants(ButtonVariant.LUMO_SMALL, ButtonVariant.LUMO_TERTIARY);
-                updateButton.addClickListener(e -> importEvent(event.meetupId()));
+                updateButton.addClickListener(e -> updateEvent(event.meetupId()));
                 return updateButton;
             } else {
                 return new Paragraph("New");
@@ -101,9 +111,12 @@ public class MeetupImportDialog extends Dialog {
         meetupGrid.setHeight("300px");
     }
 
-    private void loadMeetupEvents() {
+    private void loadMeetupEvents(boolean refresh) {
         try {
-            List<EventRecord> events = meetupAPIService.getExternalEvents();
+            // The event list is cached, only the Refresh button forces a new request
+            List<EventRecord> events = refresh
+                    ? meetupAPIService.refreshExternalEvents()
+                    : meetupAPIService.getExternalEvents();
             meetupGrid.setItems(events);
             statusText.setText("Found " + events.size() + " events. Select events to import.");
         } catch (Exception e) {
@@ -123,7 +136,7 @@ public class MeetupImportDialog extends Dialog {
         cancelButton.addClickListener(e -> close());
 
         Button refreshButton = new Button("Refresh");
-        refreshButton.addClickListener(e -> loadMeetupEvents());
+        refreshButton.addClickListener(e -> loadMeetupEvents(true));
 
         HorizontalLayout layout = new HorizontalLayout(importButton, refreshButton, cancelButton);
         layout.setJustifyContentMode(FlexComponent.JustifyContentMode.END);
@@ -140,62 +153,85 @@ public class MeetupImportDialog extends Dialog {
             return;
         }
 
+        importEvents(selectedEvents.stream().map(EventRecord::meetupId).toList());
+    }
+
+    /**
+     * Update a single already imported event right away, the dialog stays open for further imports
+     */
+    private void updateEvent(String meetupEventId) {
+        try {
+            EventRecord event = meetupApplicationService.importEvent(meetupEventId);
+            Notification.show("Updated " + event.title(), 3000, Notification.Position.MIDDLE)
+                    .addThemeVariants(NotificationVariant.LUMO_SUCCESS);
+            onImportComplete.run();
+        } catch (Exception e) {
+            log.error("Error updating event: " + meetupEventId, e);
+            Notification.show("Error updating event " + meetupEventId + ": " + e.getMessage(),
+                    5000, Notification.Position.MIDDLE)
+                    .addThemeVariants(NotificationVariant.LUMO_ERROR);
+        }
+    }
+
+    /**
+     * Run the import in the background. The events are fetched in parallel and stored one by one,
+     * the UI lock is only taken for the short progress updates pushed to the browser.
+     */
+    private void importEvents(Collection<String> meetupEventIds) {
+        UI ui = UI.getCurrent();
+
+        progressBar.setValue(0);
         progressBar.setVisible(true);
         importButton.setEnabled(false);
-        statusText.setText("Importing " + selectedEvents.size() + " events...");
-
-        // Execute import in a Vaadin background job instead of a raw thread
-        // This preserves the security context
-        getUI().ifPresent(ui -> ui.access(() -> {
-            int total = selectedEvents.size();
-            final int[] counter = new int[1];
-            counter[0] = 0;
-
-            // Process each event one by one
-            for (EventRecord event : selectedEvents) {
-                try {
-                    counter[0]++;
-                    final int currentCount = counter[0];
-
-                    // Update progress UI
-                    progressBar.setValue((float) currentCount / total);
-                    statusText.setText("Importing " + currentCount + " of " + total + ": " + event.title());
-
-                    // Import the event - this preserves the security context
-                    importEvent(event.meetupId());
-                } catch (Exception ex) {
-                    log.error("Error importing event: " + event.meetupId(), ex);
-                    Notification.show("Error importing event " + event.meetupId() + ": " + ex.getMessage(),
-                            5000, Notification.Position.MIDDLE)
-                            .addThemeVariants(NotificationVariant.LUMO_ERROR);
-                }
-
-                // Push updates to client after each event
-                ui.push();
-            }
+        statusText.setText("Importing " + meetupEventIds.size() + " events...");
 
-            // Update UI when complete
-            progressBar.setVisible(false);
-            importButton.setEnabled(true);
-            statusText.setText("Import complete. Imported " + counter[0] + " events.");
+        syncJobService.importEvents(meetupEventIds, progress -> access(ui, () -> showProgress(progress)))
+                .whenComplete((progress, error) -> access(ui, () -> importFinished(progress, error)));
+    }
 
-            // Show success notification
-            Notification.show("Import complete. Imported " + counter[0] + " events.",
-                    3000, Notification.Position.MIDDLE)
-                    .addThemeVariants(NotificationVariant.LUMO_SUCCESS);
+    private void showProgress(ImportProgress progress) {
+        progressBar.setValue(progress.fraction());
+        if (progress.meetupEventId() == null) {
+            return;
+        }
 
-            // Run callback
-            onImportComplete.run();
+        if (progress.error() != null) {
+            Notification.show("Error importing event " + progress.meetupEventId() + ": " + progress.error(),
+                    5000, Notification.Position.MIDDLE)
+                    .addThemeVariants(NotificationVariant.LUMO_ERROR);
+        } else {
+            statusText.setText("Imported " + progress.completed() + " of " + progress.total() + ": " + progress.title());
+        }
+    }
 
-            // Close dialog
-            close();
+    private void importFinished(ImportProgress progress, Throwable error) {
+        progressBar.setVisible(false);
+        importButton.setEnabled(true);
+
+        if (error != null) {
+            log.error("Error importing events", error);
+            statusText.setText("Import failed: " + error.getMessage());
+            return;
+        }
 
-            // Push final updates to client
-            ui.push();
-        }));
+        String message = "Import complete. Imported " + progress.imported() + " events"
+                + (progress.failed() > 0 ? ", " + progress.failed() + " failed." : ".");
+        statusText.setText(message);
+        Notification.show(message, 3000, Notification.Position.MIDDLE)
+                .addThemeVariants(progress.failed() > 0 ? NotificationVariant.LUMO_WARNING : NotificationVariant.LUMO_SUCCESS);
+
+        // Run callback
+        onImportComplete.run();
+
+        // Close dialog
+        close();
     }
 
-    private EventRecord importEvent(String meetupEventId) {
-        return meetupApplicationService.importEvent(meetupEventId);
+    private static void access(UI ui, Command command) {
+        try {
+            ui.access(command);
+        } catch (UIDetachedException ignored) {
+            // The dialog's UI is gone, the import still finishes in the background
+        }
     }
-}
\ No newline at end of file
+}
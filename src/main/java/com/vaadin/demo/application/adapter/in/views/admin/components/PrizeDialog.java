@@ -1,6 +1,7 @@
 package com.vaadin.demo.application.adapter.in.views.admin.components;
 
 import com.vaadin.demo.application.domain.model.PrizeDialogFormRecord;
+import com.vaadin.demo.application.domain.model.PrizePlaceholder;
 import com.vaadin.demo.application.domain.model.PrizeRecord;
 import com.vaadin.demo.application.domain.model.PrizeTemplateRecord;
 import com.vaadin.flow.component.AttachEvent;
@@ -13,6 +14,8 @@ import com.vaadin.flow.component.datepicker.DatePicker;
 import com.vaadin.flow.component.dialog.Dialog;
 import com.vaadin.flow.component.html.Div;
 import com.vaadin.flow.component.html.H4;
+import com.vaadin.flow.component.notification.Notification;
+import com.vaadin.flow.component.notification.NotificationVariant;
 import com.vaadin.flow.component.orderedlayout.HorizontalLayout;
 import com.vaadin.flow.component.orderedlayout.VerticalLayout;
 import com.vaadin.flow.component.tabs.Tab;
@@ -89,7 +92,7 @@ public class PrizeDialog extends Dialog {
         templateTextField = new TextArea("Template Text");
         templateTextField.setWidthFull();
         templateTextField.setHeight("200px");
-        templateTextField.setHelperText("Available placeholders: {{PRIZE_NAME}}, {{WINNER_NAME}}, {{RAFFLE_DATE}}, {{VOUCHER_CODE}}, {{VALID_UNTIL}}");
+        templateTextField.setHelperText("Available placeholders: " + PrizePlaceholder.availablePlaceholders());
 
         useTemplateCheck = new Checkbox("Use Template");
         useTemplateCheck.addValueChangeListener(e -> {
@@ -274,8 +277,14 @@ public class PrizeDialog extends Dialog {
         PrizeDialogFormRecord updatedForm = createFormFromFields();
 
         // Pass the form record to the consumer
-        this.saveConsumer.accept(updatedForm);
-        close();
+        try {
+            this.saveConsumer.accept(updatedForm);
+            close();
+        } catch (IllegalArgumentException ex) {
+            // e.g. unknown placeholders, the dialog stays open for a fix
+            Notification.show(ex.getMessage(), 5000, Notification.Position.MIDDLE)
+                .addThemeVariants(NotificationVariant.LUMO_ERROR);
+        }
     }
 
     private PrizeDialogFormRecord createFormFromFields() {
@@ -1,6 +1,7 @@
 package com.vaadin.demo.application.adapter.in.views.admin.components;
 
 import com.vaadin.demo.application.domain.model.PrizeFormRecord;
+import com.vaadin.demo.application.domain.model.PrizePlaceholder;
 import com.vaadin.demo.application.domain.model.PrizeRecord;
 import com.vaadin.demo.application.domain.model.PrizeTemplateRecord;
 import com.vaadin.flow.component.AttachEvent;
@@ -14,6 +15,8 @@ import com.vaadin.flow.component.dialog.Dialog;
 import com.vaadin.flow.component.html.Div;
 import com.vaadin.flow.component.html.H4;
 import com.vaadin.flow.component.html.Span;
+import com.vaadin.flow.component.notification.Notification;
+import com.vaadin.flow.component.notification.NotificationVariant;
 import com.vaadin.flow.component.orderedlayout.HorizontalLayout;
 import com.vaadin.flow.component.orderedlayout.VerticalLayout;
 import com.vaadin.flow.component.tabs.Tab;
@@ -87,7 +90,7 @@ public class PrizeFormDialog extends Dialog {
     templateTextField.setWidthFull();
     templateTextField.setHeight("400px");
     templateTextField.setHelperText(
-        "Available placeholders: {{PRIZE_NAME}}, {{WINNER_NAME}}, {{RAFFLE_DATE}}, {{VOUCHER_CODE}}, {{VALID_UNTIL}}");
+        "Available placeholders: " + PrizePlaceholder.availablePlaceholders());
 
     useTemplateCheck = new Checkbox("Use Template");
     useTemplateCheck.addValueChangeListener(e -> {
@@ -254,8 +257,14 @@ public class PrizeFormDialog extends Dialog {
   private void save(ClickEvent<Button> buttonClickEvent) {
     // Create a new form with the values from the binder
     PrizeFormRecord form = createFormFromFields();
-    this.saveConsumer.accept(form);
-    close();
+    try {
+      this.saveConsumer.accept(form);
+      close();
+    } catch (IllegalArgumentException ex) {
+      // e.g. unknown placeholders, the dialog stays open for a fix
+      Notification.show(ex.getMessage(), 5000, Notification.Position.MIDDLE)
+          .addThemeVariants(NotificationVariant.LUMO_ERROR);
+    }
   }
 
   private PrizeFormRecord createFormFromFields() {
@@ -1,62 +1,41 @@
 package com.vaadin.demo.application.adapter.in.views.admin.components;
 
-import com.vaadin.demo.application.application.port.in.MeetupApplicationService;
+import com.vaadin.demo.application.application.port.in.MeetupSyncJobService;
+import com.vaadin.demo.application.domain.model.SyncProgress;
+import com.vaadin.demo.application.domain.model.SyncReport;
 import com.vaadin.flow.component.UI;
+import com.vaadin.flow.component.UIDetachedException;
 import com.vaadin.flow.component.button.Button;
 import com.vaadin.flow.component.button.ButtonVariant;
 import com.vaadin.flow.component.icon.Icon;
 import com.vaadin.flow.component.icon.VaadinIcon;
 import com.vaadin.flow.component.notification.Notification;
 import com.vaadin.flow.component.notification.NotificationVariant;
+import com.vaadin.flow.server.Command;
+
+import java.util.concurrent.CompletionException;
 
 /**
- * Button component for syncing members from Meetup.com
+ * Button component for syncing members from Meetup.com.
+ * The sync runs as a background job, progress is pushed to the browser
+ * and only the after-sync action (e.g. a grid refresh) is run when it is done.
  */
 public class SyncMembersButton extends Button {
 
-    private final MeetupApplicationService meetupService;
+    private static final String DEFAULT_TEXT = "Sync Members";
+
+    private final MeetupSyncJobService syncJobService;
     private Runnable afterSyncAction;
 
     /**
      * Create a button for syncing members by Meetup event ID
      */
-    public SyncMembersButton(MeetupApplicationService meetupService, String meetupEventId) {
-        super("Sync Members", new Icon(VaadinIcon.REFRESH));
-        this.meetupService = meetupService;
-
-        addThemeVariants(ButtonVariant.LUMO_PRIMARY);
-        addClickListener(e -> {
-            syncMembersByMeetupId(meetupEventId);
-
-            // Run refresh action after sync if provided
-            if (afterSyncAction != null) {
-                afterSyncAction.run();
-            }
-
-            // Refresh current page
-            UI.getCurrent().getPage().reload();
-        });
-    }
-
-    /**
-     * Create a button for syncing members by database event ID
-     */
-    public SyncMembersButton(MeetupApplicationService meetupService, Long eventId) {
-        super("Sync Members", new Icon(VaadinIcon.REFRESH));
-        this.meetupService = meetupService;
+    public SyncMembersButton(MeetupSyncJobService syncJobService, String meetupEventId) {
+        super(DEFAULT_TEXT, new Icon(VaadinIcon.REFRESH));
+        this.syncJobService = syncJobService;
 
         addThemeVariants(ButtonVariant.LUMO_PRIMARY);
-        addClickListener(e -> {
-            syncMembers(eventId);
-
-            // Run refresh action after sync if provided
-            if (afterSyncAction != null) {
-                afterSyncAction.run();
-            }
-
-            // Refresh current page
-            UI.getCurrent().getPage().reload();
-        });
+        addClickListener(e -> syncMembersByMeetupId(meetupEventId));
     }
 
     /**
@@ -66,43 +45,49 @@ public class SyncMembersButton extends Button {
         this.afterSyncAction = action;
     }
 
-    private void syncMembers(Long eventId) {
-        try {
-            setEnabled(false);
-            setText("Syncing...");
+    private void syncMembersByMeetupId(String meetupEventId) {
+        UI ui = UI.getCurrent();
+        setEnabled(false);
+        setText("Syncing...");
 
-            int count = meetupService.syncEventMembers(eventId);
+        syncJobService.syncEventMembers(meetupEventId, progress -> access(ui, () -> showProgress(progress)))
+                .whenComplete((report, error) -> access(ui, () -> syncFinished(report, error)));
+    }
 
-            Notification.show("Members synced: " + count,
-                    3000, Notification.Position.MIDDLE)
-                    .addThemeVariants(NotificationVariant.LUMO_SUCCESS);
-        } catch (Exception ex) {
-            Notification.show("Error syncing members: " + ex.getMessage(),
-                    5000, Notification.Position.MIDDLE)
-                    .addThemeVariants(NotificationVariant.LUMO_ERROR);
-        } finally {
-            setEnabled(true);
-            setText("Sync Members");
+    private void showProgress(SyncProgress progress) {
+        if (!progress.isFinished()) {
+            setText(progress.message());
         }
     }
 
-    private void syncMembersByMeetupId(String meetupEventId) {
-        try {
-            setEnabled(false);
-            setText("Syncing...");
-
-            int count = meetupService.syncEventMembersByMeetupId(meetupEventId);
+    private void syncFinished(SyncReport report, Throwable error) {
+        setEnabled(true);
+        setText(DEFAULT_TEXT);
 
-            Notification.show("Members synced: " + count,
-                    3000, Notification.Position.MIDDLE)
-                    .addThemeVariants(NotificationVariant.LUMO_SUCCESS);
-        } catch (Exception ex) {
-            Notification.show("Error syncing members: " + ex.getMessage(),
+        if (error != null) {
+            Throwable cause = error instanceof CompletionException && error.getCause() != null
+                    ? error.getCause() : error;
+            Notification.show("Error syncing members: " + cause.getMessage(),
                     5000, Notification.Position.MIDDLE)
                     .addThemeVariants(NotificationVariant.LUMO_ERROR);
-        } finally {
-            setEnabled(true);
-            setText("Sync Members");
+            return;
+        }
+
+        Notification.show("Members synced: " + report.summary(),
+                3000, Notification.Position.MIDDLE)
+                .addThemeVariants(NotificationVariant.LUMO_SUCCESS);
+
+        // Refresh only what shows the synced data
+        if (afterSyncAction != null) {
+            afterSyncAction.run();
+        }
+    }
+
+    private static void access(UI ui, Command command) {
+        try {
+            ui.access(command);
+        } catch (UIDetachedException ignored) {
+            // The user navigated away or closed the tab, nothing to update
         }
     }
-}
\ No newline at end of file
+}
@@ -2,6 +2,7 @@ package com.vaadin.demo.application.adapter.in.views.admin.details;
 
 import com.vaadin.demo.application.application.port.in.MeetupAPIService;
 import com.vaadin.demo.application.application.port.in.MeetupApplicationService;
+import com.vaadin.demo.application.application.port.in.MeetupSyncJobService;
 import com.vaadin.demo.application.application.port.in.RaffleApplicationService;
 import com.vaadin.demo.application.domain.model.EventRecord;
 import com.vaadin.demo.application.adapter.in.views.admin.components.SyncMembersButton;
@@ -31,12 +32,15 @@ public class DetailsSubView extends VerticalLayout implements BeforeEnterObserve
     private final RaffleApplicationService raffleService;
     private final MeetupAPIService meetupAPIService;
     private final MeetupApplicationService meetupService2;
+    private final MeetupSyncJobService syncJobService;
     private String currentMeetupEventId;
 
-    public DetailsSubView(RaffleApplicationService raffleService, MeetupAPIService meetupAPIService, MeetupApplicationService meetupService2) {
+    public DetailsSubView(RaffleApplicationService raffleService, MeetupAPIService meetupAPIService, MeetupApplicationService meetupService2,
+                          MeetupSyncJobService syncJobService) {
         this.raffleService = raffleService;
         this.meetupAPIService = meetupAPIService;
         this.meetupService2 = meetupService2;
+        this.syncJobService = syncJobService;
 
         var descriptionTitle = new Span("Description");
         descriptionTitle.addClassNames(LumoUtility.FontWeight.NORMAL, LumoUtility.FontSize.SMALL,
@@ -59,7 +63,7 @@ public class DetailsSubView extends VerticalLayout implements BeforeEnterObserve
         componentLayout.setPadding(false);
 
         // Add Sync Members button
-        SyncMembersButton syncButton = new SyncMembersButton(meetupService2, "");
+        SyncMembersButton syncButton = new SyncMembersButton(syncJobService, "");
         syncButton.setVisible(false); // Hide until we have a meetup ID
 
         add(componentLayout, syncButton, descriptionTitle);
@@ -84,7 +88,7 @@ public class DetailsSubView extends VerticalLayout implements BeforeEnterObserve
                 SyncMembersButton syncButton = (SyncMembersButton) component;
                 // We need to remove the old button and add a new one
                 remove(syncButton);
-                SyncMembersButton newSyncButton = new SyncMembersButton(meetupService2, currentMeetupEventId);
+                SyncMembersButton newSyncButton = new SyncMembersButton(syncJobService, currentMeetupEventId);
                 addComponentAtIndex(2, newSyncButton); // Same position as before
             }
         });
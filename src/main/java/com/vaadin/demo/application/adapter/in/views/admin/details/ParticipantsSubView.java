@@ -1,12 +1,15 @@
 package com.vaadin.demo.application.adapter.in.views.admin.details;
 
-import com.vaadin.demo.application.domain.model.MemberRecord;
 import com.vaadin.demo.application.domain.model.ParticipantRecord;
+import com.vaadin.demo.application.domain.model.ParticipantRowRecord;
 import com.vaadin.demo.application.application.port.in.MeetupApplicationService;
+import com.vaadin.demo.application.application.port.in.MeetupSyncJobService;
 import com.vaadin.demo.application.application.port.in.RaffleApplicationService;
 import com.vaadin.demo.application.adapter.in.views.admin.components.SyncMembersButton;
 import com.vaadin.flow.component.button.Button;
 import com.vaadin.flow.component.grid.Grid;
+import com.vaadin.flow.component.grid.dataview.GridListDataView;
+import com.vaadin.flow.component.select.Select;
 import com.vaadin.flow.component.orderedlayout.HorizontalLayout;
 import com.vaadin.flow.component.orderedlayout.VerticalLayout;
 import com.vaadin.flow.router.BeforeEnterEvent;
@@ -14,53 +17,32 @@ import com.vaadin.flow.router.BeforeEnterObserver;
 import com.vaadin.flow.router.Route;
 import com.vaadin.flow.router.RouteParameters;
 
+import java.util.ArrayList;
 import java.util.List;
 
 @Route(value = "participants", layout = DetailsMainLayout.class)
 @com.vaadin.flow.server.auth.AnonymousAllowed
 public class ParticipantsSubView extends VerticalLayout implements BeforeEnterObserver {
 
-    private final Grid<ParticipantViewModel> grid;
+    private final Grid<ParticipantRowRecord> grid;
+    private final List<ParticipantRowRecord> rows = new ArrayList<>();
+    private GridListDataView<ParticipantRowRecord> gridDataView;
     private final RaffleApplicationService raffleService;
     private final MeetupApplicationService meetupService;
+    private final MeetupSyncJobService syncJobService;
     private String currentMeetupEventId;
     private Long currentRaffleId;
 
-    // View model for participants
-    public static class ParticipantViewModel {
-        private final String name;
-        private final String email;
-        private final boolean organizer;
-        private final boolean enteredRaffle;
-        private final ParticipantRecord.RsvpStatus rsvpStatus;
-        private final ParticipantRecord.AttendanceStatus attendanceStatus;
-
-        public ParticipantViewModel(ParticipantRecord participant) {
-            MemberRecord member = participant.member();
-            this.name = member != null ? member.name() : "";
-            this.email = member != null ? member.email() : "";
-            this.organizer = participant.isOrganizer();
-            this.enteredRaffle = participant.hasEnteredRaffle();
-            this.rsvpStatus = participant.rsvpStatus();
-            this.attendanceStatus = participant.attendanceStatus();
-        }
-
-        public String getName() { return name; }
-        public String getEmail() { return email; }
-        public boolean isOrganizer() { return organizer; }
-        public boolean hasEnteredRaffle() { return enteredRaffle; }
-        public ParticipantRecord.RsvpStatus getRsvpStatus() { return rsvpStatus; }
-        public ParticipantRecord.AttendanceStatus getAttendanceStatus() { return attendanceStatus; }
-    }
-
-    public ParticipantsSubView(RaffleApplicationService raffleService, MeetupApplicationService meetupService) {
+    public ParticipantsSubView(RaffleApplicationService raffleService, MeetupApplicationService meetupService,
+                               MeetupSyncJobService syncJobService) {
         this.raffleService = raffleService;
         this.meetupService = meetupService;
+        this.syncJobService = syncJobService;
 
         // Create header layout with buttons
         HorizontalLayout buttonLayout = new HorizontalLayout();
 
-        SyncMembersButton syncButton = new SyncMembersButton(meetupService, "");
+        SyncMembersButton syncButton = new SyncMembersButton(syncJobService, "");
         syncButton.setVisible(false); // Hide until we have a meetup ID
 
         Button refreshButton = new Button("Refresh");
@@ -69,15 +51,15 @@ public class ParticipantsSubView extends VerticalLayout implements BeforeEnterOb
 
         buttonLayout.add(syncButton, refreshButton);
 
-        grid = new Grid<>(ParticipantViewModel.class);
+        grid = new Grid<>(ParticipantRowRecord.class, false);
 
-        // Define columns explicitly to match the exact property names
-        grid.addColumn(ParticipantViewModel::getName).setHeader("Name");
-        grid.addColumn(ParticipantViewModel::getEmail).setHeader("Email");
-        grid.addColumn(ParticipantViewModel::isOrganizer).setHeader("Organizer");
-        grid.addColumn(ParticipantViewModel::hasEnteredRaffle).setHeader("Entered Raffle");
-        grid.addColumn(ParticipantViewModel::getRsvpStatus).setHeader("RSVP Status");
-        grid.addColumn(ParticipantViewModel::getAttendanceStatus).setHeader("Attendance");
+        // The rows are read-only projections holding exactly these columns
+        grid.addColumn(ParticipantRowRecord::name).setHeader("Name");
+        grid.addColumn(ParticipantRowRecord::email).setHeader("Email");
+        grid.addColumn(ParticipantRowRecord::isOrganizer).setHeader("Organizer");
+        grid.addColumn(ParticipantRowRecord::hasEnteredRaffle).setHeader("Entered Raffle");
+        grid.addColumn(ParticipantRowRecord::rsvpStatus).setHeader("RSVP Status");
+        grid.addComponentColumn(this::attendanceSelect).setHeader("Attendance");
 
         add(buttonLayout, grid);
         setSizeFull();
@@ -85,30 +67,49 @@ public class ParticipantsSubView extends VerticalLayout implements BeforeEnterOb
 
     private void refreshParticipants() {
         if (currentMeetupEventId != null) {
-            meetupService.getEventByMeetupId(currentMeetupEventId)
-                .ifPresent(event -> {
-                    List<ParticipantRecord> participants = meetupService.getParticipantsForEvent(event);
-                    updateParticipantGrid(participants);
-
-                    // Update the button
-                    getChildren()
-                        .filter(c -> c instanceof HorizontalLayout)
+            updateParticipantGrid(meetupService.getParticipantRows(currentMeetupEventId));
+
+            // Update the button
+            getChildren()
+                .filter(c -> c instanceof HorizontalLayout)
+                .findFirst()
+                .ifPresent(layout -> {
+                    ((HorizontalLayout)layout).getChildren()
+                        .filter(c -> c instanceof Button && !(c instanceof SyncMembersButton))
                         .findFirst()
-                        .ifPresent(layout -> {
-                            ((HorizontalLayout)layout).getChildren()
-                                .filter(c -> c instanceof Button && !(c instanceof SyncMembersButton))
-                                .findFirst()
-                                .ifPresent(c -> c.setVisible(true));
-                        });
+                        .ifPresent(c -> c.setVisible(true));
                 });
         }
     }
 
-    public void updateParticipantGrid(List<ParticipantRecord> participants) {
-        List<ParticipantViewModel> viewModels = participants.stream()
-            .map(ParticipantViewModel::new)
-            .toList();
-        grid.setItems(viewModels);
+    public void updateParticipantGrid(List<ParticipantRowRecord> participants) {
+        rows.clear();
+        rows.addAll(participants);
+        gridDataView = grid.setItems(rows);
+        gridDataView.setIdentifierProvider(ParticipantRowRecord::id);
+    }
+
+    private Select<ParticipantRecord.AttendanceStatus> attendanceSelect(ParticipantRowRecord row) {
+        Select<ParticipantRecord.AttendanceStatus> select = new Select<>();
+        select.setItems(ParticipantRecord.AttendanceStatus.values());
+        select.setValue(row.attendanceStatus());
+        select.addValueChangeListener(e -> {
+            if (e.isFromClient() && e.getValue() != null) {
+                updateAttendanceStatus(row, e.getValue());
+            }
+        });
+        return select;
+    }
+
+    /**
+     * The change is queued and written in the background, the row shows the new status at once
+     */
+    private void updateAttendanceStatus(ParticipantRowRecord row, ParticipantRecord.AttendanceStatus status) {
+        meetupService.updateParticipantAttendanceStatus(currentMeetupEventId, row.id(), status.name());
+        ParticipantRowRecord updated = row.withAttendanceStatus(status);
+        // the select may still hold an older copy of the row, so it is replaced by ID
+        rows.replaceAll(r -> r.id().equals(updated.id()) ? updated : r);
+        gridDataView.refreshItem(updated);
     }
 
     @Override
@@ -135,9 +136,11 @@ public class ParticipantsSubView extends VerticalLayout implements BeforeEnterOb
                                 .ifPresent(c -> {
                                     buttonLayout.remove(c);
                                     SyncMembersButton newSyncButton = new SyncMembersButton(
-                                            meetupService,
+                                            syncJobService,
                                             currentMeetupEventId
                                     );
+                                    // Only reload the participants grid once the sync is done
+                                    newSyncButton.setAfterSyncAction(this::refreshParticipants);
                                     buttonLayout.addComponentAtIndex(0, newSyncButton);
                                 });
                         });
@@ -1,10 +1,15 @@
 package com.vaadin.demo.application.adapter.in.views.admin.details;
 
+import com.vaadin.demo.application.domain.model.BulkDrawRecord;
+import com.vaadin.demo.application.domain.model.NotificationDeliveryRecord;
+import com.vaadin.demo.application.domain.model.NotificationRunRecord;
 import com.vaadin.demo.application.domain.model.PrizeFormRecord;
 import com.vaadin.demo.application.domain.model.PrizeRecord;
 import com.vaadin.demo.application.domain.model.PrizeTemplateRecord;
 import com.vaadin.demo.application.domain.model.RaffleRecord;
+import com.vaadin.demo.application.domain.model.WeightRulesRecord;
 import com.vaadin.demo.application.application.port.in.RaffleApplicationService;
+import com.vaadin.demo.application.application.port.in.WinnerNotificationService;
 import com.vaadin.demo.application.adapter.in.views.admin.components.IconButton;
 import com.vaadin.demo.application.adapter.in.views.admin.components.PrizeFormDialog;
 import com.vaadin.flow.component.AbstractField;
@@ -23,13 +28,17 @@ import com.vaadin.flow.component.notification.Notification;
 import com.vaadin.flow.component.orderedlayout.FlexComponent;
 import com.vaadin.flow.component.orderedlayout.HorizontalLayout;
 import com.vaadin.flow.component.orderedlayout.VerticalLayout;
+import com.vaadin.flow.component.textfield.NumberField;
 import com.vaadin.flow.component.textfield.TextField;
 import com.vaadin.flow.router.BeforeEnterEvent;
 import com.vaadin.flow.router.BeforeEnterObserver;
 import com.vaadin.flow.router.Route;
 import com.vaadin.flow.router.RouteParameters;
+import com.vaadin.flow.spring.data.VaadinSpringDataHelpers;
+import org.springframework.data.domain.PageRequest;
 
-import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @Route(value = "prizes", layout = DetailsMainLayout.class)
 @com.vaadin.flow.server.auth.AnonymousAllowed
@@ -38,11 +47,13 @@ public class PrizesCrudSubView extends VerticalLayout implements BeforeEnterObse
     private final Grid<PrizeRecord> prizeGrid = new Grid<>(PrizeRecord.class);
 
     private final RaffleApplicationService raffleService;
+    private final WinnerNotificationService winnerNotificationService;
 
     private RaffleRecord raffle;
 
-    public PrizesCrudSubView(RaffleApplicationService raffleService) {
+    public PrizesCrudSubView(RaffleApplicationService raffleService, WinnerNotificationService winnerNotificationService) {
         this.raffleService = raffleService;
+        this.winnerNotificationService = winnerNotificationService;
 
         prizeGrid.setColumns("name", "description", "winner", "voucherCode", "validUntil");
         prizeGrid.getColumnByKey("name").setHeader("Prize").setAutoWidth(true);
@@ -50,6 +61,8 @@ public class PrizesCrudSubView extends VerticalLayout implements BeforeEnterObse
         prizeGrid.getColumnByKey("winner").setHeader("Winner").setAutoWidth(true);
         prizeGrid.getColumnByKey("voucherCode").setHeader("Voucher Code").setAutoWidth(true);
         prizeGrid.getColumnByKey("validUntil").setHeader("Valid Until").setAutoWidth(true);
+        // The template text with the winner, raffle date and voucher code filled in, as the winner receives it
+        prizeGrid.addColumn(PrizeRecord::renderedText).setKey("renderedText").setHeader("Text").setFlexGrow(2);
         prizeGrid.asSingleSelect().addValueChangeListener(this::selectPrize);
         prizeGrid.addComponentColumn(this::createRaffleButton).setHeader("Raffle").setSortable(false);
         prizeGrid.setWidthFull();
@@ -65,7 +78,17 @@ public class PrizesCrudSubView extends VerticalLayout implements BeforeEnterObse
             getUI().ifPresent(ui -> ui.navigate("prize-templates"));
         });
 
-        HorizontalLayout buttonLayout = new HorizontalLayout(manageTemplatesButton, fromTemplateButton, addButton);
+        Button drawAllButton = new Button("Draw All Prizes", VaadinIcon.SPINNER.create());
+        drawAllButton.addClickListener(this::drawAllPrizes);
+        drawAllButton.addThemeVariants(ButtonVariant.LUMO_CONTRAST);
+
+        Button weightsButton = new Button("Draw Weights", VaadinIcon.SCALE.create());
+        weightsButton.addClickListener(this::editWeightRules);
+
+        Button notifyButton = new Button("Notify Winners", VaadinIcon.ENVELOPE.create());
+        notifyButton.addClickListener(this::notifyWinners);
+
+        HorizontalLayout buttonLayout = new HorizontalLayout(notifyButton, weightsButton, drawAllButton, manageTemplatesButton, fromTemplateButton, addButton);
         buttonLayout.setWidthFull();
         buttonLayout.setJustifyContentMode(JustifyContentMode.END);
 
@@ -88,6 +111,141 @@ public class PrizesCrudSubView extends VerticalLayout implements BeforeEnterObse
         return button;
     }
 
+    /**
+     * Draw and award winners for all open prizes at once and show the result for review
+     */
+    private void drawAllPrizes(ClickEvent<Button> event) {
+        if (raffle == null) {
+            return;
+        }
+        BulkDrawRecord result;
+        try {
+            result = raffleService.drawAllPrizes(raffle.id());
+        } catch (IllegalArgumentException | IllegalStateException ex) {
+            Notification.show("Drawing prizes failed: " + ex.getMessage(), 5000, Notification.Position.MIDDLE);
+            return;
+        } finally {
+            refreshPrizes();
+        }
+
+        if (result.awardedPrizes().isEmpty() && result.prizesWithoutWinner() == 0) {
+            Notification.show("All prizes already have a winner", 3000, Notification.Position.MIDDLE);
+            return;
+        }
+
+        Grid<PrizeRecord> resultGrid = new Grid<>(PrizeRecord.class, false);
+        resultGrid.addColumn(PrizeRecord::name).setHeader("Prize").setAutoWidth(true);
+        resultGrid.addColumn(prize -> prize.winner() != null && prize.winner().member() != null
+                ? prize.winner().member().name() : "").setHeader("Winner").setAutoWidth(true);
+        resultGrid.addColumn(PrizeRecord::voucherCode).setHeader("Voucher Code").setAutoWidth(true);
+        resultGrid.setItems(result.awardedPrizes());
+
+        Dialog dialog = new Dialog();
+        dialog.setHeaderTitle(result.awardedPrizes().size() + " prizes awarded");
+        dialog.add(resultGrid);
+        if (result.prizesWithoutWinner() > 0) {
+            dialog.add(new Span(result.prizesWithoutWinner() + " prizes without winner, no eligible participants left"));
+        }
+        dialog.getFooter().add(new Button("Close", e -> dialog.close()));
+        dialog.setWidth("800px");
+        dialog.open();
+    }
+
+    /**
+     * Queue the rendered texts of all awarded prizes for sending and show the delivery status
+     */
+    private void notifyWinners(ClickEvent<Button> event) {
+        if (raffle == null) {
+            return;
+        }
+        NotificationRunRecord run;
+        try {
+            run = winnerNotificationService.notifyWinners(raffle.id());
+        } catch (IllegalArgumentException ex) {
+            Notification.show("Notifying the winners failed: " + ex.getMessage(), 5000, Notification.Position.MIDDLE);
+            return;
+        }
+
+        Notification.show(run.queued() + " notifications queued, " + run.skipped() + " winners without email, "
+                + run.alreadyHandled() + " already sent or queued", 5000, Notification.Position.BOTTOM_END);
+        showDeliveries();
+    }
+
+    private void showDeliveries() {
+        Map<Long, String> prizeNames = raffleService.getPrizesForRaffle(raffle).stream()
+                .collect(Collectors.toMap(PrizeRecord::id, PrizeRecord::name));
+
+        Grid<NotificationDeliveryRecord> deliveryGrid = new Grid<>(NotificationDeliveryRecord.class, false);
+        deliveryGrid.addColumn(delivery -> prizeNames.getOrDefault(delivery.prizeId(), "")).setHeader("Prize").setAutoWidth(true);
+        deliveryGrid.addColumn(NotificationDeliveryRecord::recipientEmail).setHeader("Recipient").setAutoWidth(true);
+        deliveryGrid.addColumn(NotificationDeliveryRecord::status).setHeader("Status").setAutoWidth(true);
+        deliveryGrid.addColumn(NotificationDeliveryRecord::attempts).setHeader("Attempts").setAutoWidth(true);
+        deliveryGrid.addColumn(NotificationDeliveryRecord::lastError).setHeader("Last Error").setAutoWidth(true);
+        Span queuedCount = new Span();
+
+        // Sending runs in the background, the status is reloaded on demand
+        Runnable refresh = () -> {
+            deliveryGrid.setItems(winnerNotificationService.getDeliveries(raffle.id()));
+            queuedCount.setText(winnerNotificationService.getQueuedCount() + " notifications waiting to be sent");
+        };
+        refresh.run();
+
+        Dialog dialog = new Dialog();
+        dialog.setHeaderTitle("Winner Notifications");
+        dialog.add(new VerticalLayout(queuedCount, deliveryGrid));
+        dialog.getFooter().add(new Button("Refresh", VaadinIcon.REFRESH.create(), e -> refresh.run()),
+                new Button("Close", e -> dialog.close()));
+        dialog.setWidth("900px");
+        dialog.open();
+    }
+
+    /**
+     * Edit the weight rules used by the following draws of this raffle
+     */
+    private void editWeightRules(ClickEvent<Button> event) {
+        if (raffle == null) {
+            return;
+        }
+        WeightRulesRecord weightRules = raffleService.getWeightRules(raffle.id());
+
+        NumberField firstEventWeight = new NumberField("Weight of first-time attendees");
+        firstEventWeight.setValue(weightRules.firstEventWeight());
+        firstEventWeight.setMin(0.1);
+        firstEventWeight.setStep(0.1);
+        NumberField weightPerAttendedEvent = new NumberField("Extra weight per attended event");
+        weightPerAttendedEvent.setValue(weightRules.weightPerAttendedEvent());
+        weightPerAttendedEvent.setMin(0);
+        weightPerAttendedEvent.setStep(0.1);
+        NumberField maxWeight = new NumberField("Max weight");
+        maxWeight.setValue(weightRules.maxWeight());
+        maxWeight.setMin(1);
+        maxWeight.setStep(0.5);
+
+        Dialog dialog = new Dialog();
+        dialog.setHeaderTitle("Draw Weights");
+        dialog.add(new VerticalLayout(
+                new Span("Every entrant starts with weight 1. The defaults give everybody the same chance."),
+                firstEventWeight, weightPerAttendedEvent, maxWeight));
+
+        Button saveButton = new Button("Save", e -> {
+            try {
+                raffleService.saveWeightRules(raffle.id(), new WeightRulesRecord(
+                        valueOf(firstEventWeight), valueOf(weightPerAttendedEvent), valueOf(maxWeight)));
+                dialog.close();
+                Notification.show("Draw weights saved", 3000, Notification.Position.BOTTOM_END);
+            } catch (IllegalArgumentException ex) {
+                Notification.show(ex.getMessage(), 5000, Notification.Position.MIDDLE);
+            }
+        });
+        saveButton.addThemeVariants(ButtonVariant.LUMO_PRIMARY);
+        dialog.getFooter().add(new Button("Cancel", e -> dialog.close()), saveButton);
+        dialog.open();
+    }
+
+    private static double valueOf(NumberField field) {
+        return field.getValue() != null ? field.getValue() : Double.NaN;
+    }
+
     private void selectPrize(AbstractField.ComponentValueChangeEvent<Grid<PrizeRecord>, PrizeRecord> event) {
         PrizeRecord record = event.getValue();
         if (record == null) {
@@ -115,10 +273,8 @@ public class PrizesCrudSubView extends VerticalLayout implements BeforeEnterObse
         Dialog dialog = new Dialog();
         dialog.setHeaderTitle("Create Prize from Template");
 
-        // Try to get PrizeTemplateRecords first, if that list is empty, fall back to legacy templates
-        List<PrizeTemplateRecord> prizeTemplates = raffleService.getAllPrizeTemplateRecords();
-
-        if (prizeTemplates.isEmpty() ) {
+        // Only check that a template exists, the combo box loads them page by page
+        if (!raffleService.searchPrizeTemplates("", PageRequest.of(0, 1)).hasContent()) {
             dialog.add(new Span("No templates available. Please create a template first."));
             dialog.add(new Button("Close", e -> dialog.close()));
             dialog.open();
@@ -128,7 +284,9 @@ public class PrizesCrudSubView extends VerticalLayout implements BeforeEnterObse
 
             // We have new templates, use them
             ComboBox<PrizeTemplateRecord> templateCombo = new ComboBox<>("Select Template");
-            templateCombo.setItems(prizeTemplates);
+            // Filtered and ranked in the database while typing
+            templateCombo.setItems(query -> raffleService.searchPrizeTemplates(query.getFilter().orElse(""),
+                    VaadinSpringDataHelpers.toSpringPageRequest(query)).stream());
             templateCombo.setItemLabelGenerator(PrizeTemplateRecord::name);
             templateCombo.setWidthFull();
 
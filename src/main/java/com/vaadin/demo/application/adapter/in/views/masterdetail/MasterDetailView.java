@@ -2,6 +2,7 @@ package com.vaadin.demo.application.adapter.in.views.masterdetail;
 
 import com.vaadin.demo.application.application.port.in.MemberApplicationService;
 import com.vaadin.demo.application.domain.model.MemberFormRecord;
+import com.vaadin.demo.application.domain.model.MemberKeyRecord;
 import com.vaadin.flow.component.UI;
 import com.vaadin.flow.component.button.Button;
 import com.vaadin.flow.component.button.ButtonVariant;
@@ -9,8 +10,10 @@ import com.vaadin.flow.component.dependency.Uses;
 import com.vaadin.flow.component.formlayout.FormLayout;
 import com.vaadin.flow.component.grid.Grid;
 import com.vaadin.flow.component.grid.GridVariant;
+import com.vaadin.flow.component.grid.dataview.GridLazyDataView;
 import com.vaadin.flow.component.html.Div;
 import com.vaadin.flow.component.icon.Icon;
+import com.vaadin.flow.component.icon.VaadinIcon;
 import com.vaadin.flow.component.notification.Notification;
 import com.vaadin.flow.component.notification.Notification.Position;
 import com.vaadin.flow.component.notification.NotificationVariant;
@@ -18,13 +21,18 @@ import com.vaadin.flow.component.orderedlayout.HorizontalLayout;
 import com.vaadin.flow.component.splitlayout.SplitLayout;
 import com.vaadin.flow.component.textfield.TextField;
 import com.vaadin.flow.data.binder.BeanValidationBinder;
+import com.vaadin.flow.data.provider.Query;
+import com.vaadin.flow.data.value.ValueChangeMode;
 import com.vaadin.flow.router.*;
-import com.vaadin.flow.spring.data.VaadinSpringDataHelpers;
 import jakarta.annotation.security.PermitAll;
 import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.vaadin.lineawesome.LineAwesomeIconUrl;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.TreeMap;
+import java.util.stream.Stream;
 
 @PageTitle("Member Management")
 @Route("members/:memberId?/:action?(edit)")
@@ -37,6 +45,11 @@ public class MasterDetailView extends Div implements BeforeEnterObserver {
     private final String MEMBER_EDIT_ROUTE_TEMPLATE = "members/%s/edit";
 
     private final Grid<MemberFormRecord> grid = new Grid<>(MemberFormRecord.class, false);
+    private final TextField searchField = new TextField();
+    private GridLazyDataView<MemberFormRecord> memberDataView;
+
+    /** Key of the last member of every loaded page, by the offset of the row after it */
+    private final TreeMap<Integer, MemberKeyRecord> pageEnds = new TreeMap<>(Map.of(0, MemberKeyRecord.FIRST));
 
     private TextField meetupId;
     private TextField name;
@@ -71,8 +84,9 @@ public class MasterDetailView extends Div implements BeforeEnterObserver {
                 member.lastUpdated().toLocalDate().toString() : "")
             .setHeader("Last Updated").setAutoWidth(true);
 
-        grid.setItems(query -> memberApplicationService.listMemberForms(
-                VaadinSpringDataHelpers.toSpringPageRequest(query)).stream());
+        // Keyset pages sized by an estimate, no OFFSET scans and no COUNT(*) while scrolling
+        memberDataView = grid.setItems(this::fetchMembers);
+        updateMemberCountEstimate();
         grid.addThemeVariants(GridVariant.LUMO_NO_BORDER);
 
         // when a row is selected or deselected, populate form
@@ -181,11 +195,50 @@ public class MasterDetailView extends Div implements BeforeEnterObserver {
         Div wrapper = new Div();
         wrapper.setClassName("grid-wrapper");
         splitLayout.addToPrimary(wrapper);
-        wrapper.add(grid);
+
+        searchField.setClassName("search-field");
+        searchField.setPlaceholder("Search name, email or Meetup ID");
+        searchField.setPrefixComponent(new Icon(VaadinIcon.SEARCH));
+        searchField.setClearButtonVisible(true);
+        searchField.setWidthFull();
+        searchField.setValueChangeMode(ValueChangeMode.LAZY);
+        searchField.addValueChangeListener(e -> reloadMembers());
+
+        wrapper.add(searchField, grid);
+    }
+
+    /**
+     * Seek from the end of the nearest page loaded before. Scrolling page by page starts exactly at such a key,
+     * only a jump with the scrollbar skips rows after it.
+     */
+    private Stream<MemberFormRecord> fetchMembers(Query<MemberFormRecord, Void> query) {
+        int offset = query.getOffset();
+        Map.Entry<Integer, MemberKeyRecord> start = pageEnds.floorEntry(offset);
+        List<MemberFormRecord> members = memberApplicationService.searchMemberForms(searchField.getValue(),
+                start.getValue(), offset - start.getKey(), query.getLimit());
+        if (!members.isEmpty()) {
+            pageEnds.put(offset + members.size(), MemberKeyRecord.of(members.get(members.size() - 1)));
+        }
+        return members.stream();
+    }
+
+    private void updateMemberCountEstimate() {
+        int estimate = memberApplicationService.estimateMemberCount(searchField.getValue());
+        memberDataView.setItemCountEstimate(Math.max(1, estimate));
     }
 
     private void refreshGrid() {
         grid.select(null);
+        reloadMembers();
+    }
+
+    /**
+     * Start again at the first key, the loaded pages may have moved
+     */
+    private void reloadMembers() {
+        pageEnds.clear();
+        pageEnds.put(0, MemberKeyRecord.FIRST);
+        updateMemberCountEstimate();
         grid.getDataProvider().refreshAll();
     }
 
@@ -3,21 +3,46 @@ package com.vaadin.demo.application.adapter.in.views.spinwheel.component;
 import com.vaadin.flow.component.HasSize;
 import com.vaadin.flow.component.Tag;
 import com.vaadin.flow.component.dependency.JsModule;
-import com.vaadin.flow.component.dependency.NpmPackage;
 import com.vaadin.flow.component.react.ReactAdapterComponent;
 import com.vaadin.flow.function.SerializableConsumer;
+import com.vaadin.flow.function.SerializableRunnable;
 
 import java.util.List;
 
-@NpmPackage(value = "react-spin-wheel", version = "0.0.7")
+/**
+ * Spin wheel that only animates. The winner is drawn on the server and passed with spinTo,
+ * the wheel never picks a result itself.
+ */
 @JsModule("./components/react-spin-wheel/react-spin-wheel.tsx")
 @Tag("react-spin-wheel")
 public class ReactSpinWheel extends ReactAdapterComponent implements HasSize {
 
+    /**
+     * Index of the item to stop at, spin is increased for every spin so the same index spins again
+     */
+    public record SpinTarget(int index, int spin) {
+    }
+
+    private int spinCount;
+
     public void setItems(List<String> itemList) {
         setState("items", itemList);
     }
 
+    /**
+     * Spin until the item at the given index stops under the pointer
+     */
+    public void spinTo(int index) {
+        setState("target", new SpinTarget(index, ++spinCount));
+    }
+
+    /**
+     * Called when the wheel is clicked, the listener draws the winner and calls spinTo
+     */
+    public void addOnSpinRequest(SerializableRunnable listener) {
+        getElement().addEventListener("onSpinRequest", event -> listener.run());
+    }
+
     public void addOnFinishSpin(SerializableConsumer<String> consumer) {
         getElement().addEventListener("onFinishSpin", event -> {
             consumer.accept(event.getEventData().getString("event.detail"));
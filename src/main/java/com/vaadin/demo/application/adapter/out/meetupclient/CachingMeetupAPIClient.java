@@ -0,0 +1,188 @@
+package com.vaadin.demo.application.adapter.out.meetupclient;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.concurrent.DelegatingSecurityContextRunnable;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * MeetupAPIClient decorator that caches the group's event list (getEvents).
+ * <ul>
+ *   <li>within the TTL the cached list is returned without a request</li>
+ *   <li>after the TTL, within the stale window, the cached list is returned at once
+ *   and refreshed in the background (stale-while-revalidate)</li>
+ *   <li>concurrent callers share one in-flight request (single-flight)</li>
+ * </ul>
+ * All other calls are passed through.
+ */
+@Slf4j
+public class CachingMeetupAPIClient implements MeetupAPIClient, DisposableBean {
+
+  private record CachedEvents(Set<MeetupEvent> events, Instant fetchedAt) { }
+
+  private final MeetupAPIClient delegate;
+  private final Duration ttl;
+  private final Duration staleWhileRevalidate;
+  private final Clock clock;
+  private final Executor refreshExecutor;
+
+  private volatile CachedEvents cachedEvents;
+  private final AtomicReference<CompletableFuture<Set<MeetupEvent>>> inFlight = new AtomicReference<>();
+
+  public CachingMeetupAPIClient(MeetupAPIClient delegate, Duration ttl, Duration staleWhileRevalidate) {
+    this(delegate, ttl, staleWhileRevalidate, Clock.systemUTC(), Executors.newSingleThreadExecutor(refreshThreadFactory()));
+  }
+
+  CachingMeetupAPIClient(MeetupAPIClient delegate, Duration ttl, Duration staleWhileRevalidate,
+                         Clock clock, Executor refreshExecutor) {
+    this.delegate = delegate;
+    this.ttl = ttl;
+    this.staleWhileRevalidate = staleWhileRevalidate;
+    this.clock = clock;
+    this.refreshExecutor = refreshExecutor;
+  }
+
+  private static CustomizableThreadFactory refreshThreadFactory() {
+    CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("meetup-events-refresh-");
+    threadFactory.setDaemon(true);
+    return threadFactory;
+  }
+
+  @Override
+  public Set<MeetupEvent> getEvents() {
+    CachedEvents cached = cachedEvents;
+    if (cached != null) {
+      Instant expiresAt = cached.fetchedAt().plus(ttl);
+      Instant now = clock.instant();
+      if (now.isBefore(expiresAt)) {
+        return cached.events();
+      }
+      if (now.isBefore(expiresAt.plus(staleWhileRevalidate))) {
+        fetchEvents(true);
+        return cached.events();
+      }
+    }
+    return join(fetchEvents(false));
+  }
+
+  /**
+   * Wait for a fresh list, still sharing a request that is already running
+   */
+  @Override
+  public Set<MeetupEvent> refreshEvents() {
+    return join(fetchEvents(false));
+  }
+
+  /**
+   * Start a request unless one is already running. In the background the request runs with
+   * the caller's security context, the access token is taken from it.
+   */
+  private CompletableFuture<Set<MeetupEvent>> fetchEvents(boolean inBackground) {
+    CompletableFuture<Set<MeetupEvent>> request = new CompletableFuture<>();
+    CompletableFuture<Set<MeetupEvent>> running = inFlight.compareAndExchange(null, request);
+    if (running != null) {
+      return running;
+    }
+
+    Runnable load = () -> {
+      try {
+        Set<MeetupEvent> events = delegate.getEvents();
+        cachedEvents = new CachedEvents(events, clock.instant());
+        inFlight.set(null);
+        request.complete(events);
+      } catch (RuntimeException | Error e) {
+        inFlight.set(null);
+        request.completeExceptionally(e);
+      }
+    };
+
+    if (inBackground) {
+      refreshExecutor.execute(new DelegatingSecurityContextRunnable(load, SecurityContextHolder.getContext()));
+      request.whenComplete((events, error) -> {
+        if (error != null) {
+          log.warn("Background refresh of the Meetup events failed, serving the cached list", error);
+        }
+      });
+    } else {
+      load.run();
+    }
+    return request;
+  }
+
+  private static <T> T join(CompletableFuture<T> future) {
+    try {
+      return future.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw e;
+    }
+  }
+
+  @Override
+  public void destroy() {
+    if (refreshExecutor instanceof ExecutorService executorService) {
+      executorService.shutdownNow();
+    }
+  }
+
+  @Override
+  public Optional<MeetupEvent> getEvent(String meetupEventId) {
+    return delegate.getEvent(meetupEventId);
+  }
+
+  @Override
+  public Optional<MeetupEventWithRSVPs> getEventWithRSVPs(String meetupEventId) {
+    return delegate.getEventWithRSVPs(meetupEventId);
+  }
+
+  @Override
+  public Map<String, MeetupEventWithRSVPs> getEventsWithRSVPs(Collection<String> meetupEventIds) {
+    return delegate.getEventsWithRSVPs(meetupEventIds);
+  }
+
+  @Override
+  public Optional<RsvpPage> getEventRsvpPage(String meetupEventId, String afterCursor, int pageSize) {
+    return delegate.getEventRsvpPage(meetupEventId, afterCursor, pageSize);
+  }
+
+  @Override
+  public MeResponse getMe() {
+    return delegate.getMe();
+  }
+
+  @Override
+  public String getMeInGroup() {
+    return delegate.getMeInGroup();
+  }
+
+  @Override
+  public String getMyGroups() {
+    return delegate.getMyGroups();
+  }
+
+  @Override
+  public String legacyQuery(String query) {
+    return delegate.legacyQuery(query);
+  }
+
+  @Override
+  public String queryNew(String query) {
+    return delegate.queryNew(query);
+  }
+}
@@ -2,6 +2,8 @@ package com.vaadin.demo.application.adapter.out.meetupclient;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vaadin.demo.application.adapter.out.meetupclient.impl.MeetupResponseParser;
+import com.vaadin.demo.application.adapter.out.meetupclient.impl.MeetupResponseParser.EventWithRsvpPage;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
@@ -10,8 +12,10 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
@@ -24,7 +28,7 @@ public class DevMeetupAPIClientImpl implements MeetupAPIClient {
     public Optional<MeetupEvent> getEvent(String meetupEventId) {
         try {
             String json = readResourceFile("mock/getEventWithRSVP_"+meetupEventId+".json");
-            ObjectMapper mapper = new ObjectMapper();
+            ObjectMapper mapper = MeetupResponseParser.mapper();
 
             JsonNode root = mapper.readTree(json);
             JsonNode eventNode = root.path("data").path("event");
@@ -38,7 +42,45 @@ public class DevMeetupAPIClientImpl implements MeetupAPIClient {
 
     @Override
     public Optional<MeetupEventWithRSVPs> getEventWithRSVPs(String meetupEventId) {
-        return Optional.empty();
+        try (InputStream body = openResourceFile("mock/getEventWithRSVP_" + meetupEventId + ".json")) {
+            Optional<EventWithRsvpPage> parsed = MeetupResponseParser.parseEventWithRsvpPage(body);
+            if (parsed.isEmpty()) {
+                return Optional.empty();
+            }
+            EventWithRsvpPage firstPage = parsed.get();
+            MeetupEventWithRSVPs event = firstPage.event();
+
+            // Follow the cursor through the mock pages, like the real client does
+            List<RSVP> rsvps = new ArrayList<>(event.rsvps());
+            RsvpPage page = firstPage.rsvpPage();
+            while (page.hasNextPage()) {
+                page = getEventRsvpPage(meetupEventId, page.endCursor(), rsvps.size()).orElseThrow();
+                rsvps.addAll(page.rsvps());
+            }
+
+            return Optional.of(new MeetupEventWithRSVPs(event.id(), event.token(), event.title(), event.dateTime(),
+                    event.description(), event.eventUrl(), rsvps));
+        } catch (Exception e) {
+            logger.error("Fehler beim Parsen des Events", e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Serves the RSVP pages from mock files: the first page is part of getEventWithRSVP_{id}.json,
+     * the following ones are in getEventRsvps_{id}_{cursor}.json. The page size is given by the files.
+     */
+    @Override
+    public Optional<RsvpPage> getEventRsvpPage(String meetupEventId, String afterCursor, int pageSize) {
+        String fileName = afterCursor == null
+                ? "mock/getEventWithRSVP_" + meetupEventId + ".json"
+                : "mock/getEventRsvps_" + meetupEventId + "_" + afterCursor + ".json";
+        try (InputStream body = openResourceFile(fileName)) {
+            return MeetupResponseParser.parseRsvpPage(body);
+        } catch (Exception e) {
+            logger.error("Fehler beim Parsen der RSVPs", e);
+            return Optional.empty();
+        }
     }
 
     private static MeetupEvent extractMeetupEvent(JsonNode eventNode) {
@@ -72,7 +114,7 @@ public class DevMeetupAPIClientImpl implements MeetupAPIClient {
     @Override
     public Set<MeetupEvent> getEvents() {
         // Parse den statischen JSON-String und erstelle MeetupEvent-Objekte
-        ObjectMapper mapper = new ObjectMapper();
+        ObjectMapper mapper = MeetupResponseParser.mapper();
         try {
             String json = readResourceFile("mock/getEvents.json");
             JsonNode root = mapper.readTree(json);
@@ -118,9 +160,14 @@ public class DevMeetupAPIClientImpl implements MeetupAPIClient {
     }
 
     private String readResourceFile(String fileName) throws IOException {
-        try (InputStream is = getClass().getClassLoader().getResourceAsStream(fileName)) {
-            if (is == null) throw new FileNotFoundException("Resource not found: " + fileName);
+        try (InputStream is = openResourceFile(fileName)) {
             return new String(is.readAllBytes(), StandardCharsets.UTF_8);
         }
     }
+
+    private InputStream openResourceFile(String fileName) throws IOException {
+        InputStream is = getClass().getClassLoader().getResourceAsStream(fileName);
+        if (is == null) throw new FileNotFoundException("Resource not found: " + fileName);
+        return is;
+    }
 }
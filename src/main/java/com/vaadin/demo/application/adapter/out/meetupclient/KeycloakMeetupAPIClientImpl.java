@@ -1,43 +1,78 @@
 package com.vaadin.demo.application.adapter.out.meetupclient;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
-import com.vaadin.demo.application.adapter.out.meetupclient.impl.MeetupEventWithRsvpWrapper;
-import com.vaadin.demo.application.adapter.out.meetupclient.impl.GetEventWrapper;
-import com.vaadin.demo.application.adapter.out.meetupclient.impl.MeetupEventsWrapper;
-import org.springframework.beans.factory.annotation.Value;
+import com.vaadin.demo.application.adapter.out.meetupclient.impl.MeetupResponseParser;
+import com.vaadin.demo.application.adapter.out.meetupclient.impl.MeetupResponseParser.EventWithRsvpPage;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.graphql.client.HttpSyncGraphQlClient;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpResponse;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.oauth2.client.OAuth2AuthorizedClient;
 import org.springframework.security.oauth2.client.OAuth2AuthorizedClientService;
 import org.springframework.security.oauth2.client.authentication.OAuth2AuthenticationToken;
+import org.springframework.web.client.DefaultResponseErrorHandler;
+import org.springframework.web.client.ResponseErrorHandler;
 import org.springframework.web.client.RestClient;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
+@Slf4j
 public class KeycloakMeetupAPIClientImpl implements MeetupAPIClient {
 
+  private static final String RSVP_CONNECTION_FIELDS = "pageInfo { endCursor hasNextPage } edges { node { id isFirstEvent isHost member { id email gender memberUrl name state status username memberPhoto { baseUrl highResUrl id standardUrl thumbUrl }  }} }";
+  private static final String EVENT_WITH_RSVPS_FIELDS = "id dateTime title description eventType eventUrl status token rsvps (first: " + RSVP_PAGE_SIZE + ") { " + RSVP_CONNECTION_FIELDS + " }";
+
+  private static final ResponseErrorHandler ERROR_HANDLER = new DefaultResponseErrorHandler();
+
   private final HttpSyncGraphQlClient httpSyncGraphQlClient;
-  private RestClient restClient;
+  private final RestClient restClient;
   private final OAuth2AuthorizedClientService authorizedClientService;
-
+  private final int eventBatchSize;
+
+  /**
+   * The RestClient is built once. The bearer token of the current user is added per request
+   * by an interceptor, so the pooled connections are shared by all users.
+   *
+   * @param eventBatchSize Maximum number of events fetched with one aliased query
+   */
   public KeycloakMeetupAPIClientImpl(
-      @Value("${keycloak.server-url}") String keycloakServerUrl,
-      @Value("${keycloak.realm}") String keycloakRealm,
-      OAuth2AuthorizedClientService authorizedClientService
+      String keycloakServerUrl,
+      String keycloakRealm,
+      RestClient.Builder restClientBuilder,
+      OAuth2AuthorizedClientService authorizedClientService,
+      int eventBatchSize
   ) {
     this.authorizedClientService = authorizedClientService;
+    this.eventBatchSize = eventBatchSize;
 
     String baseUrl = keycloakServerUrl + "/realms/" + keycloakRealm;
-    this.restClient = RestClient.create(baseUrl);
+    this.restClient = restClientBuilder
+        .baseUrl(baseUrl)
+        .requestInterceptor(this::addBearerToken)
+        .build();
     this.httpSyncGraphQlClient = HttpSyncGraphQlClient.create(this.restClient.mutate()
         .baseUrl(baseUrl + "/meetup-proxy/gql")
         .build());
   }
 
+  private ClientHttpResponse addBearerToken(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+      throws IOException {
+    request.getHeaders().setBearerAuth(getAccessToken());
+    return execution.execute(request, body);
+  }
+
   private String getAccessToken() {
     Authentication auth = SecurityContextHolder.getContext().getAuthentication();
 
@@ -54,54 +89,134 @@ public class KeycloakMeetupAPIClientImpl implements MeetupAPIClient {
     throw new IllegalStateException("User is not authenticated with OAuth2 or token is missing.");
   }
 
-
-
-
   @Override
   public Optional<MeetupEvent> getEvent(String meetupEventId) {
     var query = "query { event(id:\"" + meetupEventId + "\") { id dateTime title description eventType eventUrl status token }  }";
-    var body =   queryNew(query);
-    try {
-      ObjectMapper mapper = new ObjectMapper();
-      mapper.registerModule(new JavaTimeModule());
-      return Optional.ofNullable(GetEventWrapper.parse(body, mapper));
-
-    } catch (RuntimeException e) {
-      e.printStackTrace();;
-      return Optional.empty();
-    }
+    return queryOptional(query, MeetupResponseParser::parseEvent);
   }
 
   @Override
   public Optional<MeetupEventWithRSVPs> getEventWithRSVPs(String meetupEventId) {
 
-    var query = "query { event(id:\"" + meetupEventId + "\") { id dateTime title description eventType eventUrl status token rsvps (first: 300) { edges { node { id isFirstEvent isHost member { id email gender memberUrl name state status username memberPhoto { baseUrl highResUrl id standardUrl thumbUrl }  }} }  }  }}";
+    var query = "query { event(id:\"" + meetupEventId + "\") { " + EVENT_WITH_RSVPS_FIELDS + " }}";
+
+    return queryOptional(query, MeetupResponseParser::parseEventWithRsvpPage)
+        .flatMap(firstPage -> withAllRsvps(meetupEventId, firstPage));
+  }
+
+  /**
+   * Fetches up to eventBatchSize events per request with one aliased query
+   * (e0: event(id:...) { ... } e1: event(id:...) { ... }). Only events with more RSVPs
+   * than fit on the first page need further requests.
+   */
+  @Override
+  public Map<String, MeetupEventWithRSVPs> getEventsWithRSVPs(Collection<String> meetupEventIds) {
+    List<String> ids = List.copyOf(new LinkedHashSet<>(meetupEventIds));
+    Map<String, MeetupEventWithRSVPs> events = new LinkedHashMap<>();
+
+    for (int from = 0; from < ids.size(); from += eventBatchSize) {
+      List<String> batch = ids.subList(from, Math.min(from + eventBatchSize, ids.size()));
 
-    var body = queryNew(query);
-    System.out.println(body);
+      StringBuilder query = new StringBuilder("query {");
+      for (int i = 0; i < batch.size(); i++) {
+        query.append(" e").append(i).append(": event(id:\"").append(batch.get(i)).append("\") { ")
+            .append(EVENT_WITH_RSVPS_FIELDS).append(" }");
+      }
+      query.append(" }");
+
+      Map<String, EventWithRsvpPage> firstPages = query(query.toString(), MeetupResponseParser::parseAliasedEventsWithRsvpPage);
+      if (firstPages == null) {
+        // Not the same as "not found": the caller reports the events of the batch as failed
+        throw new IllegalStateException("Could not parse the Meetup response for events " + batch);
+      }
+      for (int i = 0; i < batch.size(); i++) {
+        String meetupEventId = batch.get(i);
+        EventWithRsvpPage firstPage = firstPages.get("e" + i);
+        if (firstPage != null) {
+          withAllRsvps(meetupEventId, firstPage).ifPresent(event -> events.put(meetupEventId, event));
+        }
+      }
+    }
+    return events;
+  }
+
+  private Optional<MeetupEventWithRSVPs> withAllRsvps(String meetupEventId, EventWithRsvpPage firstPage) {
     try {
-      ObjectMapper mapper = new ObjectMapper();
-      mapper.registerModule(new JavaTimeModule());
-      return Optional.ofNullable(MeetupEventWithRsvpWrapper.parse(body, mapper));
+      // Follow the cursor until all RSVPs are loaded
+      MeetupEventWithRSVPs event = firstPage.event();
+      if (!firstPage.rsvpPage().hasNextPage()) {
+        return Optional.of(event);
+      }
+      List<RSVP> rsvps = new ArrayList<>(event.rsvps());
+      RsvpPage page = firstPage.rsvpPage();
+      while (page.hasNextPage()) {
+        page = getEventRsvpPage(meetupEventId, page.endCursor(), RSVP_PAGE_SIZE)
+            .orElseThrow(() -> new IllegalStateException("Could not load all RSVPs of event " + meetupEventId));
+        rsvps.addAll(page.rsvps());
+      }
+
+      return Optional.of(new MeetupEventWithRSVPs(event.id(), event.token(), event.title(), event.dateTime(),
+          event.description(), event.eventUrl(), rsvps));
 
     } catch (RuntimeException e) {
+      log.warn("Could not load RSVPs of event {}", meetupEventId, e);
       return Optional.empty();
     }
   }
 
+  @Override
+  public Optional<RsvpPage> getEventRsvpPage(String meetupEventId, String afterCursor, int pageSize) {
+    var after = afterCursor == null ? "" : ", after: \"" + afterCursor + "\"";
+    var query = "query { event(id:\"" + meetupEventId + "\") { rsvps (first: " + pageSize + after + ") { " + RSVP_CONNECTION_FIELDS + " }  }}";
+
+    return queryOptional(query, MeetupResponseParser::parseRsvpPage);
+  }
+
   @Override
   public Set<MeetupEvent> getEvents() {
     var query = "query { groupByUrlname (urlname: \"java-vienna\") { id events { edges { node { id token title dateTime description eventType eventUrl status }} }  } }";
 
-    var body = queryNew(query);
-    try {
-      ObjectMapper mapper = new ObjectMapper();
-      mapper.registerModule(new JavaTimeModule());
-      MeetupEventsWrapper wrapper = mapper.readValue(body, MeetupEventsWrapper.class);
-      return wrapper.getEvents();
-    } catch (JsonProcessingException e) {
-      return Set.of();
-    }
+    Set<MeetupEvent> events = query(query, MeetupResponseParser::parseEvents);
+    return events != null ? events : Set.of();
+  }
+
+  @FunctionalInterface
+  private interface BodyParser<T> {
+    T parse(InputStream body) throws IOException;
+  }
+
+  /**
+   * Run a query against the gql-ext endpoint and stream-parse the response body, without reading it into a String.
+   * Returns null if the body cannot be parsed, HTTP errors are thrown like in {@link #queryNew(String)}.
+   */
+  private <T> T query(String query, BodyParser<T> bodyParser) {
+    return restClient
+        .post()
+        .uri("/meetup-proxy/gql-ext")
+        .body(new GraphQLQuery(singleLine(query)))
+        .exchange((request, response) -> {
+          if (ERROR_HANDLER.hasError(response)) {
+            ERROR_HANDLER.handleError(request.getURI(), request.getMethod(), response);
+          }
+          try {
+            return bodyParser.parse(response.getBody());
+          } catch (JsonProcessingException e) {
+            log.warn("Could not parse Meetup response", e);
+            return null;
+          }
+        });
+  }
+
+  /**
+   * Like {@link #query(String, BodyParser)} for parsers of a single optional result, empty if the body cannot be parsed
+   */
+  private <T> Optional<T> queryOptional(String query, BodyParser<Optional<T>> bodyParser) {
+    Optional<T> result = query(query, bodyParser);
+    return result != null ? result : Optional.empty();
+  }
+
+  private static String singleLine(String query) {
+    return query.replaceAll("\r\n", " ").replaceAll("\n", " ");
   }
 
   public MeResponse getMe() {
@@ -109,13 +224,7 @@ public class KeycloakMeetupAPIClientImpl implements MeetupAPIClient {
     entspricht query:
     query { self { id email name memberUrl memberPhotoUrl } }
      */
-    String token = getAccessToken();
-
-    RestClient authClient = this.restClient.mutate()
-        .defaultHeader("Authorization", "Bearer " + token)
-        .build();
-
-    return authClient
+    return restClient
         .get()
         .uri("/meetup-proxy/me")
         .retrieve()
@@ -130,13 +239,7 @@ public class KeycloakMeetupAPIClientImpl implements MeetupAPIClient {
               "query { groupByUrlname(urlname: \"%s\") { id isMember isOrganizer isPrimaryOrganizer urlname } self { id email name memberUrl memberPhotoUrl } }",
               groupUrlName));
      */
-    String token = getAccessToken();
-
-    RestClient authClient = this.restClient.mutate()
-        .defaultHeader("Authorization", "Bearer " + token)
-        .build();
-
-    return authClient
+    return restClient
         .get()
         .uri("/meetup-proxy/me-in-group")
         .retrieve()
@@ -151,13 +254,7 @@ public class KeycloakMeetupAPIClientImpl implements MeetupAPIClient {
       );
 
      */
-    String token = getAccessToken();
-
-    RestClient authClient = this.restClient.mutate()
-        .defaultHeader("Authorization", "Bearer " + token)
-        .build();
-
-    return authClient
+    return restClient
         .get()
         .uri("/meetup-proxy/my-groups")
         .retrieve()
@@ -180,34 +277,20 @@ public class KeycloakMeetupAPIClientImpl implements MeetupAPIClient {
 
   // diese Methode kommt in Zukunft weg, jetzt fuer entwicklung ok.
   public String legacyQuery(String query) {
-    String token = getAccessToken();
-
-    RestClient authClient = this.restClient.mutate()
-        .defaultHeader("Authorization", "Bearer " + token)
-        .build();
-
-    query = query.replaceAll("\r\n", " ").replaceAll("\n", " ");
-
-    return authClient
+    return restClient
         .post()
         .uri("/meetup-proxy/gql")
-        .body(new GraphQLQuery(query))
+        .body(new GraphQLQuery(singleLine(query)))
         .retrieve()
         .body(String.class);
   }
 
   @Override
   public String queryNew(String query) {
-    String token = getAccessToken();
-    RestClient authClient = this.restClient.mutate()
-        .defaultHeader("Authorization", "Bearer " + token)
-        .build();
-    query = query.replaceAll("\r\n", " ").replaceAll("\n", " ");
-
-    return authClient
+    return restClient
         .post()
         .uri("/meetup-proxy/gql-ext")
-        .body(new GraphQLQuery(query))
+        .body(new GraphQLQuery(singleLine(query)))
         .retrieve()
         .body(String.class);
   }
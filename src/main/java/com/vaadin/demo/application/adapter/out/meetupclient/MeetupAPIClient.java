@@ -1,16 +1,42 @@
 package com.vaadin.demo.application.adapter.out.meetupclient;
 
 import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
 public interface MeetupAPIClient {
 
+    /**
+     * Number of RSVPs requested per page of the GraphQL connection
+     */
+    int RSVP_PAGE_SIZE = 100;
+
     Optional<MeetupEvent> getEvent(String meetupEventId);
 
     Optional<MeetupEventWithRSVPs> getEventWithRSVPs(String meetupEventId);
 
+    /**
+     * Fetch several events with all their RSVPs, keyed by the requested event ID.
+     * Events that do not exist are missing from the result. Implementations should batch the requests.
+     */
+    default Map<String, MeetupEventWithRSVPs> getEventsWithRSVPs(Collection<String> meetupEventIds) {
+        Map<String, MeetupEventWithRSVPs> events = new LinkedHashMap<>();
+        for (String meetupEventId : meetupEventIds) {
+            getEventWithRSVPs(meetupEventId).ifPresent(event -> events.put(meetupEventId, event));
+        }
+        return events;
+    }
+
+    /**
+     * Fetch one page of RSVPs of an event, following the GraphQL connection cursor.
+     * Pass null as cursor for the first page. Empty if the event does not exist.
+     */
+    Optional<RsvpPage> getEventRsvpPage(String meetupEventId, String afterCursor, int pageSize);
+
     record MeetupEvent(String id,
                        String token,
                        String title,
@@ -23,12 +49,21 @@ public interface MeetupAPIClient {
 
     record MemberPhoto(String id, String baseUrl, String highResUrl, String standardUrl, String thumbUrl) {}
 
-    record RSVP(String id, String email, String gender, String memberUrl, String name, String state, String status, String username, MemberPhoto memberPhoto) { }
+    record RSVP(String id, String email, String gender, String memberUrl, String name, String state, String status, String username, MemberPhoto memberPhoto, boolean isFirstEvent) { }
 
-    record MeetupEventWithRSVPs(String id, String token, String title, OffsetDateTime dateTime, String description, List<RSVP> rsvps) { }
+    record MeetupEventWithRSVPs(String id, String token, String title, OffsetDateTime dateTime, String description, String eventUrl, List<RSVP> rsvps) { }
+
+    record RsvpPage(List<RSVP> rsvps, String endCursor, boolean hasNextPage) { }
 
     Set<MeetupEvent> getEvents();
 
+    /**
+     * Fetch the events bypassing any cache in front of the client
+     */
+    default Set<MeetupEvent> refreshEvents() {
+        return getEvents();
+    }
+
     record MeResponse(MeData data) {
     }
 
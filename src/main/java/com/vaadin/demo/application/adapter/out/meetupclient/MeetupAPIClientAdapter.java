@@ -2,18 +2,48 @@ package com.vaadin.demo.application.adapter.out.meetupclient;
 
 import com.vaadin.demo.application.adapter.Mapper;
 import com.vaadin.demo.application.adapter.out.meetupclient.MeetupAPIClient.MeetupEventWithRSVPs;
+import com.vaadin.demo.application.adapter.out.meetupclient.MeetupAPIClient.RsvpPage;
 import com.vaadin.demo.application.domain.model.EventRecord;
 import com.vaadin.demo.application.domain.model.EventRecordWithRSVPs;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutor;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 
 @Service
-public class MeetupAPIClientAdapter {
+public class MeetupAPIClientAdapter implements DisposableBean {
 
   private final MeetupAPIClient client;
+  private final ExecutorService prefetchExecutor;
 
-  public MeetupAPIClientAdapter(MeetupAPIClient client) {
+  /**
+   * @param prefetchThreads Maximum number of pages fetched ahead at the same time. Every running sync
+   *                        prefetches at most one page, so this matches the number of concurrent syncs.
+   */
+  public MeetupAPIClientAdapter(MeetupAPIClient client,
+                                @Value("${app.sync.pool-size:2}") int prefetchThreads) {
     this.client = client;
+
+    CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("meetup-rsvp-prefetch-");
+    threadFactory.setDaemon(true);
+    // No queue: if all prefetch threads are busy, the caller fetches the next page itself
+    this.prefetchExecutor = new ThreadPoolExecutor(0, prefetchThreads, 60, TimeUnit.SECONDS,
+        new SynchronousQueue<>(), threadFactory, new ThreadPoolExecutor.CallerRunsPolicy());
   }
 
 
@@ -24,4 +54,68 @@ public class MeetupAPIClientAdapter {
   public Optional<EventRecordWithRSVPs> getEventWithRSVPs(String meetupId) {
     return client.getEventWithRSVPs(meetupId).map(v -> Mapper.toEventRecordWithRSVPs(v));
   }
+
+  /**
+   * Fetch several events with their RSVPs in batched requests, keyed by Meetup event ID
+   */
+  public Map<String, EventRecordWithRSVPs> getEventsWithRSVPs(Collection<String> meetupIds) {
+    Map<String, EventRecordWithRSVPs> events = new LinkedHashMap<>();
+    client.getEventsWithRSVPs(meetupIds).forEach((meetupId, event) -> events.put(meetupId, Mapper.toEventRecordWithRSVPs(event)));
+    return events;
+  }
+
+  /**
+   * Fetch the RSVPs of an event page by page (following endCursor / hasNextPage) and hand every page
+   * to the consumer as soon as it arrives. The next page is already requested while the consumer
+   * works on the current one, so only two pages are held in memory at a time. If the consumer fails,
+   * the prefetch is cancelled and the exception is rethrown.
+   *
+   * @throws IllegalArgumentException if the event is not found
+   */
+  public void streamEventRSVPs(String meetupId, Consumer<List<EventRecordWithRSVPs.RSVPMember>> pageConsumer) {
+    // The prefetch runs on another thread, but needs the caller's security context for the access token
+    Executor prefetch = new DelegatingSecurityContextExecutor(prefetchExecutor, SecurityContextHolder.getContext());
+
+    RsvpPage page = client.getEventRsvpPage(meetupId, null, MeetupAPIClient.RSVP_PAGE_SIZE)
+        .orElseThrow(() -> new IllegalArgumentException("Meetup event not found in API: " + meetupId));
+
+    while (true) {
+      String cursor = page.endCursor();
+      CompletableFuture<Optional<RsvpPage>> nextPage = page.hasNextPage()
+          ? CompletableFuture.supplyAsync(() -> client.getEventRsvpPage(meetupId, cursor, MeetupAPIClient.RSVP_PAGE_SIZE), prefetch)
+          : null;
+
+      try {
+        pageConsumer.accept(page.rsvps().stream().map(Mapper::toRSVPMember).toList());
+      } catch (RuntimeException e) {
+        // The stream stops here, the prefetch would only hold a thread and make a wasted request
+        if (nextPage != null) {
+          nextPage.cancel(true);
+        }
+        throw e;
+      }
+
+      if (nextPage == null) {
+        return;
+      }
+      page = join(nextPage)
+          .orElseThrow(() -> new IllegalStateException("Could not load RSVPs after " + cursor + " for event " + meetupId));
+    }
+  }
+
+  private static <T> T join(CompletableFuture<T> future) {
+    try {
+      return future.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw e;
+    }
+  }
+
+  @Override
+  public void destroy() {
+    prefetchExecutor.shutdownNow();
+  }
 }
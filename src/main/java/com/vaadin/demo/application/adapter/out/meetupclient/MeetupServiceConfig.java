@@ -1,10 +1,24 @@
 package com.vaadin.demo.application.adapter.out.meetupclient;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import java.time.Duration;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.security.oauth2.client.OAuth2AuthorizedClientService;
+import org.springframework.web.client.RestClient;
 
 @Configuration
 public class MeetupServiceConfig {
@@ -14,10 +28,59 @@ public class MeetupServiceConfig {
     public MeetupAPIClient keycloakMeetupService(
             @Value("${keycloak.server-url}") String keycloakServerUrl,
             @Value("${keycloak.realm}") String keycloakRealm,
+            @Value("${app.meetup.events-cache.ttl:2m}") Duration eventsCacheTtl,
+            @Value("${app.meetup.events-cache.stale-while-revalidate:30m}") Duration eventsStaleWhileRevalidate,
+            @Value("${app.import.batch-size:20}") int eventBatchSize,
+            RestClient.Builder restClientBuilder,
+            CloseableHttpClient meetupHttpClient,
             OAuth2AuthorizedClientService authorizedClientService
 
     ) {
-        return new KeycloakMeetupAPIClientImpl(keycloakServerUrl, keycloakRealm, authorizedClientService);
+        // The auto-configured builder already carries the observation registry (http.client.requests latency)
+        restClientBuilder.requestFactory(new HttpComponentsClientHttpRequestFactory(meetupHttpClient));
+        return new CachingMeetupAPIClient(
+                new KeycloakMeetupAPIClientImpl(keycloakServerUrl, keycloakRealm, restClientBuilder, authorizedClientService,
+                        eventBatchSize),
+                eventsCacheTtl, eventsStaleWhileRevalidate);
+    }
+
+    /**
+     * Pooled HTTP transport for the Keycloak meetup proxy. Connections are kept alive and reused
+     * across requests and users, the pool gauges are registered as httpcomponents.httpclient.pool.*
+     */
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = "app.security.enabled", havingValue = "true", matchIfMissing = true)
+    public CloseableHttpClient meetupHttpClient(
+            @Value("${app.meetup.http.max-connections:20}") int maxConnections,
+            @Value("${app.meetup.http.connect-timeout:5s}") Duration connectTimeout,
+            @Value("${app.meetup.http.response-timeout:30s}") Duration responseTimeout,
+            @Value("${app.meetup.http.keep-alive:60s}") Duration keepAlive,
+            @Value("${app.meetup.http.connection-time-to-live:10m}") Duration connectionTimeToLive,
+            ObjectProvider<MeterRegistry> meterRegistry
+    ) {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                // all requests go to the same host, so one route may use the whole pool
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnections)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.of(connectTimeout))
+                        .setSocketTimeout(Timeout.of(responseTimeout))
+                        .setTimeToLive(TimeValue.of(connectionTimeToLive))
+                        .build())
+                .build();
+
+        meterRegistry.ifAvailable(registry ->
+                new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, "meetup-proxy").bindTo(registry));
+
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                // used when the server does not send a Keep-Alive header
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionKeepAlive(TimeValue.of(keepAlive))
+                        .build())
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.of(keepAlive))
+                .build();
     }
 
     @Bean
@@ -25,4 +88,4 @@ public class MeetupServiceConfig {
     public MeetupAPIClient devMeetupService() {
         return new DevMeetupAPIClientImpl();
     }
-}
\ No newline at end of file
+}
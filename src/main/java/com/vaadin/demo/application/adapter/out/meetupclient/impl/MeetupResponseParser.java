@@ -0,0 +1,312 @@
+package com.vaadin.demo.application.adapter.out.meetupclient.impl;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.vaadin.demo.application.adapter.out.meetupclient.MeetupAPIClient.MeetupEvent;
+import com.vaadin.demo.application.adapter.out.meetupclient.MeetupAPIClient.MeetupEventWithRSVPs;
+import com.vaadin.demo.application.adapter.out.meetupclient.MeetupAPIClient.MemberPhoto;
+import com.vaadin.demo.application.adapter.out.meetupclient.MeetupAPIClient.RSVP;
+import com.vaadin.demo.application.adapter.out.meetupclient.MeetupAPIClient.RsvpPage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Streaming parser for the GraphQL responses of the Meetup proxy.
+ * The body is read token by token straight into the client records, no wrapper objects
+ * or JSON trees are built. All parsers share one preconfigured mapper and cached readers.
+ */
+public final class MeetupResponseParser {
+
+  private static final ObjectMapper MAPPER = JsonMapper.builder()
+      .addModule(new JavaTimeModule())
+      .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+      .build();
+  private static final ObjectReader DATE_TIME_READER = MAPPER.readerFor(OffsetDateTime.class);
+  private static final ObjectReader MEMBER_PHOTO_READER = MAPPER.readerFor(MemberPhoto.class);
+
+  private static final RsvpPage EMPTY_PAGE = new RsvpPage(List.of(), null, false);
+
+  /** An event with the first page of its RSVPs */
+  public record EventWithRsvpPage(MeetupEventWithRSVPs event, RsvpPage rsvpPage) { }
+
+  private MeetupResponseParser() {
+  }
+
+  /** The shared mapper, configured like the parsers */
+  public static ObjectMapper mapper() {
+    return MAPPER;
+  }
+
+  /** Parse an event query, empty if the response contains no event object */
+  public static Optional<MeetupEvent> parseEvent(InputStream body) throws IOException {
+    return readEvent(body).map(EventFields::toEvent);
+  }
+
+  /** Parse an event query including the rsvps connection, empty if the response contains no event object */
+  public static Optional<EventWithRsvpPage> parseEventWithRsvpPage(InputStream body) throws IOException {
+    return readEvent(body).map(event -> new EventWithRsvpPage(event.toEventWithRSVPs(), event.rsvps));
+  }
+
+  /**
+   * Parse a query with several aliased events (e0: event(...) e1: event(...)), keyed by alias.
+   * Events that were not found (null) are left out.
+   */
+  public static Map<String, EventWithRsvpPage> parseAliasedEventsWithRsvpPage(InputStream body) throws IOException {
+    Map<String, EventWithRsvpPage> events = new LinkedHashMap<>();
+    try (JsonParser parser = MAPPER.createParser(body)) {
+      if (!enterPath(parser, "data")) {
+        return events;
+      }
+      readObject(parser, (alias, p) -> {
+        EventFields event = new EventFields();
+        if (readObject(p, event::read)) {
+          events.put(alias, new EventWithRsvpPage(event.toEventWithRSVPs(), event.rsvps));
+        }
+      });
+    }
+    return events;
+  }
+
+  /** Parse a query that only selects the rsvps connection of an event (one page), empty if there is no event */
+  public static Optional<RsvpPage> parseRsvpPage(InputStream body) throws IOException {
+    return readEvent(body).map(event -> event.rsvps);
+  }
+
+  /** Parse the events of a groupByUrlname query */
+  public static Set<MeetupEvent> parseEvents(InputStream body) throws IOException {
+    Set<MeetupEvent> events = new LinkedHashSet<>();
+    try (JsonParser parser = MAPPER.createParser(body)) {
+      if (!enterPath(parser, "data", "groupByUrlname", "events", "edges")) {
+        return events;
+      }
+      readArray(parser, edge -> readObject(edge, (field, p) -> {
+        if (field.equals("node")) {
+          EventFields event = new EventFields();
+          if (readObject(p, event::read)) {
+            events.add(event.toEvent());
+          }
+        } else {
+          p.skipChildren();
+        }
+      }));
+    }
+    return events;
+  }
+
+  /** Read the fields of data.event, empty if it is missing, null or not an object */
+  private static Optional<EventFields> readEvent(InputStream body) throws IOException {
+    try (JsonParser parser = MAPPER.createParser(body)) {
+      if (!enterPath(parser, "data", "event")) {
+        return Optional.empty();
+      }
+      EventFields event = new EventFields();
+      return readObject(parser, event::read) ? Optional.of(event) : Optional.empty();
+    }
+  }
+
+  @FunctionalInterface
+  private interface FieldReader {
+    void read(String field, JsonParser parser) throws IOException;
+  }
+
+  @FunctionalInterface
+  private interface ElementReader {
+    void read(JsonParser parser) throws IOException;
+  }
+
+  /**
+   * Move the parser from the start of the document to the value of the given field path.
+   * False if a field is missing or null (e.g. "data": null on GraphQL errors).
+   */
+  private static boolean enterPath(JsonParser parser, String... path) throws IOException {
+    parser.nextToken();
+    for (String name : path) {
+      if (!enterField(parser, name)) {
+        return false;
+      }
+    }
+    return parser.currentToken() != JsonToken.VALUE_NULL;
+  }
+
+  private static boolean enterField(JsonParser parser, String name) throws IOException {
+    if (parser.currentToken() != JsonToken.START_OBJECT) {
+      return false;
+    }
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String field = parser.currentName();
+      parser.nextToken();
+      if (field.equals(name)) {
+        return true;
+      }
+      parser.skipChildren();
+    }
+    return false;
+  }
+
+  /** Hand every field of the current object to the reader, which must consume the value. False if not an object */
+  private static boolean readObject(JsonParser parser, FieldReader reader) throws IOException {
+    if (parser.currentToken() != JsonToken.START_OBJECT) {
+      parser.skipChildren();
+      return false;
+    }
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String field = parser.currentName();
+      parser.nextToken();
+      reader.read(field, parser);
+    }
+    return true;
+  }
+
+  private static void readArray(JsonParser parser, ElementReader reader) throws IOException {
+    if (parser.currentToken() != JsonToken.START_ARRAY) {
+      parser.skipChildren();
+      return;
+    }
+    while (parser.nextToken() != JsonToken.END_ARRAY) {
+      reader.read(parser);
+    }
+  }
+
+  private static OffsetDateTime readDateTime(JsonParser parser) throws IOException {
+    return parser.currentToken() == JsonToken.VALUE_NULL ? null : DATE_TIME_READER.readValue(parser);
+  }
+
+  private static RsvpPage readRsvpConnection(JsonParser parser) throws IOException {
+    PageFields page = new PageFields();
+    return readObject(parser, page::read) ? page.toPage() : EMPTY_PAGE;
+  }
+
+  private static final class EventFields {
+    private String id;
+    private String token;
+    private String title;
+    private OffsetDateTime dateTime;
+    private String description;
+    private String eventUrl;
+    private String status;
+    private RsvpPage rsvps = EMPTY_PAGE;
+
+    private void read(String field, JsonParser parser) throws IOException {
+      switch (field) {
+        case "id" -> id = parser.getValueAsString();
+        case "token" -> token = parser.getValueAsString();
+        case "title" -> title = parser.getValueAsString();
+        case "dateTime" -> dateTime = readDateTime(parser);
+        case "description" -> description = parser.getValueAsString();
+        case "eventUrl" -> eventUrl = parser.getValueAsString();
+        case "status" -> status = parser.getValueAsString();
+        case "rsvps" -> rsvps = readRsvpConnection(parser);
+        default -> parser.skipChildren();
+      }
+    }
+
+    private MeetupEvent toEvent() {
+      return new MeetupEvent(id, token, title, dateTime, description, eventUrl, status, Set.of());
+    }
+
+    private MeetupEventWithRSVPs toEventWithRSVPs() {
+      return new MeetupEventWithRSVPs(id, token, title, dateTime, description, eventUrl, rsvps.rsvps());
+    }
+  }
+
+  private static final class PageFields {
+    private final List<RSVP> rsvps = new ArrayList<>();
+    private String endCursor;
+    private boolean hasNextPage;
+
+    private void read(String field, JsonParser parser) throws IOException {
+      switch (field) {
+        case "pageInfo" -> readObject(parser, (name, p) -> {
+          switch (name) {
+            case "endCursor" -> endCursor = p.getValueAsString();
+            case "hasNextPage" -> hasNextPage = p.getValueAsBoolean();
+            default -> p.skipChildren();
+          }
+        });
+        case "edges" -> readArray(parser, edge -> readObject(edge, (name, p) -> {
+          if (name.equals("node")) {
+            readNode(p);
+          } else {
+            p.skipChildren();
+          }
+        }));
+        default -> parser.skipChildren();
+      }
+    }
+
+    private void readNode(JsonParser parser) throws IOException {
+      NodeFields node = new NodeFields();
+      if (readObject(parser, node::read) && node.member != null) {
+        rsvps.add(node.member.toRsvp(node.isFirstEvent));
+      }
+    }
+
+    private RsvpPage toPage() {
+      return new RsvpPage(rsvps, endCursor, hasNextPage && endCursor != null);
+    }
+  }
+
+  /** The RSVP node, isFirstEvent may come before or after the member */
+  private static final class NodeFields {
+    private boolean isFirstEvent;
+    private MemberFields member;
+
+    private void read(String field, JsonParser parser) throws IOException {
+      switch (field) {
+        case "isFirstEvent" -> isFirstEvent = parser.getValueAsBoolean();
+        case "member" -> {
+          MemberFields fields = new MemberFields();
+          if (readObject(parser, fields::read)) {
+            member = fields;
+          }
+        }
+        default -> parser.skipChildren();
+      }
+    }
+  }
+
+  private static final class MemberFields {
+    private String id;
+    private String email;
+    private String gender;
+    private String memberUrl;
+    private String name;
+    private String state;
+    private String status;
+    private String username;
+    private MemberPhoto memberPhoto;
+
+    private void read(String field, JsonParser parser) throws IOException {
+      switch (field) {
+        case "id" -> id = parser.getValueAsString();
+        case "email" -> email = parser.getValueAsString();
+        case "gender" -> gender = parser.getValueAsString();
+        case "memberUrl" -> memberUrl = parser.getValueAsString();
+        case "name" -> name = parser.getValueAsString();
+        case "state" -> state = parser.getValueAsString();
+        case "status" -> status = parser.getValueAsString();
+        case "username" -> username = parser.getValueAsString();
+        case "memberPhoto" -> memberPhoto = parser.currentToken() == JsonToken.VALUE_NULL
+            ? null : MEMBER_PHOTO_READER.readValue(parser);
+        default -> parser.skipChildren();
+      }
+    }
+
+    private RSVP toRsvp(boolean isFirstEvent) {
+      return new RSVP(id, email, gender, memberUrl, name, state, status, username, memberPhoto, isFirstEvent);
+    }
+  }
+}
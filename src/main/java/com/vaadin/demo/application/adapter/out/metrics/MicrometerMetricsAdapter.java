@@ -0,0 +1,48 @@
+package com.vaadin.demo.application.adapter.out.metrics;
+
+import com.vaadin.demo.application.application.port.out.MetricsPort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * MetricsPort backed by the Micrometer registry of the actuator, published under /actuator/metrics.
+ * Without a registry (e.g. in slice tests) the metrics are dropped.
+ */
+@Component
+@RequiredArgsConstructor
+public class MicrometerMetricsAdapter implements MetricsPort {
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    @Override
+    public void registerGauge(String name, String description, Supplier<Number> value) {
+        // the supplier is held strongly, the gauge lives as long as the registry
+        meterRegistry.ifAvailable(registry -> Gauge.builder(name, value)
+                .description(description)
+                .register(registry));
+    }
+
+    @Override
+    public void recordDuration(String name, Duration duration, String... tags) {
+        meterRegistry.ifAvailable(registry -> Timer.builder(name)
+                .tags(tags)
+                .register(registry)
+                .record(duration));
+    }
+
+    @Override
+    public void increment(String name, double amount, String... tags) {
+        meterRegistry.ifAvailable(registry -> Counter.builder(name)
+                .tags(tags)
+                .register(registry)
+                .increment(amount));
+    }
+}
@@ -0,0 +1,76 @@
+package com.vaadin.demo.application.adapter.out.notification;
+
+import com.vaadin.demo.application.application.port.out.NotificationSenderPort;
+import com.vaadin.demo.application.domain.model.WinnerNotificationRecord;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Local stand-in for the SMTP sender (app.notification.sender=outbox): every notification is written
+ * as prize-&lt;id&gt;.eml to app.notification.outbox-dir, a notification sent again replaces its file.
+ */
+@Component
+@ConditionalOnProperty(name = "app.notification.sender", havingValue = "outbox")
+@Slf4j
+public class OutboxNotificationSender implements NotificationSenderPort {
+
+    private final Path outboxDir;
+
+    public OutboxNotificationSender(@Value("${app.notification.outbox-dir:${java.io.tmpdir}/raffle-outbox}") Path outboxDir) {
+        this.outboxDir = outboxDir;
+    }
+
+    @Override
+    public Map<Long, String> send(List<WinnerNotificationRecord> notifications) {
+        try {
+            Files.createDirectories(outboxDir);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot create the outbox " + outboxDir, e);
+        }
+
+        Map<Long, String> failures = new HashMap<>();
+        for (WinnerNotificationRecord notification : notifications) {
+            try {
+                write(notification);
+            } catch (IOException e) {
+                log.warn("Writing the notification of prize {} to the outbox failed", notification.prizeId(), e);
+                failures.put(notification.prizeId(), e.getMessage());
+            }
+        }
+        return failures;
+    }
+
+    /**
+     * Write to a temporary file first, readers of the outbox never see a partial mail
+     */
+    private void write(WinnerNotificationRecord notification) throws IOException {
+        String mail = "To: " + (notification.recipientName() != null
+                ? notification.recipientName() + " <" + notification.recipientEmail() + ">"
+                : notification.recipientEmail()) + "\r\n"
+            + "Subject: " + notification.subject() + "\r\n"
+            + "Content-Type: text/plain; charset=UTF-8\r\n"
+            + "\r\n"
+            + notification.body() + "\r\n";
+
+        Path temporary = Files.createTempFile(outboxDir, "prize-" + notification.prizeId() + "-", ".tmp");
+        try {
+            Files.writeString(temporary, mail, StandardCharsets.UTF_8);
+            Files.move(temporary, outboxDir.resolve("prize-" + notification.prizeId() + ".eml"),
+                StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+}
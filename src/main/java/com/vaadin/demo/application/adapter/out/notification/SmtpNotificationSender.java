@@ -0,0 +1,82 @@
+package com.vaadin.demo.application.adapter.out.notification;
+
+import com.vaadin.demo.application.application.port.out.NotificationSenderPort;
+import com.vaadin.demo.application.domain.model.WinnerNotificationRecord;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Default NotificationSenderPort: plain text mails through the auto-configured JavaMailSender (spring.mail.*).
+ * A batch is sent over one SMTP connection. Without spring.mail.host every batch fails,
+ * set app.notification.sender=outbox to write the mails to files instead.
+ */
+@Component
+@ConditionalOnProperty(name = "app.notification.sender", havingValue = "smtp", matchIfMissing = true)
+@Slf4j
+public class SmtpNotificationSender implements NotificationSenderPort {
+
+    private final ObjectProvider<JavaMailSender> mailSender;
+    private final String from;
+
+    public SmtpNotificationSender(ObjectProvider<JavaMailSender> mailSender,
+                                  @Value("${app.notification.from:}") String from) {
+        this.mailSender = mailSender;
+        this.from = from;
+    }
+
+    @Override
+    public Map<Long, String> send(List<WinnerNotificationRecord> notifications) {
+        JavaMailSender sender = mailSender.getIfAvailable();
+        if (sender == null) {
+            throw new IllegalStateException("No mail server configured, set spring.mail.host or app.notification.sender=outbox");
+        }
+
+        // SimpleMailMessage compares by content, the failed messages are matched by identity
+        Map<Object, Long> prizeIds = new IdentityHashMap<>();
+        SimpleMailMessage[] messages = notifications.stream().map(notification -> {
+            SimpleMailMessage message = toMessage(notification);
+            prizeIds.put(message, notification.prizeId());
+            return message;
+        }).toArray(SimpleMailMessage[]::new);
+
+        try {
+            sender.send(messages);
+            return Map.of();
+        } catch (MailSendException e) {
+            if (e.getFailedMessages().isEmpty()) {
+                throw e;
+            }
+            Map<Long, String> failures = new HashMap<>();
+            e.getFailedMessages().forEach((message, error) -> {
+                Long prizeId = prizeIds.get(message);
+                if (prizeId != null) {
+                    failures.put(prizeId, error.getMessage());
+                }
+            });
+            log.debug("{} of {} winner notifications were rejected", failures.size(), messages.length);
+            return failures;
+        }
+    }
+
+    private SimpleMailMessage toMessage(WinnerNotificationRecord notification) {
+        SimpleMailMessage message = new SimpleMailMessage();
+        if (!from.isBlank()) {
+            message.setFrom(from);
+        }
+        message.setTo(notification.recipientEmail());
+        message.setSubject(notification.subject());
+        message.setText(notification.body());
+        return message;
+    }
+}
@@ -33,7 +33,7 @@ public class MeetupEvent extends AbstractEntity {
     @Column(name = "last_updated")
     private OffsetDateTime lastUpdated = OffsetDateTime.now();
 
-    @OneToMany(mappedBy = "meetupEvent", cascade = CascadeType.ALL, fetch = FetchType.EAGER)
+    @OneToMany(mappedBy = "meetupEvent", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     @ToString.Exclude
     @EqualsAndHashCode.Exclude
     private Set<Participant> participants = new HashSet<>();
@@ -27,7 +27,7 @@ public class Member extends AbstractEntity {
     @Column(name = "last_updated")
     private OffsetDateTime lastUpdated = OffsetDateTime.now();
 
-    @OneToMany(mappedBy = "member", cascade = CascadeType.ALL, fetch = FetchType.EAGER)
+    @OneToMany(mappedBy = "member", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     @ToString.Exclude
     @EqualsAndHashCode.Exclude
     private Set<Participant> participations = new HashSet<>();
@@ -16,15 +16,27 @@ import java.time.OffsetDateTime;
 @ToString(onlyExplicitlyIncluded = true)
 @Entity
 @Table(uniqueConstraints = @UniqueConstraint(columnNames = {"meetup_event_id", "member_id"}))
+@NamedEntityGraph(name = Participant.DETAILS_GRAPH, attributeNodes = {
+        @NamedAttributeNode("member"),
+        @NamedAttributeNode("meetupEvent"),
+        @NamedAttributeNode("wonPrize")
+})
 public class Participant extends AbstractEntity {
 
-    @ManyToOne(fetch = FetchType.EAGER)
+    /**
+     * Participants with member, event and won prize, for the spin wheel and the participants grid.
+     * wonPrize is the inverse side of a one-to-one, Hibernate cannot load it lazily,
+     * so every graph over many participants joins it instead of selecting it per row.
+     */
+    public static final String DETAILS_GRAPH = "Participant.details";
+
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "meetup_event_id")
     @ToString.Exclude
     @EqualsAndHashCode.Exclude
     private MeetupEvent meetupEvent;
 
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "member_id")
     @ToString.Exclude
     @EqualsAndHashCode.Exclude
@@ -39,6 +51,12 @@ public class Participant extends AbstractEntity {
     @ToString.Include
     private Boolean hasEnteredRaffle = false;
 
+    /**
+     * Meetup reports this RSVP as the member's first event of the group
+     */
+    @ToString.Include
+    private Boolean isFirstEvent = false;
+
     /**
      * RSVP status for this event (YES or NO)
      */
@@ -59,8 +77,9 @@ public class Participant extends AbstractEntity {
     @ToString.Exclude
     private OffsetDateTime lastUpdated = OffsetDateTime.now();
 
-    @OneToOne(mappedBy = "winner", fetch = FetchType.EAGER)
+    @OneToOne(mappedBy = "winner", fetch = FetchType.LAZY)
     @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private Prize wonPrize;
 
     /**
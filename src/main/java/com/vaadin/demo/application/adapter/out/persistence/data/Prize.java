@@ -11,8 +11,26 @@ import java.time.LocalDate;
 @Data
 @ToString(onlyExplicitlyIncluded = true)
 @Entity
+@NamedEntityGraph(name = Prize.PRIZE_LIST_GRAPH,
+        attributeNodes = {
+                @NamedAttributeNode(value = "winner", subgraph = "winner"),
+                @NamedAttributeNode(value = "raffle", subgraph = "raffle")
+        },
+        subgraphs = {
+                @NamedSubgraph(name = "winner", attributeNodes = {
+                        @NamedAttributeNode("member"),
+                        @NamedAttributeNode("meetupEvent"),
+                        @NamedAttributeNode("wonPrize")
+                }),
+                @NamedSubgraph(name = "raffle", attributeNodes = @NamedAttributeNode("event"))
+        })
 public class Prize extends AbstractEntity {
 
+    /**
+     * Prize list: the prizes of a raffle with their winners and the raffle event
+     */
+    public static final String PRIZE_LIST_GRAPH = "Prize.prizeList";
+
     @ToString.Include
     private String name;
 
@@ -38,12 +56,12 @@ public class Prize extends AbstractEntity {
     @Column(name = "template_text", length = 4000)
     private String templateText;
 
-    @OneToOne
+    @OneToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "winner_id")
     @ToString.Exclude
     private Participant winner;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "raffle_id")
     @ToString.Exclude
     private Raffle raffle;
@@ -74,27 +92,4 @@ public class Prize extends AbstractEntity {
 
         return prize;
     }
-
-    /**
-     * Process template text by replacing placeholders with actual values
-     */
-    public String processTemplateText(String raffleDate, String winnerName, String voucherCode) {
-        if (templateText == null) {
-            return null;
-        }
-
-        String processed = templateText;
-        processed = processed.replace("{{PRIZE_NAME}}", name != null ? name : "");
-        processed = processed.replace("{{WINNER_NAME}}", winnerName != null ? winnerName : "");
-        processed = processed.replace("{{RAFFLE_DATE}}", raffleDate != null ? raffleDate : "");
-        processed = processed.replace("{{VOUCHER_CODE}}", voucherCode != null ? voucherCode : "");
-
-        if (validUntil != null) {
-            processed = processed.replace("{{VALID_UNTIL}}", validUntil.toString());
-        } else {
-            processed = processed.replace("{{VALID_UNTIL}}", "");
-        }
-
-        return processed;
-    }
-}
\ No newline at end of file
+}
@@ -0,0 +1,51 @@
+package com.vaadin.demo.application.adapter.out.persistence.data;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Delivery status of the winner notification of a prize
+ */
+@EqualsAndHashCode(callSuper = true, onlyExplicitlyIncluded = true)
+@Data
+@Entity
+@Table(name = "prize_notification")
+public class PrizeNotification extends AbstractEntity {
+
+    public static final int MAX_ERROR_LENGTH = 1000;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "prize_id", unique = true)
+    @ToString.Exclude
+    private Prize prize;
+
+    @Column(name = "recipient_email")
+    private String recipientEmail;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private DeliveryStatus status;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "last_error", length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    @Column(name = "updated_at", nullable = false)
+    private OffsetDateTime updatedAt;
+
+    /**
+     * Enum representing the delivery status
+     */
+    public enum DeliveryStatus {
+        PENDING,
+        SENT,
+        FAILED,
+        SKIPPED
+    }
+}
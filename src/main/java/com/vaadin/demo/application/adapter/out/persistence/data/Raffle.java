@@ -11,19 +11,50 @@ import java.util.Set;
 @EqualsAndHashCode(callSuper = true, onlyExplicitlyIncluded = true)
 @Data
 @Entity
+@NamedEntityGraph(name = Raffle.DETAILS_GRAPH,
+        attributeNodes = {
+                @NamedAttributeNode("event"),
+                @NamedAttributeNode(value = "prizes", subgraph = "prizes")
+        },
+        subgraphs = {
+                @NamedSubgraph(name = "prizes", attributeNodes = @NamedAttributeNode(value = "winner", subgraph = "winner")),
+                @NamedSubgraph(name = "winner", attributeNodes = {
+                        @NamedAttributeNode("member"),
+                        @NamedAttributeNode("meetupEvent"),
+                        @NamedAttributeNode("wonPrize")
+                })
+        })
 public class Raffle extends AbstractEntity {
 
+    /**
+     * Raffle details and spin wheel: one raffle with its event, prizes and winners
+     */
+    public static final String DETAILS_GRAPH = "Raffle.details";
+
     // Keep for backward compatibility
     private String meetup_event_id;
 
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "event_id")
+    @ToString.Exclude
     private MeetupEvent event;
 
-    @OneToMany(mappedBy = "raffle", fetch = FetchType.EAGER)
+    @OneToMany(mappedBy = "raffle", fetch = FetchType.LAZY)
     @ToString.Exclude
     private Set<Prize> prizes = new HashSet<>();
 
+    /**
+     * Weight rules of the draw, the defaults give a uniform draw
+     */
+    @Column(name = "first_event_weight", nullable = false)
+    private double firstEventWeight = 1.0;
+
+    @Column(name = "weight_per_attended_event", nullable = false)
+    private double weightPerAttendedEvent = 0.0;
+
+    @Column(name = "max_weight", nullable = false)
+    private double maxWeight = 10.0;
+
     /**
      * Set the event - updates both entity and ID string for compatibility
      */
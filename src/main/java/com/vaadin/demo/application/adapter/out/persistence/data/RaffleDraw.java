@@ -0,0 +1,43 @@
+package com.vaadin.demo.application.adapter.out.persistence.data;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Audit record of a server-side draw: the seed and the hash of the candidate list reproduce the winner
+ */
+@EqualsAndHashCode(callSuper = true, onlyExplicitlyIncluded = true)
+@Data
+@Entity
+@Table(name = "raffle_draw")
+public class RaffleDraw extends AbstractEntity {
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "prize_id")
+    @ToString.Exclude
+    private Prize prize;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "winner_id")
+    @ToString.Exclude
+    private Participant winner;
+
+    @Column(nullable = false, length = 64)
+    private String seed;
+
+    @Column(name = "candidates_hash", nullable = false, length = 64)
+    private String candidatesHash;
+
+    @Column(name = "candidate_count", nullable = false)
+    private int candidateCount;
+
+    @Column(name = "winner_index", nullable = false)
+    private int winnerIndex;
+
+    @Column(name = "drawn_at", nullable = false)
+    private OffsetDateTime drawnAt;
+}
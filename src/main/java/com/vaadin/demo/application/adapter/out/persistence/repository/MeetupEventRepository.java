@@ -1,8 +1,11 @@
 package com.vaadin.demo.application.adapter.out.persistence.repository;
 
 import com.vaadin.demo.application.adapter.out.persistence.data.MeetupEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -21,6 +24,16 @@ public interface MeetupEventRepository extends JpaRepository<MeetupEvent, Long>
      */
     boolean existsByMeetupId(String meetupId);
 
+    /**
+     * Find one page of meetup events whose title or Meetup ID contains the filter (case-insensitive).
+     * An empty filter matches all events. Sorting is taken from the pageable.
+     * A slice needs no count query, it only tells whether there is a next page.
+     */
+    @Query("SELECT e FROM MeetupEvent e WHERE :filter = '' " +
+           "OR LOWER(e.title) LIKE LOWER(CONCAT('%', :filter, '%')) " +
+           "OR LOWER(e.meetupId) LIKE LOWER(CONCAT('%', :filter, '%'))")
+    Slice<MeetupEvent> findByFilter(@Param("filter") String filter, Pageable pageable);
+
     /**
      * Find all meetup events with their participants loaded
      * (to avoid LazyInitializationException)
@@ -3,8 +3,12 @@ package com.vaadin.demo.application.adapter.out.persistence.repository;
 import com.vaadin.demo.application.adapter.out.persistence.data.Member;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -14,4 +18,41 @@ public interface MemberRepository extends JpaRepository<Member, Long>, JpaSpecif
      * Find a member by their Meetup ID
      */
     Optional<Member> findByMeetupId(String meetupId);
+
+    /**
+     * Find all members for a set of Meetup IDs in a single query
+     */
+    List<Member> findByMeetupIdIn(Collection<String> meetupIds);
+
+    /**
+     * Find the members after a key whose name, email or Meetup ID contains the filter (case-insensitive).
+     * Seeks on idx_member_name_keyset instead of counting off the previous pages, the trigram indexes (V7)
+     * serve the filter. An empty filter matches all members. The offset skips rows after the key.
+     */
+    @Query(value = "SELECT m.* FROM member m " +
+                   "WHERE (:filter = '' OR m.name ILIKE :pattern OR m.email ILIKE :pattern OR m.meetup_id ILIKE :pattern) " +
+                   "AND (COALESCE(m.name, ''), m.id) > (:afterName, :afterId) " +
+                   "ORDER BY COALESCE(m.name, ''), m.id " +
+                   "LIMIT :limit OFFSET :offset",
+           nativeQuery = true)
+    List<Member> findPageAfter(@Param("filter") String filter, @Param("pattern") String pattern,
+                               @Param("afterName") String afterName, @Param("afterId") long afterId,
+                               @Param("offset") int offset, @Param("limit") int limit);
+
+    /**
+     * Count the members matching the filter, but stop at the cap
+     */
+    @Query(value = "SELECT COUNT(*) FROM (SELECT 1 FROM member m " +
+                   "WHERE m.name ILIKE :pattern OR m.email ILIKE :pattern OR m.meetup_id ILIKE :pattern " +
+                   "LIMIT :cap) capped",
+           nativeQuery = true)
+    long countMatchingUpTo(@Param("pattern") String pattern, @Param("cap") int cap);
+
+    /**
+     * Row count of the member table as estimated by the planner statistics (ANALYZE/autovacuum).
+     * Negative or zero while the table has not been analyzed yet.
+     */
+    @Query(value = "SELECT CAST(reltuples AS BIGINT) FROM pg_class WHERE oid = to_regclass('member')",
+           nativeQuery = true)
+    long estimateRowCount();
 }
\ No newline at end of file
@@ -5,9 +5,15 @@ import com.vaadin.demo.application.adapter.out.persistence.data.Member;
 import com.vaadin.demo.application.adapter.out.persistence.data.Participant;
 import com.vaadin.demo.application.adapter.out.persistence.data.Participant.AttendanceStatus;
 import com.vaadin.demo.application.adapter.out.persistence.data.Participant.RSVPStatus;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -24,9 +30,133 @@ public interface ParticipantRepository extends JpaRepository<Participant, Long>
      */
     List<Participant> findByMeetupEvent(MeetupEvent meetupEvent);
 
+    /**
+     * Find all participants for a specific meetup event for the participants grid
+     * (member, event and won prize in the same query)
+     */
+    @EntityGraph(Participant.DETAILS_GRAPH)
+    List<Participant> findForParticipantsGridByMeetupEvent(MeetupEvent meetupEvent);
+
+    /**
+     * Read the participants grid rows of an event by its Meetup ID in one statement,
+     * without loading any entities
+     */
+    @Query("SELECT p.id AS id, m.name AS name, m.email AS email, p.isOrganizer AS isOrganizer, " +
+           "p.hasEnteredRaffle AS hasEnteredRaffle, p.rsvpStatus AS rsvpStatus, p.attendanceStatus AS attendanceStatus " +
+           "FROM Participant p JOIN p.meetupEvent e LEFT JOIN p.member m " +
+           "WHERE e.meetupId = :meetupId ORDER BY m.name, p.id")
+    List<ParticipantRow> findRowsByMeetupId(@Param("meetupId") String meetupId);
+
+    /**
+     * Projection of a participant with the member columns shown in the participants grid
+     */
+    interface ParticipantRow {
+        Long getId();
+
+        String getName();
+
+        String getEmail();
+
+        Boolean getIsOrganizer();
+
+        Boolean getHasEnteredRaffle();
+
+        RSVPStatus getRsvpStatus();
+
+        AttendanceStatus getAttendanceStatus();
+    }
+
+    /**
+     * Read the door check-in entries of an event by its Meetup ID in one statement, without loading any entities
+     */
+    @Query("SELECT p.id AS participantId, m.name AS name, m.email AS email, m.meetupId AS memberMeetupId, " +
+           "p.rsvpStatus AS rsvpStatus, p.attendanceStatus AS attendanceStatus " +
+           "FROM Participant p JOIN p.meetupEvent e JOIN p.member m " +
+           "WHERE e.meetupId = :meetupId")
+    List<CheckInRow> findCheckInRowsByMeetupId(@Param("meetupId") String meetupId);
+
+    /**
+     * Projection of a participant with the member columns searched at the door check-in
+     */
+    interface CheckInRow {
+        Long getParticipantId();
+
+        String getName();
+
+        String getEmail();
+
+        String getMemberMeetupId();
+
+        RSVPStatus getRsvpStatus();
+
+        AttendanceStatus getAttendanceStatus();
+    }
+
+    /**
+     * Find all participants for a specific meetup event with their members loaded
+     * in the same query (used by the RSVP sync to avoid one lookup per member)
+     */
+    @Query("SELECT p FROM Participant p JOIN FETCH p.member WHERE p.meetupEvent = :meetupEvent")
+    List<Participant> findByMeetupEventWithMember(@Param("meetupEvent") MeetupEvent meetupEvent);
+
+    /**
+     * Find the participants of an event with the given member Meetup IDs, with their members loaded
+     * in the same query (used by the RSVP sync for one page of RSVPs)
+     */
+    @Query("SELECT p FROM Participant p JOIN FETCH p.member m WHERE p.meetupEvent = :meetupEvent AND m.meetupId IN :memberMeetupIds")
+    List<Participant> findByMeetupEventWithMemberMeetupIdIn(@Param("meetupEvent") MeetupEvent meetupEvent,
+                                                            @Param("memberMeetupIds") Collection<String> memberMeetupIds);
+
+    /**
+     * Find participants by ID with their members loaded in the same query (used by the bulk draw)
+     */
+    @Query("SELECT p FROM Participant p JOIN FETCH p.member WHERE p.id IN :ids")
+    List<Participant> findWithMemberByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Set the attendance status of several participants with one UPDATE statement.
+     * The version is incremented like an entity update, so concurrent editors fail their optimistic lock check.
+     * The persistence context is flushed before and cleared after the statement.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Participant p SET p.attendanceStatus = :status, p.lastUpdated = :now, p.version = p.version + 1 " +
+           "WHERE p.id IN :ids")
+    int updateAttendanceStatus(@Param("ids") Collection<Long> ids, @Param("status") AttendanceStatus status,
+                               @Param("now") OffsetDateTime now);
+
+    /**
+     * Set the raffle entry of several participants with one UPDATE statement, incrementing the version
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Participant p SET p.hasEnteredRaffle = :entered, p.lastUpdated = :now, p.version = p.version + 1 " +
+           "WHERE p.id IN :ids")
+    int updateHasEnteredRaffle(@Param("ids") Collection<Long> ids, @Param("entered") boolean entered,
+                               @Param("now") OffsetDateTime now);
+
+    /**
+     * Set the attendance status and enter several participants in the raffle with one UPDATE statement,
+     * incrementing the version
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Participant p SET p.attendanceStatus = :status, p.hasEnteredRaffle = true, p.lastUpdated = :now, " +
+           "p.version = p.version + 1 WHERE p.id IN :ids")
+    int updateAttendanceStatusAndEnterRaffle(@Param("ids") Collection<Long> ids, @Param("status") AttendanceStatus status,
+                                             @Param("now") OffsetDateTime now);
+
+    /**
+     * Reset the raffle entry of all entered participants of an event with one UPDATE statement,
+     * incrementing the version of the changed rows only
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Participant p SET p.hasEnteredRaffle = false, p.lastUpdated = :now, p.version = p.version + 1 " +
+           "WHERE p.meetupEvent.id = :eventId AND p.hasEnteredRaffle = true")
+    int resetHasEnteredRaffleByMeetupEventId(@Param("eventId") Long eventId, @Param("now") OffsetDateTime now);
+
     /**
      * Find all participants for a specific meetup event with a specific RSVP status
+     * (used by the spin wheel, member, event and won prize in the same query)
      */
+    @EntityGraph(Participant.DETAILS_GRAPH)
     List<Participant> findByMeetupEventAndRsvpStatus(MeetupEvent meetupEvent, RSVPStatus rsvpStatus);
 
     /**
@@ -0,0 +1,20 @@
+package com.vaadin.demo.application.adapter.out.persistence.repository;
+
+import com.vaadin.demo.application.adapter.out.persistence.data.PrizeNotification;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface PrizeNotificationRepository extends JpaRepository<PrizeNotification, Long> {
+
+    /**
+     * Find the notifications of the prizes of a raffle
+     */
+    List<PrizeNotification> findByPrize_Raffle_IdOrderByIdAsc(Long raffleId);
+
+    /**
+     * Find the notifications of several prizes in one query
+     */
+    List<PrizeNotification> findByPrize_IdIn(Collection<Long> prizeIds);
+}
@@ -1,7 +1,7 @@
 package com.vaadin.demo.application.adapter.out.persistence.repository;
 
 import com.vaadin.demo.application.adapter.out.persistence.data.Prize;
-import com.vaadin.demo.application.adapter.out.persistence.data.Raffle;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 
@@ -11,6 +11,10 @@ public interface PrizeRepository extends
         JpaRepository<Prize, Long>,
         JpaSpecificationExecutor<Prize> {
 
-    List<Prize> findByRaffle(Raffle raffle);
+    /**
+     * Find the prizes of a raffle for the prize list (winner and raffle event in the same query)
+     */
+    @EntityGraph(Prize.PRIZE_LIST_GRAPH)
+    List<Prize> findByRaffle_Id(Long raffleId);
 
 }
@@ -1,16 +1,30 @@
 package com.vaadin.demo.application.adapter.out.persistence.repository;
 
 import com.vaadin.demo.application.adapter.out.persistence.data.PrizeTemplate;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import java.util.List;
-
 @Repository
 public interface PrizeTemplateRepository extends JpaRepository<PrizeTemplate, Long> {
 
     /**
-     * Find prize templates by name (case-insensitive, partial match)
+     * Find one slice of prize templates matching the search, best match first.
+     * Matches the prefix query against name, description and template text (search_vector),
+     * the name pattern (ILIKE) and typos in the name (word similarity), all backed by GIN indexes (V6).
+     * An empty query matches all templates ordered by name. The ranking defines the order, the sort of
+     * the pageable is not applied. The matches are not counted, the combo box only needs the next slice.
      */
-    List<PrizeTemplate> findByNameContainingIgnoreCase(String name);
-}
\ No newline at end of file
+    @Query(value = "SELECT t.* FROM prize_template t WHERE :query = '' " +
+                   "OR t.search_vector @@ to_tsquery('simple', :tsQuery) " +
+                   "OR t.name ILIKE :namePattern " +
+                   "OR :query <% t.name " +
+                   "ORDER BY ts_rank(t.search_vector, to_tsquery('simple', :tsQuery)) " +
+                   "+ word_similarity(:query, t.name) DESC, t.name, t.id",
+           nativeQuery = true)
+    Slice<PrizeTemplate> search(@Param("query") String query, @Param("tsQuery") String tsQuery,
+                                @Param("namePattern") String namePattern, Pageable pageable);
+}
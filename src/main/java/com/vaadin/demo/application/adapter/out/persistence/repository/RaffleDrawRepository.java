@@ -0,0 +1,14 @@
+package com.vaadin.demo.application.adapter.out.persistence.repository;
+
+import com.vaadin.demo.application.adapter.out.persistence.data.RaffleDraw;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface RaffleDrawRepository extends JpaRepository<RaffleDraw, Long> {
+
+    /**
+     * Find the draws of a prize, latest first
+     */
+    List<RaffleDraw> findByPrize_IdOrderByDrawnAtDesc(Long prizeId);
+}
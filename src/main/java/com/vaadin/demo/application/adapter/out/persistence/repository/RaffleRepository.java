@@ -1,11 +1,15 @@
 package com.vaadin.demo.application.adapter.out.persistence.repository;
 
 import com.vaadin.demo.application.adapter.out.persistence.data.Raffle;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,20 +17,86 @@ public interface RaffleRepository
         extends JpaRepository<Raffle, Long>,
         JpaSpecificationExecutor<Raffle> {
 
+    /**
+     * Find a raffle with its event, prizes and winners for the raffle details and the spin wheel
+     */
+    @EntityGraph(Raffle.DETAILS_GRAPH)
+    Optional<Raffle> findDetailsById(Long id);
+
     /**
      * Find a raffle by its Meetup event ID
      */
+    @EntityGraph(Raffle.DETAILS_GRAPH)
     @Query("SELECT r FROM Raffle r WHERE r.meetup_event_id = :eventId")
     Optional<Raffle> findByMeetupEventId(@Param("eventId") String meetupEventId);
 
     /**
      * Find a raffle by its MeetupEvent entity
      */
+    @EntityGraph(Raffle.DETAILS_GRAPH)
     Optional<Raffle> findByEvent_MeetupId(String meetupId);
 
     /**
-     * Find all raffles for a list of Meetup event IDs
+     * Find the raffle IDs for a list of Meetup event IDs in one query.
+     * Matches both the meetup_event_id column and the linked event, like getRaffleByMeetupEventId.
+     * Only IDs are selected, so the eager event and prize associations are not loaded.
+     */
+    @Query("SELECT COALESCE(r.meetup_event_id, e.meetupId) AS meetupEventId, r.id AS raffleId " +
+           "FROM Raffle r LEFT JOIN r.event e " +
+           "WHERE r.meetup_event_id IN :eventIds OR e.meetupId IN :eventIds")
+    List<RaffleIdByEvent> findByMeetupEventIdIn(@Param("eventIds") Collection<String> meetupEventIds);
+
+    /**
+     * Find one page of raffles whose Meetup event ID or event title contains the filter (case-insensitive).
+     * An empty filter matches all raffles. Sort by the event title with the property "e.title".
+     * The prizes are loaded lazily in batches (hibernate.default_batch_fetch_size).
+     * A slice needs no count query, it only tells whether there is a next page.
+     */
+    @Query("SELECT r FROM Raffle r LEFT JOIN r.event e WHERE :filter = '' " +
+           "OR LOWER(r.meetup_event_id) LIKE LOWER(CONCAT('%', :filter, '%')) " +
+           "OR LOWER(e.title) LIKE LOWER(CONCAT('%', :filter, '%'))")
+    Slice<Raffle> findByFilter(@Param("filter") String filter, Pageable pageable);
+
+    /**
+     * Find the participants of the raffle's event that can still win a prize in one query:
+     * RSVP YES, not an organizer, not entered in the raffle yet and no prize won.
+     * The conditions are literals, so PostgreSQL can use the partial index idx_participant_raffle_eligible.
+     * The attended events of the member (other events only) are counted for the weighted draw.
+     */
+    @Query("SELECT p.id AS participantId, m.meetupId AS memberMeetupId, m.name AS name, " +
+           "p.isFirstEvent AS firstEvent, " +
+           "(SELECT COUNT(o) FROM Participant o WHERE o.member = m AND o.id <> p.id " +
+           "AND o.attendanceStatus = com.vaadin.demo.application.adapter.out.persistence.data.Participant.AttendanceStatus.ATTENDED) " +
+           "AS attendedEvents " +
+           "FROM Raffle r JOIN r.event e JOIN e.participants p JOIN p.member m " +
+           "WHERE r.id = :raffleId " +
+           "AND p.rsvpStatus = com.vaadin.demo.application.adapter.out.persistence.data.Participant.RSVPStatus.YES " +
+           "AND p.isOrganizer = false AND p.hasEnteredRaffle = false " +
+           "AND NOT EXISTS (SELECT 1 FROM Prize pr WHERE pr.winner = p) " +
+           "ORDER BY m.name, p.id")
+    List<EligibleEntrant> findEligibleEntrantsByRaffleId(@Param("raffleId") Long raffleId);
+
+    /**
+     * Projection of a participant who can still win a prize
+     */
+    interface EligibleEntrant {
+        Long getParticipantId();
+
+        String getMemberMeetupId();
+
+        String getName();
+
+        Boolean getFirstEvent();
+
+        Long getAttendedEvents();
+    }
+
+    /**
+     * Projection of a raffle ID and the Meetup event ID it belongs to
      */
-    @Query("SELECT r FROM Raffle r WHERE r.meetup_event_id IN :eventIds")
-    List<Raffle> findByMeetupEventIdIn(@Param("eventIds") List<String> meetupEventIds);
+    interface RaffleIdByEvent {
+        String getMeetupEventId();
+
+        Long getRaffleId();
+    }
 }
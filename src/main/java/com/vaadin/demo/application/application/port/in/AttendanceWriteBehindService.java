@@ -0,0 +1,31 @@
+package com.vaadin.demo.application.application.port.in;
+
+import com.vaadin.demo.application.domain.model.ParticipantRecord;
+import java.util.Optional;
+
+/**
+ * Write-behind queue for attendance changes. Changes are queued per participant, a later change
+ * replaces an earlier one, and are written in batches in the background, after a short interval
+ * or once the batch is full, and on shutdown.
+ */
+public interface AttendanceWriteBehindService {
+
+  /**
+   * Queue the attendance status of a participant, replacing a queued status of the same participant
+   */
+  void enqueue(Long participantId, ParticipantRecord.AttendanceStatus status);
+
+  /**
+   * The queued, not yet written status of a participant, to show pending changes
+   */
+  Optional<ParticipantRecord.AttendanceStatus> getPendingStatus(Long participantId);
+
+  int getPendingCount();
+
+  /**
+   * Write the queued changes now. Synchronous attendance writers and eligibility reads call this first,
+   * so that an older queued status can neither overwrite their change nor be missed.
+   * @return the number of written participants
+   */
+  int flush();
+}
@@ -0,0 +1,50 @@
+package com.vaadin.demo.application.application.port.in;
+
+import com.vaadin.demo.application.domain.model.CheckInEntryRecord;
+import java.util.List;
+
+/**
+ * Door check-in: searches the participants of an event in memory, the attendance is written
+ * through the AttendanceWriteBehindService.
+ * The index of an event is shared by all check-in desks, so every desk sees the others' check-ins.
+ */
+public interface CheckInApplicationService {
+
+  /**
+   * Search the participants of an event by name, email or Meetup ID (prefix and typo tolerant),
+   * best matches first. The index is built on first use.
+   */
+  List<CheckInEntryRecord> search(String meetupEventId, String query, int limit);
+
+  /**
+   * Mark a participant as attended. The index is updated at once, the database with the next flush.
+   */
+  CheckInEntryRecord checkIn(String meetupEventId, Long participantId);
+
+  /**
+   * Take back a check-in, the attendance is reset to unknown
+   */
+  CheckInEntryRecord undoCheckIn(String meetupEventId, Long participantId);
+
+  /**
+   * Number of checked-in participants and all participants of an event
+   */
+  int getCheckedInCount(String meetupEventId);
+
+  int getParticipantCount(String meetupEventId);
+
+  /**
+   * Write the pending check-ins and rebuild the index from the database, e.g. after an RSVP sync
+   */
+  void reloadIndex(String meetupEventId);
+
+  /**
+   * Drop the index of an event after its attendance was changed outside the check-in, it is rebuilt on next use
+   */
+  void invalidateIndex(String meetupEventId);
+
+  /**
+   * Drop the indexes of all events, for changes whose event is not known
+   */
+  void invalidateIndexes();
+}
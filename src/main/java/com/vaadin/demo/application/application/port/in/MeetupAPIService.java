@@ -17,6 +17,12 @@ public interface MeetupAPIService {
      */
     List<EventRecord> getExternalEvents();
 
+    /**
+     * Fetch the list of external events again, bypassing the cache
+     * @return List of event records representing available external events
+     */
+    List<EventRecord> refreshExternalEvents();
+
     /**
      * Get details of a specific external event from Meetup API
      * @param meetupId The external Meetup event ID
@@ -4,6 +4,9 @@ import com.vaadin.demo.application.domain.model.EventFormRecord;
 import com.vaadin.demo.application.domain.model.EventRecord;
 import com.vaadin.demo.application.domain.model.ParticipantFormRecord;
 import com.vaadin.demo.application.domain.model.ParticipantRecord;
+import com.vaadin.demo.application.domain.model.ParticipantRowRecord;
+import com.vaadin.demo.application.domain.model.SyncReport;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,13 +18,18 @@ public interface MeetupApplicationService {
 
   List<ParticipantRecord> getParticipantsForEvent(EventRecord event);
 
+  /**
+   * Get the rows of the participants grid for an event by Meetup ID, read with one query
+   */
+  List<ParticipantRowRecord> getParticipantRows(String meetupEventId);
+
   List<ParticipantRecord> getRaffleEligibleParticipants(EventRecord event);
 
   EventRecord importEvent(String meetupId);
 
-  int syncEventMembers(Long eventId);
+  SyncReport syncEventMembers(Long eventId);
 
-  int syncEventMembersByMeetupId(String meetupId);
+  SyncReport syncEventMembersByMeetupId(String meetupId);
 
   ParticipantRecord markParticipantEnteredRaffle(Long participantId);
 
@@ -31,6 +39,18 @@ public interface MeetupApplicationService {
 
   void resetRaffleEntryForEvent(EventRecord event);
 
+  /**
+   * Set the attendance status of several participants at once, e.g. at the check-in desk
+   * @return the number of updated participants
+   */
+  int updateParticipantsAttendanceStatus(Collection<Long> participantIds, ParticipantRecord.AttendanceStatus status);
+
+  /**
+   * Enter several participants in the raffle or take them out at once
+   * @return the number of updated participants
+   */
+  int updateParticipantsRaffleEntry(Collection<Long> participantIds, boolean hasEnteredRaffle);
+
   Optional<EventFormRecord> getEventFormById(Long id);
 
   List<EventFormRecord> getAllEventForms();
@@ -43,6 +63,10 @@ public interface MeetupApplicationService {
 
   ParticipantFormRecord updateParticipantRaffleStatus(Long participantId, boolean hasEnteredRaffle);
 
-  ParticipantFormRecord updateParticipantAttendanceStatus(Long participantId,
+  /**
+   * Queue the attendance status of a participant of an event in the AttendanceWriteBehindService,
+   * repeated changes are coalesced and written in batches
+   */
+  void updateParticipantAttendanceStatus(String meetupEventId, Long participantId,
       String attendanceStatus);
 }
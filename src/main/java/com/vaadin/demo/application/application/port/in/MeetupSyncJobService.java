@@ -0,0 +1,36 @@
+package com.vaadin.demo.application.application.port.in;
+
+import com.vaadin.demo.application.domain.model.ImportProgress;
+import com.vaadin.demo.application.domain.model.SyncProgress;
+import com.vaadin.demo.application.domain.model.SyncReport;
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+/**
+ * Runs member syncs in the background so the UI thread is never blocked by the Meetup API
+ */
+public interface MeetupSyncJobService {
+
+  /**
+   * Start syncing the members of an event by Meetup ID.
+   * If a sync for the same event is already running, the running job is returned and the listener
+   * receives its current progress and all further updates.
+   * The progress listener is called from a background thread.
+   */
+  CompletableFuture<SyncReport> syncEventMembers(String meetupEventId,
+      Consumer<SyncProgress> progressListener);
+
+  /**
+   * Check whether a sync for the event is currently queued or running
+   */
+  boolean isSyncRunning(String meetupEventId);
+
+  /**
+   * Import several events: they are fetched concurrently and each one is stored in its own transaction.
+   * A failing event does not stop the others. The progress listener is called from a background thread
+   * after every event, the returned future completes with the final progress.
+   */
+  CompletableFuture<ImportProgress> importEvents(Collection<String> meetupEventIds,
+      Consumer<ImportProgress> progressListener);
+}
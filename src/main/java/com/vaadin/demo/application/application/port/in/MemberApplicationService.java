@@ -2,7 +2,9 @@ package com.vaadin.demo.application.application.port.in;
 
 import com.vaadin.demo.application.adapter.out.persistence.data.Member;
 import com.vaadin.demo.application.domain.model.MemberFormRecord;
+import com.vaadin.demo.application.domain.model.MemberKeyRecord;
 import com.vaadin.demo.application.domain.model.MemberRecord;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -18,6 +20,16 @@ public interface MemberApplicationService {
 
   Page<MemberFormRecord> listMemberForms(Pageable pageable, Specification<Member> filter);
 
+  /**
+   * Search members by name, email or Meetup ID, ordered by name. Up to limit members after the key, skipping offset of them.
+   */
+  List<MemberFormRecord> searchMemberForms(String filter, MemberKeyRecord after, int offset, int limit);
+
+  /**
+   * Estimated number of members matching the filter, for sizing a lazy grid
+   */
+  int estimateMemberCount(String filter);
+
   MemberFormRecord saveMemberForm(MemberFormRecord memberForm);
 
   void deleteMember(Long id);
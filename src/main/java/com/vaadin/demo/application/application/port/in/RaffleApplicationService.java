@@ -1,6 +1,10 @@
 package com.vaadin.demo.application.application.port.in;
 
+import com.vaadin.demo.application.domain.model.BulkDrawRecord;
+import com.vaadin.demo.application.domain.model.DrawRecord;
+import com.vaadin.demo.application.domain.model.EligibleEntrantRecord;
 import com.vaadin.demo.application.domain.model.EventRecord;
+import com.vaadin.demo.application.domain.model.EventWithRaffleRecord;
 import com.vaadin.demo.application.domain.model.ParticipantRecord;
 import com.vaadin.demo.application.domain.model.PrizeDialogFormRecord;
 import com.vaadin.demo.application.domain.model.PrizeFormRecord;
@@ -8,8 +12,13 @@ import com.vaadin.demo.application.domain.model.PrizeRecord;
 import com.vaadin.demo.application.domain.model.PrizeTemplateRecord;
 import com.vaadin.demo.application.domain.model.RaffleFormRecord;
 import com.vaadin.demo.application.domain.model.RaffleRecord;
+import com.vaadin.demo.application.domain.model.WeightRulesRecord;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 public interface RaffleApplicationService {
 
@@ -17,10 +26,26 @@ public interface RaffleApplicationService {
 
   List<RaffleRecord> getAllRaffles();
 
+  /**
+   * Get one page of raffles, sorted and filtered in the database
+   */
+  Slice<RaffleRecord> getRaffles(Pageable pageable, String filter);
+
   Optional<PrizeRecord> getPrizeById(Long id);
 
   Optional<RaffleRecord> getRaffleByMeetupEventId(String meetupEventId);
 
+  /**
+   * Get one page of events together with the IDs of their raffles, sorted and filtered in the database.
+   * Uses a constant number of queries per page.
+   */
+  Slice<EventWithRaffleRecord> getEventsWithRaffles(Pageable pageable, String filter);
+
+  /**
+   * Get the raffle IDs of several events, keyed by Meetup event ID
+   */
+  Map<String, Long> getRaffleIdsByMeetupEventIds(Collection<String> meetupEventIds);
+
   List<PrizeRecord> getPrizesForRaffle(RaffleRecord raffle);
 
   List<PrizeTemplateRecord> getAllPrizeTemplateRecords();
@@ -28,6 +53,11 @@ public interface RaffleApplicationService {
 
   List<PrizeTemplateRecord> getPrizeTemplateRecordsByName(String namePattern);
 
+  /**
+   * Search prize templates, best match first (empty query for all templates)
+   */
+  Slice<PrizeTemplateRecord> searchPrizeTemplates(String query, Pageable pageable);
+
 
   Optional<PrizeTemplateRecord> getPrizeTemplateRecordById(Long id);
 
@@ -37,6 +67,38 @@ public interface RaffleApplicationService {
 
   List<ParticipantRecord> getEligibleParticipants(RaffleRecord raffle);
 
+  /**
+   * Get the participants of a raffle's event that can still win a prize, read with one query
+   */
+  List<EligibleEntrantRecord> getEligibleEntrants(Long raffleId);
+
+  /**
+   * Get the weight rules of a raffle's draw
+   */
+  WeightRulesRecord getWeightRules(Long raffleId);
+
+  /**
+   * Save the weight rules of a raffle's draw, used by all following draws of the raffle
+   */
+  WeightRulesRecord saveWeightRules(Long raffleId, WeightRulesRecord weightRules);
+
+  /**
+   * Draw the winner of a prize on the server from the current eligible entrants.
+   * The draw is persisted with its seed and candidate hash, the winner still has to accept the prize.
+   */
+  DrawRecord drawWinner(Long prizeId);
+
+  /**
+   * Draw and award winners for all unawarded prizes of a raffle in one transaction,
+   * sampling without replacement from the eligible entrants
+   */
+  BulkDrawRecord drawAllPrizes(Long raffleId);
+
+  /**
+   * Get the draws of a prize, latest first
+   */
+  List<DrawRecord> getDrawsForPrize(Long prizeId);
+
   RaffleRecord createRaffle(EventRecord event);
 
   RaffleRecord saveRaffle(RaffleRecord raffle);
@@ -63,7 +125,7 @@ public interface RaffleApplicationService {
 
   PrizeTemplateRecord savePrizeTemplateRecord(PrizeTemplateRecord prizeTemplate);
 
-  PrizeRecord awardPrize(PrizeRecord prize, ParticipantRecord participant);
+  PrizeRecord awardPrize(PrizeRecord prize, Long participantId);
 
   void deletePrize(Long prizeId);
 
@@ -0,0 +1,29 @@
+package com.vaadin.demo.application.application.port.in;
+
+import com.vaadin.demo.application.domain.model.NotificationDeliveryRecord;
+import com.vaadin.demo.application.domain.model.NotificationRunRecord;
+import java.util.List;
+
+/**
+ * Mail merge of the winner notifications: the texts of all awarded prizes of a raffle are rendered
+ * and queued, a background thread sends them in rate-limited batches and retries failed ones.
+ * The delivery status of each prize is persisted.
+ */
+public interface WinnerNotificationService {
+
+  /**
+   * Render and queue the notifications of all awarded prizes of a raffle. Prizes already sent or still queued
+   * are left out, so the winners of prizes drawn later can be notified by calling this again.
+   */
+  NotificationRunRecord notifyWinners(Long raffleId);
+
+  /**
+   * The delivery status of the prizes of a raffle
+   */
+  List<NotificationDeliveryRecord> getDeliveries(Long raffleId);
+
+  /**
+   * Number of notifications waiting to be sent, including those waiting for a retry
+   */
+  int getQueuedCount();
+}
@@ -1,10 +1,19 @@
 package com.vaadin.demo.application.application.port.out;
 
+import com.vaadin.demo.application.domain.model.CheckInEntryRecord;
 import com.vaadin.demo.application.domain.model.EventRecord;
+import com.vaadin.demo.application.domain.model.EventRecordWithRSVPs;
 import com.vaadin.demo.application.domain.model.ParticipantRecord;
+import com.vaadin.demo.application.domain.model.ParticipantRowRecord;
+import com.vaadin.demo.application.domain.model.SyncReport;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.IntConsumer;
 
 /**
  * Port for Meetup service operations
@@ -22,31 +31,58 @@ public interface MeetupPort {
      */
     List<EventRecord> getAllEvents();
 
+    /**
+     * Get events with pagination and sorting, filtered by title or Meetup ID (empty filter for all events).
+     * No total is counted, the slice only tells whether there are more events.
+     */
+    Slice<EventRecord> getEvents(Pageable pageable, String filter);
+
     /**
      * Get all participants for an event
      */
     List<ParticipantRecord> getParticipantsForEvent(EventRecord event);
 
+    /**
+     * Get the participants grid rows of an event by Meetup ID (read-only projection, one query)
+     */
+    List<ParticipantRowRecord> getParticipantRows(String meetupEventId);
+
     /**
      * Get raffle-eligible participants for an event
      */
     List<ParticipantRecord> getRaffleEligibleParticipants(EventRecord event);
 
     /**
-     * Import a Meetup event by ID
-     * This will fetch event data from external service and store it locally
+     * Fetch an event with its RSVPs from the external service without touching the database
+     */
+    Optional<EventRecordWithRSVPs> fetchEventWithRSVPs(String meetupId);
+
+    /**
+     * Fetch several events with their RSVPs from the external service in batched requests,
+     * without touching the database. Events that do not exist are missing from the result.
      */
-    EventRecord importEvent(String meetupId);
+    Map<String, EventRecordWithRSVPs> fetchEventsWithRSVPs(Collection<String> meetupIds);
 
     /**
-     * Sync members for an event from external service to local database
+     * Store an event fetched with fetchEventWithRSVPs and sync its members, in one transaction
      */
-    int syncEventMembers(Long eventId);
+    EventRecord saveImportedEvent(EventRecordWithRSVPs apiEvent);
+
+    /**
+     * Sync members for an event from external service to local database.
+     * Only participants and members whose data changed are written.
+     */
+    SyncReport syncEventMembers(Long eventId);
 
     /**
      * Sync members for an event by Meetup ID
      */
-    int syncEventMembersByMeetupId(String meetupId);
+    SyncReport syncEventMembersByMeetupId(String meetupId);
+
+    /**
+     * Sync members for an event by Meetup ID, reporting the number of RSVPs processed after each page
+     */
+    SyncReport syncEventMembersByMeetupId(String meetupId, IntConsumer progressListener);
 
     /**
      * Mark a participant as having entered the raffle
@@ -64,10 +100,34 @@ public interface MeetupPort {
     ParticipantRecord markParticipantNoShowAndEnteredRaffle(Long participantId);
 
     /**
-     * Reset raffle entry status for all participants of an event
+     * Get the door check-in entries of all participants of an event by Meetup ID, read with one query
+     */
+    List<CheckInEntryRecord> getCheckInEntries(String meetupEventId);
+
+    /**
+     * Reset raffle entry status for all participants of an event with one bulk update
      */
     void resetRaffleEntryForEvent(EventRecord event);
 
+    /**
+     * Set the attendance status of several participants with one bulk update
+     * @return the number of updated participants
+     */
+    int updateParticipantsAttendanceStatus(Collection<Long> participantIds, ParticipantRecord.AttendanceStatus status);
+
+    /**
+     * Set the raffle entry of several participants with one bulk update
+     * @return the number of updated participants
+     */
+    int updateParticipantsRaffleEntry(Collection<Long> participantIds, boolean hasEnteredRaffle);
+
+    /**
+     * Set the attendance status of several participants and enter them in the raffle with one bulk update
+     * @return the number of updated participants
+     */
+    int updateParticipantsAttendanceStatusAndEnterRaffle(Collection<Long> participantIds,
+                                                         ParticipantRecord.AttendanceStatus status);
+
     /**
      * Get an event by ID (needed for UI form handling)
      */
@@ -1,10 +1,12 @@
 package com.vaadin.demo.application.application.port.out;
 
+import com.vaadin.demo.application.domain.model.MemberKeyRecord;
 import com.vaadin.demo.application.domain.model.MemberRecord;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -33,6 +35,17 @@ public interface MemberPort {
      */
     Page<MemberRecord> getMembers(Pageable pageable, Specification<?> specification);
 
+    /**
+     * Search members by name, email or Meetup ID (empty filter for all), ordered by name and ID.
+     * Returns up to limit members after the key, skipping offset of them.
+     */
+    List<MemberRecord> searchMembers(String filter, MemberKeyRecord after, int offset, int limit);
+
+    /**
+     * Estimate the number of members matching the filter without counting all of them
+     */
+    int estimateMemberCount(String filter);
+
     /**
      * Save a member
      */
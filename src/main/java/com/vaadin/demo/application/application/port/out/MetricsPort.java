@@ -0,0 +1,26 @@
+package com.vaadin.demo.application.application.port.out;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * Port for application metrics, keeps the application services free of a metrics library.
+ * Tags are given as key/value pairs.
+ */
+public interface MetricsPort {
+
+    /**
+     * Register a gauge that samples the given value whenever the metrics are read
+     */
+    void registerGauge(String name, String description, Supplier<Number> value);
+
+    /**
+     * Record the duration of an operation
+     */
+    void recordDuration(String name, Duration duration, String... tags);
+
+    /**
+     * Increment a counter
+     */
+    void increment(String name, double amount, String... tags);
+}
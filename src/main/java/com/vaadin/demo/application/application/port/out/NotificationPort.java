@@ -0,0 +1,22 @@
+package com.vaadin.demo.application.application.port.out;
+
+import com.vaadin.demo.application.domain.model.NotificationDeliveryRecord;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Port for the delivery status of the winner notifications
+ */
+public interface NotificationPort {
+
+    /**
+     * Get the delivery status of the prizes of a raffle, prizes never notified are missing
+     */
+    List<NotificationDeliveryRecord> getDeliveriesForRaffle(Long raffleId);
+
+    /**
+     * Insert or update the delivery status of each prize in one transaction
+     */
+    void saveDeliveries(Collection<NotificationDeliveryRecord> deliveries);
+}
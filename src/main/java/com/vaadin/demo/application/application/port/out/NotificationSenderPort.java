@@ -0,0 +1,19 @@
+package com.vaadin.demo.application.application.port.out;
+
+import com.vaadin.demo.application.domain.model.WinnerNotificationRecord;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Port for delivering winner notifications, e.g. by SMTP or to a local outbox
+ */
+public interface NotificationSenderPort {
+
+    /**
+     * Send a batch of notifications, if possible over one connection
+     * @return the error messages of the notifications that were not sent, by prize ID (empty if all were sent)
+     * @throws RuntimeException if the whole batch could not be sent
+     */
+    Map<Long, String> send(List<WinnerNotificationRecord> notifications);
+}
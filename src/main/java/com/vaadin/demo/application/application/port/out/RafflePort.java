@@ -1,8 +1,12 @@
 package com.vaadin.demo.application.application.port.out;
 
 import com.vaadin.demo.application.domain.model.*;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -21,6 +25,12 @@ public interface RafflePort {
      */
     List<RaffleRecord> getAllRaffles();
 
+    /**
+     * Get raffles with pagination and sorting, filtered by Meetup event ID or event title (empty filter for all raffles).
+     * No total is counted, the slice only tells whether there are more raffles.
+     */
+    Slice<RaffleRecord> getRaffles(Pageable pageable, String filter);
+
     /**
      * Get a prize by ID
      */
@@ -31,6 +41,12 @@ public interface RafflePort {
      */
     Optional<RaffleRecord> getRaffleByMeetupEventId(String meetupEventId);
 
+    /**
+     * Get the raffle IDs of several events in one query, keyed by Meetup event ID.
+     * Events without a raffle are missing from the map.
+     */
+    Map<String, Long> getRaffleIdsByMeetupEventIds(Collection<String> meetupEventIds);
+
     /**
      * Get prizes for a raffle
      */
@@ -44,10 +60,16 @@ public interface RafflePort {
 
 
     /**
-     * Get prize templates by name as PrizeTemplateRecord (partial match)
+     * Get prize templates by name as PrizeTemplateRecord (partial match), best match first
      */
     List<PrizeTemplateRecord> getPrizeTemplateRecordsByName(String namePattern);
 
+    /**
+     * Search prize templates by name, description and template text, best match first.
+     * Words match as prefixes, the name also with typos. An empty query returns all templates by name.
+     */
+    Slice<PrizeTemplateRecord> searchPrizeTemplates(String query, Pageable pageable);
+
 
 
     /**
@@ -66,6 +88,32 @@ public interface RafflePort {
      */
     List<ParticipantRecord> getEligibleParticipants(RaffleRecord raffle);
 
+    /**
+     * Get the participants of a raffle's event that can still win a prize (RSVP YES, not an organizer,
+     * not entered in the raffle yet, no prize won), read with one query
+     */
+    List<EligibleEntrantRecord> getEligibleEntrants(Long raffleId);
+
+    /**
+     * Get the weight rules of a raffle's draw
+     */
+    WeightRulesRecord getWeightRules(Long raffleId);
+
+    /**
+     * Save the weight rules of a raffle's draw
+     */
+    WeightRulesRecord saveWeightRules(Long raffleId, WeightRulesRecord weightRules);
+
+    /**
+     * Save the audit record of a draw (seed, candidate hash and winner)
+     */
+    DrawRecord saveDraw(DrawRecord draw);
+
+    /**
+     * Get the draws of a prize, latest first (without candidate snapshots)
+     */
+    List<DrawRecord> getDrawsForPrize(Long prizeId);
+
     /**
      * Create a new raffle for an event
      */
@@ -90,7 +138,14 @@ public interface RafflePort {
     /**
      * Award a prize to a participant
      */
-    PrizeRecord awardPrize(PrizeRecord prize, ParticipantRecord participant);
+    PrizeRecord awardPrize(PrizeRecord prize, Long participantId);
+
+    /**
+     * Award several prizes of a raffle in one transaction: the drawn participants are marked as attended
+     * and entered, the winners and processed template texts are written in batches and the draws saved.
+     * Fails if a prize already has a winner or a drawn participant is no longer eligible.
+     */
+    List<PrizeRecord> awardPrizes(Long raffleId, List<DrawRecord> draws);
 
     /**
      * Delete a prize
@@ -0,0 +1,146 @@
+package com.vaadin.demo.application.application.service;
+
+import com.vaadin.demo.application.application.port.in.AttendanceWriteBehindService;
+import com.vaadin.demo.application.application.port.out.MeetupPort;
+import com.vaadin.demo.application.application.port.out.MetricsPort;
+import com.vaadin.demo.application.domain.model.ParticipantRecord.AttendanceStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Write-behind queue for attendance changes.
+ * <ul>
+ *   <li>changes are kept per participant, the latest status wins (coalescing)</li>
+ *   <li>a background thread writes the queue after the flush interval, or at once when
+ *   max-batch-size participants are queued</li>
+ *   <li>each flush runs one bulk UPDATE per status, see MeetupPort#updateParticipantsAttendanceStatus</li>
+ *   <li>the queue is written on shutdown</li>
+ * </ul>
+ * Metrics: attendance.write-behind.pending (queue depth), attendance.write-behind.flush (flush latency,
+ * tagged with the outcome) and attendance.write-behind.written (written participants).
+ */
+@Service
+@Slf4j
+public class AttendanceWriteBehindServiceImpl implements AttendanceWriteBehindService, DisposableBean {
+
+    static final String PENDING_METRIC = "attendance.write-behind.pending";
+    static final String FLUSH_METRIC = "attendance.write-behind.flush";
+    static final String WRITTEN_METRIC = "attendance.write-behind.written";
+
+    private final MeetupPort meetupPort;
+    private final MetricsPort metricsPort;
+    private final int maxBatchSize;
+    private final Map<Long, AttendanceStatus> pending = new ConcurrentHashMap<>();
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    private final ScheduledExecutorService flushExecutor;
+
+    public AttendanceWriteBehindServiceImpl(MeetupPort meetupPort,
+                                            MetricsPort metricsPort,
+                                            @Value("${app.attendance.write-behind.flush-interval:2s}") Duration flushInterval,
+                                            @Value("${app.attendance.write-behind.max-batch-size:100}") int maxBatchSize) {
+        this.meetupPort = meetupPort;
+        this.metricsPort = metricsPort;
+        this.maxBatchSize = maxBatchSize;
+
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("attendance-write-behind-");
+        threadFactory.setDaemon(true);
+        this.flushExecutor = Executors.newSingleThreadScheduledExecutor(threadFactory);
+        long intervalMillis = flushInterval.toMillis();
+        flushExecutor.scheduleWithFixedDelay(this::flushInBackground, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+
+        metricsPort.registerGauge(PENDING_METRIC, "Attendance changes waiting to be written", pending::size);
+    }
+
+    /**
+     * Queue an attendance change, a full batch is written at once in the background
+     */
+    @Override
+    public void enqueue(Long participantId, AttendanceStatus status) {
+        pending.put(participantId, status);
+        if (pending.size() >= maxBatchSize && flushRequested.compareAndSet(false, true)) {
+            flushExecutor.execute(this::flushInBackground);
+        }
+    }
+
+    @Override
+    public Optional<AttendanceStatus> getPendingStatus(Long participantId) {
+        return Optional.ofNullable(pending.get(participantId));
+    }
+
+    @Override
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * Write the queue with one bulk update per status. Only the written statuses are removed,
+     * a participant changed again in the meantime stays queued. If the update fails,
+     * everything stays queued for the next flush.
+     */
+    @Override
+    public synchronized int flush() {
+        if (pending.isEmpty()) {
+            return 0;
+        }
+        Map<Long, AttendanceStatus> batch = new HashMap<>(pending);
+        Map<AttendanceStatus, List<Long>> idsByStatus = new EnumMap<>(AttendanceStatus.class);
+        batch.forEach((participantId, status) ->
+                idsByStatus.computeIfAbsent(status, s -> new ArrayList<>()).add(participantId));
+
+        long start = System.nanoTime();
+        try {
+            idsByStatus.forEach((status, participantIds) ->
+                    meetupPort.updateParticipantsAttendanceStatus(participantIds, status));
+        } catch (RuntimeException e) {
+            metricsPort.recordDuration(FLUSH_METRIC, Duration.ofNanos(System.nanoTime() - start), "outcome", "failure");
+            throw e;
+        }
+        metricsPort.recordDuration(FLUSH_METRIC, Duration.ofNanos(System.nanoTime() - start), "outcome", "success");
+        metricsPort.increment(WRITTEN_METRIC, batch.size());
+
+        batch.forEach(pending::remove);
+        log.debug("Wrote the attendance of {} participants", batch.size());
+        return batch.size();
+    }
+
+    private void flushInBackground() {
+        flushRequested.set(false);
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.warn("Writing {} attendance changes failed, retrying with the next flush", pending.size(), e);
+        }
+    }
+
+    /**
+     * Stop the background flushes and write what is still queued
+     */
+    @Override
+    public void destroy() throws InterruptedException {
+        flushExecutor.shutdown();
+        if (!flushExecutor.awaitTermination(10, TimeUnit.SECONDS)) {
+            flushExecutor.shutdownNow();
+        }
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.warn("Writing {} attendance changes on shutdown failed, they are lost", pending.size(), e);
+        }
+    }
+}
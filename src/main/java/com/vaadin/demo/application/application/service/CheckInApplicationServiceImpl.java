@@ -0,0 +1,123 @@
+package com.vaadin.demo.application.application.service;
+
+import com.vaadin.demo.application.application.port.in.AttendanceWriteBehindService;
+import com.vaadin.demo.application.application.port.in.CheckInApplicationService;
+import com.vaadin.demo.application.application.port.out.MeetupPort;
+import com.vaadin.demo.application.domain.model.AttendeeIndex;
+import com.vaadin.demo.application.domain.model.CheckInEntryRecord;
+import com.vaadin.demo.application.domain.model.ParticipantRecord.AttendanceStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Application service for the door check-in.
+ * <ul>
+ *   <li>one in-memory AttendeeIndex per event, built with one query and shared by all desks. The indexes
+ *   are kept in a bounded cache that expires them (app.check-in.index-cache.spec), attendance changes made
+ *   elsewhere evict the event's index.</li>
+ *   <li>check-ins update the index at once and are queued in the AttendanceWriteBehindService,
+ *   which writes them with bulk UPDATEs. No entity is loaded, so desks checking in at the same
+ *   time never fail on the optimistic lock.</li>
+ * </ul>
+ */
+@Service
+@Slf4j
+public class CheckInApplicationServiceImpl implements CheckInApplicationService {
+
+    private final MeetupPort meetupPort;
+    private final AttendanceWriteBehindService attendanceWriteBehindService;
+    private final Cache indexCache;
+
+    public CheckInApplicationServiceImpl(MeetupPort meetupPort,
+                                         AttendanceWriteBehindService attendanceWriteBehindService,
+                                         Cache checkInIndexCache) {
+        this.meetupPort = meetupPort;
+        this.attendanceWriteBehindService = attendanceWriteBehindService;
+        this.indexCache = checkInIndexCache;
+    }
+
+    /**
+     * Search the participants of an event in the in-memory index
+     */
+    @Override
+    public List<CheckInEntryRecord> search(String meetupEventId, String query, int limit) {
+        return index(meetupEventId).search(query, limit);
+    }
+
+    /**
+     * Mark a participant as attended, written with the next flush
+     */
+    @Override
+    public CheckInEntryRecord checkIn(String meetupEventId, Long participantId) {
+        return updateAttendanceStatus(meetupEventId, participantId, AttendanceStatus.ATTENDED);
+    }
+
+    /**
+     * Reset the attendance of a participant, written with the next flush
+     */
+    @Override
+    public CheckInEntryRecord undoCheckIn(String meetupEventId, Long participantId) {
+        return updateAttendanceStatus(meetupEventId, participantId, AttendanceStatus.UNKNOWN);
+    }
+
+    /**
+     * Queue the change before updating the index: an index that is evicted and rebuilt in between
+     * already shows the queued status
+     */
+    private CheckInEntryRecord updateAttendanceStatus(String meetupEventId, Long participantId, AttendanceStatus status) {
+        if (index(meetupEventId).get(participantId).isEmpty()) {
+            throw new IllegalArgumentException("Participant not found at check-in: " + participantId);
+        }
+        attendanceWriteBehindService.enqueue(participantId, status);
+        return index(meetupEventId).updateAttendanceStatus(participantId, status);
+    }
+
+    @Override
+    public int getCheckedInCount(String meetupEventId) {
+        return index(meetupEventId).checkedInCount();
+    }
+
+    @Override
+    public int getParticipantCount(String meetupEventId) {
+        return index(meetupEventId).size();
+    }
+
+    /**
+     * Write the queued attendance changes and rebuild the index of an event
+     */
+    @Override
+    public void reloadIndex(String meetupEventId) {
+        attendanceWriteBehindService.flush();
+        indexCache.put(meetupEventId, buildIndex(meetupEventId));
+    }
+
+    @Override
+    public void invalidateIndex(String meetupEventId) {
+        indexCache.evict(meetupEventId);
+    }
+
+    @Override
+    public void invalidateIndexes() {
+        indexCache.clear();
+    }
+
+    private AttendeeIndex index(String meetupEventId) {
+        return indexCache.get(meetupEventId, () -> buildIndex(meetupEventId));
+    }
+
+    /**
+     * Build the index from the database, changes that are still queued are applied on top
+     */
+    private AttendeeIndex buildIndex(String meetupEventId) {
+        List<CheckInEntryRecord> entries = meetupPort.getCheckInEntries(meetupEventId).stream()
+                .map(entry -> attendanceWriteBehindService.getPendingStatus(entry.participantId())
+                        .map(entry::withAttendanceStatus)
+                        .orElse(entry))
+                .toList();
+        log.debug("Built the check-in index of event {} with {} participants", meetupEventId, entries.size());
+        return new AttendeeIndex(entries);
+    }
+}
@@ -30,6 +30,13 @@ public class MeetupAPIServiceImpl implements MeetupAPIService {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public List<EventRecord> refreshExternalEvents() {
+        return meetupApiClient.refreshEvents().stream()
+                .map(Mapper::toEventRecord)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public Optional<EventRecord> getExternalEvent(String meetupId) {
         return meetupApiClient.getEvent(meetupId)
@@ -2,11 +2,15 @@ package com.vaadin.demo.application.application.service;
 
 import com.vaadin.demo.application.domain.model.*;
 import com.vaadin.demo.application.application.port.out.MeetupPort;
+import com.vaadin.demo.application.application.port.in.AttendanceWriteBehindService;
+import com.vaadin.demo.application.application.port.in.CheckInApplicationService;
 import com.vaadin.demo.application.application.port.in.MeetupApplicationService;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -17,9 +21,15 @@ import java.util.stream.Collectors;
 public class MeetupApplicationServiceImpl implements MeetupApplicationService {
 
     private final MeetupPort meetupPort;
+    private final AttendanceWriteBehindService attendanceWriteBehindService;
+    private final CheckInApplicationService checkInApplicationService;
 
-    public MeetupApplicationServiceImpl(MeetupPort meetupPort) {
+    public MeetupApplicationServiceImpl(MeetupPort meetupPort,
+                                        AttendanceWriteBehindService attendanceWriteBehindService,
+                                        CheckInApplicationService checkInApplicationService) {
         this.meetupPort = meetupPort;
+        this.attendanceWriteBehindService = attendanceWriteBehindService;
+        this.checkInApplicationService = checkInApplicationService;
     }
 
     /**
@@ -47,27 +57,44 @@ public class MeetupApplicationServiceImpl implements MeetupApplicationService {
     }
 
     /**
-     * Get raffle-eligible participants for an event
+     * Get the participants grid rows for an event, queued attendance changes are shown already
+     */
+    @Override
+    public List<ParticipantRowRecord> getParticipantRows(String meetupEventId) {
+        return meetupPort.getParticipantRows(meetupEventId).stream()
+                .map(row -> attendanceWriteBehindService.getPendingStatus(row.id())
+                        .map(row::withAttendanceStatus)
+                        .orElse(row))
+                .toList();
+    }
+
+    /**
+     * Get raffle-eligible participants for an event, queued attendance changes are written first
      */
     @Override
     public List<ParticipantRecord> getRaffleEligibleParticipants(EventRecord event) {
+        attendanceWriteBehindService.flush();
         return meetupPort.getRaffleEligibleParticipants(event);
     }
 
     /**
      * Import a Meetup event by ID
-     * This will fetch event data from external service and store it locally
+     * This will fetch event data from external service and store it locally.
+     * Only storing the event runs in a transaction, the remote call does not hold a database connection
      */
     @Override
     public EventRecord importEvent(String meetupId) {
-        return meetupPort.importEvent(meetupId);
+        EventRecordWithRSVPs apiEvent = meetupPort.fetchEventWithRSVPs(meetupId)
+                .orElseThrow(() -> new IllegalArgumentException("Meetup event not found: " + meetupId));
+
+        return meetupPort.saveImportedEvent(apiEvent);
     }
 
     /**
      * Sync members for an event from external service to local database
      */
     @Override
-    public int syncEventMembers(Long eventId) {
+    public SyncReport syncEventMembers(Long eventId) {
         return meetupPort.syncEventMembers(eventId);
     }
 
@@ -75,7 +102,7 @@ public class MeetupApplicationServiceImpl implements MeetupApplicationService {
      * Sync members for an event by Meetup ID
      */
     @Override
-    public int syncEventMembersByMeetupId(String meetupId) {
+    public SyncReport syncEventMembersByMeetupId(String meetupId) {
         return meetupPort.syncEventMembersByMeetupId(meetupId);
     }
 
@@ -88,19 +115,22 @@ public class MeetupApplicationServiceImpl implements MeetupApplicationService {
     }
 
     /**
-     * Mark a participant as attended and having entered the raffle
+     * Mark a participant as attended and having entered the raffle. Queued attendance changes are
+     * written first, so a stale queued status can not overwrite this one.
      */
     @Override
     public ParticipantRecord markParticipantAttendedAndEnteredRaffle(Long participantId) {
-        return meetupPort.markParticipantAttendedAndEnteredRaffle(participantId);
+        attendanceWriteBehindService.flush();
+        return invalidateCheckInIndex(meetupPort.markParticipantAttendedAndEnteredRaffle(participantId));
     }
 
     /**
-     * Mark a participant as no-show and having entered the raffle
+     * Mark a participant as no-show and having entered the raffle, queued attendance changes are written first
      */
     @Override
     public ParticipantRecord markParticipantNoShowAndEnteredRaffle(Long participantId) {
-        return meetupPort.markParticipantNoShowAndEnteredRaffle(participantId);
+        attendanceWriteBehindService.flush();
+        return invalidateCheckInIndex(meetupPort.markParticipantNoShowAndEnteredRaffle(participantId));
     }
 
     /**
@@ -111,6 +141,27 @@ public class MeetupApplicationServiceImpl implements MeetupApplicationService {
         meetupPort.resetRaffleEntryForEvent(event);
     }
 
+    /**
+     * Set the attendance status of several participants with one bulk update, queued attendance changes
+     * are written first
+     */
+    @Override
+    public int updateParticipantsAttendanceStatus(Collection<Long> participantIds,
+                                                  ParticipantRecord.AttendanceStatus status) {
+        attendanceWriteBehindService.flush();
+        int updated = meetupPort.updateParticipantsAttendanceStatus(Set.copyOf(participantIds), status);
+        checkInApplicationService.invalidateIndexes();
+        return updated;
+    }
+
+    /**
+     * Set the raffle entry of several participants with one bulk update
+     */
+    @Override
+    public int updateParticipantsRaffleEntry(Collection<Long> participantIds, boolean hasEnteredRaffle) {
+        return meetupPort.updateParticipantsRaffleEntry(Set.copyOf(participantIds), hasEnteredRaffle);
+    }
+
     // ===== Form Record methods for UI layer =====
 
     /**
@@ -176,19 +227,32 @@ public class MeetupApplicationServiceImpl implements MeetupApplicationService {
     }
 
     /**
-     * Update participant attendance status
+     * Update participant attendance status, written behind
      */
     @Override
-    public ParticipantFormRecord updateParticipantAttendanceStatus(Long participantId,
+    public void updateParticipantAttendanceStatus(String meetupEventId, Long participantId,
         String attendanceStatus) {
-        ParticipantRecord updatedParticipant;
+        ParticipantRecord.AttendanceStatus status;
         if ("ATTENDED".equals(attendanceStatus)) {
-            updatedParticipant = meetupPort.markParticipantAttended(participantId);
+            status = ParticipantRecord.AttendanceStatus.ATTENDED;
         } else if ("NO_SHOW".equals(attendanceStatus)) {
-            updatedParticipant = meetupPort.markParticipantNoShow(participantId);
+            status = ParticipantRecord.AttendanceStatus.NO_SHOW;
         } else {
-            updatedParticipant = meetupPort.resetParticipantAttendanceStatus(participantId);
+            status = ParticipantRecord.AttendanceStatus.UNKNOWN;
         }
-        return ParticipantFormRecord.fromParticipantRecord(updatedParticipant);
+        attendanceWriteBehindService.enqueue(participantId, status);
+        checkInApplicationService.invalidateIndex(meetupEventId);
+    }
+
+    /**
+     * The check-in index of the participant's event no longer shows the right attendance, it is rebuilt on next use
+     */
+    private ParticipantRecord invalidateCheckInIndex(ParticipantRecord participant) {
+        if (participant.event() != null) {
+            checkInApplicationService.invalidateIndex(participant.event().meetupId());
+        } else {
+            checkInApplicationService.invalidateIndexes();
+        }
+        return participant;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,232 @@
+package com.vaadin.demo.application.application.service;
+
+import com.vaadin.demo.application.application.port.in.MeetupSyncJobService;
+import com.vaadin.demo.application.application.port.out.MeetupPort;
+import com.vaadin.demo.application.domain.model.EventRecord;
+import com.vaadin.demo.application.domain.model.EventRecordWithRSVPs;
+import com.vaadin.demo.application.domain.model.ImportProgress;
+import com.vaadin.demo.application.domain.model.SyncProgress;
+import com.vaadin.demo.application.domain.model.SyncReport;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutorService;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * Application service that runs member syncs and event imports on small bounded thread pools.
+ * The executors propagate the caller's SecurityContext, so the Meetup API client
+ * can still resolve the OAuth2 access token of the logged-in user on the worker thread.
+ */
+@Service
+@Slf4j
+public class MeetupSyncJobServiceImpl implements MeetupSyncJobService, DisposableBean {
+
+    private final MeetupPort meetupPort;
+    private final ExecutorService executor;
+    private final ExecutorService fetchExecutor;
+    private final ExecutorService persistExecutor;
+    private final int importBatchSize;
+    private final Map<String, SyncJob> runningJobs = new ConcurrentHashMap<>();
+
+    /**
+     * A queued or running sync with the progress listeners of every caller that started or joined it
+     */
+    private final class SyncJob {
+        private final CompletableFuture<SyncReport> future = new CompletableFuture<>();
+        private final List<Consumer<SyncProgress>> listeners = new ArrayList<>();
+        private SyncProgress lastProgress;
+
+        synchronized void addListener(Consumer<SyncProgress> progressListener) {
+            listeners.add(progressListener);
+            // A joining caller starts from the current progress instead of zero
+            if (lastProgress != null) {
+                MeetupSyncJobServiceImpl.this.notify(progressListener, lastProgress);
+            }
+        }
+
+        synchronized void publish(SyncProgress progress) {
+            lastProgress = progress;
+            listeners.forEach(listener -> MeetupSyncJobServiceImpl.this.notify(listener, progress));
+        }
+    }
+
+    public MeetupSyncJobServiceImpl(MeetupPort meetupPort,
+                                    @Value("${app.sync.pool-size:2}") int poolSize,
+                                    @Value("${app.sync.queue-capacity:20}") int queueCapacity,
+                                    @Value("${app.import.parallelism:4}") int importParallelism,
+                                    @Value("${app.import.queue-capacity:20}") int importQueueCapacity,
+                                    @Value("${app.import.batch-size:20}") int importBatchSize) {
+        this.meetupPort = meetupPort;
+        this.importBatchSize = importBatchSize;
+
+        ThreadPoolExecutor threadPool = new ThreadPoolExecutor(poolSize, poolSize, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("meetup-sync-"));
+        threadPool.allowCoreThreadTimeOut(true);
+        this.executor = new DelegatingSecurityContextExecutorService(threadPool);
+
+        // Remote fetches run in parallel, batches that don't fit into the queue fail instead of piling up
+        ThreadPoolExecutor fetchPool = new ThreadPoolExecutor(importParallelism, importParallelism, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(importQueueCapacity), new CustomizableThreadFactory("meetup-import-fetch-"));
+        fetchPool.allowCoreThreadTimeOut(true);
+        this.fetchExecutor = new DelegatingSecurityContextExecutorService(fetchPool);
+
+        // Writes are serialized: events share members, concurrent inserts of the same member would conflict
+        this.persistExecutor = new DelegatingSecurityContextExecutorService(
+                Executors.newSingleThreadExecutor(new CustomizableThreadFactory("meetup-import-persist-")));
+    }
+
+    /**
+     * Start syncing the members of an event in the background
+     */
+    @Override
+    public CompletableFuture<SyncReport> syncEventMembers(String meetupEventId,
+                                                          Consumer<SyncProgress> progressListener) {
+        SyncJob job = new SyncJob();
+        SyncJob runningJob = runningJobs.putIfAbsent(meetupEventId, job);
+        if (runningJob != null) {
+            log.debug("Sync for event {} is already running, joining it", meetupEventId);
+            runningJob.addListener(progressListener);
+            return runningJob.future;
+        }
+        job.addListener(progressListener);
+        job.future.whenComplete((report, error) -> runningJobs.remove(meetupEventId, job));
+
+        job.publish(SyncProgress.queued(meetupEventId));
+        try {
+            executor.execute(() -> runJob(meetupEventId, job));
+        } catch (RejectedExecutionException e) {
+            job.publish(SyncProgress.failed(meetupEventId, "Too many syncs running, please try again later"));
+            job.future.completeExceptionally(new IllegalStateException("Too many syncs running, please try again later", e));
+        }
+        return job.future;
+    }
+
+    /**
+     * Check whether a sync for the event is currently queued or running
+     */
+    @Override
+    public boolean isSyncRunning(String meetupEventId) {
+        return runningJobs.containsKey(meetupEventId);
+    }
+
+    /**
+     * Import several events. They are fetched in batches (one request per batch), the batches run
+     * concurrently and each event is stored in its own transaction
+     */
+    @Override
+    public CompletableFuture<ImportProgress> importEvents(Collection<String> meetupEventIds,
+                                                          Consumer<ImportProgress> progressListener) {
+        List<String> ids = List.copyOf(new LinkedHashSet<>(meetupEventIds));
+        AtomicReference<ImportProgress> progress = new AtomicReference<>(ImportProgress.started(ids.size()));
+        notify(progressListener, progress.get());
+
+        List<CompletableFuture<?>> jobs = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += importBatchSize) {
+            List<String> batch = ids.subList(from, Math.min(from + importBatchSize, ids.size()));
+            jobs.add(fetchBatch(batch)
+                    // Results are handled on the single persist thread, so progress updates never race
+                    .handleAsync((apiEvents, error) -> {
+                        for (String meetupEventId : batch) {
+                            ImportProgress next = persistEvent(progress.get(), meetupEventId, apiEvents, error);
+                            progress.set(next);
+                            notify(progressListener, next);
+                        }
+                        return progress.get();
+                    }, persistExecutor));
+        }
+
+        return CompletableFuture.allOf(jobs.toArray(CompletableFuture[]::new)).thenApply(v -> progress.get());
+    }
+
+    private CompletableFuture<Map<String, EventRecordWithRSVPs>> fetchBatch(List<String> batch) {
+        try {
+            return CompletableFuture.supplyAsync(() -> meetupPort.fetchEventsWithRSVPs(batch), fetchExecutor);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(
+                    new IllegalStateException("Too many imports running, please try again later", e));
+        }
+    }
+
+    private ImportProgress persistEvent(ImportProgress progress, String meetupEventId,
+                                        Map<String, EventRecordWithRSVPs> apiEvents, Throwable fetchError) {
+        if (fetchError != null) {
+            return failed(progress, meetupEventId, fetchError);
+        }
+        EventRecordWithRSVPs apiEvent = apiEvents.get(meetupEventId);
+        if (apiEvent == null) {
+            return failed(progress, meetupEventId, new IllegalArgumentException("Meetup event not found: " + meetupEventId));
+        }
+        return persistEvent(progress, meetupEventId, apiEvent);
+    }
+
+    private ImportProgress persistEvent(ImportProgress progress, String meetupEventId, EventRecordWithRSVPs apiEvent) {
+        try {
+            EventRecord event = meetupPort.saveImportedEvent(apiEvent);
+            return progress.withImported(meetupEventId, event.title());
+        } catch (RuntimeException e) {
+            return failed(progress, meetupEventId, e);
+        }
+    }
+
+    private ImportProgress failed(ImportProgress progress, String meetupEventId, Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        log.warn("Import of event {} failed", meetupEventId, cause);
+        return progress.withFailed(meetupEventId, cause.getMessage());
+    }
+
+    private void runJob(String meetupEventId, SyncJob job) {
+        try {
+            job.publish(SyncProgress.running(meetupEventId, 0));
+            SyncReport report = meetupPort.syncEventMembersByMeetupId(meetupEventId,
+                    processed -> job.publish(SyncProgress.running(meetupEventId, processed)));
+            job.publish(SyncProgress.completed(meetupEventId, report));
+            job.future.complete(report);
+        } catch (RuntimeException e) {
+            log.warn("Sync for event {} failed", meetupEventId, e);
+            job.publish(SyncProgress.failed(meetupEventId, e.getMessage()));
+            job.future.completeExceptionally(e);
+        }
+    }
+
+    private <T> void notify(Consumer<T> progressListener, T progress) {
+        try {
+            progressListener.accept(progress);
+        } catch (RuntimeException e) {
+            // A listener that went away (e.g. a closed browser tab) must not break the job
+            log.debug("Progress listener failed", e);
+        }
+    }
+
+    /**
+     * Let running syncs and imports finish on shutdown, but don't wait forever
+     */
+    @Override
+    public void destroy() throws InterruptedException {
+        // Fetch tasks hand their results to the persist executor, so that one is stopped last
+        for (ExecutorService service : List.of(executor, fetchExecutor, persistExecutor)) {
+            service.shutdown();
+            if (!service.awaitTermination(30, TimeUnit.SECONDS)) {
+                service.shutdownNow();
+            }
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.vaadin.demo.application.application.service;
 
 import com.vaadin.demo.application.adapter.out.persistence.data.Member;
 import com.vaadin.demo.application.domain.model.MemberFormRecord;
+import com.vaadin.demo.application.domain.model.MemberKeyRecord;
 import com.vaadin.demo.application.domain.model.MemberRecord;
 import com.vaadin.demo.application.application.port.out.MemberPort;
 import com.vaadin.demo.application.application.port.in.MemberApplicationService;
@@ -10,6 +11,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -61,6 +63,24 @@ public class MemberApplicationServiceImpl implements MemberApplicationService {
                 .map(this::memberRecordToFormRecord);
     }
 
+    /**
+     * Search members as form records, one keyset page after the given key
+     */
+    @Override
+    public List<MemberFormRecord> searchMemberForms(String filter, MemberKeyRecord after, int offset, int limit) {
+        return memberPort.searchMembers(filter, after, offset, limit).stream()
+                .map(this::memberRecordToFormRecord)
+                .toList();
+    }
+
+    /**
+     * Estimate the number of members matching the filter
+     */
+    @Override
+    public int estimateMemberCount(String filter) {
+        return memberPort.estimateMemberCount(filter);
+    }
+
     /**
      * Save a member form
      */
@@ -3,10 +3,19 @@ package com.vaadin.demo.application.application.service;
 import com.vaadin.demo.application.domain.model.*;
 import com.vaadin.demo.application.application.port.out.MeetupPort;
 import com.vaadin.demo.application.application.port.out.RafflePort;
+import com.vaadin.demo.application.application.port.in.AttendanceWriteBehindService;
+import com.vaadin.demo.application.application.port.in.CheckInApplicationService;
 import com.vaadin.demo.application.application.port.in.RaffleApplicationService;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 
+import java.security.SecureRandom;
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.HexFormat;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -19,10 +28,17 @@ public class RaffleApplicationServiceImpl implements RaffleApplicationService {
 
     private final RafflePort rafflePort;
     private final MeetupPort meetupPort;
+    private final AttendanceWriteBehindService attendanceWriteBehindService;
+    private final CheckInApplicationService checkInApplicationService;
+    private final SecureRandom seedSource = new SecureRandom();
 
-    public RaffleApplicationServiceImpl(RafflePort rafflePort, MeetupPort meetupPort) {
+    public RaffleApplicationServiceImpl(RafflePort rafflePort, MeetupPort meetupPort,
+                                        AttendanceWriteBehindService attendanceWriteBehindService,
+                                        CheckInApplicationService checkInApplicationService) {
         this.rafflePort = rafflePort;
         this.meetupPort = meetupPort;
+        this.attendanceWriteBehindService = attendanceWriteBehindService;
+        this.checkInApplicationService = checkInApplicationService;
     }
 
     /**
@@ -41,6 +57,14 @@ public class RaffleApplicationServiceImpl implements RaffleApplicationService {
         return rafflePort.getAllRaffles();
     }
 
+    /**
+     * Get one page of raffles
+     */
+    @Override
+    public Slice<RaffleRecord> getRaffles(Pageable pageable, String filter) {
+        return rafflePort.getRaffles(pageable, filter);
+    }
+
     /**
      * Get a prize by ID
      */
@@ -57,6 +81,26 @@ public class RaffleApplicationServiceImpl implements RaffleApplicationService {
         return rafflePort.getRaffleByMeetupEventId(meetupEventId);
     }
 
+    /**
+     * Get one page of events with their raffle IDs: one query for the events, one for the raffle IDs of this page
+     */
+    @Override
+    public Slice<EventWithRaffleRecord> getEventsWithRaffles(Pageable pageable, String filter) {
+        Slice<EventRecord> events = meetupPort.getEvents(pageable, filter);
+        Map<String, Long> raffleIds = rafflePort.getRaffleIdsByMeetupEventIds(
+                events.stream().map(EventRecord::meetupId).toList());
+
+        return events.map(event -> new EventWithRaffleRecord(event, raffleIds.get(event.meetupId())));
+    }
+
+    /**
+     * Get the raffle IDs of several events
+     */
+    @Override
+    public Map<String, Long> getRaffleIdsByMeetupEventIds(Collection<String> meetupEventIds) {
+        return rafflePort.getRaffleIdsByMeetupEventIds(meetupEventIds);
+    }
+
     /**
      * Get prizes for a raffle
      */
@@ -82,6 +126,14 @@ public class RaffleApplicationServiceImpl implements RaffleApplicationService {
         return rafflePort.getPrizeTemplateRecordsByName(namePattern);
     }
 
+    /**
+     * Search prize templates by name, description and template text, best match first
+     */
+    @Override
+    public Slice<PrizeTemplateRecord> searchPrizeTemplates(String query, Pageable pageable) {
+        return rafflePort.searchPrizeTemplates(query, pageable);
+    }
+
     /**
      * Get a prize template by ID as PrizeTemplateRecord
      */
@@ -100,13 +152,120 @@ public class RaffleApplicationServiceImpl implements RaffleApplicationService {
     }
 
     /**
-     * Get eligible participants for a raffle
+     * Get eligible participants for a raffle, queued attendance changes are written first
      */
     @Override
     public List<ParticipantRecord> getEligibleParticipants(RaffleRecord raffle) {
+        attendanceWriteBehindService.flush();
         return rafflePort.getEligibleParticipants(raffle);
     }
 
+    /**
+     * Get the participants of a raffle's event that can still win a prize. Queued attendance changes
+     * are written first, so no-shows and the attended events of the weights are up to date.
+     */
+    @Override
+    public List<EligibleEntrantRecord> getEligibleEntrants(Long raffleId) {
+        attendanceWriteBehindService.flush();
+        return rafflePort.getEligibleEntrants(raffleId);
+    }
+
+    /**
+     * Get the weight rules of a raffle's draw
+     */
+    @Override
+    public WeightRulesRecord getWeightRules(Long raffleId) {
+        return rafflePort.getWeightRules(raffleId);
+    }
+
+    /**
+     * Save the weight rules of a raffle's draw
+     */
+    @Override
+    public WeightRulesRecord saveWeightRules(Long raffleId, WeightRulesRecord weightRules) {
+        return rafflePort.saveWeightRules(raffleId, weightRules);
+    }
+
+    /**
+     * The eligible entrants weighted by the raffle's rules, after the queued attendance changes are written
+     */
+    private List<EligibleEntrantRecord> getWeightedEntrants(Long raffleId) {
+        attendanceWriteBehindService.flush();
+        List<EligibleEntrantRecord> entrants = rafflePort.getEligibleEntrants(raffleId);
+        WeightRulesRecord weightRules = rafflePort.getWeightRules(raffleId);
+        if (weightRules.isUniform()) {
+            return entrants;
+        }
+        return entrants.stream()
+            .map(entrant -> entrant.withWeight(weightRules.weightOf(entrant)))
+            .toList();
+    }
+
+    /**
+     * Draw the winner of a prize on the server: snapshot the eligible entrants with their weights, pick one
+     * with a SecureRandom seed (see FairDraw) and persist the seed and the candidate hash for audits
+     */
+    @Override
+    public DrawRecord drawWinner(Long prizeId) {
+        PrizeRecord prize = rafflePort.getPrizeById(prizeId)
+            .orElseThrow(() -> new IllegalArgumentException("Prize not found: " + prizeId));
+        if (prize.winner() != null) {
+            throw new IllegalStateException("Prize already has a winner: " + prizeId);
+        }
+        if (prize.raffle() == null) {
+            throw new IllegalStateException("Prize is not part of a raffle: " + prizeId);
+        }
+
+        List<DrawRecord> draws = FairDraw.drawWithoutReplacement(List.of(prizeId),
+            getWeightedEntrants(prize.raffle().id()), this::newSeed, OffsetDateTime.now());
+        if (draws.isEmpty()) {
+            throw new IllegalStateException("No eligible participants left for prize: " + prizeId);
+        }
+        return rafflePort.saveDraw(draws.get(0));
+    }
+
+    /**
+     * Draw winners for all unawarded prizes of a raffle at once, sampling without replacement
+     * from the eligible entrants. The prizes are awarded in one transaction by the port.
+     */
+    @Override
+    public BulkDrawRecord drawAllPrizes(Long raffleId) {
+        RaffleRecord raffle = rafflePort.getRaffleById(raffleId)
+            .orElseThrow(() -> new IllegalArgumentException("Raffle not found: " + raffleId));
+        List<Long> openPrizeIds = raffle.prizes().stream()
+            .filter(prize -> prize.winner() == null)
+            .map(PrizeRecord::id)
+            .sorted()
+            .toList();
+        if (openPrizeIds.isEmpty()) {
+            return new BulkDrawRecord(raffleId, List.of(), List.of(), 0);
+        }
+
+        List<DrawRecord> draws = FairDraw.drawWithoutReplacement(openPrizeIds,
+            getWeightedEntrants(raffleId), this::newSeed, OffsetDateTime.now());
+        List<PrizeRecord> awardedPrizes = draws.isEmpty() ? List.of() : rafflePort.awardPrizes(raffleId, draws);
+        // The winners are marked as attended
+        if (!awardedPrizes.isEmpty()) {
+            checkInApplicationService.invalidateIndex(raffle.meetupEventId());
+        }
+
+        return new BulkDrawRecord(raffleId, draws, awardedPrizes, openPrizeIds.size() - draws.size());
+    }
+
+    private String newSeed() {
+        byte[] seedBytes = new byte[32];
+        seedSource.nextBytes(seedBytes);
+        return HexFormat.of().formatHex(seedBytes);
+    }
+
+    /**
+     * Get the draws of a prize, latest first
+     */
+    @Override
+    public List<DrawRecord> getDrawsForPrize(Long prizeId) {
+        return rafflePort.getDrawsForPrize(prizeId);
+    }
+
     /**
      * Create a new raffle for an event
      */
@@ -124,10 +283,11 @@ public class RaffleApplicationServiceImpl implements RaffleApplicationService {
     }
 
     /**
-     * Save a prize
+     * Save a prize, unknown placeholders in its template text are rejected
      */
     @Override
     public PrizeRecord savePrize(PrizeRecord prize) {
+        PrizePlaceholder.validateTemplateText(prize.templateText());
         return rafflePort.savePrize(prize);
     }
 
@@ -138,6 +298,7 @@ public class RaffleApplicationServiceImpl implements RaffleApplicationService {
     @Override
     public PrizeFormRecord savePrizeForm(PrizeFormRecord prizeForm, RaffleRecord raffle) {
         PrizeRecord prizeRecord = prizeForm.toPrizeRecord(raffle);
+        PrizePlaceholder.validateTemplateText(prizeRecord.templateText());
         PrizeRecord savedPrize = rafflePort.savePrize(prizeRecord);
         return PrizeFormRecord.fromPrizeRecord(savedPrize);
     }
@@ -152,6 +313,7 @@ public class RaffleApplicationServiceImpl implements RaffleApplicationService {
 
         // Save as prize
         PrizeRecord prizeRecord = dialogForm.toPrizeRecord(raffle);
+        PrizePlaceholder.validateTemplateText(prizeRecord.templateText());
         PrizeRecord savedPrize = rafflePort.savePrize(prizeRecord);
         return PrizeDialogFormRecord.fromPrizeRecord(savedPrize);
     }
@@ -229,19 +391,29 @@ public class RaffleApplicationServiceImpl implements RaffleApplicationService {
     }
 
     /**
-     * Save a prize template record
+     * Save a prize template record, unknown placeholders in its template text are rejected
      */
     @Override
     public PrizeTemplateRecord savePrizeTemplateRecord(PrizeTemplateRecord prizeTemplate) {
+        PrizePlaceholder.validateTemplateText(prizeTemplate.templateText());
         return rafflePort.savePrizeTemplateRecord(prizeTemplate);
     }
 
     /**
-     * Award a prize to a participant
+     * Award a prize to a participant, queued attendance changes are written first
+     * so that they can not overwrite the winner's attendance
      */
     @Override
-    public PrizeRecord awardPrize(PrizeRecord prize, ParticipantRecord participant) {
-        return rafflePort.awardPrize(prize, participant);
+    public PrizeRecord awardPrize(PrizeRecord prize, Long participantId) {
+        attendanceWriteBehindService.flush();
+        PrizeRecord awardedPrize = rafflePort.awardPrize(prize, participantId);
+        // The winner is marked as attended
+        if (prize.raffle() != null) {
+            checkInApplicationService.invalidateIndex(prize.raffle().meetupEventId());
+        } else {
+            checkInApplicationService.invalidateIndexes();
+        }
+        return awardedPrize;
     }
 
     /**
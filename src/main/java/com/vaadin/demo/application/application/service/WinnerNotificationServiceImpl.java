@@ -0,0 +1,278 @@
+package com.vaadin.demo.application.application.service;
+
+import com.vaadin.demo.application.application.port.in.WinnerNotificationService;
+import com.vaadin.demo.application.application.port.out.MetricsPort;
+import com.vaadin.demo.application.application.port.out.NotificationPort;
+import com.vaadin.demo.application.application.port.out.NotificationSenderPort;
+import com.vaadin.demo.application.application.port.out.RafflePort;
+import com.vaadin.demo.application.domain.model.NotificationDeliveryRecord;
+import com.vaadin.demo.application.domain.model.NotificationDeliveryRecord.DeliveryStatus;
+import com.vaadin.demo.application.domain.model.NotificationRunRecord;
+import com.vaadin.demo.application.domain.model.PrizeRecord;
+import com.vaadin.demo.application.domain.model.RaffleRecord;
+import com.vaadin.demo.application.domain.model.WinnerNotificationRecord;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * Mail merge of the winner notifications.
+ * <ul>
+ *   <li>the texts of the awarded prizes are rendered in parallel and queued, the delivery status is saved as PENDING</li>
+ *   <li>a background thread hands the queue to the NotificationSenderPort in batches of batch-size, but at most
+ *   rate-per-second notifications (at least one), as a batch leaves in one burst</li>
+ *   <li>after each batch it pauses until the sent notifications fit into rate-per-second</li>
+ *   <li>failed notifications are retried after retry-backoff, doubled with each attempt, and marked FAILED
+ *   after max-attempts</li>
+ * </ul>
+ * The queue is kept in memory. Notifications still queued on shutdown stay PENDING and are queued again
+ * by the next notifyWinners of their raffle.
+ * Metrics: notification.winner.queued (queue depth), notification.winner.batch (batch latency, tagged with
+ * the outcome) and notification.winner.delivered (notifications per delivery status).
+ */
+@Service
+@Slf4j
+public class WinnerNotificationServiceImpl implements WinnerNotificationService, DisposableBean {
+
+    static final String QUEUED_METRIC = "notification.winner.queued";
+    static final String BATCH_METRIC = "notification.winner.batch";
+    static final String DELIVERED_METRIC = "notification.winner.delivered";
+
+    private record QueuedNotification(WinnerNotificationRecord notification, int attempts) { }
+
+    private final RafflePort rafflePort;
+    private final NotificationPort notificationPort;
+    private final NotificationSenderPort notificationSenderPort;
+    private final MetricsPort metricsPort;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration retryBackoff;
+    private final double ratePerSecond;
+    private final ScheduledExecutorService deliveryExecutor;
+
+    private final Queue<QueuedNotification> queue = new ConcurrentLinkedQueue<>();
+    // queued or waiting for a retry, a prize is never queued twice
+    private final Set<Long> queuedPrizeIds = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean deliveryScheduled = new AtomicBoolean();
+
+    @Autowired
+    public WinnerNotificationServiceImpl(RafflePort rafflePort,
+                                         NotificationPort notificationPort,
+                                         NotificationSenderPort notificationSenderPort,
+                                         MetricsPort metricsPort,
+                                         @Value("${app.notification.batch-size:20}") int batchSize,
+                                         @Value("${app.notification.max-attempts:3}") int maxAttempts,
+                                         @Value("${app.notification.retry-backoff:30s}") Duration retryBackoff,
+                                         @Value("${app.notification.rate-per-second:2}") double ratePerSecond) {
+        this(rafflePort, notificationPort, notificationSenderPort, metricsPort, batchSize, maxAttempts, retryBackoff,
+                ratePerSecond, Executors.newSingleThreadScheduledExecutor(deliveryThreadFactory()));
+    }
+
+    WinnerNotificationServiceImpl(RafflePort rafflePort,
+                                  NotificationPort notificationPort,
+                                  NotificationSenderPort notificationSenderPort,
+                                  MetricsPort metricsPort,
+                                  int batchSize,
+                                  int maxAttempts,
+                                  Duration retryBackoff,
+                                  double ratePerSecond,
+                                  ScheduledExecutorService deliveryExecutor) {
+        if (batchSize < 1 || maxAttempts < 1 || ratePerSecond <= 0) {
+            throw new IllegalArgumentException("Batch size, max attempts and rate per second must be positive");
+        }
+        this.rafflePort = rafflePort;
+        this.notificationPort = notificationPort;
+        this.notificationSenderPort = notificationSenderPort;
+        this.metricsPort = metricsPort;
+        // A batch is sent at once, so a larger batch would exceed the rate within its second
+        this.batchSize = Math.max(1, Math.min(batchSize, (int) Math.floor(ratePerSecond)));
+        this.maxAttempts = maxAttempts;
+        this.retryBackoff = retryBackoff;
+        this.ratePerSecond = ratePerSecond;
+        this.deliveryExecutor = deliveryExecutor;
+
+        metricsPort.registerGauge(QUEUED_METRIC, "Winner notifications waiting to be sent", queuedPrizeIds::size);
+    }
+
+    private static CustomizableThreadFactory deliveryThreadFactory() {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("winner-notification-");
+        threadFactory.setDaemon(true);
+        return threadFactory;
+    }
+
+    @Override
+    public NotificationRunRecord notifyWinners(Long raffleId) {
+        RaffleRecord raffle = rafflePort.getRaffleById(raffleId)
+                .orElseThrow(() -> new IllegalArgumentException("Raffle not found: " + raffleId));
+        Set<Long> sentPrizeIds = notificationPort.getDeliveriesForRaffle(raffleId).stream()
+                .filter(delivery -> delivery.status() == DeliveryStatus.SENT)
+                .map(NotificationDeliveryRecord::prizeId)
+                .collect(Collectors.toSet());
+
+        List<PrizeRecord> awardedPrizes = rafflePort.getPrizesForRaffle(raffle).stream()
+                .filter(prize -> prize.winner() != null)
+                .toList();
+
+        // Rendering is independent per prize, the prizes are loaded with winner and event
+        List<WinnerNotificationRecord> notifications = awardedPrizes.parallelStream()
+                .filter(prize -> !sentPrizeIds.contains(prize.id()) && !queuedPrizeIds.contains(prize.id()))
+                .map(WinnerNotificationRecord::of)
+                .toList();
+
+        OffsetDateTime now = OffsetDateTime.now();
+        List<NotificationDeliveryRecord> deliveries = new ArrayList<>(notifications.size());
+        List<WinnerNotificationRecord> toQueue = new ArrayList<>(notifications.size());
+        for (WinnerNotificationRecord notification : notifications) {
+            if (notification.hasRecipient()) {
+                deliveries.add(NotificationDeliveryRecord.pending(notification, now));
+                toQueue.add(notification);
+            } else {
+                deliveries.add(NotificationDeliveryRecord.skipped(notification, now));
+            }
+        }
+        notificationPort.saveDeliveries(deliveries);
+
+        int queued = 0;
+        for (WinnerNotificationRecord notification : toQueue) {
+            if (queuedPrizeIds.add(notification.prizeId())) {
+                queue.add(new QueuedNotification(notification, 0));
+                queued++;
+            }
+        }
+        if (queued > 0) {
+            scheduleDelivery(0);
+        }
+
+        log.info("Queued {} winner notifications of raffle {}", queued, raffleId);
+        return new NotificationRunRecord(queued, notifications.size() - toQueue.size(),
+                awardedPrizes.size() - notifications.size() + toQueue.size() - queued);
+    }
+
+    @Override
+    public List<NotificationDeliveryRecord> getDeliveries(Long raffleId) {
+        return notificationPort.getDeliveriesForRaffle(raffleId);
+    }
+
+    @Override
+    public int getQueuedCount() {
+        return queuedPrizeIds.size();
+    }
+
+    /**
+     * Send the next batch and save its delivery status
+     * @return the number of notifications handed to the sender
+     */
+    int deliverNextBatch() {
+        List<QueuedNotification> batch = new ArrayList<>(batchSize);
+        QueuedNotification next;
+        while (batch.size() < batchSize && (next = queue.poll()) != null) {
+            batch.add(next);
+        }
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        Map<Long, String> failures;
+        long start = System.nanoTime();
+        try {
+            failures = notificationSenderPort.send(batch.stream().map(QueuedNotification::notification).toList());
+            metricsPort.recordDuration(BATCH_METRIC, Duration.ofNanos(System.nanoTime() - start), "outcome", "success");
+        } catch (RuntimeException e) {
+            metricsPort.recordDuration(BATCH_METRIC, Duration.ofNanos(System.nanoTime() - start), "outcome", "failure");
+            log.warn("Sending a batch of {} winner notifications failed", batch.size(), e);
+            String error = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+            failures = batch.stream().collect(Collectors.toMap(queued -> queued.notification().prizeId(), queued -> error));
+        }
+
+        OffsetDateTime now = OffsetDateTime.now();
+        List<NotificationDeliveryRecord> deliveries = new ArrayList<>(batch.size());
+        for (QueuedNotification queued : batch) {
+            WinnerNotificationRecord notification = queued.notification();
+            int attempts = queued.attempts() + 1;
+            String error = failures.get(notification.prizeId());
+            DeliveryStatus status;
+            if (error == null) {
+                status = DeliveryStatus.SENT;
+                queuedPrizeIds.remove(notification.prizeId());
+            } else if (attempts >= maxAttempts) {
+                status = DeliveryStatus.FAILED;
+                queuedPrizeIds.remove(notification.prizeId());
+            } else {
+                status = DeliveryStatus.PENDING;
+                scheduleRetry(new QueuedNotification(notification, attempts));
+            }
+            deliveries.add(new NotificationDeliveryRecord(notification.prizeId(), notification.recipientEmail(),
+                    status, attempts, error, now));
+            metricsPort.increment(DELIVERED_METRIC, 1, "status", status.name().toLowerCase());
+        }
+        notificationPort.saveDeliveries(deliveries);
+        return batch.size();
+    }
+
+    private void scheduleDelivery(long delayMillis) {
+        if (deliveryScheduled.compareAndSet(false, true)) {
+            deliveryExecutor.schedule(this::deliverInBackground, delayMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Retry after the backoff, doubled with each attempt
+     */
+    private void scheduleRetry(QueuedNotification retry) {
+        long delayMillis = retryBackoff.toMillis() << Math.min(retry.attempts() - 1, 10);
+        deliveryExecutor.schedule(() -> {
+            queue.add(retry);
+            scheduleDelivery(0);
+        }, delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private void deliverInBackground() {
+        int sent = 0;
+        try {
+            sent = deliverNextBatch();
+        } catch (RuntimeException e) {
+            log.warn("Saving the delivery status of the winner notifications failed", e);
+        }
+
+        // Rate limit: the next batch waits until the notifications just sent fit into the rate
+        long pauseMillis = Math.round(sent * 1000 / ratePerSecond);
+        if (!queue.isEmpty()) {
+            deliveryExecutor.schedule(this::deliverInBackground, pauseMillis, TimeUnit.MILLISECONDS);
+            return;
+        }
+        deliveryScheduled.set(false);
+        if (!queue.isEmpty()) {
+            scheduleDelivery(pauseMillis);
+        }
+    }
+
+    /**
+     * Stop sending, queued notifications stay PENDING
+     */
+    @Override
+    public void destroy() {
+        deliveryExecutor.shutdownNow();
+        if (!queuedPrizeIds.isEmpty()) {
+            log.warn("{} winner notifications were not sent, they are queued again by the next notify of their raffle",
+                    queuedPrizeIds.size());
+        }
+    }
+}
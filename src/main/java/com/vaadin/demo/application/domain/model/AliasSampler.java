@@ -0,0 +1,108 @@
+package com.vaadin.demo.application.domain.model;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Weighted sampling with Walker's alias method (Vose's variant): O(n) setup, O(1) per sample.
+ * Each of the n columns holds the probability to keep the column and the alias taken otherwise,
+ * so a sample needs one uniform column and one uniform coin.
+ */
+public final class AliasSampler {
+
+    private final double[] probability;
+    private final int[] alias;
+
+    public AliasSampler(double[] weights) {
+        int n = weights.length;
+        if (n == 0) {
+            throw new IllegalArgumentException("No weights to sample from");
+        }
+        double sum = 0;
+        for (double weight : weights) {
+            if (!(weight >= 0) || Double.isInfinite(weight)) {
+                throw new IllegalArgumentException("Weights must be finite and not negative: " + weight);
+            }
+            sum += weight;
+        }
+        if (sum <= 0) {
+            throw new IllegalArgumentException("At least one weight must be positive");
+        }
+
+        probability = new double[n];
+        alias = new int[n];
+        double[] scaled = new double[n];
+        int[] small = new int[n];
+        int[] large = new int[n];
+        int smallCount = 0;
+        int largeCount = 0;
+        for (int i = 0; i < n; i++) {
+            scaled[i] = weights[i] * n / sum;
+            if (scaled[i] < 1.0) {
+                small[smallCount++] = i;
+            } else {
+                large[largeCount++] = i;
+            }
+        }
+
+        while (smallCount > 0 && largeCount > 0) {
+            int less = small[--smallCount];
+            int more = large[--largeCount];
+            probability[less] = scaled[less];
+            alias[less] = more;
+            scaled[more] = (scaled[more] + scaled[less]) - 1.0;
+            if (scaled[more] < 1.0) {
+                small[smallCount++] = more;
+            } else {
+                large[largeCount++] = more;
+            }
+        }
+        // What is left is 1 up to rounding errors
+        while (largeCount > 0) {
+            int index = large[--largeCount];
+            probability[index] = 1.0;
+            alias[index] = index;
+        }
+        while (smallCount > 0) {
+            int index = small[--smallCount];
+            probability[index] = 1.0;
+            alias[index] = index;
+        }
+    }
+
+    /**
+     * Number of columns, i.e. weights
+     */
+    public int size() {
+        return probability.length;
+    }
+
+    /**
+     * Sample with a uniform column in [0, size) and a uniform coin in [0, 1)
+     */
+    public int sample(int column, double coin) {
+        return coin < probability[column] ? column : alias[column];
+    }
+
+    /**
+     * Sample with the given random generator
+     */
+    public int sample(RandomGenerator random) {
+        return sample(random.nextInt(probability.length), random.nextDouble());
+    }
+
+    /**
+     * Probability that the given index is sampled, as encoded in the table
+     */
+    public double probabilityOf(int index) {
+        double result = 0;
+        for (int column = 0; column < probability.length; column++) {
+            if (column == index) {
+                result += probability[column];
+            }
+            if (alias[column] == index) {
+                result += 1.0 - probability[column];
+            }
+        }
+        return result / probability.length;
+    }
+}
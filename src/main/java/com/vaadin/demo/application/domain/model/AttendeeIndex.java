@@ -0,0 +1,231 @@
+package com.vaadin.demo.application.domain.model;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory search index over the participants of one event, by name, email and Meetup ID.
+ * <ul>
+ *   <li>names, emails and Meetup IDs are split into lower case tokens without accents
+ *   ("Jürgen Müller", "j.mueller@example.com" gives jurgen, muller, j, mueller, example, com)</li>
+ *   <li>every query term must match a token of the entry, by prefix (binary search over the sorted tokens)
+ *   or, from 3 characters, fuzzy: 1 typo, 2 from 6 characters, compared with the token's prefixes</li>
+ *   <li>exact tokens rank before prefixes and prefixes before fuzzy matches</li>
+ * </ul>
+ * The tokens are fixed when the index is built, the attendance status can be changed concurrently.
+ */
+public final class AttendeeIndex {
+
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final int EXACT = 3;
+    private static final int PREFIX = 2;
+    private static final int FUZZY = 1;
+
+    private final Map<Long, CheckInEntryRecord> entries = new ConcurrentHashMap<>();
+    private final String[] tokens;
+    private final Long[][] postings;
+
+    public AttendeeIndex(Collection<CheckInEntryRecord> entries) {
+        Map<String, List<Long>> tokenPostings = new TreeMap<>();
+        for (CheckInEntryRecord entry : entries) {
+            this.entries.put(entry.participantId(), entry);
+            for (String token : tokensOf(entry)) {
+                List<Long> ids = tokenPostings.computeIfAbsent(token, t -> new ArrayList<>());
+                if (ids.isEmpty() || !ids.get(ids.size() - 1).equals(entry.participantId())) {
+                    ids.add(entry.participantId());
+                }
+            }
+        }
+        tokens = tokenPostings.keySet().toArray(String[]::new);
+        postings = tokenPostings.values().stream().map(ids -> ids.toArray(Long[]::new)).toArray(Long[][]::new);
+    }
+
+    private static List<String> tokensOf(CheckInEntryRecord entry) {
+        List<String> result = new ArrayList<>();
+        for (String field : new String[]{entry.name(), entry.email(), entry.memberMeetupId()}) {
+            result.addAll(terms(field));
+        }
+        return result.stream().distinct().toList();
+    }
+
+    /**
+     * Split a text into lower case terms without accents
+     */
+    static List<String> terms(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        String normalized = MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("")
+            .toLowerCase(Locale.ROOT);
+        return Arrays.stream(SEPARATORS.split(normalized)).filter(term -> !term.isEmpty()).toList();
+    }
+
+    /**
+     * Find the entries matching all terms of the query, best matches first.
+     * A blank query returns all entries by name.
+     */
+    public List<CheckInEntryRecord> search(String query, int limit) {
+        List<String> queryTerms = terms(query);
+        Comparator<CheckInEntryRecord> byName = Comparator
+            .comparing((CheckInEntryRecord entry) -> entry.displayName() == null ? "" : entry.displayName(),
+                String.CASE_INSENSITIVE_ORDER)
+            .thenComparing(CheckInEntryRecord::participantId);
+        if (queryTerms.isEmpty()) {
+            return entries.values().stream().sorted(byName).limit(limit).toList();
+        }
+
+        Map<Long, Integer> scores = null;
+        for (String term : queryTerms) {
+            Map<Long, Integer> termScores = match(term);
+            if (scores == null) {
+                scores = termScores;
+            } else {
+                Map<Long, Integer> combined = new HashMap<>();
+                for (Map.Entry<Long, Integer> score : scores.entrySet()) {
+                    Integer termScore = termScores.get(score.getKey());
+                    if (termScore != null) {
+                        combined.put(score.getKey(), score.getValue() + termScore);
+                    }
+                }
+                scores = combined;
+            }
+            if (scores.isEmpty()) {
+                return List.of();
+            }
+        }
+
+        Map<Long, Integer> finalScores = scores;
+        return finalScores.keySet().stream()
+            .map(entries::get)
+            .sorted(Comparator.comparing((CheckInEntryRecord entry) -> finalScores.get(entry.participantId()))
+                .reversed()
+                .thenComparing(byName))
+            .limit(limit)
+            .toList();
+    }
+
+    /**
+     * Best score per participant for one query term
+     */
+    private Map<Long, Integer> match(String term) {
+        Map<Long, Integer> scores = new HashMap<>();
+        int first = Arrays.binarySearch(tokens, term);
+        if (first < 0) {
+            first = -first - 1;
+        }
+        for (int i = first; i < tokens.length && tokens[i].startsWith(term); i++) {
+            addScore(scores, i, tokens[i].length() == term.length() ? EXACT : PREFIX);
+        }
+
+        if (term.length() >= 3) {
+            int maxEdits = term.length() >= 6 ? 2 : 1;
+            for (int i = 0; i < tokens.length; i++) {
+                if (matchesPrefixFuzzy(term, tokens[i], maxEdits)) {
+                    addScore(scores, i, FUZZY);
+                }
+            }
+        }
+        return scores;
+    }
+
+    /**
+     * Whether a prefix of the token is at most maxEdits away from the term. Prefixes up to maxEdits
+     * shorter or longer than the term are tried, so a missing or extra letter is one edit.
+     */
+    private static boolean matchesPrefixFuzzy(String term, String token, int maxEdits) {
+        int shortest = Math.max(1, term.length() - maxEdits);
+        int longest = Math.min(token.length(), term.length() + maxEdits);
+        for (int length = shortest; length <= longest; length++) {
+            if (editDistance(term, token.substring(0, length), maxEdits) <= maxEdits) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void addScore(Map<Long, Integer> scores, int tokenIndex, int score) {
+        for (Long participantId : postings[tokenIndex]) {
+            scores.merge(participantId, score, Math::max);
+        }
+    }
+
+    /**
+     * Optimal string alignment distance (insertions, deletions, substitutions, adjacent transpositions),
+     * stops early with max + 1 once the distance exceeds max
+     */
+    static int editDistance(String a, String b, int max) {
+        if (Math.abs(a.length() - b.length()) > max) {
+            return max + 1;
+        }
+        int[] previousRow = new int[b.length() + 1];
+        int[] row = new int[b.length() + 1];
+        int[] nextRow = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            row[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            nextRow[0] = i;
+            int rowMin = nextRow[0];
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                int distance = Math.min(Math.min(nextRow[j - 1] + 1, row[j] + 1), row[j - 1] + cost);
+                if (i > 1 && j > 1 && a.charAt(i - 1) == b.charAt(j - 2) && a.charAt(i - 2) == b.charAt(j - 1)) {
+                    distance = Math.min(distance, previousRow[j - 2] + 1);
+                }
+                nextRow[j] = distance;
+                rowMin = Math.min(rowMin, distance);
+            }
+            if (rowMin > max) {
+                return max + 1;
+            }
+            int[] recycled = previousRow;
+            previousRow = row;
+            row = nextRow;
+            nextRow = recycled;
+        }
+        return row[b.length()];
+    }
+
+    /**
+     * Get an entry by participant ID
+     */
+    public Optional<CheckInEntryRecord> get(Long participantId) {
+        return Optional.ofNullable(entries.get(participantId));
+    }
+
+    /**
+     * Set the attendance status of an entry
+     * @return the updated entry
+     */
+    public CheckInEntryRecord updateAttendanceStatus(Long participantId, ParticipantRecord.AttendanceStatus status) {
+        CheckInEntryRecord updated = entries.computeIfPresent(participantId,
+            (id, entry) -> entry.withAttendanceStatus(status));
+        if (updated == null) {
+            throw new IllegalArgumentException("Participant not found at check-in: " + participantId);
+        }
+        return updated;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Number of entries checked in
+     */
+    public int checkedInCount() {
+        return (int) entries.values().stream().filter(CheckInEntryRecord::isCheckedIn).count();
+    }
+}
@@ -0,0 +1,15 @@
+package com.vaadin.demo.application.domain.model;
+
+import java.util.List;
+
+/**
+ * Immutable result of drawing all unawarded prizes of a raffle at once, for review.
+ * prizesWithoutWinner counts the prizes left over when the eligible entrants ran out.
+ */
+public record BulkDrawRecord(
+    Long raffleId,
+    List<DrawRecord> draws,
+    List<PrizeRecord> awardedPrizes,
+    int prizesWithoutWinner
+) {
+}
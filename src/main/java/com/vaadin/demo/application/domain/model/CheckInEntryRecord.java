@@ -0,0 +1,31 @@
+package com.vaadin.demo.application.domain.model;
+
+/**
+ * Immutable domain object representing a participant at the door check-in, reduced to what the search needs
+ */
+public record CheckInEntryRecord(
+    Long participantId,
+    String name,
+    String email,
+    String memberMeetupId,
+    ParticipantRecord.RsvpStatus rsvpStatus,
+    ParticipantRecord.AttendanceStatus attendanceStatus
+) {
+    /**
+     * Name to show, falls back to the Meetup ID for members without a name
+     */
+    public String displayName() {
+        return name != null && !name.isBlank() ? name : memberMeetupId;
+    }
+
+    public boolean isCheckedIn() {
+        return attendanceStatus == ParticipantRecord.AttendanceStatus.ATTENDED;
+    }
+
+    /**
+     * Create a copy with another attendance status
+     */
+    public CheckInEntryRecord withAttendanceStatus(ParticipantRecord.AttendanceStatus attendanceStatus) {
+        return new CheckInEntryRecord(participantId, name, email, memberMeetupId, rsvpStatus, attendanceStatus);
+    }
+}
@@ -0,0 +1,45 @@
+package com.vaadin.demo.application.domain.model;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+/**
+ * Immutable result of a server-side raffle draw for one prize.
+ * The candidates are the eligibility snapshot in canonical order (see FairDraw), only their hash is persisted,
+ * so draws read back from the database have no candidates.
+ */
+public record DrawRecord(
+    Long id,
+    Long prizeId,
+    List<EligibleEntrantRecord> candidates,
+    int candidateCount,
+    int winnerIndex,
+    Long winnerParticipantId,
+    String seed,
+    String candidatesHash,
+    OffsetDateTime drawnAt
+) {
+    /**
+     * Create a new, not yet persisted draw from the snapshot and the drawn index
+     */
+    public static DrawRecord of(Long prizeId, List<EligibleEntrantRecord> candidates, int winnerIndex,
+                                String seed, String candidatesHash, OffsetDateTime drawnAt) {
+        return new DrawRecord(null, prizeId, List.copyOf(candidates), candidates.size(), winnerIndex,
+            candidates.get(winnerIndex).participantId(), seed, candidatesHash, drawnAt);
+    }
+
+    /**
+     * The drawn entrant, only available while the snapshot is attached
+     */
+    public EligibleEntrantRecord winner() {
+        return candidates.get(winnerIndex);
+    }
+
+    /**
+     * Create a copy with the ID assigned on save, keeping the snapshot
+     */
+    public DrawRecord withId(Long id) {
+        return new DrawRecord(id, prizeId, candidates, candidateCount, winnerIndex, winnerParticipantId,
+            seed, candidatesHash, drawnAt);
+    }
+}
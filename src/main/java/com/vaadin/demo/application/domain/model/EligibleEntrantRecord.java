@@ -0,0 +1,28 @@
+package com.vaadin.demo.application.domain.model;
+
+/**
+ * Immutable domain object representing a participant who can still win a prize of a raffle,
+ * reduced to what the spin wheel and the weighted draw need
+ */
+public record EligibleEntrantRecord(
+    Long participantId,
+    String memberMeetupId,
+    String displayName,
+    boolean firstEvent,
+    int attendedEvents,
+    double weight
+) {
+    /**
+     * Create an entrant with the default weight 1
+     */
+    public EligibleEntrantRecord(Long participantId, String memberMeetupId, String displayName) {
+        this(participantId, memberMeetupId, displayName, false, 0, 1.0);
+    }
+
+    /**
+     * Create a copy with the weight of the draw
+     */
+    public EligibleEntrantRecord withWeight(double weight) {
+        return new EligibleEntrantRecord(participantId, memberMeetupId, displayName, firstEvent, attendedEvents, weight);
+    }
+}
@@ -18,7 +18,7 @@ public record EventRecordWithRSVPs(
     List<RSVPMember> members
 ) {
     public record RSVPMember(
-        String id, String name, String email, String rsvp_id, Boolean isOrganizer, Boolean hasEnteredRaffle
+        String id, String name, String email, String rsvp_id, Boolean isOrganizer, Boolean hasEnteredRaffle, boolean isFirstEvent
     ) {}
 
     /**
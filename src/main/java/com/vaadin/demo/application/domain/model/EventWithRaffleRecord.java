@@ -0,0 +1,16 @@
+package com.vaadin.demo.application.domain.model;
+
+/**
+ * Read model for event lists: an event together with the ID of its raffle (null if it has none)
+ */
+public record EventWithRaffleRecord(
+    EventRecord event,
+    Long raffleId
+) {
+    /**
+     * Whether a raffle was already created for the event
+     */
+    public boolean hasRaffle() {
+        return raffleId != null;
+    }
+}
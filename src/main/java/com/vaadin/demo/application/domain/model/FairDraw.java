@@ -0,0 +1,141 @@
+package com.vaadin.demo.application.domain.model;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Reproducible raffle draw. Anyone with the seed and the candidate list can recompute the winner:
+ * <ol>
+ *   <li>the candidates are ordered by participant ID</li>
+ *   <li>candidatesHash = hex(SHA-256(one line "participantId:memberMeetupId\n" per candidate)),
+ *   a weight other than 1 is appended to the line as ":weight"</li>
+ *   <li>column = SHA-256(seed + ":" + candidatesHash) as unsigned integer mod candidate count</li>
+ *   <li>uniform draw: winnerIndex = column</li>
+ *   <li>weighted draw: coin = the first 53 bits of SHA-256(seed + ":" + candidatesHash + ":coin") as fraction of 1,
+ *   winnerIndex = the alias table of the weights (see AliasSampler) sampled at column and coin</li>
+ * </ol>
+ * The seed comes from a SecureRandom, the modulo bias of a 256 bit number is negligible.
+ * With equal weights every column keeps itself, so a weighted draw gives the same winner as a uniform one.
+ * Several prizes are drawn without replacement: every draw has its own seed and indexes the candidates
+ * not drawn before, so each draw can be verified on its own.
+ */
+public final class FairDraw {
+
+    private FairDraw() {
+    }
+
+    /**
+     * The candidates in the order the draw indexes them
+     */
+    public static List<EligibleEntrantRecord> canonicalOrder(List<EligibleEntrantRecord> candidates) {
+        return candidates.stream()
+            .sorted(Comparator.comparing(EligibleEntrantRecord::participantId))
+            .toList();
+    }
+
+    /**
+     * Hash of the candidates in canonical order
+     */
+    public static String candidatesHash(List<EligibleEntrantRecord> candidates) {
+        StringBuilder lines = new StringBuilder();
+        for (EligibleEntrantRecord candidate : canonicalOrder(candidates)) {
+            lines.append(candidate.participantId()).append(':').append(candidate.memberMeetupId());
+            if (candidate.weight() != 1.0) {
+                lines.append(':').append(candidate.weight());
+            }
+            lines.append('\n');
+        }
+        return HexFormat.of().formatHex(sha256(lines.toString()));
+    }
+
+    /**
+     * Index of the winner in the canonical candidate list
+     */
+    public static int winnerIndex(String seed, String candidatesHash, int candidateCount) {
+        if (candidateCount <= 0) {
+            throw new IllegalArgumentException("No candidates to draw from");
+        }
+        BigInteger value = new BigInteger(1, sha256(seed + ":" + candidatesHash));
+        return value.mod(BigInteger.valueOf(candidateCount)).intValue();
+    }
+
+    /**
+     * Index of the winner in the canonical candidate list, weighted with the given alias table
+     */
+    public static int winnerIndex(String seed, String candidatesHash, AliasSampler sampler) {
+        int column = winnerIndex(seed, candidatesHash, sampler.size());
+        byte[] coinBits = sha256(seed + ":" + candidatesHash + ":coin");
+        long bits = 0;
+        for (int i = 0; i < Long.BYTES; i++) {
+            bits = (bits << 8) | (coinBits[i] & 0xFF);
+        }
+        double coin = (bits >>> 11) * 0x1.0p-53;
+        return sampler.sample(column, coin);
+    }
+
+    /**
+     * Index of the winner in the canonical candidate list, using the candidates' weights
+     */
+    public static int winnerIndex(String seed, String candidatesHash, List<EligibleEntrantRecord> orderedCandidates) {
+        if (isUniform(orderedCandidates)) {
+            return winnerIndex(seed, candidatesHash, orderedCandidates.size());
+        }
+        double[] weights = orderedCandidates.stream().mapToDouble(EligibleEntrantRecord::weight).toArray();
+        return winnerIndex(seed, candidatesHash, new AliasSampler(weights));
+    }
+
+    private static boolean isUniform(List<EligibleEntrantRecord> candidates) {
+        return candidates.stream().mapToDouble(EligibleEntrantRecord::weight).distinct().count() <= 1;
+    }
+
+    /**
+     * Draw one winner per prize, in the given prize order, without replacement.
+     * Stops early when the candidates run out, the remaining prizes get no draw.
+     * A weighted draw rebuilds the alias table of the remaining candidates per prize, O(n) each.
+     */
+    public static List<DrawRecord> drawWithoutReplacement(List<Long> prizeIds, List<EligibleEntrantRecord> candidates,
+                                                          Supplier<String> seeds, OffsetDateTime drawnAt) {
+        List<EligibleEntrantRecord> remaining = new ArrayList<>(canonicalOrder(candidates));
+        List<DrawRecord> draws = new ArrayList<>();
+        for (Long prizeId : prizeIds) {
+            if (remaining.isEmpty()) {
+                break;
+            }
+            String seed = seeds.get();
+            String hash = candidatesHash(remaining);
+            int index = winnerIndex(seed, hash, remaining);
+            draws.add(DrawRecord.of(prizeId, remaining, index, seed, hash, drawnAt));
+            remaining.remove(index);
+        }
+        return draws;
+    }
+
+    /**
+     * Recompute a persisted draw from the candidate list of that time
+     */
+    public static boolean verify(DrawRecord draw, List<EligibleEntrantRecord> candidates) {
+        List<EligibleEntrantRecord> ordered = canonicalOrder(candidates);
+        String hash = candidatesHash(ordered);
+        if (ordered.isEmpty() || ordered.size() != draw.candidateCount() || !hash.equals(draw.candidatesHash())) {
+            return false;
+        }
+        int index = winnerIndex(draw.seed(), hash, ordered);
+        return index == draw.winnerIndex() && ordered.get(index).participantId().equals(draw.winnerParticipantId());
+    }
+
+    private static byte[] sha256(String text) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(text.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
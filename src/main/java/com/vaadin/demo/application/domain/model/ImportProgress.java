@@ -0,0 +1,50 @@
+package com.vaadin.demo.application.domain.model;
+
+/**
+ * Immutable progress state of a multi-event import.
+ * The last event handled is described by meetupEventId, title and error (null on success).
+ */
+public record ImportProgress(
+    int total,
+    int imported,
+    int failed,
+    String meetupEventId,
+    String title,
+    String error
+) {
+    /**
+     * Nothing imported yet
+     */
+    public static ImportProgress started(int total) {
+        return new ImportProgress(total, 0, 0, null, null, null);
+    }
+
+    /**
+     * Progress after the given event was imported
+     */
+    public ImportProgress withImported(String meetupEventId, String title) {
+        return new ImportProgress(total, imported + 1, failed, meetupEventId, title, null);
+    }
+
+    /**
+     * Progress after the given event failed to import
+     */
+    public ImportProgress withFailed(String meetupEventId, String error) {
+        return new ImportProgress(total, imported, failed + 1, meetupEventId, null, error);
+    }
+
+    public int completed() {
+        return imported + failed;
+    }
+
+    public boolean isFinished() {
+        return completed() >= total;
+    }
+
+    /**
+     * Share of handled events between 0 and 1, e.g. for a progress bar
+     */
+    public double fraction() {
+        return total == 0 ? 1.0 : (double) completed() / total;
+    }
+}
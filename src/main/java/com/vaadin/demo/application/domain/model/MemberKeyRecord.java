@@ -0,0 +1,26 @@
+package com.vaadin.demo.application.domain.model;
+
+/**
+ * Position in the member directory, ordered by name and ID. A search page starts after this key.
+ */
+public record MemberKeyRecord(
+    String name,
+    Long id
+) {
+    /**
+     * Before the first member
+     */
+    public static final MemberKeyRecord FIRST = new MemberKeyRecord("", Long.MIN_VALUE);
+
+    public MemberKeyRecord {
+        // Members without a name sort first, like in the query
+        name = name == null ? "" : name;
+    }
+
+    /**
+     * The key of a member, the next page starts after it
+     */
+    public static MemberKeyRecord of(MemberFormRecord member) {
+        return new MemberKeyRecord(member.name(), member.id());
+    }
+}
@@ -0,0 +1,32 @@
+package com.vaadin.demo.application.domain.model;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Immutable delivery status of the winner notification of a prize
+ */
+public record NotificationDeliveryRecord(
+    Long prizeId,
+    String recipientEmail,
+    DeliveryStatus status,
+    int attempts,
+    String lastError,
+    OffsetDateTime updatedAt
+) {
+    public enum DeliveryStatus {
+        PENDING,    // Queued or waiting for a retry
+        SENT,       // Accepted by the mail server (or written to the outbox)
+        FAILED,     // Given up after the last attempt
+        SKIPPED     // The winner has no email address
+    }
+
+    public static NotificationDeliveryRecord pending(WinnerNotificationRecord notification, OffsetDateTime now) {
+        return new NotificationDeliveryRecord(notification.prizeId(), notification.recipientEmail(),
+            DeliveryStatus.PENDING, 0, null, now);
+    }
+
+    public static NotificationDeliveryRecord skipped(WinnerNotificationRecord notification, OffsetDateTime now) {
+        return new NotificationDeliveryRecord(notification.prizeId(), notification.recipientEmail(),
+            DeliveryStatus.SKIPPED, 0, "The winner has no email address", now);
+    }
+}
@@ -0,0 +1,8 @@
+package com.vaadin.demo.application.domain.model;
+
+/**
+ * Immutable summary of a "notify winners" request: queued notifications, winners without an email address
+ * and prizes that were already sent or are still queued
+ */
+public record NotificationRunRecord(int queued, int skipped, int alreadyHandled) {
+}
@@ -0,0 +1,21 @@
+package com.vaadin.demo.application.domain.model;
+
+/**
+ * Read-only row of the participants grid, holds only the displayed columns
+ */
+public record ParticipantRowRecord(
+    Long id,
+    String name,
+    String email,
+    boolean isOrganizer,
+    boolean hasEnteredRaffle,
+    ParticipantRecord.RsvpStatus rsvpStatus,
+    ParticipantRecord.AttendanceStatus attendanceStatus
+) {
+    /**
+     * Create a copy with another attendance status
+     */
+    public ParticipantRowRecord withAttendanceStatus(ParticipantRecord.AttendanceStatus attendanceStatus) {
+        return new ParticipantRowRecord(id, name, email, isOrganizer, hasEnteredRaffle, rsvpStatus, attendanceStatus);
+    }
+}
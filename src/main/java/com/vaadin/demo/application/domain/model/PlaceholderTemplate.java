@@ -0,0 +1,97 @@
+package com.vaadin.demo.application.domain.model;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * A text with {{NAME}} placeholders, parsed once into literals and placeholder names.
+ * Rendering sizes the builder from the literals and the values and appends every part once,
+ * instead of scanning the whole text again for each placeholder.
+ * <p>
+ * Compiled templates are cached by text, the same template is rendered for every prize created from it.
+ * A placeholder without a value is kept as written, "{{" without "}}" on the same line is plain text.
+ */
+public final class PlaceholderTemplate {
+
+    private static final int CACHE_LIMIT = 256;
+    private static final Map<String, PlaceholderTemplate> CACHE = new ConcurrentHashMap<>();
+
+    /** One more literal than placeholders: literal, placeholder, literal, ..., literal */
+    private final String[] literals;
+    private final String[] placeholders;
+    private final int literalLength;
+
+    private PlaceholderTemplate(List<String> literals, List<String> placeholders) {
+        this.literals = literals.toArray(String[]::new);
+        this.placeholders = placeholders.toArray(String[]::new);
+        this.literalLength = literals.stream().mapToInt(String::length).sum();
+    }
+
+    /**
+     * The compiled template of the text, parsed on first use
+     */
+    public static PlaceholderTemplate compile(String text) {
+        PlaceholderTemplate cached = CACHE.get(text);
+        if (cached != null) {
+            return cached;
+        }
+        if (CACHE.size() >= CACHE_LIMIT) {
+            // Templates are edited rarely, starting over is cheaper than tracking the least recently used
+            CACHE.clear();
+        }
+        return CACHE.computeIfAbsent(text, PlaceholderTemplate::parse);
+    }
+
+    private static PlaceholderTemplate parse(String text) {
+        List<String> literals = new ArrayList<>();
+        List<String> placeholders = new ArrayList<>();
+        int literalStart = 0;
+        int open = text.indexOf("{{");
+        while (open >= 0) {
+            int close = text.indexOf("}}", open + 2);
+            int lineEnd = text.indexOf('\n', open + 2);
+            if (close < 0 || (lineEnd >= 0 && lineEnd < close)) {
+                // Not closed on this line, continue after the braces
+                open = text.indexOf("{{", open + 2);
+                continue;
+            }
+            literals.add(text.substring(literalStart, open));
+            placeholders.add(text.substring(open + 2, close).trim());
+            literalStart = close + 2;
+            open = text.indexOf("{{", literalStart);
+        }
+        literals.add(text.substring(literalStart));
+        return new PlaceholderTemplate(literals, placeholders);
+    }
+
+    /**
+     * The names of the placeholders in order of first appearance
+     */
+    public Set<String> placeholderNames() {
+        return new LinkedHashSet<>(List.of(placeholders));
+    }
+
+    /**
+     * Render the text with the value of each placeholder, null keeps the placeholder as written
+     */
+    public String render(Function<String, String> valueOf) {
+        String[] values = new String[placeholders.length];
+        int length = literalLength;
+        for (int i = 0; i < placeholders.length; i++) {
+            String value = valueOf.apply(placeholders[i]);
+            values[i] = value != null ? value : "{{" + placeholders[i] + "}}";
+            length += values[i].length();
+        }
+
+        StringBuilder rendered = new StringBuilder(length);
+        for (int i = 0; i < placeholders.length; i++) {
+            rendered.append(literals[i]).append(values[i]);
+        }
+        return rendered.append(literals[placeholders.length]).toString();
+    }
+}
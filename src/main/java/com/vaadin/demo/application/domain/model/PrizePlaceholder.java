@@ -0,0 +1,61 @@
+package com.vaadin.demo.application.domain.model;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * The placeholders a prize template text may contain, written as {{NAME}}
+ */
+public enum PrizePlaceholder {
+    PRIZE_NAME,
+    WINNER_NAME,
+    WINNER_EMAIL,
+    EVENT_TITLE,
+    EVENT_URL,
+    RAFFLE_DATE,
+    VOUCHER_CODE,
+    VALID_UNTIL;
+
+    private static final Map<String, PrizePlaceholder> BY_NAME = Arrays.stream(values())
+        .collect(Collectors.toUnmodifiableMap(PrizePlaceholder::name, Function.identity()));
+
+    /**
+     * The placeholder with this name, empty for an unknown name
+     */
+    public static Optional<PrizePlaceholder> byName(String name) {
+        return Optional.ofNullable(BY_NAME.get(name));
+    }
+
+    /**
+     * All placeholders as they are written in a template, for helper texts
+     */
+    public static String availablePlaceholders() {
+        return Arrays.stream(values())
+            .map(PrizePlaceholder::token)
+            .collect(Collectors.joining(", "));
+    }
+
+    /**
+     * Reject a template text with placeholders that would never be replaced
+     */
+    public static void validateTemplateText(String templateText) {
+        if (templateText == null) {
+            return;
+        }
+        Set<String> unknown = PlaceholderTemplate.compile(templateText).placeholderNames();
+        unknown.removeIf(BY_NAME::containsKey);
+        if (!unknown.isEmpty()) {
+            throw new IllegalArgumentException("Unknown placeholders in template text: "
+                + unknown.stream().map(name -> "{{" + name + "}}").collect(Collectors.joining(", "))
+                + ". Available placeholders: " + availablePlaceholders());
+        }
+    }
+
+    public String token() {
+        return "{{" + name() + "}}";
+    }
+}
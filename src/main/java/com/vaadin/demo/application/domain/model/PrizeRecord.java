@@ -1,6 +1,10 @@
 package com.vaadin.demo.application.domain.model;
 
 import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
 
 /**
  * Immutable domain object representing a prize
@@ -15,6 +19,8 @@ public record PrizeRecord(
     String voucherCode,
     LocalDate validUntil
 ) {
+    private static final DateTimeFormatter RAFFLE_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+
     /**
      * Create a prize with updated winner
      */
@@ -52,6 +58,15 @@ public record PrizeRecord(
         return template.toPrizeRecord(raffle);
     }
 
+    /**
+     * Render the template text for the winner, with the raffle date of the event
+     */
+    public String renderedText() {
+        EventRecord event = raffle != null ? raffle.event() : null;
+        String raffleDate = event != null && event.eventDate() != null ? event.eventDate().format(RAFFLE_DATE_FORMAT) : null;
+        return processedText(raffleDate, voucherCode);
+    }
+
     /**
      * Process template text by replacing placeholders with actual values
      */
@@ -60,20 +75,22 @@ public record PrizeRecord(
             return null;
         }
 
-        String processed = templateText;
-        processed = processed.replace("{{PRIZE_NAME}}", name != null ? name : "");
-        processed = processed.replace("{{WINNER_NAME}}",
-            winner != null && winner.member() != null ? winner.member().name() : "");
-        processed = processed.replace("{{RAFFLE_DATE}}", raffleDate != null ? raffleDate : "");
-        processed = processed.replace("{{VOUCHER_CODE}}", voucherCode != null ? voucherCode : "");
-
-        if (validUntil != null) {
-            processed = processed.replace("{{VALID_UNTIL}}", validUntil.toString());
-        } else {
-            processed = processed.replace("{{VALID_UNTIL}}", "");
-        }
+        MemberRecord member = winner != null ? winner.member() : null;
+        EventRecord event = raffle != null ? raffle.event() : null;
+        Map<PrizePlaceholder, String> values = new EnumMap<>(PrizePlaceholder.class);
+        values.put(PrizePlaceholder.PRIZE_NAME, name);
+        values.put(PrizePlaceholder.WINNER_NAME, member != null ? member.name() : null);
+        values.put(PrizePlaceholder.WINNER_EMAIL, member != null ? member.email() : null);
+        values.put(PrizePlaceholder.EVENT_TITLE, event != null ? event.title() : null);
+        values.put(PrizePlaceholder.EVENT_URL, event != null ? event.link() : null);
+        values.put(PrizePlaceholder.RAFFLE_DATE, raffleDate);
+        values.put(PrizePlaceholder.VOUCHER_CODE, voucherCode);
+        values.put(PrizePlaceholder.VALID_UNTIL, validUntil != null ? validUntil.toString() : null);
 
-        return processed;
+        // Known placeholders without a value become empty, unknown ones stay as written
+        return PlaceholderTemplate.compile(templateText).render(placeholder -> PrizePlaceholder.byName(placeholder)
+            .map(known -> Objects.requireNonNullElse(values.get(known), ""))
+            .orElse(null));
     }
 
     /**
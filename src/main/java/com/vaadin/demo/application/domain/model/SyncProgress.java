@@ -0,0 +1,49 @@
+package com.vaadin.demo.application.domain.model;
+
+/**
+ * Immutable progress event of a running member sync job
+ */
+public record SyncProgress(
+    String meetupEventId,
+    Phase phase,
+    int processed,
+    SyncReport report,
+    String message
+) {
+    public enum Phase {
+        QUEUED, RUNNING, COMPLETED, FAILED
+    }
+
+    /**
+     * The job was accepted and waits for a free worker
+     */
+    public static SyncProgress queued(String meetupEventId) {
+        return new SyncProgress(meetupEventId, Phase.QUEUED, 0, null, "Waiting...");
+    }
+
+    /**
+     * The job is running, {@code processed} RSVPs have been handled so far
+     */
+    public static SyncProgress running(String meetupEventId, int processed) {
+        return new SyncProgress(meetupEventId, Phase.RUNNING, processed, null,
+            processed == 0 ? "Syncing..." : "Syncing... (" + processed + ")");
+    }
+
+    /**
+     * The job finished successfully
+     */
+    public static SyncProgress completed(String meetupEventId, SyncReport report) {
+        return new SyncProgress(meetupEventId, Phase.COMPLETED, report.total(), report, report.summary());
+    }
+
+    /**
+     * The job failed
+     */
+    public static SyncProgress failed(String meetupEventId, String message) {
+        return new SyncProgress(meetupEventId, Phase.FAILED, 0, null, message);
+    }
+
+    public boolean isFinished() {
+        return phase == Phase.COMPLETED || phase == Phase.FAILED;
+    }
+}
@@ -0,0 +1,51 @@
+package com.vaadin.demo.application.domain.model;
+
+/**
+ * Immutable result of syncing the RSVPs of an event with the local database
+ */
+public record SyncReport(
+    int inserted,
+    int updated,
+    int unchanged,
+    int cancelled
+) {
+    /**
+     * Create an empty report (nothing synced)
+     */
+    public static SyncReport empty() {
+        return new SyncReport(0, 0, 0, 0);
+    }
+
+    /**
+     * Number of participants that were written to the database
+     */
+    public int changed() {
+        return inserted + updated + cancelled;
+    }
+
+    /**
+     * Total number of participants looked at during the sync
+     */
+    public int total() {
+        return inserted + updated + unchanged + cancelled;
+    }
+
+    /**
+     * Combine two reports, e.g. when a sync is processed in several chunks
+     */
+    public SyncReport plus(SyncReport other) {
+        return new SyncReport(
+            this.inserted + other.inserted,
+            this.updated + other.updated,
+            this.unchanged + other.unchanged,
+            this.cancelled + other.cancelled
+        );
+    }
+
+    /**
+     * Short human-readable summary
+     */
+    public String summary() {
+        return "%d new, %d updated, %d unchanged, %d cancelled".formatted(inserted, updated, unchanged, cancelled);
+    }
+}
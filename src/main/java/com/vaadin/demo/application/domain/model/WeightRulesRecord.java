@@ -0,0 +1,41 @@
+package com.vaadin.demo.application.domain.model;
+
+/**
+ * Immutable domain object representing the weight rules of a raffle draw.
+ * weight = (firstEventWeight for first-time attendees, otherwise 1) + weightPerAttendedEvent * attended events,
+ * capped at maxWeight. The defaults give every entrant weight 1, i.e. a uniform draw.
+ */
+public record WeightRulesRecord(
+    double firstEventWeight,
+    double weightPerAttendedEvent,
+    double maxWeight
+) {
+    public static final WeightRulesRecord UNIFORM = new WeightRulesRecord(1.0, 0.0, 10.0);
+
+    public WeightRulesRecord {
+        if (!(firstEventWeight > 0) || Double.isInfinite(firstEventWeight)) {
+            throw new IllegalArgumentException("First event weight must be positive: " + firstEventWeight);
+        }
+        if (!(weightPerAttendedEvent >= 0) || Double.isInfinite(weightPerAttendedEvent)) {
+            throw new IllegalArgumentException("Weight per attended event must not be negative: " + weightPerAttendedEvent);
+        }
+        if (!(maxWeight >= 1) || Double.isInfinite(maxWeight)) {
+            throw new IllegalArgumentException("Max weight must be at least 1: " + maxWeight);
+        }
+    }
+
+    /**
+     * Weight of one entrant under these rules
+     */
+    public double weightOf(EligibleEntrantRecord entrant) {
+        double base = entrant.firstEvent() ? firstEventWeight : 1.0;
+        return Math.min(maxWeight, base + weightPerAttendedEvent * entrant.attendedEvents());
+    }
+
+    /**
+     * True if every entrant gets the same weight
+     */
+    public boolean isUniform() {
+        return firstEventWeight == 1.0 && weightPerAttendedEvent == 0.0;
+    }
+}
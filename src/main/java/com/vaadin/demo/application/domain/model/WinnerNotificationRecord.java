@@ -0,0 +1,37 @@
+package com.vaadin.demo.application.domain.model;
+
+/**
+ * Immutable, rendered notification of a prize winner, ready to be sent
+ */
+public record WinnerNotificationRecord(
+    Long prizeId,
+    String recipientName,
+    String recipientEmail,
+    String subject,
+    String body
+) {
+    /**
+     * Render the notification of an awarded prize. The body is the rendered template text,
+     * prizes without a template text get a short default text.
+     */
+    public static WinnerNotificationRecord of(PrizeRecord prize) {
+        MemberRecord member = prize.winner() != null ? prize.winner().member() : null;
+        String recipientName = member != null ? member.name() : null;
+        String recipientEmail = member != null ? member.email() : null;
+        EventRecord event = prize.raffle() != null ? prize.raffle().event() : null;
+
+        String subject = event != null && event.title() != null
+            ? "Your prize at " + event.title() + ": " + prize.name()
+            : "Your prize: " + prize.name();
+        String body = prize.renderedText();
+        if (body == null || body.isBlank()) {
+            body = "Congratulations" + (recipientName != null ? " " + recipientName : "")
+                + ", you won " + prize.name() + "!";
+        }
+        return new WinnerNotificationRecord(prize.id(), recipientName, recipientEmail, subject, body);
+    }
+
+    public boolean hasRecipient() {
+        return recipientEmail != null && !recipientEmail.isBlank();
+    }
+}
@@ -0,0 +1,8 @@
+-- V3: Indexes for the raffle eligibility query (spin wheel)
+
+-- Only the participants that can still win are indexed, the eligibility query reads them by event
+CREATE INDEX IF NOT EXISTS idx_participant_raffle_eligible ON participant(meetup_event_id)
+    WHERE rsvp_status = 'YES' AND is_organizer = FALSE AND has_entered_raffle = FALSE;
+
+-- Anti-join on the prize winners
+CREATE INDEX IF NOT EXISTS idx_prize_winner ON prize(winner_id);
@@ -0,0 +1,20 @@
+-- V4: Audit table of the server-side raffle draws
+
+CREATE TABLE IF NOT EXISTS raffle_draw (
+    id BIGINT PRIMARY KEY,
+    version INTEGER NOT NULL,
+    prize_id BIGINT NOT NULL,
+    winner_id BIGINT NOT NULL,
+    seed VARCHAR(64) NOT NULL,
+    candidates_hash VARCHAR(64) NOT NULL,
+    candidate_count INTEGER NOT NULL,
+    winner_index INTEGER NOT NULL,
+    drawn_at TIMESTAMP WITH TIME ZONE NOT NULL
+);
+
+ALTER TABLE raffle_draw ADD CONSTRAINT fk_raffle_draw_prize
+    FOREIGN KEY (prize_id) REFERENCES prize(id) ON DELETE CASCADE;
+ALTER TABLE raffle_draw ADD CONSTRAINT fk_raffle_draw_winner
+    FOREIGN KEY (winner_id) REFERENCES participant(id);
+
+CREATE INDEX IF NOT EXISTS idx_raffle_draw_prize ON raffle_draw(prize_id);
@@ -0,0 +1,13 @@
+-- V5: Weighted raffle draw
+
+-- Reported by Meetup per RSVP
+ALTER TABLE participant ADD COLUMN IF NOT EXISTS is_first_event BOOLEAN DEFAULT FALSE;
+
+-- Weight rules per raffle, the defaults give a uniform draw
+ALTER TABLE raffle ADD COLUMN IF NOT EXISTS first_event_weight DOUBLE PRECISION NOT NULL DEFAULT 1.0;
+ALTER TABLE raffle ADD COLUMN IF NOT EXISTS weight_per_attended_event DOUBLE PRECISION NOT NULL DEFAULT 0.0;
+ALTER TABLE raffle ADD COLUMN IF NOT EXISTS max_weight DOUBLE PRECISION NOT NULL DEFAULT 10.0;
+
+-- Attended events of a member, counted per entrant by the eligibility query
+CREATE INDEX IF NOT EXISTS idx_participant_member_attended ON participant(member_id)
+    WHERE attendance_status = 'ATTENDED';
@@ -0,0 +1,17 @@
+-- V6: Ranked prize template search
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- Full-text document over name, description and template text, the name ranks highest.
+-- The 'simple' configuration does not stem, the templates mix German and English.
+ALTER TABLE prize_template ADD COLUMN IF NOT EXISTS search_vector TSVECTOR
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('simple', COALESCE(name, '')), 'A') ||
+        setweight(to_tsvector('simple', COALESCE(description, '')), 'B') ||
+        setweight(to_tsvector('simple', COALESCE(template_text, '')), 'C')
+    ) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_prize_template_search_vector ON prize_template USING GIN (search_vector);
+
+-- Substring and typo matches on the name (ILIKE '%x%' and the word similarity operator)
+CREATE INDEX IF NOT EXISTS idx_prize_template_name_trgm ON prize_template USING GIN (name gin_trgm_ops);
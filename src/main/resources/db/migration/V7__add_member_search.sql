@@ -0,0 +1,11 @@
+-- V7: Member directory search
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- Substring matches (ILIKE '%x%') on the searchable member columns
+CREATE INDEX IF NOT EXISTS idx_member_name_trgm ON member USING GIN (name gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_member_email_trgm ON member USING GIN (email gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_member_meetup_id_trgm ON member USING GIN (meetup_id gin_trgm_ops);
+
+-- Keyset pagination: ORDER BY COALESCE(name, ''), id and seek after the last row of the previous page
+CREATE INDEX IF NOT EXISTS idx_member_name_keyset ON member ((COALESCE(name, '')), id);
@@ -0,0 +1,16 @@
+-- V8: Delivery status of the winner notifications, one row per prize
+
+CREATE TABLE IF NOT EXISTS prize_notification (
+    id BIGINT PRIMARY KEY,
+    version INTEGER NOT NULL,
+    prize_id BIGINT NOT NULL,
+    recipient_email VARCHAR(255),
+    status VARCHAR(16) NOT NULL,
+    attempts INTEGER NOT NULL,
+    last_error VARCHAR(1000),
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL
+);
+
+ALTER TABLE prize_notification ADD CONSTRAINT fk_prize_notification_prize
+    FOREIGN KEY (prize_id) REFERENCES prize(id) ON DELETE CASCADE;
+ALTER TABLE prize_notification ADD CONSTRAINT uk_prize_notification_prize UNIQUE (prize_id);
@@ -0,0 +1,119 @@
+package com.vaadin.demo.application.adapter;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.vaadin.demo.application.adapter.out.persistence.data.PrizeTemplate;
+import com.vaadin.demo.application.adapter.out.persistence.data.Raffle;
+import com.vaadin.demo.application.adapter.out.persistence.repository.MeetupEventRepository;
+import com.vaadin.demo.application.adapter.out.persistence.repository.ParticipantRepository;
+import com.vaadin.demo.application.adapter.out.persistence.repository.PrizeRepository;
+import com.vaadin.demo.application.adapter.out.persistence.repository.PrizeTemplateRepository;
+import com.vaadin.demo.application.adapter.out.persistence.repository.RaffleDrawRepository;
+import com.vaadin.demo.application.adapter.out.persistence.repository.RaffleRepository;
+import com.vaadin.demo.application.application.port.out.MeetupPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Caching and eviction through the Spring proxies of the adapters, the repositories are mocks
+ */
+@SpringJUnitConfig
+@Import({CacheConfig.class, RaffleServiceAdapter.class})
+class CacheConfigTest {
+
+    @MockitoBean
+    private RaffleRepository raffleRepository;
+    @MockitoBean
+    private PrizeRepository prizeRepository;
+    @MockitoBean
+    private PrizeTemplateRepository prizeTemplateRepository;
+    @MockitoBean
+    private MeetupEventRepository meetupEventRepository;
+    @MockitoBean
+    private ParticipantRepository participantRepository;
+    @MockitoBean
+    private RaffleDrawRepository raffleDrawRepository;
+    @MockitoBean
+    private MeetupPort meetupPort;
+
+    @Autowired
+    private RaffleServiceAdapter raffleServiceAdapter;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+    }
+
+    @Test
+    void prizeTemplatesShouldBeReadOnceUntilATemplateIsDeleted() {
+        // Given
+        PrizeTemplate template = new PrizeTemplate();
+        template.setName("Book");
+        when(prizeTemplateRepository.findAll()).thenReturn(List.of(template));
+        when(prizeTemplateRepository.existsById(1L)).thenReturn(true);
+
+        // When
+        raffleServiceAdapter.getAllPrizeTemplateRecords();
+        raffleServiceAdapter.getAllPrizeTemplateRecords();
+        raffleServiceAdapter.deletePrizeTemplate(1L);
+        raffleServiceAdapter.getAllPrizeTemplateRecords();
+
+        // Then
+        verify(prizeTemplateRepository, times(2)).findAll();
+        assertEquals(1, nativeCache(CacheConfig.PRIZE_TEMPLATES).stats().hitCount());
+        assertEquals(2, nativeCache(CacheConfig.PRIZE_TEMPLATES).stats().missCount());
+    }
+
+    @Test
+    void raffleShouldBeEvictedWhenAPrizeIsDeleted() {
+        // Given
+        Raffle raffle = new Raffle();
+        raffle.setId(5L);
+        when(raffleRepository.findDetailsById(5L)).thenReturn(Optional.of(raffle));
+
+        // When
+        raffleServiceAdapter.getRaffleById(5L);
+        Optional<?> cached = raffleServiceAdapter.getRaffleById(5L);
+        raffleServiceAdapter.deletePrize(7L);
+        raffleServiceAdapter.getRaffleById(5L);
+
+        // Then
+        assertTrue(cached.isPresent());
+        verify(raffleRepository, times(2)).findDetailsById(5L);
+    }
+
+    @Test
+    void unknownRaffleShouldBeCachedAsEmpty() {
+        // Given
+        when(raffleRepository.findDetailsById(9L)).thenReturn(Optional.empty());
+
+        // When
+        raffleServiceAdapter.getRaffleById(9L);
+        Optional<?> result = raffleServiceAdapter.getRaffleById(9L);
+
+        // Then
+        assertTrue(result.isEmpty());
+        verify(raffleRepository, times(1)).findDetailsById(9L);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Cache<Object, Object> nativeCache(String name) {
+        TransactionAwareCacheDecorator decorator = (TransactionAwareCacheDecorator) cacheManager.getCache(name);
+        return ((CaffeineCache) decorator.getTargetCache()).getNativeCache();
+    }
+}
@@ -0,0 +1,327 @@
+package com.vaadin.demo.application.adapter;
+
+import com.vaadin.demo.application.adapter.out.meetupclient.MeetupAPIClientAdapter;
+import com.vaadin.demo.application.adapter.out.persistence.data.MeetupEvent;
+import com.vaadin.demo.application.adapter.out.persistence.data.Member;
+import com.vaadin.demo.application.adapter.out.persistence.data.Participant;
+import com.vaadin.demo.application.adapter.out.persistence.data.Prize;
+import com.vaadin.demo.application.adapter.out.persistence.data.Raffle;
+import com.vaadin.demo.application.domain.model.CheckInEntryRecord;
+import com.vaadin.demo.application.domain.model.EligibleEntrantRecord;
+import com.vaadin.demo.application.domain.model.EventRecord;
+import com.vaadin.demo.application.domain.model.MemberKeyRecord;
+import com.vaadin.demo.application.domain.model.MemberRecord;
+import com.vaadin.demo.application.domain.model.NotificationDeliveryRecord;
+import com.vaadin.demo.application.domain.model.NotificationDeliveryRecord.DeliveryStatus;
+import com.vaadin.demo.application.domain.model.ParticipantRecord;
+import com.vaadin.demo.application.domain.model.ParticipantRowRecord;
+import com.vaadin.demo.application.domain.model.PrizeRecord;
+import com.vaadin.demo.application.domain.model.PrizeTemplateRecord;
+import com.vaadin.demo.application.domain.model.RaffleRecord;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Counts the SQL statements of each use-case fetch plan against PostgreSQL (skipped without Docker).
+ * The bounds do not depend on the number of participants or prizes, an N+1 regression fails the test.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@Import({MeetupServiceAdapter.class, RaffleServiceAdapter.class, MemberServiceAdapter.class, NotificationServiceAdapter.class})
+class FetchPlanStatementCountTest {
+
+    private static final int PARTICIPANTS = 20;
+    private static final int PRIZES = 5;
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @MockitoBean
+    private MeetupAPIClientAdapter meetupApiClientAdapter;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MeetupServiceAdapter meetupServiceAdapter;
+
+    @Autowired
+    private RaffleServiceAdapter raffleServiceAdapter;
+
+    @Autowired
+    private MemberServiceAdapter memberServiceAdapter;
+
+    @Autowired
+    private NotificationServiceAdapter notificationServiceAdapter;
+
+    private Statistics statistics;
+    private EventRecord eventRecord;
+    private RaffleRecord raffleRecord;
+    private Long memberId;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        MeetupEvent event = new MeetupEvent();
+        event.setMeetupId("fetch-plan-event");
+        event.setTitle("Fetch Plan Meetup");
+        event.setDateTime(OffsetDateTime.now());
+        entityManager.persist(event);
+
+        List<Participant> participants = new ArrayList<>();
+        for (int i = 0; i < PARTICIPANTS; i++) {
+            Member member = new Member();
+            member.setMeetupId("member-" + i);
+            member.setName("Member " + i);
+            entityManager.persist(member);
+            Participant participant = event.addParticipant(member);
+            entityManager.persist(participant);
+            participants.add(participant);
+        }
+
+        Raffle raffle = new Raffle();
+        raffle.setEvent(event);
+        entityManager.persist(raffle);
+
+        for (int i = 0; i < PRIZES; i++) {
+            Prize prize = new Prize();
+            prize.setName("Prize " + i);
+            prize.setRaffle(raffle);
+            prize.setWinner(participants.get(i));
+            entityManager.persist(prize);
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+
+        eventRecord = Mapper.toEventRecord(event);
+        raffleRecord = RaffleRecord.simple(raffle.getId(), eventRecord, event.getMeetupId());
+        memberId = participants.get(0).getMember().getId();
+    }
+
+    @Test
+    void participantsGridShouldLoadParticipantsWithTwoStatements() {
+        // When
+        List<ParticipantRecord> participants = countStatements(2,
+            () -> meetupServiceAdapter.getParticipantsForEvent(eventRecord));
+
+        // Then
+        assertEquals(PARTICIPANTS, participants.size());
+        assertTrue(participants.stream().allMatch(p -> p.member() != null && p.event() != null));
+    }
+
+    @Test
+    void participantRowsShouldBeReadWithOneStatement() {
+        // When
+        List<ParticipantRowRecord> rows = countStatements(1,
+            () -> meetupServiceAdapter.getParticipantRows(eventRecord.meetupId()));
+
+        // Then
+        assertEquals(PARTICIPANTS, rows.size());
+        assertTrue(rows.stream().allMatch(row -> row.name().startsWith("Member ")));
+    }
+
+    @Test
+    void spinWheelShouldLoadEligibleParticipantsAndRaffleWithThreeStatements() {
+        // When
+        List<ParticipantRecord> eligible = countStatements(2,
+            () -> meetupServiceAdapter.getRaffleEligibleParticipants(eventRecord));
+        Optional<RaffleRecord> raffle = countStatements(1,
+            () -> raffleServiceAdapter.getRaffleById(raffleRecord.id()));
+
+        // Then
+        assertEquals(PARTICIPANTS, eligible.size());
+        assertTrue(raffle.isPresent());
+        assertEquals(PRIZES, raffle.get().prizes().size());
+        assertTrue(raffle.get().prizes().stream().allMatch(prize -> prize.winner().member() != null));
+    }
+
+    @Test
+    void eligibleEntrantsShouldBeReadWithOneStatement() {
+        // When
+        List<EligibleEntrantRecord> entrants = countStatements(1,
+            () -> raffleServiceAdapter.getEligibleEntrants(raffleRecord.id()));
+
+        // Then - the prize winners are excluded
+        assertEquals(PARTICIPANTS - PRIZES, entrants.size());
+        assertTrue(entrants.stream().allMatch(entrant -> entrant.displayName().startsWith("Member ")));
+    }
+
+    @Test
+    void checkInIndexShouldBeBuiltWithOneStatement() {
+        // When
+        List<CheckInEntryRecord> entries = countStatements(1,
+            () -> meetupServiceAdapter.getCheckInEntries(eventRecord.meetupId()));
+
+        // Then
+        assertEquals(PARTICIPANTS, entries.size());
+        assertTrue(entries.stream().allMatch(entry -> entry.memberMeetupId().startsWith("member-")));
+    }
+
+    @Test
+    void prizeListShouldLoadPrizesWithWinnersWithTwoStatements() {
+        // When
+        List<PrizeRecord> prizes = countStatements(2,
+            () -> raffleServiceAdapter.getPrizesForRaffle(raffleRecord));
+
+        // Then
+        assertEquals(PRIZES, prizes.size());
+        assertTrue(prizes.stream().allMatch(prize -> prize.winner().member() != null));
+        assertTrue(prizes.stream().allMatch(prize -> prize.raffle().event() != null));
+    }
+
+    @Test
+    void prizeTemplateSearchShouldRankNameMatchesFirstWithoutCounting() {
+        // Given - the three example templates of V2, all mention {{VOUCHER_CODE}} in their text
+
+        // When
+        Slice<PrizeTemplateRecord> page = countStatements(1,
+            () -> raffleServiceAdapter.searchPrizeTemplates("voucher", PageRequest.of(0, 2)));
+
+        // Then
+        assertTrue(page.hasNext());
+        assertEquals(2, page.getContent().size());
+        assertEquals("Book Voucher", page.getContent().get(0).name());
+    }
+
+    @Test
+    void prizeTemplateSearchShouldMatchPrefixes() {
+        // When
+        Slice<PrizeTemplateRecord> page = raffleServiceAdapter.searchPrizeTemplates("intelli", PageRequest.of(0, 10));
+
+        // Then
+        assertEquals(List.of("IntelliJ IDEA License"), page.getContent().stream().map(PrizeTemplateRecord::name).toList());
+    }
+
+    @Test
+    void checkInShouldUpdateParticipantsWithOneStatementAndIncrementTheirVersion() {
+        // Given
+        List<Participant> participants = entityManager.getEntityManager()
+            .createQuery("SELECT p FROM Participant p ORDER BY p.id", Participant.class).getResultList();
+        List<Long> participantIds = participants.stream().map(Participant::getId).toList();
+        int versionBefore = participants.get(0).getVersion();
+
+        // When
+        int updated = countStatements(1, () -> meetupServiceAdapter.updateParticipantsAttendanceStatus(participantIds,
+            ParticipantRecord.AttendanceStatus.ATTENDED));
+
+        // Then
+        assertEquals(PARTICIPANTS, updated);
+        Participant reloaded = entityManager.find(Participant.class, participantIds.get(0));
+        assertEquals(Participant.AttendanceStatus.ATTENDED, reloaded.getAttendanceStatus());
+        assertEquals(versionBefore + 1, reloaded.getVersion());
+    }
+
+    @Test
+    void resetRaffleEntryShouldRunOneStatement() {
+        // When
+        countStatements(1, () -> {
+            meetupServiceAdapter.resetRaffleEntryForEvent(eventRecord);
+            return null;
+        });
+    }
+
+    @Test
+    void memberEditorShouldNotLoadParticipations() {
+        // When
+        Optional<MemberRecord> member = countStatements(1,
+            () -> memberServiceAdapter.getMemberById(memberId));
+
+        // Then
+        assertTrue(member.isPresent());
+        assertEquals("Member 0", member.get().name());
+    }
+
+    @Test
+    void memberSearchShouldSeekEachPageWithOneStatement() {
+        // Given - names sort as "Member 0", "Member 1", "Member 10", ...
+        List<MemberRecord> firstPage = memberServiceAdapter.searchMembers("member", MemberKeyRecord.FIRST, 0, 5);
+        MemberRecord last = firstPage.get(firstPage.size() - 1);
+
+        // When
+        List<MemberRecord> secondPage = countStatements(1, () -> memberServiceAdapter.searchMembers("member",
+            new MemberKeyRecord(last.name(), last.id()), 0, 5));
+
+        // Then
+        assertEquals(List.of("Member 0", "Member 1", "Member 10", "Member 11", "Member 12"),
+            firstPage.stream().map(MemberRecord::name).toList());
+        assertEquals(List.of("Member 13", "Member 14", "Member 15", "Member 16", "Member 17"),
+            secondPage.stream().map(MemberRecord::name).toList());
+    }
+
+    @Test
+    void memberCountEstimateShouldRunOneStatement() {
+        // When
+        int estimate = countStatements(1, () -> memberServiceAdapter.estimateMemberCount("member-1"));
+
+        // Then - member-1 and member-10 to member-19
+        assertEquals(11, estimate);
+    }
+
+    @Test
+    void notificationDeliveriesShouldBeUpdatedPerPrizeAndReadWithOneStatement() {
+        // Given - all prizes queued, then the first one sent
+        List<PrizeRecord> prizes = raffleServiceAdapter.getPrizesForRaffle(raffleRecord);
+        OffsetDateTime now = OffsetDateTime.now();
+        notificationServiceAdapter.saveDeliveries(prizes.stream()
+            .map(prize -> new NotificationDeliveryRecord(prize.id(), "winner@example.com", DeliveryStatus.PENDING, 0, null, now))
+            .toList());
+        entityManager.flush();
+        notificationServiceAdapter.saveDeliveries(List.of(
+            new NotificationDeliveryRecord(prizes.get(0).id(), "winner@example.com", DeliveryStatus.SENT, 1, null, now)));
+        entityManager.flush();
+
+        // When
+        List<NotificationDeliveryRecord> deliveries = countStatements(1,
+            () -> notificationServiceAdapter.getDeliveriesForRaffle(raffleRecord.id()));
+
+        // Then - one row per prize
+        assertEquals(PRIZES, deliveries.size());
+        assertEquals(List.of(prizes.get(0).id()), deliveries.stream()
+            .filter(delivery -> delivery.status() == DeliveryStatus.SENT).map(NotificationDeliveryRecord::prizeId).toList());
+    }
+
+    /**
+     * Run the use case on an empty persistence context and assert the upper bound of prepared statements
+     */
+    private <T> T countStatements(int maxStatements, Supplier<T> useCase) {
+        entityManager.clear();
+        statistics.clear();
+
+        T result = useCase.get();
+
+        long statements = statistics.getPrepareStatementCount();
+        assertTrue(statements <= maxStatements,
+            "Expected at most " + maxStatements + " statements, but " + statements + " were executed");
+        return result;
+    }
+}
@@ -2,10 +2,18 @@ package com.vaadin.demo.application.adapter;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import com.vaadin.demo.application.adapter.out.meetupclient.MeetupAPIClientAdapter;
@@ -15,16 +23,31 @@ import com.vaadin.demo.application.adapter.out.persistence.data.Participant;
 import com.vaadin.demo.application.adapter.out.persistence.repository.MeetupEventRepository;
 import com.vaadin.demo.application.adapter.out.persistence.repository.MemberRepository;
 import com.vaadin.demo.application.adapter.out.persistence.repository.ParticipantRepository;
+import com.vaadin.demo.application.domain.model.CheckInEntryRecord;
 import com.vaadin.demo.application.domain.model.EventRecord;
+import com.vaadin.demo.application.domain.model.EventRecordWithRSVPs;
 import com.vaadin.demo.application.domain.model.ParticipantRecord;
+import com.vaadin.demo.application.domain.model.ParticipantRowRecord;
+import com.vaadin.demo.application.domain.model.SyncReport;
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @ExtendWith(MockitoExtension.class)
 class MeetupServiceAdapterTest {
@@ -41,6 +64,9 @@ class MeetupServiceAdapterTest {
     @Mock
     private ParticipantRepository participantRepository;
 
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
     private MeetupServiceAdapter meetupServiceAdapter;
 
     private MeetupEvent testEvent;
@@ -53,7 +79,8 @@ class MeetupServiceAdapterTest {
                 meetupApiClient,
                 meetupEventRepository,
                 memberRepository,
-                participantRepository
+                participantRepository,
+                new TransactionTemplate(transactionManager)
         );
 
         // Create test data
@@ -114,12 +141,28 @@ class MeetupServiceAdapterTest {
         verify(meetupEventRepository).findAll();
     }
 
+    @Test
+    void getEventsShouldQueryOnePageWithTrimmedFilter() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 50, Sort.by("title"));
+        when(meetupEventRepository.findByFilter("test", pageable))
+            .thenReturn(new SliceImpl<>(List.of(testEvent), pageable, false));
+
+        // When
+        Slice<EventRecord> result = meetupServiceAdapter.getEvents(pageable, "  test ");
+
+        // Then
+        assertFalse(result.hasNext());
+        assertEquals(testEvent.getMeetupId(), result.getContent().get(0).meetupId());
+        verify(meetupEventRepository, never()).findAll();
+    }
+
     @Test
     void getParticipantsForEventShouldReturnParticipants() {
         // Given
         EventRecord eventRecord = Mapper.toEventRecord(testEvent);
         when(meetupEventRepository.findById(eventRecord.id())).thenReturn(Optional.of(testEvent));
-        when(participantRepository.findByMeetupEvent(testEvent)).thenReturn(List.of(testParticipant));
+        when(participantRepository.findForParticipantsGridByMeetupEvent(testEvent)).thenReturn(List.of(testParticipant));
 
         // When
         List<ParticipantRecord> result = meetupServiceAdapter.getParticipantsForEvent(eventRecord);
@@ -128,7 +171,56 @@ class MeetupServiceAdapterTest {
         assertEquals(1, result.size());
         assertEquals(testParticipant.getId(), result.get(0).id());
         verify(meetupEventRepository).findById(eventRecord.id());
-        verify(participantRepository).findByMeetupEvent(testEvent);
+        verify(participantRepository).findForParticipantsGridByMeetupEvent(testEvent);
+    }
+
+    @Test
+    void getParticipantRowsShouldMapProjectionRows() {
+        // Given
+        ParticipantRepository.ParticipantRow row = mock(ParticipantRepository.ParticipantRow.class);
+        when(row.getId()).thenReturn(7L);
+        when(row.getName()).thenReturn(null);
+        when(row.getEmail()).thenReturn("ann@example.com");
+        when(row.getIsOrganizer()).thenReturn(true);
+        when(row.getHasEnteredRaffle()).thenReturn(null);
+        when(row.getRsvpStatus()).thenReturn(Participant.RSVPStatus.YES);
+        when(row.getAttendanceStatus()).thenReturn(Participant.AttendanceStatus.ATTENDED);
+        when(participantRepository.findRowsByMeetupId(testEvent.getMeetupId())).thenReturn(List.of(row));
+
+        // When
+        List<ParticipantRowRecord> result = meetupServiceAdapter.getParticipantRows(testEvent.getMeetupId());
+
+        // Then
+        assertEquals(1, result.size());
+        assertEquals(7L, result.get(0).id());
+        assertEquals("", result.get(0).name());
+        assertEquals("ann@example.com", result.get(0).email());
+        assertTrue(result.get(0).isOrganizer());
+        assertFalse(result.get(0).hasEnteredRaffle());
+        assertEquals(ParticipantRecord.RsvpStatus.YES, result.get(0).rsvpStatus());
+        assertEquals(ParticipantRecord.AttendanceStatus.ATTENDED, result.get(0).attendanceStatus());
+        verify(meetupEventRepository, never()).findById(any());
+    }
+
+    @Test
+    void getCheckInEntriesShouldMapProjectionRows() {
+        // Given
+        ParticipantRepository.CheckInRow row = mock(ParticipantRepository.CheckInRow.class);
+        when(row.getParticipantId()).thenReturn(7L);
+        when(row.getName()).thenReturn("Ann");
+        when(row.getEmail()).thenReturn("ann@example.com");
+        when(row.getMemberMeetupId()).thenReturn("m7");
+        when(row.getRsvpStatus()).thenReturn(Participant.RSVPStatus.YES);
+        when(row.getAttendanceStatus()).thenReturn(Participant.AttendanceStatus.ATTENDED);
+        when(participantRepository.findCheckInRowsByMeetupId(testEvent.getMeetupId())).thenReturn(List.of(row));
+
+        // When
+        List<CheckInEntryRecord> result = meetupServiceAdapter.getCheckInEntries(testEvent.getMeetupId());
+
+        // Then
+        assertEquals(List.of(new CheckInEntryRecord(7L, "Ann", "ann@example.com", "m7",
+                ParticipantRecord.RsvpStatus.YES, ParticipantRecord.AttendanceStatus.ATTENDED)), result);
+        assertTrue(result.get(0).isCheckedIn());
     }
 
     @Test
@@ -153,67 +245,230 @@ class MeetupServiceAdapterTest {
     void markParticipantEnteredRaffleShouldUpdateParticipant() {
         // Given
         Long participantId = 1L;
+        when(participantRepository.updateHasEnteredRaffle(eq(List.of(participantId)), eq(true), any())).thenReturn(1);
         when(participantRepository.findById(participantId)).thenReturn(Optional.of(testParticipant));
-        when(participantRepository.save(any(Participant.class))).thenReturn(testParticipant);
 
         // When
         ParticipantRecord result = meetupServiceAdapter.markParticipantEnteredRaffle(participantId);
 
         // Then
-        verify(participantRepository).findById(participantId);
-        verify(participantRepository).save(any(Participant.class));
-        assertTrue(testParticipant.getHasEnteredRaffle());
+        assertEquals(testParticipant.getId(), result.id());
+        verify(participantRepository, never()).save(any(Participant.class));
     }
 
     @Test
     void markParticipantAttendedAndEnteredRaffleShouldUpdateParticipant() {
         // Given
         Long participantId = 1L;
+        when(participantRepository.updateAttendanceStatusAndEnterRaffle(eq(List.of(participantId)),
+                eq(Participant.AttendanceStatus.ATTENDED), any())).thenReturn(1);
         when(participantRepository.findById(participantId)).thenReturn(Optional.of(testParticipant));
-        when(participantRepository.save(any(Participant.class))).thenReturn(testParticipant);
 
         // When
         ParticipantRecord result = meetupServiceAdapter.markParticipantAttendedAndEnteredRaffle(participantId);
 
         // Then
-        verify(participantRepository).findById(participantId);
-        verify(participantRepository).save(any(Participant.class));
-        assertTrue(testParticipant.getHasEnteredRaffle());
-        assertEquals(Participant.AttendanceStatus.ATTENDED, testParticipant.getAttendanceStatus());
+        assertEquals(testParticipant.getId(), result.id());
+        verify(participantRepository, never()).save(any(Participant.class));
     }
 
     @Test
     void markParticipantNoShowAndEnteredRaffleShouldUpdateParticipant() {
         // Given
         Long participantId = 1L;
+        when(participantRepository.updateAttendanceStatusAndEnterRaffle(eq(List.of(participantId)),
+                eq(Participant.AttendanceStatus.NO_SHOW), any())).thenReturn(1);
         when(participantRepository.findById(participantId)).thenReturn(Optional.of(testParticipant));
-        when(participantRepository.save(any(Participant.class))).thenReturn(testParticipant);
 
         // When
         ParticipantRecord result = meetupServiceAdapter.markParticipantNoShowAndEnteredRaffle(participantId);
 
         // Then
-        verify(participantRepository).findById(participantId);
-        verify(participantRepository).save(any(Participant.class));
-        assertTrue(testParticipant.getHasEnteredRaffle());
-        assertEquals(Participant.AttendanceStatus.NO_SHOW, testParticipant.getAttendanceStatus());
+        assertEquals(testParticipant.getId(), result.id());
+        verify(participantRepository, never()).save(any(Participant.class));
+    }
+
+    @Test
+    void markParticipantAttendedShouldFailForUnknownParticipant() {
+        // Given
+        when(participantRepository.updateAttendanceStatus(eq(List.of(42L)), eq(Participant.AttendanceStatus.ATTENDED), any()))
+                .thenReturn(0);
+
+        // When / Then
+        assertThrows(IllegalArgumentException.class, () -> meetupServiceAdapter.markParticipantAttended(42L));
+        verify(participantRepository, never()).findById(any());
+    }
+
+    @Test
+    void updateParticipantsAttendanceStatusShouldUseOneBulkUpdate() {
+        // Given
+        List<Long> participantIds = List.of(1L, 2L, 3L);
+        when(participantRepository.updateAttendanceStatus(eq(participantIds), eq(Participant.AttendanceStatus.ATTENDED), any()))
+                .thenReturn(3);
+
+        // When
+        int updated = meetupServiceAdapter.updateParticipantsAttendanceStatus(participantIds,
+                ParticipantRecord.AttendanceStatus.ATTENDED);
+
+        // Then
+        assertEquals(3, updated);
+        verify(participantRepository, never()).findById(any());
+        verify(participantRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    void bulkUpdatesShouldSkipEmptyIdLists() {
+        // When
+        int updated = meetupServiceAdapter.updateParticipantsRaffleEntry(List.of(), true);
+
+        // Then
+        assertEquals(0, updated);
+        verifyNoInteractions(participantRepository);
     }
 
     @Test
     void resetRaffleEntryForEventShouldResetAllParticipants() {
         // Given
         EventRecord eventRecord = Mapper.toEventRecord(testEvent);
-        when(meetupEventRepository.findById(eventRecord.id())).thenReturn(Optional.of(testEvent));
-        when(participantRepository.findByMeetupEvent(testEvent)).thenReturn(List.of(testParticipant));
 
         // When
         meetupServiceAdapter.resetRaffleEntryForEvent(eventRecord);
 
+        // Then - one UPDATE, no participant is loaded
+        verify(participantRepository).resetHasEnteredRaffleByMeetupEventId(eq(eventRecord.id()), any());
+        verify(participantRepository, never()).findByMeetupEvent(any());
+        verify(participantRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void syncEventMembersShouldBulkLoadAndBatchWrites() {
+        // Given
+        when(meetupEventRepository.findById(1L)).thenReturn(Optional.of(testEvent));
+        streamRSVPPages(List.of(
+                new EventRecordWithRSVPs.RSVPMember("member123", "John Doe", "john@example.com", "member123", false, false, false),
+                new EventRecordWithRSVPs.RSVPMember("member456", "Jane Roe", "jane@example.com", "member456", false, false, true)
+        ));
+        when(participantRepository.findByMeetupEventWithMemberMeetupIdIn(testEvent, Set.of("member123", "member456")))
+                .thenReturn(List.of(testParticipant));
+        when(memberRepository.findByMeetupIdIn(Set.of("member456"))).thenReturn(List.of());
+        when(participantRepository.findByMeetupEventWithMember(testEvent)).thenReturn(List.of(testParticipant));
+
+        // When
+        SyncReport report = meetupServiceAdapter.syncEventMembers(1L);
+
         // Then
-        verify(meetupEventRepository).findById(eventRecord.id());
-        verify(participantRepository).findByMeetupEvent(testEvent);
-        verify(participantRepository).saveAll(anyList());
-        assertFalse(testParticipant.getHasEnteredRaffle());
+        assertEquals(1, report.inserted());
+        assertEquals(1, report.updated());
+        verify(memberRepository, never()).findByMeetupId(any());
+        verify(participantRepository, never()).findByMeetupEventAndMember(any(), any());
+
+        ArgumentCaptor<List<Member>> newMembers = ArgumentCaptor.forClass(List.class);
+        verify(memberRepository).saveAll(newMembers.capture());
+        assertEquals(1, newMembers.getValue().size());
+        assertEquals("member456", newMembers.getValue().get(0).getMeetupId());
+
+        ArgumentCaptor<List<Participant>> newParticipants = ArgumentCaptor.forClass(List.class);
+        verify(participantRepository).saveAll(newParticipants.capture());
+        assertEquals(1, newParticipants.getValue().size());
+        assertEquals(testEvent, newParticipants.getValue().get(0).getMeetupEvent());
+        assertTrue(newParticipants.getValue().get(0).getIsFirstEvent());
+    }
+
+    @Test
+    void syncEventMembersShouldNotTouchUnchangedParticipants() {
+        // Given
+        testParticipant.setRsvpId("member123");
+        Member cancelledMember = new Member();
+        cancelledMember.setMeetupId("member789");
+        Participant cancelledParticipant = new Participant();
+        cancelledParticipant.setMeetupEvent(testEvent);
+        cancelledParticipant.setMember(cancelledMember);
+        cancelledParticipant.setRsvpStatus(Participant.RSVPStatus.YES);
+
+        when(meetupEventRepository.findById(1L)).thenReturn(Optional.of(testEvent));
+        streamRSVPPages(List.of(
+                new EventRecordWithRSVPs.RSVPMember("member123", "John Doe", "john@example.com", "member123", false, false, false)));
+        when(participantRepository.findByMeetupEventWithMemberMeetupIdIn(testEvent, Set.of("member123")))
+                .thenReturn(List.of(testParticipant));
+        when(participantRepository.findByMeetupEventWithMember(testEvent))
+                .thenReturn(List.of(testParticipant, cancelledParticipant));
+
+        OffsetDateTime participantLastUpdated = testParticipant.getLastUpdated();
+        OffsetDateTime memberLastUpdated = testMember.getLastUpdated();
+
+        // When
+        SyncReport report = meetupServiceAdapter.syncEventMembers(1L);
+
+        // Then
+        assertEquals(new SyncReport(0, 0, 1, 1), report);
+        assertSame(participantLastUpdated, testParticipant.getLastUpdated());
+        assertSame(memberLastUpdated, testMember.getLastUpdated());
+        assertEquals(Participant.RSVPStatus.NO, cancelledParticipant.getRsvpStatus());
+        verify(memberRepository, never()).findByMeetupIdIn(any());
+        verify(memberRepository).saveAll(List.of());
+        verify(participantRepository).saveAll(List.of());
+    }
+
+    @Test
+    void syncEventMembersShouldCommitEveryPageAndCancelOnlyAfterTheLastPage() {
+        // Given
+        testParticipant.setRsvpId("member123");
+        when(meetupEventRepository.findByMeetupId("event123")).thenReturn(Optional.of(testEvent));
+        streamRSVPPages(
+                List.of(new EventRecordWithRSVPs.RSVPMember("member456", "Jane Roe", "jane@example.com", "member456", false, false, false)),
+                List.of(new EventRecordWithRSVPs.RSVPMember("member123", "John Doe", "john@example.com", "member123", false, false, false),
+                        new EventRecordWithRSVPs.RSVPMember("member456", "Jane Roe", "jane@example.com", "member456", false, false, false)));
+        when(participantRepository.findByMeetupEventWithMemberMeetupIdIn(testEvent, Set.of("member456")))
+                .thenReturn(List.of());
+        when(memberRepository.findByMeetupIdIn(Set.of("member456"))).thenReturn(List.of());
+        when(participantRepository.findByMeetupEventWithMemberMeetupIdIn(testEvent, Set.of("member123")))
+                .thenReturn(List.of(testParticipant));
+        when(participantRepository.findByMeetupEventWithMember(testEvent)).thenReturn(List.of(testParticipant));
+        List<Integer> progress = new ArrayList<>();
+
+        // When
+        SyncReport report = meetupServiceAdapter.syncEventMembersByMeetupId("event123", progress::add);
+
+        // Then
+        assertEquals(new SyncReport(1, 0, 1, 0), report);
+        assertEquals(Participant.RSVPStatus.YES, testParticipant.getRsvpStatus());
+        assertEquals(List.of(1, 2), progress);
+        // One transaction per page and one for cancelling the participants that are gone
+        verify(transactionManager, times(3)).commit(any());
+    }
+
+    @Test
+    void saveImportedEventShouldStoreTheFetchedEventWithoutCallingTheApi() {
+        // Given
+        EventRecordWithRSVPs apiEvent = new EventRecordWithRSVPs(
+                1L, "event123", "Updated Title", "Description", OffsetDateTime.now(), "", "http://test.url",
+                List.of(new EventRecordWithRSVPs.RSVPMember("member123", "John Doe", "john@example.com", "member123", false, false, false)));
+        when(meetupEventRepository.findByMeetupId("event123")).thenReturn(Optional.of(testEvent));
+        when(meetupEventRepository.save(testEvent)).thenReturn(testEvent);
+        when(participantRepository.findByMeetupEventWithMember(testEvent)).thenReturn(List.of(testParticipant));
+
+        // When
+        EventRecord result = meetupServiceAdapter.saveImportedEvent(apiEvent);
+
+        // Then
+        assertEquals("Updated Title", result.title());
+        verifyNoInteractions(meetupApiClient);
+    }
+
+    /**
+     * Let the mocked API client hand the given pages to the sync, one after the other
+     */
+    @SafeVarargs
+    @SuppressWarnings("unchecked")
+    private void streamRSVPPages(List<EventRecordWithRSVPs.RSVPMember>... pages) {
+        doAnswer(invocation -> {
+            Consumer<List<EventRecordWithRSVPs.RSVPMember>> pageConsumer = invocation.getArgument(1);
+            for (List<EventRecordWithRSVPs.RSVPMember> page : pages) {
+                pageConsumer.accept(page);
+            }
+            return null;
+        }).when(meetupApiClient).streamEventRSVPs(eq("event123"), any());
     }
 
     // Additional integration tests would require an embedded database setup
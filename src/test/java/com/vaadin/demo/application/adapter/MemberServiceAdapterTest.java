@@ -1,6 +1,7 @@
 package com.vaadin.demo.application.adapter;
 
 import com.vaadin.demo.application.adapter.out.persistence.data.Member;
+import com.vaadin.demo.application.domain.model.MemberKeyRecord;
 import com.vaadin.demo.application.domain.model.MemberRecord;
 import com.vaadin.demo.application.adapter.out.persistence.repository.MemberRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -261,4 +262,56 @@ class MemberServiceAdapterTest {
         assertEquals(10, result);
         verify(memberRepository).count();
     }
-}
\ No newline at end of file
+
+    @Test
+    void searchMembers_shouldSeekAfterTheKeyWithEscapedPattern() {
+        // Given
+        MemberKeyRecord after = new MemberKeyRecord("Jane", 7L);
+        when(memberRepository.findPageAfter("50%", "%50\\%%", "Jane", 7L, 0, 50)).thenReturn(List.of(testMember));
+
+        // When
+        List<MemberRecord> result = memberServiceAdapter.searchMembers(" 50% ", after, 0, 50);
+
+        // Then
+        assertEquals(List.of(testMemberRecord), result);
+    }
+
+    @Test
+    void estimateMemberCount_shouldUsePlannerStatisticsWithoutFilter() {
+        // Given
+        when(memberRepository.estimateRowCount()).thenReturn(4200L);
+
+        // When
+        int result = memberServiceAdapter.estimateMemberCount("");
+
+        // Then
+        assertEquals(4200, result);
+        verify(memberRepository, never()).count();
+    }
+
+    @Test
+    void estimateMemberCount_shouldCountWhenTableWasNotAnalyzedYet() {
+        // Given
+        when(memberRepository.estimateRowCount()).thenReturn(-1L);
+        when(memberRepository.count()).thenReturn(12L);
+
+        // When
+        int result = memberServiceAdapter.estimateMemberCount(null);
+
+        // Then
+        assertEquals(12, result);
+    }
+
+    @Test
+    void estimateMemberCount_shouldCapTheCountOfFilteredMembers() {
+        // Given
+        when(memberRepository.countMatchingUpTo("%doe%", MemberServiceAdapter.FILTERED_COUNT_CAP)).thenReturn(3L);
+
+        // When
+        int result = memberServiceAdapter.estimateMemberCount("doe");
+
+        // Then
+        assertEquals(3, result);
+        verify(memberRepository, never()).estimateRowCount();
+    }
+}
@@ -4,24 +4,39 @@ import com.vaadin.demo.application.adapter.out.persistence.data.MeetupEvent;
 import com.vaadin.demo.application.adapter.out.persistence.data.Member;
 import com.vaadin.demo.application.adapter.out.persistence.data.Participant;
 import com.vaadin.demo.application.adapter.out.persistence.data.Prize;
+import com.vaadin.demo.application.adapter.out.persistence.data.PrizeTemplate;
 import com.vaadin.demo.application.adapter.out.persistence.data.Raffle;
+import com.vaadin.demo.application.adapter.out.persistence.data.RaffleDraw;
+import com.vaadin.demo.application.domain.model.DrawRecord;
+import com.vaadin.demo.application.domain.model.EligibleEntrantRecord;
 import com.vaadin.demo.application.domain.model.EventRecord;
 import com.vaadin.demo.application.domain.model.ParticipantRecord;
 import com.vaadin.demo.application.domain.model.PrizeRecord;
+import com.vaadin.demo.application.domain.model.PrizeTemplateRecord;
 import com.vaadin.demo.application.domain.model.RaffleRecord;
+import com.vaadin.demo.application.domain.model.WeightRulesRecord;
 import com.vaadin.demo.application.application.port.out.MeetupPort;
 import com.vaadin.demo.application.adapter.out.persistence.repository.MeetupEventRepository;
+import com.vaadin.demo.application.adapter.out.persistence.repository.ParticipantRepository;
 import com.vaadin.demo.application.adapter.out.persistence.repository.PrizeRepository;
 import com.vaadin.demo.application.adapter.out.persistence.repository.PrizeTemplateRepository;
+import com.vaadin.demo.application.adapter.out.persistence.repository.RaffleDrawRepository;
 import com.vaadin.demo.application.adapter.out.persistence.repository.RaffleRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 
 import java.time.OffsetDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
@@ -44,6 +59,12 @@ class RaffleServiceAdapterTest {
     @Mock
     private MeetupEventRepository meetupEventRepository;
 
+    @Mock
+    private ParticipantRepository participantRepository;
+
+    @Mock
+    private RaffleDrawRepository raffleDrawRepository;
+
     @Mock
     private MeetupPort meetupPort;
 
@@ -65,6 +86,8 @@ class RaffleServiceAdapterTest {
                 prizeRepository,
                 prizeTemplateRepository,
                 meetupEventRepository,
+                participantRepository,
+                raffleDrawRepository,
                 meetupPort
         );
 
@@ -116,7 +139,7 @@ class RaffleServiceAdapterTest {
     void getRaffleByIdShouldReturnMappedRaffle() {
         // Given
         Long raffleId = 1L;
-        when(raffleRepository.findById(raffleId)).thenReturn(Optional.of(testRaffle));
+        when(raffleRepository.findDetailsById(raffleId)).thenReturn(Optional.of(testRaffle));
 
         // When
         Optional<RaffleRecord> result = raffleServiceAdapter.getRaffleById(raffleId);
@@ -159,12 +182,207 @@ class RaffleServiceAdapterTest {
         verify(raffleRepository).findByMeetupEventId(meetupEventId);
     }
 
+    @Test
+    void getRaffleIdsByMeetupEventIdsShouldMapProjectionRows() {
+        // Given
+        List<String> meetupEventIds = List.of("event123", "event456");
+        when(raffleRepository.findByMeetupEventIdIn(meetupEventIds))
+                .thenReturn(List.of(raffleId("event123", 1L), raffleId("event123", 2L)));
+
+        // When
+        Map<String, Long> result = raffleServiceAdapter.getRaffleIdsByMeetupEventIds(meetupEventIds);
+
+        // Then
+        assertEquals(Map.of("event123", 1L), result);
+    }
+
+    @Test
+    void getRaffleIdsByMeetupEventIdsShouldSkipQueryForNoEvents() {
+        // When
+        Map<String, Long> result = raffleServiceAdapter.getRaffleIdsByMeetupEventIds(List.of());
+
+        // Then
+        assertTrue(result.isEmpty());
+        verifyNoInteractions(raffleRepository);
+    }
+
+    @Test
+    void getEligibleEntrantsShouldFallBackToMeetupIdForMembersWithoutName() {
+        // Given
+        when(raffleRepository.findEligibleEntrantsByRaffleId(1L))
+                .thenReturn(List.of(eligibleEntrant(11L, "m1", "Ann", false, 0L), eligibleEntrant(12L, "m2", null, null, null)));
+
+        // When
+        List<EligibleEntrantRecord> result = raffleServiceAdapter.getEligibleEntrants(1L);
+
+        // Then
+        assertEquals(List.of(new EligibleEntrantRecord(11L, "m1", "Ann"), new EligibleEntrantRecord(12L, "m2", "m2")),
+                result);
+        verify(raffleRepository, never()).findDetailsById(any());
+    }
+
+    @Test
+    void getEligibleEntrantsShouldMapTheWeightInputs() {
+        // Given
+        when(raffleRepository.findEligibleEntrantsByRaffleId(1L))
+                .thenReturn(List.of(eligibleEntrant(11L, "m1", "Ann", true, 3L)));
+
+        // When
+        List<EligibleEntrantRecord> result = raffleServiceAdapter.getEligibleEntrants(1L);
+
+        // Then - the weight itself is applied by the application service
+        assertEquals(List.of(new EligibleEntrantRecord(11L, "m1", "Ann", true, 3, 1.0)), result);
+    }
+
+    @Test
+    void saveWeightRulesShouldUpdateTheRaffle() {
+        // Given
+        when(raffleRepository.findById(testRaffle.getId())).thenReturn(Optional.of(testRaffle));
+        when(raffleRepository.save(testRaffle)).thenReturn(testRaffle);
+        WeightRulesRecord weightRules = new WeightRulesRecord(2.0, 0.5, 4.0);
+
+        // When
+        WeightRulesRecord result = raffleServiceAdapter.saveWeightRules(testRaffle.getId(), weightRules);
+
+        // Then
+        assertEquals(weightRules, result);
+        assertEquals(2.0, testRaffle.getFirstEventWeight());
+        assertEquals(0.5, testRaffle.getWeightPerAttendedEvent());
+        assertEquals(4.0, testRaffle.getMaxWeight());
+    }
+
+    @Test
+    void getWeightRulesShouldFailForUnknownRaffle() {
+        // Given
+        when(raffleRepository.findById(42L)).thenReturn(Optional.empty());
+
+        // When / Then
+        assertThrows(IllegalArgumentException.class, () -> raffleServiceAdapter.getWeightRules(42L));
+    }
+
+    @Test
+    void saveDrawShouldPersistSeedHashAndWinner() {
+        // Given
+        List<EligibleEntrantRecord> candidates = List.of(new EligibleEntrantRecord(testParticipant.getId(), "member123", "John Doe"));
+        DrawRecord draw = DrawRecord.of(testPrize.getId(), candidates, 0, "ab".repeat(32), "cd".repeat(32),
+                OffsetDateTime.now());
+        when(prizeRepository.getReferenceById(testPrize.getId())).thenReturn(testPrize);
+        when(participantRepository.getReferenceById(testParticipant.getId())).thenReturn(testParticipant);
+        when(raffleDrawRepository.save(any(RaffleDraw.class))).thenAnswer(invocation -> {
+            RaffleDraw saved = invocation.getArgument(0);
+            saved.setId(99L);
+            return saved;
+        });
+
+        // When
+        DrawRecord result = raffleServiceAdapter.saveDraw(draw);
+
+        // Then
+        assertEquals(99L, result.id());
+        assertEquals(draw.winner(), result.winner());
+        ArgumentCaptor<RaffleDraw> captor = ArgumentCaptor.forClass(RaffleDraw.class);
+        verify(raffleDrawRepository).save(captor.capture());
+        assertSame(testPrize, captor.getValue().getPrize());
+        assertSame(testParticipant, captor.getValue().getWinner());
+        assertEquals(draw.seed(), captor.getValue().getSeed());
+        assertEquals(draw.candidatesHash(), captor.getValue().getCandidatesHash());
+        assertEquals(1, captor.getValue().getCandidateCount());
+    }
+
+    @Test
+    void awardPrizesShouldSetWinnersKeepTemplateTextsAndSaveDraws() {
+        // Given
+        testPrize.setTemplateText("Congratulations {{WINNER_NAME}}!");
+        DrawRecord draw = DrawRecord.of(testPrize.getId(),
+                List.of(new EligibleEntrantRecord(testParticipant.getId(), "member123", "John Doe")),
+                0, "ab".repeat(32), "cd".repeat(32), OffsetDateTime.now());
+        when(prizeRepository.findByRaffle_Id(testRaffle.getId())).thenReturn(List.of(testPrize));
+        when(participantRepository.findWithMemberByIdIn(List.of(testParticipant.getId())))
+                .thenReturn(List.of(testParticipant));
+        when(raffleRepository.findEligibleEntrantsByRaffleId(testRaffle.getId()))
+                .thenReturn(List.of(eligibleEntrant(testParticipant.getId(), "member123", "John Doe")));
+
+        // When
+        List<PrizeRecord> result = raffleServiceAdapter.awardPrizes(testRaffle.getId(), List.of(draw));
+
+        // Then
+        assertEquals(1, result.size());
+        assertEquals(testParticipant.getId(), result.get(0).winner().id());
+        assertEquals("Congratulations {{WINNER_NAME}}!", result.get(0).templateText());
+        assertEquals("Congratulations John Doe!", result.get(0).renderedText());
+        assertTrue(testParticipant.getHasEnteredRaffle());
+        assertEquals(Participant.AttendanceStatus.ATTENDED, testParticipant.getAttendanceStatus());
+        verify(raffleDrawRepository).saveAll(anyList());
+        verify(prizeRepository, never()).save(any());
+    }
+
+    @Test
+    void awardPrizesShouldFailWhenTheWinnerIsNoLongerEligible() {
+        // Given
+        DrawRecord draw = DrawRecord.of(testPrize.getId(),
+                List.of(new EligibleEntrantRecord(testParticipant.getId(), "member123", "John Doe")),
+                0, "ab".repeat(32), "cd".repeat(32), OffsetDateTime.now());
+        when(prizeRepository.findByRaffle_Id(testRaffle.getId())).thenReturn(List.of(testPrize));
+        when(participantRepository.findWithMemberByIdIn(List.of(testParticipant.getId())))
+                .thenReturn(List.of(testParticipant));
+        when(raffleRepository.findEligibleEntrantsByRaffleId(testRaffle.getId())).thenReturn(List.of());
+
+        // When / Then
+        assertThrows(IllegalStateException.class,
+                () -> raffleServiceAdapter.awardPrizes(testRaffle.getId(), List.of(draw)));
+        verify(raffleDrawRepository, never()).saveAll(anyList());
+    }
+
+    private static RaffleRepository.EligibleEntrant eligibleEntrant(Long participantId, String memberMeetupId, String name,
+                                                                    Boolean firstEvent, Long attendedEvents) {
+        return new RaffleRepository.EligibleEntrant() {
+            @Override
+            public Long getParticipantId() {
+                return participantId;
+            }
+
+            @Override
+            public String getMemberMeetupId() {
+                return memberMeetupId;
+            }
+
+            @Override
+            public String getName() {
+                return name;
+            }
+
+            @Override
+            public Boolean getFirstEvent() {
+                return firstEvent;
+            }
+
+            @Override
+            public Long getAttendedEvents() {
+                return attendedEvents;
+            }
+        };
+    }
+
+    private static RaffleRepository.RaffleIdByEvent raffleId(String meetupEventId, Long raffleId) {
+        return new RaffleRepository.RaffleIdByEvent() {
+            @Override
+            public String getMeetupEventId() {
+                return meetupEventId;
+            }
+
+            @Override
+            public Long getRaffleId() {
+                return raffleId;
+            }
+        };
+    }
+
     @Test
     void getPrizesForRaffleShouldReturnPrizes() {
         // Given
         RaffleRecord raffleRecord = Mapper.toRaffleRecord(testRaffle);
-        when(raffleRepository.findById(raffleRecord.id())).thenReturn(Optional.of(testRaffle));
-        when(prizeRepository.findByRaffle(testRaffle)).thenReturn(List.of(testPrize));
+        when(raffleRepository.existsById(raffleRecord.id())).thenReturn(true);
+        when(prizeRepository.findByRaffle_Id(raffleRecord.id())).thenReturn(List.of(testPrize));
 
         // When
         List<PrizeRecord> result = raffleServiceAdapter.getPrizesForRaffle(raffleRecord);
@@ -172,8 +390,19 @@ class RaffleServiceAdapterTest {
         // Then
         assertEquals(1, result.size());
         assertEquals(testPrize.getId(), result.get(0).id());
-        verify(raffleRepository).findById(raffleRecord.id());
-        verify(prizeRepository).findByRaffle(testRaffle);
+        verify(raffleRepository).existsById(raffleRecord.id());
+        verify(prizeRepository).findByRaffle_Id(raffleRecord.id());
+    }
+
+    @Test
+    void getPrizesForRaffleShouldThrowWhenRaffleNotFound() {
+        // Given
+        RaffleRecord raffleRecord = Mapper.toRaffleRecord(testRaffle);
+        when(raffleRepository.existsById(raffleRecord.id())).thenReturn(false);
+
+        // When / Then
+        assertThrows(IllegalArgumentException.class, () -> raffleServiceAdapter.getPrizesForRaffle(raffleRecord));
+        verify(prizeRepository, never()).findByRaffle_Id(any());
     }
 
     @Test
@@ -232,6 +461,7 @@ class RaffleServiceAdapterTest {
         when(prizeRepository.findById(testPrizeRecord.id())).thenReturn(Optional.of(testPrize));
         when(meetupPort.markParticipantAttendedAndEnteredRaffle(testParticipantRecord.id()))
                 .thenReturn(testParticipantRecord);
+        when(participantRepository.getReferenceById(testParticipantRecord.id())).thenReturn(testParticipant);
 
         Prize updatedPrize = new Prize();
         updatedPrize.setId(testPrize.getId());
@@ -242,7 +472,7 @@ class RaffleServiceAdapterTest {
         when(prizeRepository.save(any(Prize.class))).thenReturn(updatedPrize);
 
         // When
-        PrizeRecord result = raffleServiceAdapter.awardPrize(testPrizeRecord, testParticipantRecord);
+        PrizeRecord result = raffleServiceAdapter.awardPrize(testPrizeRecord, testParticipantRecord.id());
 
         // Then
         assertNotNull(result);
@@ -250,7 +480,7 @@ class RaffleServiceAdapterTest {
         assertEquals(testParticipantRecord.id(), result.winner().id());
         verify(prizeRepository).findById(testPrizeRecord.id());
         verify(meetupPort).markParticipantAttendedAndEnteredRaffle(testParticipantRecord.id());
-        verify(prizeRepository).save(any(Prize.class));
+        verify(prizeRepository).save(argThat(prize -> prize.getWinner() == testParticipant));
     }
 
     @Test
@@ -266,5 +496,31 @@ class RaffleServiceAdapterTest {
         verify(prizeRepository).deleteById(prizeId);
     }
 
+    @Test
+    void searchPrizeTemplatesShouldPassPrefixQueryAndDropTheSort() {
+        // Given
+        PrizeTemplate template = new PrizeTemplate();
+        template.setId(7L);
+        template.setName("IntelliJ IDEA License");
+        when(prizeTemplateRepository.search(eq("intelli 50%"), eq("intelli:* & 50:*"), eq("%intelli 50\\%%"),
+                any(Pageable.class)))
+            .thenReturn(new SliceImpl<>(List.of(template)));
+
+        // When
+        Slice<PrizeTemplateRecord> result = raffleServiceAdapter.searchPrizeTemplates(" intelli 50% ",
+            PageRequest.of(1, 20, Sort.by("name")));
+
+        // Then
+        assertEquals(List.of("IntelliJ IDEA License"), result.getContent().stream().map(PrizeTemplateRecord::name).toList());
+        verify(prizeTemplateRepository).search(anyString(), anyString(), anyString(), eq(PageRequest.of(1, 20)));
+    }
+
+    @Test
+    void toPrefixTsQueryShouldKeepOnlyWords() {
+        // When / Then
+        assertEquals("book:* & voucher:*", SearchPatterns.toPrefixTsQuery("Book  Voucher!"));
+        assertEquals("", SearchPatterns.toPrefixTsQuery("&|!:*"));
+    }
+
     // Additional integration tests would require an embedded database setup
 }
\ No newline at end of file
@@ -0,0 +1,188 @@
+package com.vaadin.demo.application.adapter.out.meetupclient;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CachingMeetupAPIClientTest {
+
+    @Mock
+    private MeetupAPIClient delegate;
+
+    private final MutableClock clock = new MutableClock();
+    private final List<Runnable> backgroundTasks = new ArrayList<>();
+    private CachingMeetupAPIClient client;
+
+    private final Set<MeetupAPIClient.MeetupEvent> firstList = Set.of(event("1"));
+    private final Set<MeetupAPIClient.MeetupEvent> secondList = Set.of(event("1"), event("2"));
+
+    @BeforeEach
+    void setUp() {
+        client = new CachingMeetupAPIClient(delegate, Duration.ofMinutes(2), Duration.ofMinutes(30),
+            clock, backgroundTasks::add);
+    }
+
+    @Test
+    void getEventsShouldBeServedFromCacheWithinTtl() {
+        // Given
+        when(delegate.getEvents()).thenReturn(firstList);
+
+        // When
+        client.getEvents();
+        clock.advance(Duration.ofMinutes(1));
+        Set<MeetupAPIClient.MeetupEvent> result = client.getEvents();
+
+        // Then
+        assertEquals(firstList, result);
+        verify(delegate, times(1)).getEvents();
+    }
+
+    @Test
+    void staleEventsShouldBeReturnedAtOnceAndRefreshedInBackground() {
+        // Given
+        when(delegate.getEvents()).thenReturn(firstList, secondList);
+        client.getEvents();
+        clock.advance(Duration.ofMinutes(5));
+
+        // When - stale: the cached list is returned, the refresh only queued
+        Set<MeetupAPIClient.MeetupEvent> stale = client.getEvents();
+        Set<MeetupAPIClient.MeetupEvent> stillStale = client.getEvents();
+
+        // Then - only one refresh for both callers
+        assertEquals(firstList, stale);
+        assertEquals(firstList, stillStale);
+        assertEquals(1, backgroundTasks.size());
+
+        backgroundTasks.get(0).run();
+        assertEquals(secondList, client.getEvents());
+        verify(delegate, times(2)).getEvents();
+    }
+
+    @Test
+    void failedBackgroundRefreshShouldKeepServingTheCachedList() {
+        // Given
+        when(delegate.getEvents()).thenReturn(firstList).thenThrow(new IllegalStateException("proxy down"));
+        client.getEvents();
+        clock.advance(Duration.ofMinutes(5));
+
+        // When
+        client.getEvents();
+        backgroundTasks.get(0).run();
+
+        // Then
+        assertEquals(firstList, client.getEvents());
+    }
+
+    @Test
+    void expiredEventsShouldBeFetchedSynchronously() {
+        // Given
+        when(delegate.getEvents()).thenReturn(firstList, secondList);
+        client.getEvents();
+        clock.advance(Duration.ofMinutes(40));
+
+        // When
+        Set<MeetupAPIClient.MeetupEvent> result = client.getEvents();
+
+        // Then
+        assertEquals(secondList, result);
+        assertTrue(backgroundTasks.isEmpty());
+    }
+
+    @Test
+    void refreshEventsShouldBypassTheCache() {
+        // Given
+        when(delegate.getEvents()).thenReturn(firstList, secondList);
+        client.getEvents();
+
+        // When / Then
+        assertEquals(secondList, client.refreshEvents());
+        assertEquals(secondList, client.getEvents());
+        verify(delegate, times(2)).getEvents();
+    }
+
+    @Test
+    void concurrentCallersShouldShareOneRequest() throws Exception {
+        // Given
+        CountDownLatch requestStarted = new CountDownLatch(1);
+        CompletableFuture<Void> releaseRequest = new CompletableFuture<>();
+        when(delegate.getEvents()).thenAnswer(invocation -> {
+            requestStarted.countDown();
+            releaseRequest.get(5, TimeUnit.SECONDS);
+            return firstList;
+        });
+        ExecutorService callers = Executors.newFixedThreadPool(2);
+
+        try {
+            // When
+            Future<Set<MeetupAPIClient.MeetupEvent>> first = callers.submit(client::getEvents);
+            assertTrue(requestStarted.await(5, TimeUnit.SECONDS));
+            Future<Set<MeetupAPIClient.MeetupEvent>> second = callers.submit(client::getEvents);
+            Thread.sleep(100);
+            releaseRequest.complete(null);
+
+            // Then
+            assertEquals(firstList, first.get(5, TimeUnit.SECONDS));
+            assertEquals(firstList, second.get(5, TimeUnit.SECONDS));
+            verify(delegate, times(1)).getEvents();
+        } finally {
+            callers.shutdownNow();
+        }
+    }
+
+    @Test
+    void otherCallsShouldBePassedThrough() {
+        // When
+        client.getEvent("1");
+
+        // Then
+        verify(delegate).getEvent("1");
+    }
+
+    private static MeetupAPIClient.MeetupEvent event(String id) {
+        return new MeetupAPIClient.MeetupEvent(id, id, "Event " + id, null, null, null, "ACTIVE", Set.of());
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant now = Instant.parse("2025-06-16T16:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package com.vaadin.demo.application.adapter.out.meetupclient;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.client.OAuth2AuthorizedClient;
+import org.springframework.security.oauth2.client.OAuth2AuthorizedClientService;
+import org.springframework.security.oauth2.client.authentication.OAuth2AuthenticationToken;
+import org.springframework.security.oauth2.core.OAuth2AccessToken;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestClient;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.client.ExpectedCount.once;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.*;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+@ExtendWith(MockitoExtension.class)
+class KeycloakMeetupAPIClientImplTest {
+
+    @Mock
+    private OAuth2AuthorizedClientService authorizedClientService;
+
+    private MockRestServiceServer server;
+    private KeycloakMeetupAPIClientImpl client;
+
+    @BeforeEach
+    void setUp() {
+        RestClient.Builder builder = RestClient.builder();
+        server = MockRestServiceServer.bindTo(builder).build();
+        client = new KeycloakMeetupAPIClientImpl("https://auth.example", "realm", builder, authorizedClientService, 20);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void everyRequestShouldCarryTheTokenOfTheCurrentUser() {
+        // Given
+        authenticate("alice", "token-alice");
+        server.expect(requestTo("https://auth.example/realms/realm/meetup-proxy/gql-ext"))
+            .andExpect(method(HttpMethod.POST))
+            .andExpect(header("Authorization", "Bearer token-alice"))
+            .andRespond(withSuccess("{\"data\":{}}", MediaType.APPLICATION_JSON));
+        server.expect(requestTo("https://auth.example/realms/realm/meetup-proxy/my-groups"))
+            .andExpect(method(HttpMethod.GET))
+            .andExpect(header("Authorization", "Bearer token-bob"))
+            .andRespond(withSuccess("{}", MediaType.APPLICATION_JSON));
+
+        // When - the same client instance serves both users
+        String first = client.queryNew("query {\n self { id } }");
+        authenticate("bob", "token-bob");
+        String second = client.getMyGroups();
+
+        // Then
+        assertEquals("{\"data\":{}}", first);
+        assertEquals("{}", second);
+        server.verify();
+    }
+
+    @Test
+    void requestShouldFailWithoutOAuth2Authentication() {
+        // When / Then
+        assertThrows(IllegalStateException.class, () -> client.queryNew("query { self { id } }"));
+        verifyNoInteractions(authorizedClientService);
+    }
+
+    @Test
+    void getEventWithRSVPsShouldStreamAllPages() {
+        // Given
+        authenticate("alice", "token-alice");
+        server.expect(requestTo("https://auth.example/realms/realm/meetup-proxy/gql-ext"))
+            .andRespond(withSuccess("""
+                {"data":{"event":{"id":"42","title":"Meetup","dateTime":"2025-06-16T18:00:00+02:00","rsvps":{
+                  "pageInfo":{"endCursor":"c1","hasNextPage":true},
+                  "edges":[{"node":{"id":"r1","member":{"id":"m1","name":"Ann"},"isFirstEvent":true}}]}}}}
+                """, MediaType.APPLICATION_JSON));
+        server.expect(requestTo("https://auth.example/realms/realm/meetup-proxy/gql-ext"))
+            .andExpect(content().string(containsString("after: \\\"c1\\\"")))
+            .andRespond(withSuccess("""
+                {"data":{"event":{"rsvps":{"pageInfo":{"endCursor":"c2","hasNextPage":false},
+                  "edges":[{"node":{"id":"r2","member":{"id":"m2","name":"Bob"}}}]}}}}
+                """, MediaType.APPLICATION_JSON));
+
+        // When
+        Optional<MeetupAPIClient.MeetupEventWithRSVPs> event = client.getEventWithRSVPs("42");
+
+        // Then
+        assertTrue(event.isPresent());
+        assertEquals("Meetup", event.get().title());
+        assertEquals(List.of("m1", "m2"), event.get().rsvps().stream().map(MeetupAPIClient.RSVP::id).toList());
+        assertEquals(List.of(true, false), event.get().rsvps().stream().map(MeetupAPIClient.RSVP::isFirstEvent).toList());
+        server.verify();
+    }
+
+    @Test
+    void getEventShouldBeEmptyWhenTheProxyReturnsNoEvent() {
+        // Given
+        authenticate("alice", "token-alice");
+        server.expect(requestTo("https://auth.example/realms/realm/meetup-proxy/gql-ext"))
+            .andRespond(withSuccess("{\"data\":{\"event\":null}}", MediaType.APPLICATION_JSON));
+
+        // When / Then
+        assertTrue(client.getEvent("unknown").isEmpty());
+        server.verify();
+    }
+
+    @Test
+    void getEventsWithRSVPsShouldFetchAllEventsWithOneAliasedQuery() {
+        // Given
+        authenticate("alice", "token-alice");
+        server.expect(once(), requestTo("https://auth.example/realms/realm/meetup-proxy/gql-ext"))
+            .andExpect(content().string(containsString("e0: event(id:\\\"1\\\")")))
+            .andExpect(content().string(containsString("e2: event(id:\\\"3\\\")")))
+            .andRespond(withSuccess("""
+                {"data":{
+                  "e0":{"id":"1","title":"First","rsvps":{"edges":[{"node":{"member":{"id":"m1"}}}]}},
+                  "e1":null,
+                  "e2":{"id":"3","title":"Third","rsvps":{"edges":[]}}}}
+                """, MediaType.APPLICATION_JSON));
+
+        // When
+        Map<String, MeetupAPIClient.MeetupEventWithRSVPs> events = client.getEventsWithRSVPs(List.of("1", "2", "3"));
+
+        // Then
+        assertEquals(List.of("1", "3"), List.copyOf(events.keySet()));
+        assertEquals("First", events.get("1").title());
+        assertEquals(1, events.get("1").rsvps().size());
+        assertTrue(events.get("3").rsvps().isEmpty());
+        server.verify();
+    }
+
+    @Test
+    void getEventsWithRSVPsShouldFailWhenTheBatchResponseCannotBeParsed() {
+        // Given
+        authenticate("alice", "token-alice");
+        server.expect(requestTo("https://auth.example/realms/realm/meetup-proxy/gql-ext"))
+            .andRespond(withSuccess("{\"data\":{\"e0\":", MediaType.APPLICATION_JSON));
+
+        // When / Then - the events are reported as failed, not silently as "not found"
+        assertThrows(IllegalStateException.class, () -> client.getEventsWithRSVPs(List.of("1", "2")));
+        server.verify();
+    }
+
+    private void authenticate(String userName, String tokenValue) {
+        OAuth2AuthenticationToken authentication = mock(OAuth2AuthenticationToken.class);
+        when(authentication.getAuthorizedClientRegistrationId()).thenReturn("keycloak");
+        when(authentication.getName()).thenReturn(userName);
+
+        OAuth2AuthorizedClient authorizedClient = mock(OAuth2AuthorizedClient.class);
+        when(authorizedClient.getAccessToken()).thenReturn(new OAuth2AccessToken(
+            OAuth2AccessToken.TokenType.BEARER, tokenValue, Instant.now(), Instant.now().plusSeconds(300)));
+        when(authorizedClientService.loadAuthorizedClient("keycloak", userName)).thenReturn(authorizedClient);
+
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+    }
+}
@@ -9,6 +9,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -32,7 +33,7 @@ class MeetupAPIClientAdapterTest {
 
     @BeforeEach
     void setUp() {
-        meetupAPIClientAdapter = new MeetupAPIClientAdapter(meetupAPIClient);
+        meetupAPIClientAdapter = new MeetupAPIClientAdapter(meetupAPIClient, 2);
 
         // Create test data
         testApiEvent = new MeetupAPIClient.MeetupEvent(
@@ -52,6 +53,7 @@ class MeetupAPIClientAdapterTest {
             "Test Event",
             testDateTime,
             "Test Description",
+            "http://test.url",
             List.of(new MeetupAPIClient.RSVP(
                 "member1",
                 "john@example.com",
@@ -61,7 +63,8 @@ class MeetupAPIClientAdapterTest {
                 "active",
                 "yes",
                 "johndoe",
-                new MeetupAPIClient.MemberPhoto("photo1", "baseUrl", "highRes", "standard", "thumb")
+                new MeetupAPIClient.MemberPhoto("photo1", "baseUrl", "highRes", "standard", "thumb"),
+                false
             ))
         );
     }
@@ -113,6 +116,7 @@ class MeetupAPIClientAdapterTest {
         assertEquals(testApiEventWithRSVPs.title(), eventRecord.title());
         assertEquals(testApiEventWithRSVPs.description(), eventRecord.description());
         assertEquals(testApiEventWithRSVPs.dateTime(), eventRecord.eventDate());
+        assertEquals(testApiEventWithRSVPs.eventUrl(), eventRecord.link());
 
         // Verify RSVP members
         assertNotNull(eventRecord.members());
@@ -138,4 +142,56 @@ class MeetupAPIClientAdapterTest {
         assertFalse(result.isPresent());
         verify(meetupAPIClient).getEventWithRSVPs(testMeetupId);
     }
-}
\ No newline at end of file
+
+    @Test
+    void streamEventRSVPsShouldFollowCursorUntilLastPage() {
+        // Given
+        MeetupAPIClient.RSVP rsvp = testApiEventWithRSVPs.rsvps().get(0);
+        when(meetupAPIClient.getEventRsvpPage(testMeetupId, null, MeetupAPIClient.RSVP_PAGE_SIZE))
+            .thenReturn(Optional.of(new MeetupAPIClient.RsvpPage(List.of(rsvp), "cursor-1", true)));
+        when(meetupAPIClient.getEventRsvpPage(testMeetupId, "cursor-1", MeetupAPIClient.RSVP_PAGE_SIZE))
+            .thenReturn(Optional.of(new MeetupAPIClient.RsvpPage(List.of(rsvp, rsvp), "cursor-2", false)));
+
+        // When
+        List<Integer> pageSizes = new ArrayList<>();
+        meetupAPIClientAdapter.streamEventRSVPs(testMeetupId, page -> pageSizes.add(page.size()));
+
+        // Then
+        assertEquals(List.of(1, 2), pageSizes);
+        verify(meetupAPIClient, times(2)).getEventRsvpPage(eq(testMeetupId), any(), anyInt());
+    }
+
+    @Test
+    void streamEventRSVPsShouldStopWhenTheConsumerFails() {
+        // Given - the next page may or may not be prefetched before the consumer fails
+        MeetupAPIClient.RSVP rsvp = testApiEventWithRSVPs.rsvps().get(0);
+        when(meetupAPIClient.getEventRsvpPage(testMeetupId, null, MeetupAPIClient.RSVP_PAGE_SIZE))
+            .thenReturn(Optional.of(new MeetupAPIClient.RsvpPage(List.of(rsvp), "cursor-1", true)));
+        lenient().when(meetupAPIClient.getEventRsvpPage(testMeetupId, "cursor-1", MeetupAPIClient.RSVP_PAGE_SIZE))
+            .thenReturn(Optional.of(new MeetupAPIClient.RsvpPage(List.of(rsvp, rsvp), "cursor-2", false)));
+        List<Integer> pageSizes = new ArrayList<>();
+
+        // When
+        IllegalStateException thrown = assertThrows(IllegalStateException.class,
+            () -> meetupAPIClientAdapter.streamEventRSVPs(testMeetupId, page -> {
+                pageSizes.add(page.size());
+                throw new IllegalStateException("sync transaction failed");
+            }));
+
+        // Then
+        assertEquals("sync transaction failed", thrown.getMessage());
+        assertEquals(List.of(1), pageSizes);
+        verify(meetupAPIClient, never()).getEventRsvpPage(testMeetupId, "cursor-2", MeetupAPIClient.RSVP_PAGE_SIZE);
+    }
+
+    @Test
+    void streamEventRSVPsShouldThrowWhenEventNotFound() {
+        // Given
+        when(meetupAPIClient.getEventRsvpPage(testMeetupId, null, MeetupAPIClient.RSVP_PAGE_SIZE))
+            .thenReturn(Optional.empty());
+
+        // When / Then
+        assertThrows(IllegalArgumentException.class,
+            () -> meetupAPIClientAdapter.streamEventRSVPs(testMeetupId, page -> fail("No page expected")));
+    }
+}
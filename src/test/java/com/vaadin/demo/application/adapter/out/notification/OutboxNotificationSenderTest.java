@@ -0,0 +1,55 @@
+package com.vaadin.demo.application.adapter.out.notification;
+
+import com.vaadin.demo.application.domain.model.WinnerNotificationRecord;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OutboxNotificationSenderTest {
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    void sendShouldWriteOneMailPerPrizeToTheOutbox() throws Exception {
+        // Given
+        Path outbox = tempDir.resolve("outbox");
+        OutboxNotificationSender sender = new OutboxNotificationSender(outbox);
+
+        // When
+        Map<Long, String> failures = sender.send(List.of(
+            new WinnerNotificationRecord(1L, "John Doe", "john@example.com", "Your prize: Book", "Congratulations John Doe!"),
+            new WinnerNotificationRecord(2L, null, "jane@example.com", "Your prize: Ticket", "Congratulations!")));
+
+        // Then
+        assertTrue(failures.isEmpty());
+        try (var files = Files.list(outbox)) {
+            assertEquals(List.of("prize-1.eml", "prize-2.eml"), files.map(file -> file.getFileName().toString()).sorted().toList());
+        }
+        String mail = Files.readString(outbox.resolve("prize-1.eml"));
+        assertTrue(mail.startsWith("To: John Doe <john@example.com>\r\nSubject: Your prize: Book\r\n"));
+        assertTrue(mail.endsWith("\r\n\r\nCongratulations John Doe!\r\n"));
+    }
+
+    @Test
+    void sendingAgainShouldReplaceTheMail() throws Exception {
+        // Given
+        OutboxNotificationSender sender = new OutboxNotificationSender(tempDir);
+        sender.send(List.of(new WinnerNotificationRecord(1L, null, "john@example.com", "Subject", "First")));
+
+        // When
+        sender.send(List.of(new WinnerNotificationRecord(1L, null, "john@example.com", "Subject", "Second")));
+
+        // Then
+        assertTrue(Files.readString(tempDir.resolve("prize-1.eml")).contains("Second"));
+        try (var files = Files.list(tempDir)) {
+            assertEquals(1, files.count());
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.vaadin.demo.application.application.service;
+
+import com.vaadin.demo.application.application.port.out.MeetupPort;
+import com.vaadin.demo.application.application.port.out.MetricsPort;
+import com.vaadin.demo.application.domain.model.ParticipantRecord.AttendanceStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AttendanceWriteBehindServiceTest {
+
+    @Mock
+    private MeetupPort meetupPort;
+
+    @Mock
+    private MetricsPort metricsPort;
+
+    private AttendanceWriteBehindServiceImpl writeBehindService;
+
+    @BeforeEach
+    void setUp() {
+        // A long interval, the tests flush explicitly
+        writeBehindService = new AttendanceWriteBehindServiceImpl(meetupPort, metricsPort, Duration.ofHours(1), 3);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        writeBehindService.destroy();
+    }
+
+    @Test
+    void changesShouldBeQueuedUntilTheFlush() {
+        // When
+        writeBehindService.enqueue(1L, AttendanceStatus.ATTENDED);
+
+        // Then
+        assertEquals(Optional.of(AttendanceStatus.ATTENDED), writeBehindService.getPendingStatus(1L));
+        verify(meetupPort, never()).updateParticipantsAttendanceStatus(any(), any());
+
+        assertEquals(1, writeBehindService.flush());
+        verify(meetupPort).updateParticipantsAttendanceStatus(List.of(1L), AttendanceStatus.ATTENDED);
+        assertEquals(0, writeBehindService.getPendingCount());
+        assertEquals(0, writeBehindService.flush());
+    }
+
+    @Test
+    void flushShouldWriteTheLatestStatusPerParticipantGroupedByStatus() {
+        // Given
+        writeBehindService.enqueue(1L, AttendanceStatus.ATTENDED);
+        writeBehindService.enqueue(2L, AttendanceStatus.NO_SHOW);
+        writeBehindService.enqueue(2L, AttendanceStatus.ATTENDED);
+
+        // When
+        int written = writeBehindService.flush();
+
+        // Then - one bulk update per status
+        assertEquals(2, written);
+        verify(meetupPort).updateParticipantsAttendanceStatus(
+            argThat(ids -> Set.copyOf(ids).equals(Set.of(1L, 2L))), eq(AttendanceStatus.ATTENDED));
+        verifyNoMoreInteractions(meetupPort);
+    }
+
+    @Test
+    void failedFlushShouldKeepTheChangesQueued() {
+        // Given
+        writeBehindService.enqueue(1L, AttendanceStatus.ATTENDED);
+        when(meetupPort.updateParticipantsAttendanceStatus(any(), any()))
+            .thenThrow(new IllegalStateException("database down"))
+            .thenReturn(1);
+
+        // When / Then
+        assertThrows(IllegalStateException.class, () -> writeBehindService.flush());
+        assertEquals(1, writeBehindService.getPendingCount());
+        assertEquals(1, writeBehindService.flush());
+        verify(metricsPort).recordDuration(eq(AttendanceWriteBehindServiceImpl.FLUSH_METRIC), any(), eq("outcome"), eq("failure"));
+        verify(metricsPort).recordDuration(eq(AttendanceWriteBehindServiceImpl.FLUSH_METRIC), any(), eq("outcome"), eq("success"));
+    }
+
+    @Test
+    void fullBatchShouldBeWrittenWithoutWaitingForTheInterval() {
+        // When
+        writeBehindService.enqueue(1L, AttendanceStatus.ATTENDED);
+        writeBehindService.enqueue(2L, AttendanceStatus.ATTENDED);
+        writeBehindService.enqueue(3L, AttendanceStatus.ATTENDED);
+
+        // Then
+        verify(meetupPort, timeout(5000)).updateParticipantsAttendanceStatus(
+            argThat(ids -> Set.copyOf(ids).equals(Set.of(1L, 2L, 3L))), eq(AttendanceStatus.ATTENDED));
+    }
+
+    @Test
+    void queueDepthShouldBePublishedAsGauge() {
+        // Given
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Supplier<Number>> gauge = ArgumentCaptor.forClass(Supplier.class);
+        verify(metricsPort).registerGauge(eq(AttendanceWriteBehindServiceImpl.PENDING_METRIC), any(), gauge.capture());
+
+        // When
+        writeBehindService.enqueue(1L, AttendanceStatus.ATTENDED);
+        writeBehindService.enqueue(1L, AttendanceStatus.NO_SHOW);
+
+        // Then - coalesced into one entry
+        assertEquals(1, gauge.getValue().get().intValue());
+    }
+
+    @Test
+    void destroyShouldWriteTheQueue() throws InterruptedException {
+        // Given
+        writeBehindService.enqueue(2L, AttendanceStatus.NO_SHOW);
+
+        // When
+        writeBehindService.destroy();
+
+        // Then
+        verify(meetupPort).updateParticipantsAttendanceStatus(List.of(2L), AttendanceStatus.NO_SHOW);
+    }
+}
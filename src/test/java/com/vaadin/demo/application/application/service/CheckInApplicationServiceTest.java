@@ -0,0 +1,158 @@
+package com.vaadin.demo.application.application.service;
+
+import com.vaadin.demo.application.application.port.in.AttendanceWriteBehindService;
+import com.vaadin.demo.application.application.port.out.MeetupPort;
+import com.vaadin.demo.application.domain.model.CheckInEntryRecord;
+import com.vaadin.demo.application.domain.model.ParticipantRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CheckInApplicationServiceTest {
+
+    @Mock
+    private MeetupPort meetupPort;
+
+    @Mock
+    private AttendanceWriteBehindService attendanceWriteBehindService;
+
+    private CheckInApplicationServiceImpl checkInService;
+
+    @BeforeEach
+    void setUp() {
+        checkInService = new CheckInApplicationServiceImpl(meetupPort, attendanceWriteBehindService,
+            new ConcurrentMapCache("checkInIndexes"));
+        lenient().when(meetupPort.getCheckInEntries("event123")).thenReturn(List.of(
+            entry(1L, "Anna Schmidt"),
+            entry(2L, "Bob Maier"),
+            entry(3L, "Carla Huber")
+        ));
+    }
+
+    @Test
+    void indexShouldBeBuiltOnceAndShared() {
+        // When
+        checkInService.search("event123", "anna", 10);
+        checkInService.search("event123", "bob", 10);
+        int count = checkInService.getParticipantCount("event123");
+
+        // Then
+        assertEquals(3, count);
+        verify(meetupPort, times(1)).getCheckInEntries("event123");
+    }
+
+    @Test
+    void checkInShouldUpdateTheIndexAtOnceAndQueueTheWrite() {
+        // When
+        CheckInEntryRecord checkedIn = checkInService.checkIn("event123", 1L);
+
+        // Then
+        assertTrue(checkedIn.isCheckedIn());
+        assertEquals(1, checkInService.getCheckedInCount("event123"));
+        verify(attendanceWriteBehindService).enqueue(1L, ParticipantRecord.AttendanceStatus.ATTENDED);
+        verify(meetupPort, never()).updateParticipantsAttendanceStatus(any(), any());
+    }
+
+    @Test
+    void indexEvictedWhileCheckingInShouldBeRebuiltWithTheQueuedCheckIn() {
+        // Given - another writer evicts the index while the check-in is queued
+        checkInService.search("event123", "", 10);
+        doAnswer(invocation -> {
+            lenient().when(attendanceWriteBehindService.getPendingStatus(1L))
+                .thenReturn(Optional.of(ParticipantRecord.AttendanceStatus.ATTENDED));
+            checkInService.invalidateIndex("event123");
+            return null;
+        }).when(attendanceWriteBehindService).enqueue(1L, ParticipantRecord.AttendanceStatus.ATTENDED);
+
+        // When
+        CheckInEntryRecord checkedIn = checkInService.checkIn("event123", 1L);
+
+        // Then - the rebuilt index shows the check-in
+        assertTrue(checkedIn.isCheckedIn());
+        assertEquals(1, checkInService.getCheckedInCount("event123"));
+        verify(meetupPort, times(2)).getCheckInEntries("event123");
+    }
+
+    @Test
+    void undoCheckInShouldQueueUnknown() {
+        // Given
+        checkInService.checkIn("event123", 3L);
+
+        // When
+        CheckInEntryRecord entry = checkInService.undoCheckIn("event123", 3L);
+
+        // Then
+        assertFalse(entry.isCheckedIn());
+        assertEquals(0, checkInService.getCheckedInCount("event123"));
+        verify(attendanceWriteBehindService).enqueue(3L, ParticipantRecord.AttendanceStatus.UNKNOWN);
+    }
+
+    @Test
+    void checkInOfUnknownParticipantShouldFailWithoutQueueing() {
+        // When / Then
+        assertThrows(IllegalArgumentException.class, () -> checkInService.checkIn("event123", 99L));
+        verify(attendanceWriteBehindService, never()).enqueue(any(), any());
+    }
+
+    @Test
+    void indexShouldShowChangesThatAreStillQueued() {
+        // Given - lenient, the index asks for every participant
+        lenient().when(attendanceWriteBehindService.getPendingStatus(2L))
+            .thenReturn(Optional.of(ParticipantRecord.AttendanceStatus.ATTENDED));
+
+        // When
+        List<CheckInEntryRecord> result = checkInService.search("event123", "bob", 10);
+
+        // Then
+        assertTrue(result.get(0).isCheckedIn());
+        assertEquals(1, checkInService.getCheckedInCount("event123"));
+    }
+
+    @Test
+    void reloadIndexShouldFlushAndRebuild() {
+        // Given
+        checkInService.search("event123", "", 10);
+
+        // When
+        checkInService.reloadIndex("event123");
+
+        // Then
+        verify(attendanceWriteBehindService).flush();
+        verify(meetupPort, times(2)).getCheckInEntries("event123");
+    }
+
+    @Test
+    void invalidatedIndexShouldBeRebuiltWithTheChangedAttendance() {
+        // Given - the spin wheel marked Bob as attended after the index was built
+        checkInService.search("event123", "", 10);
+        when(meetupPort.getCheckInEntries("event123")).thenReturn(List.of(
+            entry(1L, "Anna Schmidt"),
+            entry(2L, "Bob Maier").withAttendanceStatus(ParticipantRecord.AttendanceStatus.ATTENDED),
+            entry(3L, "Carla Huber")
+        ));
+
+        // When
+        checkInService.invalidateIndex("event123");
+
+        // Then
+        assertEquals(1, checkInService.getCheckedInCount("event123"));
+        verify(meetupPort, times(2)).getCheckInEntries("event123");
+        verify(attendanceWriteBehindService, never()).flush();
+    }
+
+    private static CheckInEntryRecord entry(Long id, String name) {
+        return new CheckInEntryRecord(id, name, null, "m" + id,
+            ParticipantRecord.RsvpStatus.YES, ParticipantRecord.AttendanceStatus.UNKNOWN);
+    }
+}
@@ -1,19 +1,26 @@
 package com.vaadin.demo.application.application.service;
 
 import com.vaadin.demo.application.domain.model.EventRecord;
+import com.vaadin.demo.application.domain.model.EventRecordWithRSVPs;
 import com.vaadin.demo.application.domain.model.MemberRecord;
 import com.vaadin.demo.application.domain.model.ParticipantRecord;
+import com.vaadin.demo.application.domain.model.ParticipantRowRecord;
+import com.vaadin.demo.application.domain.model.SyncReport;
 import com.vaadin.demo.application.application.port.out.MeetupPort;
+import com.vaadin.demo.application.application.port.in.AttendanceWriteBehindService;
+import com.vaadin.demo.application.application.port.in.CheckInApplicationService;
 import com.vaadin.demo.application.application.port.in.MeetupApplicationService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -24,6 +31,12 @@ class MeetupApplicationServiceTest {
     @Mock
     private MeetupPort meetupPort;
 
+    @Mock
+    private AttendanceWriteBehindService attendanceWriteBehindService;
+
+    @Mock
+    private CheckInApplicationService checkInApplicationService;
+
     private MeetupApplicationService meetupApplicationService;
 
     private EventRecord sampleEvent;
@@ -31,7 +44,8 @@ class MeetupApplicationServiceTest {
 
     @BeforeEach
     void setUp() {
-        meetupApplicationService = new MeetupApplicationServiceImpl(meetupPort);
+        meetupApplicationService = new MeetupApplicationServiceImpl(meetupPort, attendanceWriteBehindService,
+                checkInApplicationService);
 
         // Create sample test data
         sampleEvent = new EventRecord(
@@ -107,6 +121,48 @@ class MeetupApplicationServiceTest {
         verify(meetupPort).getParticipantsForEvent(sampleEvent);
     }
 
+    @Test
+    void getParticipantRowsShouldDelegateToPort() {
+        // Given
+        List<ParticipantRowRecord> rows = List.of(new ParticipantRowRecord(1L, "John Doe", "john@example.com",
+            false, false, ParticipantRecord.RsvpStatus.YES, ParticipantRecord.AttendanceStatus.UNKNOWN));
+        when(meetupPort.getParticipantRows(sampleEvent.meetupId())).thenReturn(rows);
+
+        // When
+        List<ParticipantRowRecord> result = meetupApplicationService.getParticipantRows(sampleEvent.meetupId());
+
+        // Then
+        assertEquals(rows, result);
+        verify(meetupPort).getParticipantRows(sampleEvent.meetupId());
+    }
+
+    @Test
+    void getParticipantRowsShouldShowQueuedAttendanceChanges() {
+        // Given
+        ParticipantRowRecord row = new ParticipantRowRecord(1L, "John Doe", "john@example.com",
+            false, false, ParticipantRecord.RsvpStatus.YES, ParticipantRecord.AttendanceStatus.UNKNOWN);
+        when(meetupPort.getParticipantRows(sampleEvent.meetupId())).thenReturn(List.of(row));
+        when(attendanceWriteBehindService.getPendingStatus(1L))
+            .thenReturn(Optional.of(ParticipantRecord.AttendanceStatus.ATTENDED));
+
+        // When
+        List<ParticipantRowRecord> result = meetupApplicationService.getParticipantRows(sampleEvent.meetupId());
+
+        // Then
+        assertEquals(ParticipantRecord.AttendanceStatus.ATTENDED, result.get(0).attendanceStatus());
+    }
+
+    @Test
+    void updateParticipantAttendanceStatusShouldOnlyQueueTheChange() {
+        // When
+        meetupApplicationService.updateParticipantAttendanceStatus("event123", 1L, "NO_SHOW");
+
+        // Then
+        verify(attendanceWriteBehindService).enqueue(1L, ParticipantRecord.AttendanceStatus.NO_SHOW);
+        verify(checkInApplicationService).invalidateIndex("event123");
+        verifyNoInteractions(meetupPort);
+    }
+
     @Test
     void getRaffleEligibleParticipantsShouldDelegateToPort() {
         // Given
@@ -122,31 +178,43 @@ class MeetupApplicationServiceTest {
     }
 
     @Test
-    void importEventShouldDelegateToPort() {
+    void importEventShouldFetchEventAndThenPersistIt() {
         // Given
         String meetupId = "event123";
-        when(meetupPort.importEvent(meetupId)).thenReturn(sampleEvent);
+        EventRecordWithRSVPs apiEvent = EventRecordWithRSVPs.simple(null, meetupId, "Test Event");
+        when(meetupPort.fetchEventWithRSVPs(meetupId)).thenReturn(Optional.of(apiEvent));
+        when(meetupPort.saveImportedEvent(apiEvent)).thenReturn(sampleEvent);
 
         // When
         EventRecord result = meetupApplicationService.importEvent(meetupId);
 
         // Then
         assertEquals(sampleEvent, result);
-        verify(meetupPort).importEvent(meetupId);
+        verify(meetupPort).saveImportedEvent(apiEvent);
+    }
+
+    @Test
+    void importEventShouldFailForUnknownMeetupEvent() {
+        // Given
+        when(meetupPort.fetchEventWithRSVPs("missing")).thenReturn(Optional.empty());
+
+        // When / Then
+        assertThrows(IllegalArgumentException.class, () -> meetupApplicationService.importEvent("missing"));
+        verify(meetupPort, never()).saveImportedEvent(any());
     }
 
     @Test
     void syncEventMembersShouldDelegateToPort() {
         // Given
         Long eventId = 1L;
-        int expectedCount = 5;
-        when(meetupPort.syncEventMembers(eventId)).thenReturn(expectedCount);
+        SyncReport expectedReport = new SyncReport(2, 1, 2, 0);
+        when(meetupPort.syncEventMembers(eventId)).thenReturn(expectedReport);
 
         // When
-        int result = meetupApplicationService.syncEventMembers(eventId);
+        SyncReport result = meetupApplicationService.syncEventMembers(eventId);
 
         // Then
-        assertEquals(expectedCount, result);
+        assertEquals(expectedReport, result);
         verify(meetupPort).syncEventMembers(eventId);
     }
 
@@ -154,14 +222,14 @@ class MeetupApplicationServiceTest {
     void syncEventMembersByMeetupIdShouldDelegateToPort() {
         // Given
         String meetupId = "event123";
-        int expectedCount = 5;
-        when(meetupPort.syncEventMembersByMeetupId(meetupId)).thenReturn(expectedCount);
+        SyncReport expectedReport = new SyncReport(2, 1, 2, 0);
+        when(meetupPort.syncEventMembersByMeetupId(meetupId)).thenReturn(expectedReport);
 
         // When
-        int result = meetupApplicationService.syncEventMembersByMeetupId(meetupId);
+        SyncReport result = meetupApplicationService.syncEventMembersByMeetupId(meetupId);
 
         // Then
-        assertEquals(expectedCount, result);
+        assertEquals(expectedReport, result);
         verify(meetupPort).syncEventMembersByMeetupId(meetupId);
     }
 
@@ -188,9 +256,12 @@ class MeetupApplicationServiceTest {
         // When
         ParticipantRecord result = meetupApplicationService.markParticipantAttendedAndEnteredRaffle(participantId);
 
-        // Then
+        // Then - queued attendance changes are written before, so they can not overwrite the new status
         assertEquals(sampleParticipant, result);
-        verify(meetupPort).markParticipantAttendedAndEnteredRaffle(participantId);
+        InOrder inOrder = inOrder(attendanceWriteBehindService, meetupPort);
+        inOrder.verify(attendanceWriteBehindService).flush();
+        inOrder.verify(meetupPort).markParticipantAttendedAndEnteredRaffle(participantId);
+        verify(checkInApplicationService).invalidateIndex("event123");
     }
 
     @Test
@@ -218,4 +289,33 @@ class MeetupApplicationServiceTest {
         // Then
         verify(meetupPort).resetRaffleEntryForEvent(sampleEvent);
     }
+
+    @Test
+    void updateParticipantsAttendanceStatusShouldPassDistinctIdsToPort() {
+        // Given
+        when(meetupPort.updateParticipantsAttendanceStatus(Set.of(1L, 2L), ParticipantRecord.AttendanceStatus.ATTENDED))
+            .thenReturn(2);
+
+        // When
+        int result = meetupApplicationService.updateParticipantsAttendanceStatus(List.of(1L, 2L, 1L),
+            ParticipantRecord.AttendanceStatus.ATTENDED);
+
+        // Then
+        assertEquals(2, result);
+        verify(attendanceWriteBehindService).flush();
+        verify(checkInApplicationService).invalidateIndexes();
+    }
+
+    @Test
+    void updateParticipantsRaffleEntryShouldDelegateToPort() {
+        // Given
+        when(meetupPort.updateParticipantsRaffleEntry(Set.of(3L), false)).thenReturn(1);
+
+        // When
+        int result = meetupApplicationService.updateParticipantsRaffleEntry(List.of(3L), false);
+
+        // Then
+        assertEquals(1, result);
+        verify(meetupPort).updateParticipantsRaffleEntry(Set.of(3L), false);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,168 @@
+package com.vaadin.demo.application.application.service;
+
+import com.vaadin.demo.application.domain.model.EventRecord;
+import com.vaadin.demo.application.domain.model.EventRecordWithRSVPs;
+import com.vaadin.demo.application.domain.model.ImportProgress;
+import com.vaadin.demo.application.domain.model.SyncProgress;
+import com.vaadin.demo.application.domain.model.SyncReport;
+import com.vaadin.demo.application.application.port.out.MeetupPort;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.IntConsumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MeetupSyncJobServiceTest {
+
+    @Mock
+    private MeetupPort meetupPort;
+
+    private MeetupSyncJobServiceImpl syncJobService;
+
+    @BeforeEach
+    void setUp() {
+        syncJobService = new MeetupSyncJobServiceImpl(meetupPort, 2, 10, 4, 10, 2);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        SecurityContextHolder.clearContext();
+        syncJobService.destroy();
+    }
+
+    @Test
+    void syncEventMembersShouldRunInBackgroundAndReportProgress() throws Exception {
+        // Given
+        SyncReport expectedReport = new SyncReport(1, 2, 3, 0);
+        when(meetupPort.syncEventMembersByMeetupId(eq("event123"), any())).thenAnswer(invocation -> {
+            IntConsumer pageListener = invocation.getArgument(1);
+            pageListener.accept(3);
+            pageListener.accept(6);
+            return expectedReport;
+        });
+        List<SyncProgress.Phase> phases = new CopyOnWriteArrayList<>();
+
+        // When
+        SyncReport report = syncJobService.syncEventMembers("event123", p -> phases.add(p.phase()))
+                .get(5, TimeUnit.SECONDS);
+
+        // Then
+        assertEquals(expectedReport, report);
+        assertEquals(List.of(SyncProgress.Phase.QUEUED, SyncProgress.Phase.RUNNING, SyncProgress.Phase.RUNNING,
+                SyncProgress.Phase.RUNNING, SyncProgress.Phase.COMPLETED), phases);
+        assertFalse(syncJobService.isSyncRunning("event123"));
+    }
+
+    @Test
+    void syncEventMembersShouldPropagateSecurityContext() throws Exception {
+        // Given
+        Authentication authentication = new TestingAuthenticationToken("user", "password");
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+        AtomicReference<Authentication> workerAuthentication = new AtomicReference<>();
+        when(meetupPort.syncEventMembersByMeetupId(eq("event123"), any())).thenAnswer(invocation -> {
+            workerAuthentication.set(SecurityContextHolder.getContext().getAuthentication());
+            return SyncReport.empty();
+        });
+
+        // When
+        syncJobService.syncEventMembers("event123", p -> { }).get(5, TimeUnit.SECONDS);
+
+        // Then
+        assertSame(authentication, workerAuthentication.get());
+    }
+
+    @Test
+    void syncEventMembersShouldJoinRunningJobForSameEvent() throws Exception {
+        // Given
+        CountDownLatch release = new CountDownLatch(1);
+        when(meetupPort.syncEventMembersByMeetupId(eq("event123"), any())).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return SyncReport.empty();
+        });
+
+        List<SyncProgress> joinedProgress = new CopyOnWriteArrayList<>();
+
+        // When
+        CompletableFuture<SyncReport> first = syncJobService.syncEventMembers("event123", p -> { });
+        CompletableFuture<SyncReport> second = syncJobService.syncEventMembers("event123", joinedProgress::add);
+        release.countDown();
+
+        // Then - the joining caller gets the running job's progress too
+        assertSame(first, second);
+        assertEquals(SyncReport.empty(), first.get(5, TimeUnit.SECONDS));
+        assertFalse(joinedProgress.isEmpty());
+        assertEquals(SyncProgress.Phase.COMPLETED, joinedProgress.get(joinedProgress.size() - 1).phase());
+        verify(meetupPort, times(1)).syncEventMembersByMeetupId(eq("event123"), any());
+    }
+
+    @Test
+    void syncEventMembersShouldCompleteExceptionallyOnFailure() {
+        // Given
+        when(meetupPort.syncEventMembersByMeetupId(eq("event123"), any()))
+                .thenThrow(new IllegalArgumentException("Event not found: event123"));
+        AtomicReference<SyncProgress> lastProgress = new AtomicReference<>();
+
+        // When
+        CompletableFuture<SyncReport> job = syncJobService.syncEventMembers("event123", lastProgress::set);
+
+        // Then
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> job.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalArgumentException.class, exception.getCause());
+        assertEquals(SyncProgress.Phase.FAILED, lastProgress.get().phase());
+    }
+
+    @Test
+    void importEventsShouldFetchBatchesConcurrentlyAndPersistEachEvent() throws Exception {
+        // Given - batch size 2: [event1, event2] and [missing]
+        CountDownLatch bothFetching = new CountDownLatch(2);
+        when(meetupPort.fetchEventsWithRSVPs(List.of("event1", "event2"))).thenAnswer(invocation -> {
+            // Only returns if the other batch is fetched at the same time
+            bothFetching.countDown();
+            assertTrue(bothFetching.await(5, TimeUnit.SECONDS));
+            return Map.of(
+                    "event1", EventRecordWithRSVPs.simple(null, "event1", "Title event1"),
+                    "event2", EventRecordWithRSVPs.simple(null, "event2", "Title event2"));
+        });
+        when(meetupPort.fetchEventsWithRSVPs(List.of("missing"))).thenAnswer(invocation -> {
+            bothFetching.countDown();
+            assertTrue(bothFetching.await(5, TimeUnit.SECONDS));
+            return Map.of();
+        });
+        for (String meetupId : List.of("event1", "event2")) {
+            when(meetupPort.saveImportedEvent(argThat(e -> e != null && meetupId.equals(e.meetupId()))))
+                    .thenReturn(EventRecord.simple(1L, meetupId, "Title " + meetupId));
+        }
+        List<ImportProgress> updates = new CopyOnWriteArrayList<>();
+
+        // When
+        ImportProgress result = syncJobService.importEvents(List.of("event1", "event2", "missing"), updates::add)
+                .get(5, TimeUnit.SECONDS);
+
+        // Then
+        assertEquals(3, result.total());
+        assertEquals(2, result.imported());
+        assertEquals(1, result.failed());
+        assertTrue(result.isFinished());
+        assertEquals(4, updates.size());
+        verify(meetupPort, times(2)).fetchEventsWithRSVPs(any());
+        verify(meetupPort, never()).fetchEventWithRSVPs(any());
+    }
+}
@@ -2,6 +2,7 @@ package com.vaadin.demo.application.application.service;
 
 import com.vaadin.demo.application.adapter.out.persistence.data.Member;
 import com.vaadin.demo.application.domain.model.MemberFormRecord;
+import com.vaadin.demo.application.domain.model.MemberKeyRecord;
 import com.vaadin.demo.application.domain.model.MemberRecord;
 import com.vaadin.demo.application.application.port.out.MemberPort;
 import org.junit.jupiter.api.BeforeEach;
@@ -241,4 +242,25 @@ class MemberApplicationServiceTest {
         assertEquals(10, result);
         verify(memberPort).countMembers();
     }
-}
\ No newline at end of file
+
+    @Test
+    void searchMemberForms_shouldMapThePageAfterTheKey() {
+        // Given
+        when(memberPort.searchMembers("doe", MemberKeyRecord.FIRST, 0, 50)).thenReturn(List.of(testMemberRecord));
+
+        // When
+        List<MemberFormRecord> result = memberApplicationService.searchMemberForms("doe", MemberKeyRecord.FIRST, 0, 50);
+
+        // Then
+        assertEquals(List.of(testMemberFormRecord), result);
+    }
+
+    @Test
+    void estimateMemberCount_shouldDelegateToPort() {
+        // Given
+        when(memberPort.estimateMemberCount("doe")).thenReturn(3);
+
+        // When / Then
+        assertEquals(3, memberApplicationService.estimateMemberCount("doe"));
+    }
+}
@@ -3,16 +3,25 @@ package com.vaadin.demo.application.application.service;
 import com.vaadin.demo.application.domain.model.*;
 import com.vaadin.demo.application.application.port.out.MeetupPort;
 import com.vaadin.demo.application.application.port.out.RafflePort;
+import com.vaadin.demo.application.application.port.in.AttendanceWriteBehindService;
+import com.vaadin.demo.application.application.port.in.CheckInApplicationService;
 import com.vaadin.demo.application.application.port.in.RaffleApplicationService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 
 import java.time.LocalDate;
 import java.time.OffsetDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -27,6 +36,12 @@ class RaffleApplicationServiceTest {
     @Mock
     private MeetupPort meetupPort;
 
+    @Mock
+    private AttendanceWriteBehindService attendanceWriteBehindService;
+
+    @Mock
+    private CheckInApplicationService checkInApplicationService;
+
     private RaffleApplicationService raffleApplicationService;
 
     private EventRecord sampleEvent;
@@ -36,7 +51,8 @@ class RaffleApplicationServiceTest {
 
     @BeforeEach
     void setUp() {
-        raffleApplicationService = new RaffleApplicationServiceImpl(rafflePort, meetupPort);
+        raffleApplicationService = new RaffleApplicationServiceImpl(rafflePort, meetupPort,
+                attendanceWriteBehindService, checkInApplicationService);
 
         // Create sample test data
         sampleEvent = new EventRecord(
@@ -102,6 +118,21 @@ class RaffleApplicationServiceTest {
         verify(rafflePort).getRaffleById(raffleId);
     }
 
+    @Test
+    void searchPrizeTemplatesShouldDelegateToPort() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 50);
+        PrizeTemplateRecord template = new PrizeTemplateRecord(1L, "Book Voucher", null, null, null, null);
+        when(rafflePort.searchPrizeTemplates("book", pageable)).thenReturn(new SliceImpl<>(List.of(template)));
+
+        // When
+        Slice<PrizeTemplateRecord> result = raffleApplicationService.searchPrizeTemplates("book", pageable);
+
+        // Then
+        assertEquals(List.of(template), result.getContent());
+        verify(rafflePort).searchPrizeTemplates("book", pageable);
+    }
+
     @Test
     void getPrizeByIdShouldDelegateToPort() {
         // Given
@@ -132,6 +163,179 @@ class RaffleApplicationServiceTest {
         verify(rafflePort).getRaffleByMeetupEventId(meetupEventId);
     }
 
+    @Test
+    void getEventsWithRafflesShouldLookUpTheRaffleIdsOfThePageAtOnce() {
+        // Given
+        EventRecord eventWithoutRaffle = new EventRecord(2L, "event456", "Other Event", "Description",
+                OffsetDateTime.now(), "Venue", "Link");
+        Pageable pageable = PageRequest.of(0, 50, Sort.by("dateTime").descending());
+        when(meetupPort.getEvents(pageable, "event"))
+                .thenReturn(new SliceImpl<>(List.of(sampleEvent, eventWithoutRaffle), pageable, false));
+        when(rafflePort.getRaffleIdsByMeetupEventIds(List.of("event123", "event456")))
+                .thenReturn(Map.of("event123", 1L));
+
+        // When
+        Slice<EventWithRaffleRecord> result = raffleApplicationService.getEventsWithRaffles(pageable, "event");
+
+        // Then
+        assertEquals(2, result.getNumberOfElements());
+        assertEquals(sampleEvent, result.getContent().get(0).event());
+        assertEquals(1L, result.getContent().get(0).raffleId());
+        assertFalse(result.getContent().get(1).hasRaffle());
+        verify(rafflePort, times(1)).getRaffleIdsByMeetupEventIds(anyCollection());
+        verify(rafflePort, never()).getRaffleByMeetupEventId(anyString());
+    }
+
+    @Test
+    void getEligibleEntrantsShouldDelegateToPort() {
+        // Given
+        List<EligibleEntrantRecord> entrants = List.of(new EligibleEntrantRecord(sampleParticipant.id(),
+                sampleParticipant.member().meetupId(), sampleParticipant.member().name()));
+        when(rafflePort.getEligibleEntrants(sampleRaffle.id())).thenReturn(entrants);
+
+        // When
+        List<EligibleEntrantRecord> result = raffleApplicationService.getEligibleEntrants(sampleRaffle.id());
+
+        // Then - queued attendance changes are written before, so the entrants include them
+        assertEquals(entrants, result);
+        InOrder inOrder = inOrder(attendanceWriteBehindService, rafflePort);
+        inOrder.verify(attendanceWriteBehindService).flush();
+        inOrder.verify(rafflePort).getEligibleEntrants(sampleRaffle.id());
+    }
+
+    @Test
+    void drawWinnerShouldPersistAReproducibleDraw() {
+        // Given
+        List<EligibleEntrantRecord> entrants = List.of(
+                new EligibleEntrantRecord(12L, "m12", "Bob"),
+                new EligibleEntrantRecord(11L, "m11", "Ann"),
+                new EligibleEntrantRecord(13L, "m13", "Carl"));
+        when(rafflePort.getPrizeById(samplePrize.id())).thenReturn(Optional.of(samplePrize));
+        when(rafflePort.getEligibleEntrants(sampleRaffle.id())).thenReturn(entrants);
+        when(rafflePort.getWeightRules(sampleRaffle.id())).thenReturn(WeightRulesRecord.UNIFORM);
+        when(rafflePort.saveDraw(any(DrawRecord.class))).thenAnswer(invocation ->
+                invocation.<DrawRecord>getArgument(0).withId(7L));
+
+        // When
+        DrawRecord draw = raffleApplicationService.drawWinner(samplePrize.id());
+
+        // Then
+        assertEquals(7L, draw.id());
+        assertEquals(List.of(11L, 12L, 13L), draw.candidates().stream().map(EligibleEntrantRecord::participantId).toList());
+        assertEquals(64, draw.seed().length());
+        assertEquals(FairDraw.candidatesHash(entrants), draw.candidatesHash());
+        assertEquals(draw.winner().participantId(), draw.winnerParticipantId());
+        assertTrue(FairDraw.verify(draw, entrants));
+    }
+
+    @Test
+    void drawWinnerShouldWeightTheEntrantsByTheRaffleRules() {
+        // Given
+        List<EligibleEntrantRecord> entrants = List.of(
+                new EligibleEntrantRecord(11L, "m11", "Ann", true, 0, 1.0),
+                new EligibleEntrantRecord(12L, "m12", "Bob", false, 4, 1.0));
+        when(rafflePort.getPrizeById(samplePrize.id())).thenReturn(Optional.of(samplePrize));
+        when(rafflePort.getEligibleEntrants(sampleRaffle.id())).thenReturn(entrants);
+        when(rafflePort.getWeightRules(sampleRaffle.id())).thenReturn(new WeightRulesRecord(2.0, 0.5, 2.5));
+        when(rafflePort.saveDraw(any(DrawRecord.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        DrawRecord draw = raffleApplicationService.drawWinner(samplePrize.id());
+
+        // Then - Ann: first event 2; Bob: 1 + 4 * 0.5 = 3, capped at 2.5
+        assertEquals(List.of(2.0, 2.5), draw.candidates().stream().map(EligibleEntrantRecord::weight).toList());
+        assertTrue(FairDraw.verify(draw, draw.candidates()));
+    }
+
+    @Test
+    void drawAllPrizesShouldAwardOpenPrizesWithDistinctWinners() {
+        // Given
+        PrizeRecord secondPrize = new PrizeRecord(2L, "Second Prize", null, null, null, sampleRaffle, null, null);
+        PrizeRecord awardedPrize = new PrizeRecord(3L, "Awarded Prize", null, null, sampleParticipant, sampleRaffle,
+                null, null);
+        RaffleRecord raffle = new RaffleRecord(sampleRaffle.id(), sampleEvent, sampleEvent.meetupId(),
+                List.of(secondPrize, awardedPrize, samplePrize));
+        List<EligibleEntrantRecord> entrants = List.of(
+                new EligibleEntrantRecord(11L, "m11", "Ann"),
+                new EligibleEntrantRecord(12L, "m12", "Bob"),
+                new EligibleEntrantRecord(13L, "m13", "Carl"));
+        when(rafflePort.getRaffleById(raffle.id())).thenReturn(Optional.of(raffle));
+        when(rafflePort.getEligibleEntrants(raffle.id())).thenReturn(entrants);
+        when(rafflePort.getWeightRules(raffle.id())).thenReturn(WeightRulesRecord.UNIFORM);
+        when(rafflePort.awardPrizes(eq(raffle.id()), anyList())).thenReturn(List.of(samplePrize, secondPrize));
+
+        // When
+        BulkDrawRecord result = raffleApplicationService.drawAllPrizes(raffle.id());
+
+        // Then - the awarded prize is skipped, the open ones are drawn in ID order
+        assertEquals(List.of(1L, 2L), result.draws().stream().map(DrawRecord::prizeId).toList());
+        assertEquals(2, result.draws().stream().map(DrawRecord::winnerParticipantId).distinct().count());
+        assertEquals(0, result.prizesWithoutWinner());
+        assertEquals(2, result.awardedPrizes().size());
+        verify(rafflePort).awardPrizes(raffle.id(), result.draws());
+        verify(checkInApplicationService).invalidateIndex(sampleEvent.meetupId());
+    }
+
+    @Test
+    void drawAllPrizesShouldReportPrizesLeftWithoutWinner() {
+        // Given
+        PrizeRecord secondPrize = new PrizeRecord(2L, "Second Prize", null, null, null, sampleRaffle, null, null);
+        RaffleRecord raffle = new RaffleRecord(sampleRaffle.id(), sampleEvent, sampleEvent.meetupId(),
+                List.of(samplePrize, secondPrize));
+        when(rafflePort.getRaffleById(raffle.id())).thenReturn(Optional.of(raffle));
+        when(rafflePort.getEligibleEntrants(raffle.id()))
+                .thenReturn(List.of(new EligibleEntrantRecord(11L, "m11", "Ann")));
+        when(rafflePort.getWeightRules(raffle.id())).thenReturn(WeightRulesRecord.UNIFORM);
+        when(rafflePort.awardPrizes(eq(raffle.id()), anyList())).thenReturn(List.of(samplePrize));
+
+        // When
+        BulkDrawRecord result = raffleApplicationService.drawAllPrizes(raffle.id());
+
+        // Then
+        assertEquals(1, result.draws().size());
+        assertEquals(1, result.prizesWithoutWinner());
+    }
+
+    @Test
+    void drawWinnerShouldFailWithoutEligibleEntrants() {
+        // Given
+        when(rafflePort.getPrizeById(samplePrize.id())).thenReturn(Optional.of(samplePrize));
+        when(rafflePort.getEligibleEntrants(sampleRaffle.id())).thenReturn(List.of());
+        when(rafflePort.getWeightRules(sampleRaffle.id())).thenReturn(WeightRulesRecord.UNIFORM);
+
+        // When / Then
+        assertThrows(IllegalStateException.class, () -> raffleApplicationService.drawWinner(samplePrize.id()));
+        verify(rafflePort, never()).saveDraw(any());
+    }
+
+    @Test
+    void drawWinnerShouldFailForPrizeWithWinner() {
+        // Given
+        PrizeRecord awardedPrize = new PrizeRecord(samplePrize.id(), samplePrize.name(), samplePrize.description(),
+                samplePrize.templateText(), sampleParticipant, samplePrize.raffle(), samplePrize.voucherCode(),
+                samplePrize.validUntil());
+        when(rafflePort.getPrizeById(samplePrize.id())).thenReturn(Optional.of(awardedPrize));
+
+        // When / Then
+        assertThrows(IllegalStateException.class, () -> raffleApplicationService.drawWinner(samplePrize.id()));
+        verify(rafflePort, never()).getEligibleEntrants(any());
+    }
+
+    @Test
+    void getRafflesShouldDelegateToPort() {
+        // Given
+        Pageable pageable = PageRequest.of(1, 20);
+        Slice<RaffleRecord> page = new SliceImpl<>(List.of(sampleRaffle), pageable, true);
+        when(rafflePort.getRaffles(pageable, "")).thenReturn(page);
+
+        // When
+        Slice<RaffleRecord> result = raffleApplicationService.getRaffles(pageable, "");
+
+        // Then
+        assertEquals(page, result);
+        verify(rafflePort).getRaffles(pageable, "");
+    }
+
     @Test
     void getPrizesForRaffleShouldDelegateToPort() {
         // Given
@@ -231,6 +435,19 @@ class RaffleApplicationServiceTest {
         verify(rafflePort).savePrize(samplePrize);
     }
 
+    @Test
+    void savePrizeTemplateRecordShouldRejectUnknownPlaceholders() {
+        // Given
+        PrizeTemplateRecord template = new PrizeTemplateRecord(null, "Voucher", null,
+            "Hello {{WINNER_NAME}}, your code: {{VOUCHER}}", null, null);
+
+        // When / Then
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+            () -> raffleApplicationService.savePrizeTemplateRecord(template));
+        assertTrue(ex.getMessage().contains("{{VOUCHER}}"));
+        verify(rafflePort, never()).savePrizeTemplateRecord(any());
+    }
+
     @Test
     void awardPrizeShouldDelegateToPort() {
         // Given
@@ -244,15 +461,18 @@ class RaffleApplicationServiceTest {
                 samplePrize.voucherCode(),
                 samplePrize.validUntil()
         );
-        when(rafflePort.awardPrize(samplePrize, sampleParticipant)).thenReturn(prizeWithWinner);
+        when(rafflePort.awardPrize(samplePrize, sampleParticipant.id())).thenReturn(prizeWithWinner);
 
         // When
-        PrizeRecord result = raffleApplicationService.awardPrize(samplePrize, sampleParticipant);
+        PrizeRecord result = raffleApplicationService.awardPrize(samplePrize, sampleParticipant.id());
 
         // Then
         assertEquals(prizeWithWinner, result);
         assertEquals(sampleParticipant, result.winner());
-        verify(rafflePort).awardPrize(samplePrize, sampleParticipant);
+        InOrder inOrder = inOrder(attendanceWriteBehindService, rafflePort);
+        inOrder.verify(attendanceWriteBehindService).flush();
+        inOrder.verify(rafflePort).awardPrize(samplePrize, sampleParticipant.id());
+        verify(checkInApplicationService).invalidateIndex(samplePrize.raffle().meetupEventId());
     }
 
     @Test
@@ -0,0 +1,218 @@
+package com.vaadin.demo.application.application.service;
+
+import com.vaadin.demo.application.application.port.out.MetricsPort;
+import com.vaadin.demo.application.application.port.out.NotificationPort;
+import com.vaadin.demo.application.application.port.out.NotificationSenderPort;
+import com.vaadin.demo.application.application.port.out.RafflePort;
+import com.vaadin.demo.application.domain.model.EventRecord;
+import com.vaadin.demo.application.domain.model.MemberRecord;
+import com.vaadin.demo.application.domain.model.NotificationDeliveryRecord;
+import com.vaadin.demo.application.domain.model.NotificationDeliveryRecord.DeliveryStatus;
+import com.vaadin.demo.application.domain.model.NotificationRunRecord;
+import com.vaadin.demo.application.domain.model.ParticipantRecord;
+import com.vaadin.demo.application.domain.model.PrizeRecord;
+import com.vaadin.demo.application.domain.model.RaffleRecord;
+import com.vaadin.demo.application.domain.model.WinnerNotificationRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class WinnerNotificationServiceTest {
+
+    private static final Long RAFFLE_ID = 7L;
+
+    @Mock
+    private RafflePort rafflePort;
+
+    @Mock
+    private NotificationPort notificationPort;
+
+    @Mock
+    private NotificationSenderPort notificationSenderPort;
+
+    @Mock
+    private MetricsPort metricsPort;
+
+    // Nothing runs in the background, the tests deliver explicitly and run the scheduled retries themselves
+    @Mock
+    private ScheduledExecutorService deliveryExecutor;
+
+    private WinnerNotificationServiceImpl notificationService;
+    private RaffleRecord raffle;
+
+    @BeforeEach
+    void setUp() {
+        notificationService = new WinnerNotificationServiceImpl(rafflePort, notificationPort, notificationSenderPort,
+            metricsPort, 2, 2, Duration.ofSeconds(1), 10, deliveryExecutor);
+        raffle = RaffleRecord.simple(RAFFLE_ID, EventRecord.simple(1L, "event123", "Test Event"), "event123");
+    }
+
+    @Test
+    void notifyWinnersShouldQueueRenderedTextsAndSkipWinnersWithoutEmail() {
+        // Given
+        PrizeRecord withEmail = prize(1L, winner("John Doe", "john@example.com"));
+        PrizeRecord withoutEmail = prize(2L, winner("Jane Doe", null));
+        PrizeRecord withoutWinner = prize(3L, null);
+        PrizeRecord alreadySent = prize(4L, winner("Max", "max@example.com"));
+        givenPrizes(List.of(withEmail, withoutEmail, withoutWinner, alreadySent));
+        when(notificationPort.getDeliveriesForRaffle(RAFFLE_ID)).thenReturn(List.of(
+            new NotificationDeliveryRecord(4L, "max@example.com", DeliveryStatus.SENT, 1, null, OffsetDateTime.now())));
+
+        // When
+        NotificationRunRecord run = notificationService.notifyWinners(RAFFLE_ID);
+
+        // Then
+        assertEquals(new NotificationRunRecord(1, 1, 1), run);
+        assertEquals(1, notificationService.getQueuedCount());
+        Map<Long, DeliveryStatus> saved = savedStatuses();
+        assertEquals(Map.of(1L, DeliveryStatus.PENDING, 2L, DeliveryStatus.SKIPPED), saved);
+        verify(deliveryExecutor).schedule(any(Runnable.class), eq(0L), eq(TimeUnit.MILLISECONDS));
+
+        // When - notifying again does not queue the prize twice
+        NotificationRunRecord again = notificationService.notifyWinners(RAFFLE_ID);
+
+        // Then
+        assertEquals(0, again.queued());
+        assertEquals(1, notificationService.getQueuedCount());
+    }
+
+    @Test
+    void deliverNextBatchShouldSendTheRenderedTextsInBatches() {
+        // Given
+        givenPrizes(List.of(
+            prize(1L, winner("Ann", "ann@example.com")),
+            prize(2L, winner("Bob", "bob@example.com")),
+            prize(3L, winner("Eve", "eve@example.com"))));
+        when(notificationSenderPort.send(anyList())).thenReturn(Map.of());
+        notificationService.notifyWinners(RAFFLE_ID);
+        clearInvocations(notificationPort);
+
+        // When
+        int firstBatch = notificationService.deliverNextBatch();
+
+        // Then
+        assertEquals(2, firstBatch);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<WinnerNotificationRecord>> sent = ArgumentCaptor.forClass(List.class);
+        verify(notificationSenderPort).send(sent.capture());
+        assertEquals(List.of("ann@example.com", "bob@example.com"),
+            sent.getValue().stream().map(WinnerNotificationRecord::recipientEmail).toList());
+        assertEquals("Congratulations Ann, you won Prize 1!", sent.getValue().get(0).body());
+        assertEquals(Map.of(1L, DeliveryStatus.SENT, 2L, DeliveryStatus.SENT), savedStatuses());
+
+        assertEquals(1, notificationService.deliverNextBatch());
+        assertEquals(0, notificationService.deliverNextBatch());
+        assertEquals(0, notificationService.getQueuedCount());
+    }
+
+    @Test
+    void failedNotificationsShouldBeRetriedWithBackoffAndMarkedFailedAfterMaxAttempts() {
+        // Given
+        givenPrizes(List.of(
+            prize(1L, winner("Ann", "ann@example.com")),
+            prize(2L, winner("Bob", "bob@example.com"))));
+        when(notificationSenderPort.send(anyList()))
+            .thenReturn(Map.of(2L, "mailbox unavailable"))
+            .thenThrow(new IllegalStateException("connection refused"));
+        notificationService.notifyWinners(RAFFLE_ID);
+        clearInvocations(notificationPort, deliveryExecutor);
+
+        // When - Bob's mail is rejected
+        notificationService.deliverNextBatch();
+
+        // Then - retried after the backoff
+        assertEquals(Map.of(1L, DeliveryStatus.SENT, 2L, DeliveryStatus.PENDING), savedStatuses());
+        ArgumentCaptor<Runnable> retry = ArgumentCaptor.forClass(Runnable.class);
+        verify(deliveryExecutor).schedule(retry.capture(), eq(1000L), eq(TimeUnit.MILLISECONDS));
+        assertEquals(1, notificationService.getQueuedCount());
+        assertEquals(0, notificationService.deliverNextBatch());
+
+        // When - the retry fails with the whole batch
+        clearInvocations(notificationPort);
+        retry.getValue().run();
+        notificationService.deliverNextBatch();
+
+        // Then - max attempts reached
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<NotificationDeliveryRecord>> saved = ArgumentCaptor.forClass(Collection.class);
+        verify(notificationPort).saveDeliveries(saved.capture());
+        NotificationDeliveryRecord failed = saved.getValue().iterator().next();
+        assertEquals(DeliveryStatus.FAILED, failed.status());
+        assertEquals(2, failed.attempts());
+        assertEquals("connection refused", failed.lastError());
+        assertEquals(0, notificationService.getQueuedCount());
+    }
+
+    @Test
+    void batchesShouldNotExceedTheRatePerSecond() {
+        // Given - batches of 20 but 2 mails per second
+        WinnerNotificationServiceImpl rateLimited = new WinnerNotificationServiceImpl(rafflePort, notificationPort,
+            notificationSenderPort, metricsPort, 20, 2, Duration.ofSeconds(1), 2, deliveryExecutor);
+        givenPrizes(List.of(
+            prize(1L, winner("Ann", "ann@example.com")),
+            prize(2L, winner("Bob", "bob@example.com")),
+            prize(3L, winner("Eve", "eve@example.com"))));
+        when(notificationSenderPort.send(anyList())).thenReturn(Map.of());
+        rateLimited.notifyWinners(RAFFLE_ID);
+        ArgumentCaptor<Runnable> delivery = ArgumentCaptor.forClass(Runnable.class);
+        verify(deliveryExecutor).schedule(delivery.capture(), eq(0L), eq(TimeUnit.MILLISECONDS));
+
+        // When
+        delivery.getValue().run();
+
+        // Then - 2 mails are sent, the next batch waits one second
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<WinnerNotificationRecord>> sent = ArgumentCaptor.forClass(List.class);
+        verify(notificationSenderPort).send(sent.capture());
+        assertEquals(2, sent.getValue().size());
+        verify(deliveryExecutor).schedule(any(Runnable.class), eq(1000L), eq(TimeUnit.MILLISECONDS));
+        assertEquals(1, rateLimited.getQueuedCount());
+    }
+
+    @Test
+    void notifyWinnersShouldFailForAnUnknownRaffle() {
+        // When / Then
+        assertThrows(IllegalArgumentException.class, () -> notificationService.notifyWinners(99L));
+        verifyNoInteractions(notificationSenderPort);
+    }
+
+    private Map<Long, DeliveryStatus> savedStatuses() {
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<NotificationDeliveryRecord>> saved = ArgumentCaptor.forClass(Collection.class);
+        verify(notificationPort).saveDeliveries(saved.capture());
+        return saved.getValue().stream()
+            .collect(Collectors.toMap(NotificationDeliveryRecord::prizeId, NotificationDeliveryRecord::status));
+    }
+
+    private void givenPrizes(List<PrizeRecord> prizes) {
+        when(rafflePort.getRaffleById(RAFFLE_ID)).thenReturn(Optional.of(raffle));
+        when(rafflePort.getPrizesForRaffle(raffle)).thenReturn(prizes);
+    }
+
+    private PrizeRecord prize(Long id, ParticipantRecord winner) {
+        return new PrizeRecord(id, "Prize " + id, null, null, winner, raffle, null, null);
+    }
+
+    private static ParticipantRecord winner(String name, String email) {
+        return new ParticipantRecord(null, new MemberRecord(null, null, name, email, null), null, null,
+            false, true, ParticipantRecord.RsvpStatus.YES, ParticipantRecord.AttendanceStatus.ATTENDED);
+    }
+}
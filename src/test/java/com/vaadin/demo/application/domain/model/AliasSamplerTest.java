@@ -0,0 +1,106 @@
+package com.vaadin.demo.application.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AliasSamplerTest {
+
+    private static final double[] WEIGHTS = {1, 2, 3, 4, 10};
+
+    @Test
+    void tableShouldEncodeTheNormalizedWeights() {
+        // When
+        AliasSampler sampler = new AliasSampler(WEIGHTS);
+
+        // Then
+        assertEquals(WEIGHTS.length, sampler.size());
+        for (int i = 0; i < WEIGHTS.length; i++) {
+            assertEquals(WEIGHTS[i] / 20, sampler.probabilityOf(i), 1e-12);
+        }
+    }
+
+    @Test
+    void samplesShouldFollowTheWeights() {
+        // Given
+        AliasSampler sampler = new AliasSampler(WEIGHTS);
+        SplittableRandom random = new SplittableRandom(42);
+        int samples = 100_000;
+        int[] hits = new int[WEIGHTS.length];
+
+        // When
+        for (int i = 0; i < samples; i++) {
+            hits[sampler.sample(random)]++;
+        }
+
+        // Then - chi-square with 4 degrees of freedom, p = 0.001 at 18.47
+        double chiSquare = 0;
+        for (int i = 0; i < WEIGHTS.length; i++) {
+            double expected = samples * WEIGHTS[i] / 20;
+            chiSquare += (hits[i] - expected) * (hits[i] - expected) / expected;
+        }
+        assertTrue(chiSquare < 18.47, "chi-square " + chiSquare);
+    }
+
+    @Test
+    void manySmallWeightsAgainstOneLargeShouldKeepTheirShare() {
+        // Given - 99 entrants with weight 1 and one with weight 99: the large one wins half of the draws
+        double[] weights = new double[100];
+        Arrays.fill(weights, 1);
+        weights[37] = 99;
+        AliasSampler sampler = new AliasSampler(weights);
+        SplittableRandom random = new SplittableRandom(7);
+        int samples = 50_000;
+        int largeHits = 0;
+
+        // When
+        for (int i = 0; i < samples; i++) {
+            if (sampler.sample(random) == 37) {
+                largeHits++;
+            }
+        }
+
+        // Then - within 4 standard deviations (sqrt(50000 * 0.25) = 112)
+        assertEquals(0.5, sampler.probabilityOf(37), 1e-12);
+        assertEquals(samples / 2.0, largeHits, 4 * 112);
+    }
+
+    @Test
+    void zeroWeightShouldNeverBeSampled() {
+        // Given
+        AliasSampler sampler = new AliasSampler(new double[]{0, 1, 0, 3});
+
+        // When / Then - every column and both ends of the coin
+        for (int column = 0; column < sampler.size(); column++) {
+            for (double coin : new double[]{0.0, 0.5, Math.nextDown(1.0)}) {
+                int index = sampler.sample(column, coin);
+                assertTrue(index == 1 || index == 3, "sampled " + index);
+            }
+        }
+        assertEquals(0.0, sampler.probabilityOf(0));
+    }
+
+    @Test
+    void equalWeightsShouldKeepEveryColumn() {
+        // Given
+        AliasSampler sampler = new AliasSampler(new double[]{2.5, 2.5, 2.5});
+
+        // When / Then
+        for (int column = 0; column < sampler.size(); column++) {
+            assertEquals(column, sampler.sample(column, Math.nextDown(1.0)));
+        }
+    }
+
+    @Test
+    void invalidWeightsShouldBeRejected() {
+        // When / Then
+        assertThrows(IllegalArgumentException.class, () -> new AliasSampler(new double[0]));
+        assertThrows(IllegalArgumentException.class, () -> new AliasSampler(new double[]{0, 0}));
+        assertThrows(IllegalArgumentException.class, () -> new AliasSampler(new double[]{1, -1}));
+        assertThrows(IllegalArgumentException.class, () -> new AliasSampler(new double[]{1, Double.NaN}));
+        assertThrows(IllegalArgumentException.class, () -> new AliasSampler(new double[]{1, Double.POSITIVE_INFINITY}));
+    }
+}
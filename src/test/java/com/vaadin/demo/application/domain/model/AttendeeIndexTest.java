@@ -0,0 +1,102 @@
+package com.vaadin.demo.application.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AttendeeIndexTest {
+
+    private final AttendeeIndex index = new AttendeeIndex(List.of(
+        entry(1L, "Jürgen Müller", "j.mueller@example.com", "m1"),
+        entry(2L, "Anna Schmidt", "anna@example.com", "m2"),
+        entry(3L, "Annabelle Maier", "belle@example.org", "m3"),
+        entry(4L, null, null, "m4"),
+        entry(5L, "Stefan Schmid", "stefan@example.com", "m5")
+    ));
+
+    @Test
+    void prefixShouldMatchNamesAndRankExactTokensFirst() {
+        // When
+        List<CheckInEntryRecord> result = index.search("anna", 10);
+
+        // Then - "Anna" is exact, "Annabelle" a prefix
+        assertEquals(List.of(2L, 3L), ids(result));
+    }
+
+    @Test
+    void accentsAndCaseShouldBeIgnored() {
+        // When / Then
+        assertEquals(List.of(1L), ids(index.search("JURGEN", 10)));
+        assertEquals(List.of(1L), ids(index.search("müll", 10)));
+    }
+
+    @Test
+    void emailAndMeetupIdShouldBeSearchable() {
+        // When / Then
+        assertEquals(List.of(1L), ids(index.search("mueller", 10)));
+        assertEquals(List.of(4L), ids(index.search("m4", 10)));
+    }
+
+    @Test
+    void typoShouldStillFindTheParticipant() {
+        // When
+        List<CheckInEntryRecord> result = index.search("stfan", 10);
+
+        // Then
+        assertEquals(List.of(5L), ids(result));
+    }
+
+    @Test
+    void allTermsShouldMatch() {
+        // When / Then
+        assertEquals(List.of(2L), ids(index.search("anna schm", 10)));
+        assertTrue(index.search("anna stefan", 10).isEmpty());
+    }
+
+    @Test
+    void blankQueryShouldReturnAllEntriesByNameUpToTheLimit() {
+        // When
+        List<CheckInEntryRecord> result = index.search(" ", 3);
+
+        // Then
+        assertEquals(List.of(2L, 3L, 1L), ids(result));
+    }
+
+    @Test
+    void updateAttendanceStatusShouldBeVisibleInSearchAndCount() {
+        // When
+        CheckInEntryRecord updated = index.updateAttendanceStatus(2L, ParticipantRecord.AttendanceStatus.ATTENDED);
+
+        // Then
+        assertTrue(updated.isCheckedIn());
+        assertTrue(index.search("anna schmidt", 1).get(0).isCheckedIn());
+        assertEquals(1, index.checkedInCount());
+        assertEquals(5, index.size());
+    }
+
+    @Test
+    void updateOfUnknownParticipantShouldFail() {
+        // When / Then
+        assertThrows(IllegalArgumentException.class,
+            () -> index.updateAttendanceStatus(99L, ParticipantRecord.AttendanceStatus.ATTENDED));
+    }
+
+    @Test
+    void editDistanceShouldCountTranspositionsAsOneEdit() {
+        // When / Then
+        assertEquals(1, AttendeeIndex.editDistance("stefan", "setfan", 2));
+        assertEquals(1, AttendeeIndex.editDistance("stfan", "stefan", 2));
+        assertEquals(2, AttendeeIndex.editDistance("abc", "xyz", 1));
+    }
+
+    private static CheckInEntryRecord entry(Long id, String name, String email, String meetupId) {
+        return new CheckInEntryRecord(id, name, email, meetupId,
+            ParticipantRecord.RsvpStatus.YES, ParticipantRecord.AttendanceStatus.UNKNOWN);
+    }
+
+    private static List<Long> ids(List<CheckInEntryRecord> entries) {
+        return entries.stream().map(CheckInEntryRecord::participantId).toList();
+    }
+}
@@ -0,0 +1,182 @@
+package com.vaadin.demo.application.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FairDrawTest {
+
+    private final List<EligibleEntrantRecord> candidates = List.of(
+        new EligibleEntrantRecord(3L, "m3", "Carl"),
+        new EligibleEntrantRecord(1L, "m1", "Ann"),
+        new EligibleEntrantRecord(2L, "m2", "Bob"));
+
+    @Test
+    void candidatesHashShouldNotDependOnTheInputOrder() {
+        // Given
+        List<EligibleEntrantRecord> reversed = new ArrayList<>(candidates);
+        Collections.reverse(reversed);
+
+        // When / Then
+        assertEquals(FairDraw.candidatesHash(candidates), FairDraw.candidatesHash(reversed));
+        assertEquals(64, FairDraw.candidatesHash(candidates).length());
+        assertEquals(List.of(1L, 2L, 3L),
+            FairDraw.canonicalOrder(candidates).stream().map(EligibleEntrantRecord::participantId).toList());
+    }
+
+    @Test
+    void candidatesHashShouldChangeWithTheCandidates() {
+        // Given
+        List<EligibleEntrantRecord> withoutBob = List.of(candidates.get(0), candidates.get(1));
+
+        // When / Then
+        assertNotEquals(FairDraw.candidatesHash(candidates), FairDraw.candidatesHash(withoutBob));
+    }
+
+    @Test
+    void winnerIndexShouldBeReproducibleFromSeedAndHash() {
+        // Given
+        String hash = FairDraw.candidatesHash(candidates);
+
+        // When
+        int first = FairDraw.winnerIndex("00ff", hash, candidates.size());
+        int second = FairDraw.winnerIndex("00ff", hash, candidates.size());
+
+        // Then
+        assertEquals(first, second);
+        assertTrue(first >= 0 && first < candidates.size());
+    }
+
+    @Test
+    void winnerIndexShouldBeRoughlyUniform() {
+        // Given
+        int candidateCount = 7;
+        int draws = 70_000;
+        int[] hits = new int[candidateCount];
+
+        // When
+        IntStream.range(0, draws).forEach(i -> hits[FairDraw.winnerIndex("seed-" + i, "hash", candidateCount)]++);
+
+        // Then - chi-square with 6 degrees of freedom, p = 0.001 at 22.46
+        double expected = (double) draws / candidateCount;
+        double chiSquare = 0;
+        for (int hit : hits) {
+            chiSquare += (hit - expected) * (hit - expected) / expected;
+        }
+        assertTrue(chiSquare < 22.46, "chi-square " + chiSquare);
+    }
+
+    @Test
+    void verifyShouldAcceptTheDrawAndRejectOtherCandidates() {
+        // Given
+        List<EligibleEntrantRecord> ordered = FairDraw.canonicalOrder(candidates);
+        String hash = FairDraw.candidatesHash(ordered);
+        String seed = "a1b2c3";
+        DrawRecord draw = DrawRecord.of(5L, ordered, FairDraw.winnerIndex(seed, hash, ordered.size()), seed, hash,
+            OffsetDateTime.now());
+
+        // When / Then
+        assertTrue(FairDraw.verify(draw, candidates));
+        assertFalse(FairDraw.verify(draw, List.of(candidates.get(0), candidates.get(1))));
+    }
+
+    @Test
+    void drawWithoutReplacementShouldDrawDistinctWinnersVerifiableOneByOne() {
+        // Given
+        int[] seedCounter = {0};
+
+        // When
+        List<DrawRecord> draws = FairDraw.drawWithoutReplacement(List.of(10L, 11L), candidates,
+            () -> "seed-" + seedCounter[0]++, OffsetDateTime.now());
+
+        // Then
+        assertEquals(2, draws.size());
+        assertEquals(List.of(10L, 11L), draws.stream().map(DrawRecord::prizeId).toList());
+        assertNotEquals(draws.get(0).winnerParticipantId(), draws.get(1).winnerParticipantId());
+        assertTrue(FairDraw.verify(draws.get(0), candidates));
+        assertEquals(2, draws.get(1).candidateCount());
+        assertTrue(FairDraw.verify(draws.get(1), draws.get(1).candidates()));
+        assertFalse(draws.get(1).candidates().contains(draws.get(0).winner()));
+    }
+
+    @Test
+    void drawWithoutReplacementShouldStopWhenCandidatesRunOut() {
+        // When
+        List<DrawRecord> draws = FairDraw.drawWithoutReplacement(List.of(1L, 2L, 3L, 4L, 5L), candidates,
+            () -> "seed", OffsetDateTime.now());
+
+        // Then
+        assertEquals(3, draws.size());
+        assertEquals(3, draws.stream().map(DrawRecord::winnerParticipantId).distinct().count());
+    }
+
+    @Test
+    void equalWeightsShouldDrawTheSameWinnerAsTheUniformDraw() {
+        // Given
+        List<EligibleEntrantRecord> ordered = FairDraw.canonicalOrder(candidates);
+        String hash = FairDraw.candidatesHash(ordered);
+
+        // When / Then
+        for (int i = 0; i < 50; i++) {
+            String seed = "seed-" + i;
+            assertEquals(FairDraw.winnerIndex(seed, hash, ordered.size()),
+                FairDraw.winnerIndex(seed, hash, new AliasSampler(new double[]{1, 1, 1})));
+        }
+    }
+
+    @Test
+    void weightsShouldBePartOfTheCandidatesHash() {
+        // Given
+        List<EligibleEntrantRecord> weighted = candidates.stream().map(c -> c.withWeight(2.0)).toList();
+
+        // When / Then - weight 1 keeps the line format of unweighted draws
+        assertNotEquals(FairDraw.candidatesHash(candidates), FairDraw.candidatesHash(weighted));
+        assertEquals(FairDraw.candidatesHash(candidates),
+            FairDraw.candidatesHash(candidates.stream().map(c -> c.withWeight(1.0)).toList()));
+    }
+
+    @Test
+    void weightedWinnersShouldFollowTheWeights() {
+        // Given
+        double[] weights = {1, 1, 2, 4};
+        AliasSampler sampler = new AliasSampler(weights);
+        int draws = 16_000;
+        int[] hits = new int[weights.length];
+
+        // When
+        IntStream.range(0, draws).forEach(i -> hits[FairDraw.winnerIndex("seed-" + i, "hash", sampler)]++);
+
+        // Then - chi-square with 3 degrees of freedom, p = 0.001 at 16.27
+        double chiSquare = 0;
+        for (int i = 0; i < weights.length; i++) {
+            double expected = draws * weights[i] / 8;
+            chiSquare += (hits[i] - expected) * (hits[i] - expected) / expected;
+        }
+        assertTrue(chiSquare < 16.27, "chi-square " + chiSquare);
+    }
+
+    @Test
+    void verifyShouldRejectAChangedWeight() {
+        // Given
+        List<EligibleEntrantRecord> weighted = List.of(
+            candidates.get(0).withWeight(3.0), candidates.get(1), candidates.get(2));
+        List<DrawRecord> draws = FairDraw.drawWithoutReplacement(List.of(1L), weighted, () -> "seed",
+            OffsetDateTime.now());
+
+        // When / Then
+        assertTrue(FairDraw.verify(draws.get(0), weighted));
+        assertFalse(FairDraw.verify(draws.get(0), candidates));
+    }
+
+    @Test
+    void winnerIndexShouldFailWithoutCandidates() {
+        // When / Then
+        assertThrows(IllegalArgumentException.class, () -> FairDraw.winnerIndex("seed", "hash", 0));
+    }
+}
@@ -0,0 +1,64 @@
+package com.vaadin.demo.application.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PlaceholderTemplateTest {
+
+    @Test
+    void renderShouldReplaceEveryOccurrenceInOnePass() {
+        // Given
+        PlaceholderTemplate template = PlaceholderTemplate.compile("Hi {{NAME}}, your code: {{CODE}} ({{CODE}})");
+
+        // When
+        String rendered = template.render(Map.of("NAME", "Ann", "CODE", "X-1")::get);
+
+        // Then
+        assertEquals("Hi Ann, your code: X-1 (X-1)", rendered);
+    }
+
+    @Test
+    void placeholdersWithoutValueShouldBeKeptAsWritten() {
+        // When
+        String rendered = PlaceholderTemplate.compile("Hi {{ NAME }} {{OTHER}}").render(Map.of("NAME", "Ann")::get);
+
+        // Then
+        assertEquals("Hi Ann {{OTHER}}", rendered);
+    }
+
+    @Test
+    void bracesNotClosedOnTheSameLineShouldBePlainText() {
+        // Given
+        PlaceholderTemplate template = PlaceholderTemplate.compile("a {{b\n}} c {{D}}");
+
+        // When / Then
+        assertEquals(List.of("D"), List.copyOf(template.placeholderNames()));
+        assertEquals("a {{b\n}} c d", template.render(name -> "d"));
+    }
+
+    @Test
+    void compileShouldReturnTheCachedTemplateForTheSameText() {
+        // When
+        PlaceholderTemplate first = PlaceholderTemplate.compile("Hello {{WINNER_NAME}}");
+        PlaceholderTemplate second = PlaceholderTemplate.compile(new String("Hello {{WINNER_NAME}}"));
+
+        // Then
+        assertSame(first, second);
+    }
+
+    @Test
+    void validateTemplateTextShouldReportUnknownPlaceholders() {
+        // When
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+            () -> PrizePlaceholder.validateTemplateText("Hello {{WINNER_NAME}}, {{WINER_NAME}} {{FOO}}"));
+
+        // Then
+        assertTrue(ex.getMessage().startsWith("Unknown placeholders in template text: {{WINER_NAME}}, {{FOO}}"));
+        assertDoesNotThrow(() -> PrizePlaceholder.validateTemplateText("{{EVENT_TITLE}} {{EVENT_URL}} {{WINNER_EMAIL}}"));
+        assertDoesNotThrow(() -> PrizePlaceholder.validateTemplateText(null));
+    }
+}
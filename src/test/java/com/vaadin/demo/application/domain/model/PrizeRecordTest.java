@@ -68,6 +68,35 @@ class PrizeRecordTest {
         assertEquals(prizeRecord.validUntil(), updatedPrize.validUntil());
     }
 
+    @Test
+    void renderedTextShouldFillInWinnerEventAndPrize() {
+        // Given
+        EventRecord event = new EventRecord(1L, "event123", "Java Meetup", null,
+                OffsetDateTime.parse("2025-06-16T18:00:00+02:00"), null, "https://meetup.example/event123");
+        RaffleRecord raffle = new RaffleRecord(1L, event, "event123", List.of());
+        PrizeRecord prize = new PrizeRecord(1L, "Book Voucher", null,
+                "{{WINNER_NAME}} <{{WINNER_EMAIL}}> won {{PRIZE_NAME}} at {{EVENT_TITLE}} ({{EVENT_URL}}) "
+                        + "on {{RAFFLE_DATE}}: {{VOUCHER_CODE}} until {{VALID_UNTIL}}",
+                createSampleParticipant(), raffle, "ABC123", LocalDate.of(2025, 12, 31));
+
+        // When
+        String rendered = prize.renderedText();
+
+        // Then
+        assertEquals("John Doe <john@example.com> won Book Voucher at Java Meetup (https://meetup.example/event123) "
+                + "on 2025-06-16: ABC123 until 2025-12-31", rendered);
+    }
+
+    @Test
+    void renderedTextShouldLeaveKnownPlaceholdersWithoutValueEmpty() {
+        // Given
+        PrizeRecord prize = new PrizeRecord(1L, "Prize", null, "Hi {{WINNER_NAME}}!", null, null, null, null);
+
+        // When / Then
+        assertEquals("Hi !", prize.renderedText());
+        assertNull(PrizeRecord.simple(2L, "No text").renderedText());
+    }
+
     private ParticipantRecord createSampleParticipant() {
         return new ParticipantRecord(
                 1L,
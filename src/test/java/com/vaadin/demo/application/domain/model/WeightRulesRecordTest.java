@@ -0,0 +1,40 @@
+package com.vaadin.demo.application.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WeightRulesRecordTest {
+
+    private final EligibleEntrantRecord newcomer = new EligibleEntrantRecord(1L, "m1", "Ann", true, 0, 1.0);
+    private final EligibleEntrantRecord regular = new EligibleEntrantRecord(2L, "m2", "Bob", false, 6, 1.0);
+
+    @Test
+    void uniformRulesShouldGiveEveryoneWeightOne() {
+        // When / Then
+        assertTrue(WeightRulesRecord.UNIFORM.isUniform());
+        assertEquals(1.0, WeightRulesRecord.UNIFORM.weightOf(newcomer));
+        assertEquals(1.0, WeightRulesRecord.UNIFORM.weightOf(regular));
+    }
+
+    @Test
+    void weightShouldAddAttendedEventsAndBeCapped() {
+        // Given
+        WeightRulesRecord rules = new WeightRulesRecord(2.0, 0.5, 3.0);
+
+        // When / Then
+        assertFalse(rules.isUniform());
+        assertEquals(2.0, rules.weightOf(newcomer));
+        assertEquals(3.0, rules.weightOf(regular));
+        assertEquals(2.0, rules.weightOf(new EligibleEntrantRecord(3L, "m3", "Carl", false, 2, 1.0)));
+    }
+
+    @Test
+    void invalidRulesShouldBeRejected() {
+        // When / Then
+        assertThrows(IllegalArgumentException.class, () -> new WeightRulesRecord(0, 0, 10));
+        assertThrows(IllegalArgumentException.class, () -> new WeightRulesRecord(1, -0.5, 10));
+        assertThrows(IllegalArgumentException.class, () -> new WeightRulesRecord(1, 0, 0.5));
+        assertThrows(IllegalArgumentException.class, () -> new WeightRulesRecord(Double.NaN, 0, 10));
+    }
+}
@@ -7,6 +7,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.vaadin.demo.application.adapter.out.meetupclient.MeetupAPIClient.MeetupEventWithRSVPs;
 import com.vaadin.demo.application.adapter.out.meetupclient.MeetupAPIClient.MemberPhoto;
 import com.vaadin.demo.application.adapter.out.meetupclient.MeetupAPIClient.RSVP;
+import com.vaadin.demo.application.adapter.out.meetupclient.MeetupAPIClient.RsvpPage;
 import java.time.OffsetDateTime;
 import java.util.List;
 
@@ -14,17 +15,30 @@ public class MeetupEventWithRsvpWrapper {
   public EventData data;
 
   public static MeetupEventWithRSVPs parse(String body, ObjectMapper mapper) {
-    try {
-      MeetupEventWithRsvpWrapper wrapper = mapper.readValue(body, MeetupEventWithRsvpWrapper.class);
+    return read(body, mapper).getEvent();
+  }
 
-      return wrapper.getEvent();
+  /**
+   * Parse a response that only contains the rsvps connection of an event (one page)
+   */
+  public static RsvpPage parsePage(String body, ObjectMapper mapper) {
+    return read(body, mapper).getRsvpPage();
+  }
+
+  public static MeetupEventWithRsvpWrapper read(String body, ObjectMapper mapper) {
+    try {
+      return mapper.readValue(body, MeetupEventWithRsvpWrapper.class);
     } catch (JsonProcessingException e) {
       throw new RuntimeException(e);
     }
   }
 
   public MeetupEventWithRSVPs getEvent() {
-    return data.event.toRecord();
+    return data == null || data.event == null ? null : data.event.toRecord();
+  }
+
+  public RsvpPage getRsvpPage() {
+    return data == null || data.event == null ? null : data.event.toRsvpPage();
   }
 
   public static class EventData {
@@ -38,21 +52,38 @@ public class MeetupEventWithRsvpWrapper {
     public String title;
     public OffsetDateTime dateTime;
     public String description;
+    public String eventUrl;
 
     @JsonProperty("rsvps")
     public RSVPWrapper rsvps;
 
     public MeetupEventWithRSVPs toRecord() {
-      List<RSVP> rsvpList = rsvps.edges.stream()
-          .map(edge -> edge.node.member.toRecord())
-          .toList();
+      return new MeetupEventWithRSVPs(id, token, title, dateTime, description, eventUrl, toRsvpPage().rsvps());
+    }
 
-      return new MeetupEventWithRSVPs(id, token, title, dateTime, description, rsvpList);
+    public RsvpPage toRsvpPage() {
+      return rsvps == null ? new RsvpPage(List.of(), null, false) : rsvps.toPage();
     }
   }
 
+  @JsonIgnoreProperties(ignoreUnknown = true)
   public static class RSVPWrapper {
+    public PageInfo pageInfo;
     public List<RSVPEdge> edges;
+
+    public RsvpPage toPage() {
+      List<RSVP> rsvpList = edges == null ? List.of() : edges.stream()
+          .map(edge -> edge.node.toRecord())
+          .toList();
+      boolean hasNextPage = pageInfo != null && pageInfo.hasNextPage && pageInfo.endCursor != null;
+      return new RsvpPage(rsvpList, pageInfo != null ? pageInfo.endCursor : null, hasNextPage);
+    }
+  }
+
+  @JsonIgnoreProperties(ignoreUnknown = true)
+  public static class PageInfo {
+    public String endCursor;
+    public boolean hasNextPage;
   }
 
   public static class RSVPEdge {
@@ -64,6 +95,10 @@ public class MeetupEventWithRsvpWrapper {
     public boolean isFirstEvent;
     public boolean isHost;
     public RSVPMember member;
+
+    public RSVP toRecord() {
+      return member.toRecord(isFirstEvent);
+    }
   }
 
   public static class RSVPMember {
@@ -77,8 +112,8 @@ public class MeetupEventWithRsvpWrapper {
     public String username;
     public MemberPhoto memberPhoto;
 
-    public RSVP toRecord() {
-      return new RSVP(id, email, gender, memberUrl, name, state, status, username, memberPhoto);
+    public RSVP toRecord(boolean isFirstEvent) {
+      return new RSVP(id, email, gender, memberUrl, name, state, status, username, memberPhoto, isFirstEvent);
     }
   }
 }
\ No newline at end of file
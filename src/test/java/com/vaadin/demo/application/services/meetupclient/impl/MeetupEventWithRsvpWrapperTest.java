@@ -7,6 +7,7 @@ import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.vaadin.demo.application.adapter.out.meetupclient.MeetupAPIClient.MeetupEventWithRSVPs;
 import com.vaadin.demo.application.adapter.out.meetupclient.MeetupAPIClient.MemberPhoto;
 import com.vaadin.demo.application.adapter.out.meetupclient.MeetupAPIClient.RSVP;
+import com.vaadin.demo.application.adapter.out.meetupclient.MeetupAPIClient.RsvpPage;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.time.OffsetDateTime;
@@ -56,4 +57,31 @@ public class MeetupEventWithRsvpWrapperTest {
       }
     }
   }
-}
\ No newline at end of file
+
+  @Test
+  public void parsePage() throws Exception {
+    ObjectMapper mapper = new ObjectMapper();
+    mapper.registerModule(new JavaTimeModule());
+    String payload = new String(Files.readAllBytes(Paths.get("src/test/resources/getEventRsvpsPage.json")));
+
+    RsvpPage page = MeetupEventWithRsvpWrapper.parsePage(payload, mapper);
+
+    assertNotNull(page, "Parsed page should not be null");
+    assertEquals(2, page.rsvps().size());
+    assertEquals("10003", page.rsvps().get(0).id());
+    assertEquals("cursor-2", page.endCursor());
+    assertTrue(page.hasNextPage());
+  }
+
+  @Test
+  public void parseWithoutPageInfoHasNoNextPage() throws Exception {
+    ObjectMapper mapper = new ObjectMapper();
+    mapper.registerModule(new JavaTimeModule());
+    String payload = new String(Files.readAllBytes(Paths.get("src/test/resources/getEventWithRSVP.json")));
+
+    RsvpPage page = MeetupEventWithRsvpWrapper.read(payload, mapper).getRsvpPage();
+
+    assertFalse(page.hasNextPage());
+    assertFalse(page.rsvps().isEmpty());
+  }
+}
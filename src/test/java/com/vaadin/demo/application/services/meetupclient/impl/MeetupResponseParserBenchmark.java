@@ -0,0 +1,95 @@
+package com.vaadin.demo.application.adapter.out.meetupclient.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares the wrapper based parsing of Meetup responses (body as String, mapper per call)
+ * with the streaming {@link MeetupResponseParser} on the fixtures in src/test/resources.
+ * Not part of the test run, start it with:
+ * <pre>
+ * mvn test-compile exec:exec -Dexec.executable=java -Dexec.classpathScope=test \
+ *     -Dexec.args="-cp %classpath org.openjdk.jmh.Main MeetupResponseParserBenchmark"
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MeetupResponseParserBenchmark {
+
+  private byte[] eventWithRsvps;
+  private byte[] events;
+  private ObjectMapper sharedMapper;
+
+  @Setup
+  public void setUp() throws IOException {
+    eventWithRsvps = Files.readAllBytes(Paths.get("src/test/resources/getEventWithRSVP.json"));
+    events = Files.readAllBytes(Paths.get("src/test/resources/getEvents.json"));
+    sharedMapper = newMapper();
+  }
+
+  @Benchmark
+  public Object eventWithRsvpsWrapperNewMapper() {
+    return MeetupEventWithRsvpWrapper.parse(new String(eventWithRsvps, StandardCharsets.UTF_8), newMapper());
+  }
+
+  @Benchmark
+  public Object eventWithRsvpsWrapperSharedMapper() {
+    return MeetupEventWithRsvpWrapper.parse(new String(eventWithRsvps, StandardCharsets.UTF_8), sharedMapper);
+  }
+
+  @Benchmark
+  public Object eventWithRsvpsStreaming() throws IOException {
+    return MeetupResponseParser.parseEventWithRsvpPage(new ByteArrayInputStream(eventWithRsvps));
+  }
+
+  @Benchmark
+  public Object eventsWrapperNewMapper() {
+    return MeetupEventsWrapper.parse(new String(events, StandardCharsets.UTF_8), newMapper());
+  }
+
+  @Benchmark
+  public Object eventsWrapperSharedMapper() {
+    return MeetupEventsWrapper.parse(new String(events, StandardCharsets.UTF_8), sharedMapper);
+  }
+
+  @Benchmark
+  public Object eventsStreaming() throws IOException {
+    return MeetupResponseParser.parseEvents(new ByteArrayInputStream(events));
+  }
+
+  private static ObjectMapper newMapper() {
+    ObjectMapper mapper = new ObjectMapper();
+    mapper.registerModule(new JavaTimeModule());
+    return mapper;
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder()
+        .include(MeetupResponseParserBenchmark.class.getSimpleName())
+        .build())
+        .run();
+  }
+}
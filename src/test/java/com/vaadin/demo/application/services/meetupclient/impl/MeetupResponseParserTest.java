@@ -0,0 +1,99 @@
+package com.vaadin.demo.application.adapter.out.meetupclient.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.vaadin.demo.application.adapter.out.meetupclient.MeetupAPIClient.MeetupEvent;
+import com.vaadin.demo.application.adapter.out.meetupclient.MeetupAPIClient.RsvpPage;
+import com.vaadin.demo.application.adapter.out.meetupclient.impl.MeetupResponseParser.EventWithRsvpPage;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+public class MeetupResponseParserTest {
+
+  private final ObjectMapper mapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+  @Test
+  public void parseEventWithRsvpPageMatchesWrapper() throws Exception {
+    String payload = Files.readString(fixture("getEventWithRSVP.json"));
+
+    EventWithRsvpPage parsed = MeetupResponseParser.parseEventWithRsvpPage(stream(payload)).orElseThrow();
+
+    assertEquals(MeetupEventWithRsvpWrapper.parse(payload, mapper), parsed.event());
+    assertEquals(MeetupEventWithRsvpWrapper.parsePage(payload, mapper), parsed.rsvpPage());
+    assertFalse(parsed.event().rsvps().isEmpty());
+    assertNotNull(parsed.event().rsvps().get(0).memberPhoto());
+  }
+
+  @Test
+  public void parseRsvpPageMatchesWrapper() throws Exception {
+    String payload = Files.readString(fixture("getEventRsvpsPage.json"));
+
+    RsvpPage page = MeetupResponseParser.parseRsvpPage(stream(payload)).orElseThrow();
+
+    assertEquals(MeetupEventWithRsvpWrapper.parsePage(payload, mapper), page);
+    assertEquals("cursor-2", page.endCursor());
+    assertTrue(page.hasNextPage());
+  }
+
+  @Test
+  public void parseEventMatchesWrapper() throws Exception {
+    String payload = Files.readString(fixture("getEvent.json"));
+
+    MeetupEvent event = MeetupResponseParser.parseEvent(stream(payload)).orElseThrow();
+    MeetupEvent expected = GetEventWrapper.parse(payload, mapper);
+
+    assertEquals(expected.id(), event.id());
+    assertEquals(expected.token(), event.token());
+    assertEquals(expected.title(), event.title());
+    assertEquals(expected.dateTime(), event.dateTime());
+    assertEquals(expected.description(), event.description());
+    assertEquals(expected.eventUrl(), event.eventUrl());
+    assertEquals(expected.status(), event.status());
+    assertTrue(event.members().isEmpty());
+  }
+
+  @Test
+  public void parseEventsMatchesWrapper() throws Exception {
+    String payload = Files.readString(fixture("getEvents.json"));
+
+    Set<MeetupEvent> events = MeetupResponseParser.parseEvents(stream(payload));
+
+    assertFalse(events.isEmpty());
+    assertEquals(MeetupEventsWrapper.parse(payload, mapper), events);
+  }
+
+  @Test
+  public void missingEventIsEmpty() throws Exception {
+    String payload = "{\"errors\":[{\"message\":\"not found\"}],\"data\":{\"event\":null}}";
+
+    assertTrue(MeetupResponseParser.parseEvent(stream(payload)).isEmpty());
+    assertTrue(MeetupResponseParser.parseEventWithRsvpPage(stream(payload)).isEmpty());
+    assertTrue(MeetupResponseParser.parseRsvpPage(stream(payload)).isEmpty());
+    assertTrue(MeetupResponseParser.parseEvents(stream("{\"data\":null}")).isEmpty());
+  }
+
+  @Test
+  public void eventThatIsNotAnObjectIsEmpty() throws Exception {
+    String payload = "{\"data\":{\"event\":\"unexpected\"}}";
+
+    assertTrue(MeetupResponseParser.parseEvent(stream(payload)).isEmpty());
+    assertTrue(MeetupResponseParser.parseEventWithRsvpPage(stream(payload)).isEmpty());
+    assertTrue(MeetupResponseParser.parseRsvpPage(stream(payload)).isEmpty());
+  }
+
+  private static Path fixture(String name) {
+    return Paths.get("src/test/resources", name);
+  }
+
+  private static InputStream stream(String payload) {
+    return new ByteArrayInputStream(payload.getBytes(StandardCharsets.UTF_8));
+  }
+}